@@ -0,0 +1,25 @@
+package com.example.core.application.command;
+
+import com.example.core.application.query.Query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the cached query types whose results become stale when a command succeeds.
+ * All cached results of the listed query types are invalidated after the command is handled,
+ * and again after the surrounding transaction commits if the command ran inside one.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface InvalidatesQueries {
+    
+    /**
+     * The query types to invalidate.
+     */
+    Class<? extends Query<?>>[] value();
+}
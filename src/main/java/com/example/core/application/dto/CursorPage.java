@@ -0,0 +1,25 @@
+package com.example.core.application.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated result.
+ * The next page is requested with {@link #getNextCursor()}, which is null on the last page.
+ *
+ * @param <T> The item type
+ */
+@Data
+public class CursorPage<T> {
+    
+    private final List<T> items;
+    private final String nextCursor;
+    
+    /**
+     * Check if there is a page after this one.
+     */
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.core.application.exception;
+
+/**
+ * Exception thrown when the dispatcher sheds a use case because it is overloaded.
+ * The use case was not handled and can be retried later.
+ */
+public class UseCaseRejectedException extends RuntimeException {
+    
+    public UseCaseRejectedException(String message) {
+        super(message);
+    }
+}
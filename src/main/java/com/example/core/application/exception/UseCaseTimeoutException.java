@@ -0,0 +1,16 @@
+package com.example.core.application.exception;
+
+/**
+ * Exception thrown when a use case could not be completed within its time limit,
+ * for example while waiting for the result of an identical query already in flight.
+ */
+public class UseCaseTimeoutException extends RuntimeException {
+    
+    public UseCaseTimeoutException(String message) {
+        super(message);
+    }
+    
+    public UseCaseTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.core.application.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a query whose results the dispatcher may cache.
+ * <p>
+ * The query object itself is the cache key, so the query class must implement {@code equals} and
+ * {@code hashCode} over its parameters (for example with Lombok {@code @Data} or {@code @Value}).
+ * Cached results are shared between callers and must not be modified.
+ * Commands annotated with {@link com.example.core.application.command.InvalidatesQueries} evict
+ * the cached results of a query type; other writes invalidate them through {@link QueryCache}.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheableQuery {
+    
+    /**
+     * How long a cached result stays valid, in seconds.
+     */
+    long ttlSeconds() default 60;
+}
@@ -0,0 +1,28 @@
+package com.example.core.application.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a query that has no side effects, so that identical concurrent dispatches can share one execution.
+ * <p>
+ * While a query is being handled, equal queries dispatched concurrently wait for its result instead of
+ * running the handler again; a failure is propagated to every waiter. Queries are compared with
+ * {@code equals}, so the query class must implement {@code equals} and {@code hashCode}.
+ * Commands annotated with {@link com.example.core.application.command.InvalidatesQueries} stop later
+ * queries from joining executions that started before the command.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IdempotentQuery {
+    
+    /**
+     * How long a query waits for an identical query in flight, in milliseconds,
+     * before failing with {@link com.example.core.application.exception.UseCaseTimeoutException}.
+     */
+    long maxWaitMillis() default 5000;
+}
@@ -0,0 +1,15 @@
+package com.example.core.application.query;
+
+/**
+ * Cache of {@link CacheableQuery} results, for writes that do not go through a command
+ * annotated with {@link com.example.core.application.command.InvalidatesQueries}.
+ */
+public interface QueryCache {
+    
+    /**
+     * Invalidates all cached results of a query type.
+     *
+     * @param queryType The query type
+     */
+    void invalidate(Class<? extends Query<?>> queryType);
+}
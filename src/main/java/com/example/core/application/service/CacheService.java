@@ -1,6 +1,11 @@
 package com.example.core.application.service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Cache service interface for application layer.
@@ -18,6 +23,31 @@ public interface CacheService {
      */
     void put(String region, String key, Object value);
     
+    /**
+     * Put several values into cache.
+     */
+    void putAll(String region, Map<String, ?> values);
+    
+    /**
+     * Get value from cache, or load and cache it on a miss.
+     * Concurrent callers for the same key share one load, so a miss does not send every caller to the source.
+     * Absent results are not cached.
+     *
+     * @param loader Loads the value on a miss
+     * @return The cached or loaded value, or empty if the loader found none
+     */
+    <T> Optional<T> getOrLoad(String region, String key, Class<T> type, Supplier<Optional<T>> loader);
+    
+    /**
+     * Get several values from cache, loading all missing ones in a single call and caching them.
+     *
+     * @param loader Loads the values of the given missing keys at once, for example with one repository query;
+     *               keys it leaves out have no value
+     * @return The values by key, in the order of the given keys; keys without value are left out
+     */
+    <T> Map<String, T> getAll(String region, Collection<String> keys, Class<T> type,
+                              Function<? super Set<String>, ? extends Map<String, ? extends T>> loader);
+    
     /**
      * Remove value from cache.
      */
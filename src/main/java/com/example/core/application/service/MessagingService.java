@@ -7,12 +7,22 @@ package com.example.core.application.service;
 public interface MessagingService {
     
     /**
-     * Publish a message to a topic/queue.
+     * Publish a message to a topic/queue. Domain events are keyed by their aggregate; other messages are unkeyed.
      */
     void publishMessage(String topic, Object message);
     
     /**
-     * Send a direct message.
+     * Publish a message to a topic/queue, keeping its order relative to other messages with the same key.
+     */
+    void publishMessage(String topic, Object key, Object message);
+    
+    /**
+     * Send a direct message. Domain events are keyed by their aggregate; other messages are unkeyed.
      */
     void sendMessage(String destination, Object message);
+    
+    /**
+     * Send a direct message, keeping its order relative to other messages with the same key.
+     */
+    void sendMessage(String destination, Object key, Object message);
 }
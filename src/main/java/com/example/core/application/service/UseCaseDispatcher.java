@@ -1,6 +1,11 @@
 package com.example.core.application.service;
 
+import com.example.core.application.usecase.BatchUseCaseHandler;
 import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for dispatching use cases to their handlers.
@@ -9,10 +14,33 @@ public interface UseCaseDispatcher {
     
     /**
      * Dispatches a use case to its appropriate handler.
-     * 
+     *
      * @param useCase The use case to dispatch
      * @param <TResponse> The response type
      * @return The response from the handler
      */
     <TResponse> TResponse dispatch(UseCase<TResponse> useCase);
+    
+    /**
+     * Dispatches a use case to its handler on the dispatcher's executor.
+     * The caller's security context is available to the handler. The handler runs on another thread,
+     * so it starts its own transaction and does not join one active in the caller.
+     *
+     * @param useCase The use case to dispatch
+     * @param <TResponse> The response type
+     * @return A future completed with the response, or exceptionally with the handler's exception
+     */
+    <TResponse> CompletableFuture<TResponse> dispatchAsync(UseCase<TResponse> useCase);
+    
+    /**
+     * Dispatches many use cases in one call, grouped by use case type.
+     * Each group whose handler implements {@link BatchUseCaseHandler} is handled in a single call;
+     * other use cases are dispatched one by one. A failure is reported in that use case's result
+     * and does not stop the others, except that an exception from a batch handler fails its whole group.
+     *
+     * @param useCases The use cases to dispatch
+     * @param <TResponse> The response type
+     * @return One result per use case, in the same order as the input
+     */
+    <TResponse> List<UseCaseResult<TResponse>> dispatchAll(List<? extends UseCase<TResponse>> useCases);
 }
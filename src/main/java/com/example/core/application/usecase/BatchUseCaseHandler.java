@@ -0,0 +1,27 @@
+package com.example.core.application.usecase;
+
+import java.util.List;
+
+/**
+ * Handler that can process many use cases of its type in a single call,
+ * for example inside one transaction with batched writes.
+ * <p>
+ * Handlers opt in to batching by implementing this interface; {@code UseCaseDispatcher.dispatchAll}
+ * then passes each group of use cases of the handled type to {@link #handleAll(List)} instead of
+ * calling {@link #handle(UseCase)} once per use case.
+ *
+ * @param <TUseCase> The use case type
+ * @param <TResponse> The response type
+ */
+public interface BatchUseCaseHandler<TUseCase extends UseCase<TResponse>, TResponse>
+    extends UseCaseHandler<TUseCase, TResponse> {
+    
+    /**
+     * Handles a batch of use cases.
+     * Failures of individual use cases are reported as failed results; throwing fails the whole batch.
+     *
+     * @param useCases The use cases to handle
+     * @return One result per use case, in the same order
+     */
+    List<UseCaseResult<TResponse>> handleAll(List<TUseCase> useCases);
+}
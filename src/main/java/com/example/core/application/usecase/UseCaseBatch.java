@@ -0,0 +1,35 @@
+package com.example.core.application.usecase;
+
+import java.util.List;
+
+/**
+ * A group of use cases of one type handed to a {@link BatchUseCaseHandler} in a single call.
+ * <p>
+ * Batches pass through the pipeline of their use case type like any other use case, so each
+ * {@link UseCasePipelineBehavior} runs once per batch. Behaviors that only make sense per use case,
+ * such as result caching, should pass batches straight on to the next stage.
+ *
+ * @param <TResponse> The response type of the individual use cases
+ */
+public final class UseCaseBatch<TResponse> implements UseCase<List<UseCaseResult<TResponse>>> {
+    
+    private final List<? extends UseCase<TResponse>> useCases;
+    
+    public UseCaseBatch(List<? extends UseCase<TResponse>> useCases) {
+        this.useCases = List.copyOf(useCases);
+    }
+    
+    /**
+     * Gets the use cases in this batch.
+     */
+    public List<? extends UseCase<TResponse>> getUseCases() {
+        return useCases;
+    }
+    
+    /**
+     * Gets the number of use cases in this batch.
+     */
+    public int size() {
+        return useCases.size();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.core.application.usecase;
+
+/**
+ * The remainder of a use case pipeline, passed to each {@link UseCasePipelineBehavior}.
+ * Invocations are built once per use case type and reused for every dispatch.
+ */
+public interface UseCaseInvocation {
+    
+    /**
+     * Continues the pipeline with the next behavior, or the handler if this is the last stage.
+     *
+     * @param useCase The use case being dispatched
+     * @param <TResponse> The response type
+     * @return The response from the rest of the pipeline
+     */
+    <TResponse> TResponse proceed(UseCase<TResponse> useCase);
+}
@@ -0,0 +1,58 @@
+package com.example.core.application.usecase;
+
+/**
+ * Cross-cutting behavior wrapped around use case handling by the dispatcher,
+ * such as timing, validation or caching.
+ * <p>
+ * Behaviors are ordered with {@code @Order} or {@code Ordered}; the first behavior is the outermost.
+ * For each use case type the dispatcher binds every applicable behavior to the rest of the pipeline
+ * exactly once, so dispatching allocates no per-call chain objects.
+ * <p>
+ * When a {@link BatchUseCaseHandler} handles a batch, the behaviors of its use case type are called once
+ * with a {@link UseCaseBatch} wrapping the whole group.
+ */
+public interface UseCasePipelineBehavior {
+    
+    /**
+     * Handles the use case, usually by calling {@code next.proceed(useCase)}.
+     *
+     * @param useCase The use case being dispatched
+     * @param next The rest of the pipeline
+     * @param <TResponse> The response type
+     * @return The response
+     */
+    <TResponse> TResponse handle(UseCase<TResponse> useCase, UseCaseInvocation next);
+    
+    /**
+     * Checks if this behavior applies to the given use case type.
+     * Behaviors that do not apply are left out of that type's pipeline entirely.
+     *
+     * @param useCaseType The concrete use case class
+     * @return true if the behavior should wrap handling of this type
+     */
+    default boolean appliesTo(Class<?> useCaseType) {
+        return true;
+    }
+    
+    /**
+     * Binds this behavior to the rest of the pipeline for one use case type.
+     * Called once per use case type; override to resolve per-type state up front.
+     *
+     * @param useCaseType The concrete use case class
+     * @param next The rest of the pipeline
+     * @return The invocation to use in place of {@code next}
+     */
+    default UseCaseInvocation bind(Class<?> useCaseType, UseCaseInvocation next) {
+        if (!appliesTo(useCaseType)) {
+            return next;
+        }
+        
+        UseCasePipelineBehavior behavior = this;
+        return new UseCaseInvocation() {
+            @Override
+            public <TResponse> TResponse proceed(UseCase<TResponse> useCase) {
+                return behavior.handle(useCase, next);
+            }
+        };
+    }
+}
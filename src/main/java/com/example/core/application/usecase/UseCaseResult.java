@@ -0,0 +1,65 @@
+package com.example.core.application.usecase;
+
+/**
+ * Outcome of handling one use case in a batch: either a response or the exception that prevented it.
+ *
+ * @param <TResponse> The response type
+ */
+public final class UseCaseResult<TResponse> {
+    
+    private final TResponse value;
+    private final RuntimeException error;
+    
+    private UseCaseResult(TResponse value, RuntimeException error) {
+        this.value = value;
+        this.error = error;
+    }
+    
+    /**
+     * Creates a successful result.
+     */
+    public static <TResponse> UseCaseResult<TResponse> success(TResponse value) {
+        return new UseCaseResult<>(value, null);
+    }
+    
+    /**
+     * Creates a failed result.
+     */
+    public static <TResponse> UseCaseResult<TResponse> failure(RuntimeException error) {
+        if (error == null) {
+            throw new IllegalArgumentException("Error cannot be null");
+        }
+        return new UseCaseResult<>(null, error);
+    }
+    
+    /**
+     * Checks if the use case was handled successfully.
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+    
+    /**
+     * Gets the response, or null if the use case failed.
+     */
+    public TResponse getValue() {
+        return value;
+    }
+    
+    /**
+     * Gets the exception, or null if the use case succeeded.
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+    
+    /**
+     * Gets the response, rethrowing the exception if the use case failed.
+     */
+    public TResponse getOrThrow() {
+        if (error != null) {
+            throw error;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.core.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility class for opaque keyset pagination cursors.
+ * A cursor encodes the sort key of the last item of a page; clients pass it back unchanged
+ * to get the next page and must not rely on its content.
+ */
+public final class CursorUtils {
+    
+    private static final String VERSION_PREFIX = "v1:";
+    
+    private CursorUtils() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+    
+    /**
+     * Encode a numeric key as a cursor.
+     */
+    public static String encode(long key) {
+        byte[] raw = (VERSION_PREFIX + key).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+    
+    /**
+     * Decode a cursor created by {@link #encode(long)}.
+     *
+     * @param cursor The cursor, or null or blank for the first page
+     * @return The encoded key, or null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Long decodeLong(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (!raw.startsWith(VERSION_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(raw.substring(VERSION_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // Also covers invalid Base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -23,4 +23,12 @@ public interface DomainEvent {
     default String getEventType() {
         return this.getClass().getSimpleName();
     }
+    
+    /**
+     * Gets the identifier of the aggregate that raised the event, or null if it is not known.
+     * Asynchronous handlers receive the events of one aggregate in the order they were published.
+     */
+    default Object getAggregateId() {
+        return null;
+    }
 }
@@ -2,12 +2,13 @@ package com.example.core.domain.repository;
 
 import com.example.core.domain.model.AggregateRoot;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Base repository interface for aggregate roots.
- * 
+ *
  * @param <T> The aggregate root type
  * @param <ID> The identifier type
  */
@@ -15,37 +16,54 @@ public interface Repository<T extends AggregateRoot<ID>, ID> {
     
     /**
      * Finds an aggregate by its identifier.
-     * 
+     *
      * @param id The identifier
      * @return Optional containing the aggregate if found
      */
     Optional<T> findById(ID id);
     
+    /**
+     * Finds the aggregates with the given identifiers, in a single query.
+     * Identifiers without an aggregate are skipped; the order of the result is unspecified.
+     *
+     * @param ids The identifiers
+     * @return The aggregates found
+     */
+    List<T> findAllById(Collection<ID> ids);
+    
     /**
      * Finds all aggregates.
-     * 
+     *
      * @return List of all aggregates
      */
     List<T> findAll();
     
     /**
      * Saves an aggregate.
-     * 
+     *
      * @param aggregate The aggregate to save
      * @return The saved aggregate
      */
     T save(T aggregate);
     
+    /**
+     * Saves several aggregates in one unit of work, allowing the writes to be batched.
+     *
+     * @param aggregates The aggregates to save
+     * @return The saved aggregates, in the same order
+     */
+    List<T> saveAll(Collection<T> aggregates);
+    
     /**
      * Deletes an aggregate by its identifier.
-     * 
+     *
      * @param id The identifier of the aggregate to delete
      */
     void deleteById(ID id);
     
     /**
      * Checks if an aggregate exists with the given identifier.
-     * 
+     *
      * @param id The identifier to check
      * @return true if exists, false otherwise
      */
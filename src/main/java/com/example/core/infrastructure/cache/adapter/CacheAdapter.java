@@ -1,22 +1,55 @@
 package com.example.core.infrastructure.cache.adapter;
 
+import com.example.core.infrastructure.cache.refresh.CacheRefresher;
+import com.example.core.infrastructure.cache.refresh.CacheRefresher.Freshness;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Cache adapter for centralized cache operations.
  * Provides abstraction over Spring Cache with type-safe operations.
+ * <p>
+ * Loads through {@link #getOrLoad} and {@link #getAll} are deduplicated per key: while a key is being loaded,
+ * other callers asking for it wait for that load instead of hitting the source again. A put, evict or clear of a key
+ * while it is being loaded marks the load as stale, so that its possibly outdated result is returned to its callers
+ * but does not stay in the cache. Absent results are not cached.
+ * <p>
+ * With a {@link CacheRefresher}, {@link #getOrLoad} serves entries that are due for a refresh or stale within their
+ * grace period and reloads them in the background with the caller's loader, one refresh per key at a time; the
+ * loader then runs on a refresh thread. Stale entries count as misses for {@link #get} and {@link #getAll}.
  */
 @Component
 public class CacheAdapter {
     
     private final CacheManager cacheManager;
+    private final ConcurrentMap<LoadKey, Load> loads = new ConcurrentHashMap<>();
+    @Nullable
+    private final CacheRefresher refresher;
     
     public CacheAdapter(CacheManager cacheManager) {
+        this(cacheManager, null);
+    }
+    
+    @Autowired
+    public CacheAdapter(CacheManager cacheManager, @Nullable CacheRefresher refresher) {
         this.cacheManager = cacheManager;
+        this.refresher = refresher;
     }
     
     /**
@@ -28,17 +61,7 @@ public class CacheAdapter {
      * @return Optional containing the cached value if present
      */
     public <T> Optional<T> get(String cacheName, String key, Class<T> type) {
-        Cache cache = cacheManager.getCache(cacheName);
-        if (cache != null) {
-            Cache.ValueWrapper wrapper = cache.get(key);
-            if (wrapper != null) {
-                Object value = wrapper.get();
-                if (type.isInstance(value)) {
-                    return Optional.of(type.cast(value));
-                }
-            }
-        }
-        return Optional.empty();
+        return lookup(cacheManager.getCache(cacheName), key, type);
     }
     
     /**
@@ -49,12 +72,142 @@ public class CacheAdapter {
      * @param value The value to cache
      */
     public void put(String cacheName, String key, Object value) {
+        invalidateLoad(cacheName, key);
         Cache cache = cacheManager.getCache(cacheName);
         if (cache != null) {
             cache.put(key, value);
         }
     }
     
+    /**
+     * Put several values into cache.
+     *
+     * @param cacheName The cache name
+     * @param values The values to cache, by key
+     */
+    public void putAll(String cacheName, Map<String, ?> values) {
+        values.forEach((key, value) -> put(cacheName, key, value));
+    }
+    
+    /**
+     * Get value from cache, loading and caching it on a miss. Concurrent callers for the same key share one load.
+     * A cached value due for a refresh, or stale within its grace period, is returned while the loader reloads it
+     * in the background.
+     *
+     * @param cacheName The cache name
+     * @param key The cache key
+     * @param type The expected value type
+     * @param loader Loads the value; called at most once per miss, by one caller
+     * @return Optional containing the cached or loaded value, or empty if the loader found nothing
+     * @throws RuntimeException thrown by the loader, to its caller and to the callers waiting for it
+     */
+    public <T> Optional<T> getOrLoad(String cacheName, String key, Class<T> type, Supplier<Optional<T>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Cache.ValueWrapper wrapper = cache != null ? cache.get(key) : null;
+        if (wrapper != null && type.isInstance(wrapper.get())) {
+            T value = type.cast(wrapper.get());
+            Freshness freshness = freshness(cache, key);
+            if (freshness != Freshness.FRESH) {
+                if (freshness == Freshness.STALE) {
+                    refresher.servedStale(cacheName);
+                }
+                refresh(cache, key, value, loader);
+            }
+            return Optional.of(value);
+        }
+        
+        LoadKey loadKey = new LoadKey(cacheName, key);
+        Load load = new Load();
+        Load running = loads.putIfAbsent(loadKey, load);
+        if (running != null) {
+            return Optional.ofNullable(cast(await(running), type));
+        }
+        try {
+            // Another caller's load may have finished between the lookup and the claim
+            Optional<T> cached = lookup(cache, key, type);
+            T value = cached.isPresent() ? cached.get() : loader.get().orElse(null);
+            complete(cache, loadKey, load, value);
+            return Optional.ofNullable(value);
+        } catch (RuntimeException | Error e) {
+            fail(loadKey, load, e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Get several values from cache, loading all missing ones in a single call and caching them.
+     * Keys already being loaded by another caller are waited for rather than loaded again.
+     *
+     * @param cacheName The cache name
+     * @param keys The cache keys
+     * @param type The expected value type
+     * @param loader Loads the values of the given missing keys at once; keys it leaves out have no value
+     * @return The cached or loaded values by key, in the order of the given keys; keys without value are left out
+     * @throws RuntimeException thrown by the loader, to its caller and to the callers waiting for it
+     */
+    public <T> Map<String, T> getAll(String cacheName, Collection<String> keys, Class<T> type,
+                                     Function<? super Set<String>, ? extends Map<String, ? extends T>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Map<String, T> found = new LinkedHashMap<>();
+        Map<String, Load> claimed = new LinkedHashMap<>();
+        Map<String, Load> awaited = new LinkedHashMap<>();
+        for (String key : keys) {
+            if (found.containsKey(key) || claimed.containsKey(key) || awaited.containsKey(key)) {
+                continue;
+            }
+            Optional<T> cached = lookup(cache, key, type);
+            if (cached.isPresent()) {
+                found.put(key, cached.get());
+                continue;
+            }
+            Load load = new Load();
+            Load running = loads.putIfAbsent(new LoadKey(cacheName, key), load);
+            if (running != null) {
+                awaited.put(key, running);
+                continue;
+            }
+            cached = lookup(cache, key, type);
+            if (cached.isPresent()) {
+                found.put(key, cached.get());
+                complete(null, new LoadKey(cacheName, key), load, cached.get());
+            } else {
+                claimed.put(key, load);
+            }
+        }
+        
+        if (!claimed.isEmpty()) {
+            Map<String, ? extends T> loaded;
+            try {
+                loaded = loader.apply(Collections.unmodifiableSet(claimed.keySet()));
+            } catch (RuntimeException | Error e) {
+                claimed.forEach((key, load) -> fail(new LoadKey(cacheName, key), load, e));
+                throw e;
+            }
+            claimed.forEach((key, load) -> {
+                T value = loaded.get(key);
+                complete(cache, new LoadKey(cacheName, key), load, value);
+                if (value != null) {
+                    found.put(key, value);
+                }
+            });
+        }
+        awaited.forEach((key, load) -> {
+            T value = cast(await(load), type);
+            if (value != null) {
+                found.put(key, value);
+            }
+        });
+        
+        Map<String, T> ordered = new LinkedHashMap<>();
+        for (String key : keys) {
+            T value = found.get(key);
+            if (value != null) {
+                ordered.put(key, value);
+            }
+        }
+        return ordered;
+    }
+    
     /**
      * Remove value from cache.
      * 
@@ -62,6 +215,7 @@ public class CacheAdapter {
      * @param key The cache key
      */
     public void evict(String cacheName, String key) {
+        invalidateLoad(cacheName, key);
         Cache cache = cacheManager.getCache(cacheName);
         if (cache != null) {
             cache.evict(key);
@@ -74,9 +228,118 @@ public class CacheAdapter {
      * @param cacheName The cache name
      */
     public void clear(String cacheName) {
+        loads.forEach((loadKey, load) -> {
+            if (loadKey.cacheName().equals(cacheName)) {
+                load.stale = true;
+            }
+        });
         Cache cache = cacheManager.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         }
     }
+    
+    /**
+     * Looks up a value; a stale value counts as a miss.
+     */
+    private <T> Optional<T> lookup(@Nullable Cache cache, String key, Class<T> type) {
+        if (cache != null) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null && type.isInstance(wrapper.get()) && freshness(cache, key) != Freshness.STALE) {
+                return Optional.of(type.cast(wrapper.get()));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Freshness freshness(Cache cache, String key) {
+        return refresher != null ? refresher.freshness(cache, key) : Freshness.FRESH;
+    }
+    
+    /**
+     * Reloads a cached value in the background, unless it is being loaded already.
+     * The claimed load lets callers that miss meanwhile wait for the refresh instead of loading again.
+     */
+    private <T> void refresh(Cache cache, String key, T current, Supplier<Optional<T>> loader) {
+        LoadKey loadKey = new LoadKey(cache.getName(), key);
+        Load load = new Load();
+        if (loads.putIfAbsent(loadKey, load) != null) {
+            return;
+        }
+        boolean started = refresher.refresh(cache.getName(), () -> {
+            try {
+                T value = loader.get().orElse(null);
+                if (value == null && !load.stale) {
+                    // The source no longer has the value, so the old one must not be served any longer
+                    cache.evict(key);
+                }
+                complete(cache, loadKey, load, value);
+            } catch (RuntimeException | Error e) {
+                fail(loadKey, load, e);
+                throw e;
+            }
+        });
+        if (!started) {
+            // Leave the value as it is; a later read tries again
+            complete(null, loadKey, load, current);
+        }
+    }
+    
+    private void invalidateLoad(String cacheName, String key) {
+        Load load = loads.get(new LoadKey(cacheName, key));
+        if (load != null) {
+            load.stale = true;
+        }
+    }
+    
+    /**
+     * Caches the result of a load and hands it to the callers waiting for it.
+     */
+    private void complete(@Nullable Cache cache, LoadKey loadKey, Load load, @Nullable Object value) {
+        if (cache != null && value != null) {
+            cache.put(loadKey.key(), value);
+            // Checked after the put, so that an invalidation racing with it cannot leave the value behind
+            if (load.stale) {
+                cache.evict(loadKey.key());
+            }
+        }
+        loads.remove(loadKey, load);
+        load.complete(value);
+    }
+    
+    private void fail(LoadKey loadKey, Load load, Throwable failure) {
+        loads.remove(loadKey, load);
+        load.completeExceptionally(failure);
+    }
+    
+    @Nullable
+    private static Object await(Load load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+    
+    @Nullable
+    private static <T> T cast(@Nullable Object value, Class<T> type) {
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+    
+    private record LoadKey(String cacheName, String key) {
+    }
+    
+    /**
+     * A load in progress, completed with the loaded value or null if there is none.
+     */
+    private static final class Load extends CompletableFuture<Object> {
+        
+        volatile boolean stale;
+    }
 }
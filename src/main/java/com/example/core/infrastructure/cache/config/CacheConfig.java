@@ -1,22 +1,237 @@
 package com.example.core.infrastructure.cache.config;
 
+import com.example.core.infrastructure.cache.offheap.OffHeapCache;
+import com.example.core.infrastructure.cache.offheap.OffHeapCacheMeterBinderProvider;
+import com.example.core.infrastructure.cache.refresh.CacheRefresher;
+import com.example.core.infrastructure.cache.tiered.CacheValueSerializer;
+import com.example.core.infrastructure.cache.tiered.InMemorySharedCacheStore;
+import com.example.core.infrastructure.cache.tiered.MappedFileCacheStore;
+import com.example.core.infrastructure.cache.tiered.SharedCacheStore;
+import com.example.core.infrastructure.cache.tiered.TieredCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.CompositeCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.lang.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Cache configuration for application caching.
  */
+@Slf4j
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfig {
     
+    // Smile is a binary form of JSON; values are read back by the same instance, so any compact format works
+    private static final CacheValueSerializer OFF_HEAP_SERIALIZER =
+        new CacheValueSerializer(SmileMapper.builder().findAndAddModules().build());
+    
+    /**
+     * In-process cache manager with one Caffeine cache per region configured under {@code app.cache.regions}.
+     * Reads do not lock, and a full region evicts by Caffeine's W-TinyLFU policy, which keeps frequently used
+     * entries over recently added ones. Statistics are recorded, so hits, misses and evictions per region are
+     * published as the {@code cache.gets}, {@code cache.evictions} and {@code cache.size} meters.
+     * <p>
+     * With a {@link SharedCacheStore}, regions marked as shared become two-tier caches: the Caffeine cache is
+     * the near-cache of each instance, in front of the shared store. Regions stored off-heap are {@link OffHeapCache}s
+     * instead, served by the same cache manager.
+     */
     @Bean
     @Primary
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("users", "entities", "queries");
+    public CacheManager cacheManager(CacheProperties properties, ObjectProvider<SharedCacheStore> sharedCacheStore,
+                                     ObjectProvider<ObjectMapper> objectMapper) {
+        return createCacheManager(properties, sharedCacheStore.getIfAvailable(),
+            objectMapper.getIfAvailable(ObjectMapper::new));
+    }
+    
+    /**
+     * Publishes the cache meters of off-heap regions.
+     */
+    @Bean
+    public OffHeapCacheMeterBinderProvider offHeapCacheMeterBinderProvider() {
+        return new OffHeapCacheMeterBinderProvider();
+    }
+    
+    /**
+     * Refreshes entries of the regions with refresh-ahead or stale-while-revalidate in the background.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheRefresher cacheRefresher(CacheProperties properties, MeterRegistry meterRegistry) {
+        return new CacheRefresher(
+            refreshPolicies(properties),
+            properties.getRefresh().getThreads(),
+            properties.getRefresh().getQueueCapacity(),
+            meterRegistry);
+    }
+    
+    /**
+     * Creates the cache manager for the configured regions.
+     *
+     * @param sharedCacheStore The shared tier, or null to cache in this instance only
+     */
+    static CacheManager createCacheManager(CacheProperties properties, @Nullable SharedCacheStore sharedCacheStore,
+                                           ObjectMapper objectMapper) {
+        CaffeineCacheManager cacheManager = sharedCacheStore != null
+            ? new TieredCacheManager(sharedCacheStore, new CacheValueSerializer(objectMapper), sharedRegions(properties))
+            : new CaffeineCacheManager();
+        // Only the configured regions; no unbounded caches created on demand
+        cacheManager.setCacheNames(Collections.emptyList());
+        List<Cache> offHeapCaches = new ArrayList<>();
+        for (Map.Entry<String, CacheProperties.Region> region : properties.getRegions().entrySet()) {
+            if (region.getValue().getStorage() == CacheProperties.Storage.OFF_HEAP) {
+                offHeapCaches.add(offHeapCache(region.getKey(), region.getValue(), properties.getDefaults()));
+            } else {
+                cacheManager.registerCustomCache(region.getKey(),
+                    regionBuilder(region.getValue(), properties.getDefaults()).build());
+            }
+        }
+        if (offHeapCaches.isEmpty()) {
+            return cacheManager;
+        }
+        
+        SimpleCacheManager offHeapCacheManager = new SimpleCacheManager();
+        offHeapCacheManager.setCaches(offHeapCaches);
+        offHeapCacheManager.initializeCaches();
+        return new CompositeCacheManager(cacheManager, offHeapCacheManager);
+    }
+    
+    /**
+     * Creates an off-heap region, taking unset bounds from the defaults.
+     */
+    static OffHeapCache offHeapCache(String name, CacheProperties.Region bounds, CacheProperties.Region defaults) {
+        if (bounds.isShared()) {
+            throw new IllegalStateException("Cache region " + name + " is stored off-heap or shared, not both");
+        }
+        if (bounds.getRefreshAhead() != null || bounds.getStaleWhileRevalidate() != null) {
+            throw new IllegalStateException("Off-heap cache region " + name + " cannot be refreshed");
+        }
+        CacheProperties.Region size = bounds.getMaxEntries() != null || bounds.getMaxWeight() != null ? bounds : defaults;
+        if (size.getMaxWeight() != null) {
+            throw new IllegalStateException("Off-heap cache region " + name + " is bounded by max-entries, not max-weight");
+        }
+        return new OffHeapCache(
+            name,
+            OFF_HEAP_SERIALIZER,
+            bounds.getOffHeapCapacity().toBytes(),
+            size.getMaxEntries(),
+            bounds.getEviction(),
+            bounds.getExpireAfterWrite() != null ? bounds.getExpireAfterWrite() : defaults.getExpireAfterWrite(),
+            bounds.getExpireAfterAccess() != null ? bounds.getExpireAfterAccess() : defaults.getExpireAfterAccess());
+    }
+    
+    /**
+     * Gets the shared regions, each with how long its entries live in the shared tier; zero for no limit.
+     */
+    static Map<String, Duration> sharedRegions(CacheProperties properties) {
+        CacheProperties.Region defaults = properties.getDefaults();
+        Map<String, Duration> shared = new HashMap<>();
+        properties.getRegions().forEach((name, region) -> {
+            if (region.isShared()) {
+                Duration timeToLive = region.getExpireAfterWrite() != null ? region.getExpireAfterWrite()
+                    : region.getExpireAfterAccess() != null ? region.getExpireAfterAccess()
+                    : defaults.getExpireAfterWrite() != null ? defaults.getExpireAfterWrite()
+                    : defaults.getExpireAfterAccess();
+                shared.put(name, timeToLive != null ? timeToLive : Duration.ZERO);
+            }
+        });
+        return shared;
+    }
+    
+    /**
+     * Gets the refresh policies of the regions with refresh-ahead or stale-while-revalidate.
+     */
+    static Map<String, CacheRefresher.Policy> refreshPolicies(CacheProperties properties) {
+        Map<String, CacheRefresher.Policy> policies = new HashMap<>();
+        properties.getRegions().forEach((name, region) -> {
+            if (region.getRefreshAhead() == null && region.getStaleWhileRevalidate() == null) {
+                return;
+            }
+            Duration timeToLive = region.getExpireAfterWrite() != null
+                ? region.getExpireAfterWrite() : properties.getDefaults().getExpireAfterWrite();
+            if (timeToLive == null) {
+                throw new IllegalStateException("Refreshed cache region " + name + " has no expire-after-write");
+            }
+            if (region.getRefreshAhead() != null && region.getRefreshAhead().compareTo(timeToLive) >= 0) {
+                throw new IllegalStateException("Refresh-ahead of cache region " + name
+                    + " must be shorter than its expire-after-write");
+            }
+            policies.put(name, new CacheRefresher.Policy(timeToLive, region.getRefreshAhead()));
+        });
+        return policies;
+    }
+    
+    /**
+     * Creates the cache builder for a region, taking unset bounds from the defaults.
+     */
+    static Caffeine<Object, Object> regionBuilder(CacheProperties.Region bounds, CacheProperties.Region defaults) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        
+        CacheProperties.Region size = bounds.getMaxEntries() != null || bounds.getMaxWeight() != null ? bounds : defaults;
+        if (size.getMaxEntries() != null && size.getMaxWeight() != null) {
+            throw new IllegalStateException("A cache region is bounded by max-entries or max-weight, not both");
+        }
+        if (size.getMaxEntries() != null) {
+            builder.maximumSize(size.getMaxEntries());
+        } else if (size.getMaxWeight() != null) {
+            builder.maximumWeight(size.getMaxWeight()).weigher(new ElementCountWeigher());
+        }
+        
+        if (bounds.getExpireAfterWrite() != null || defaults.getExpireAfterWrite() != null) {
+            Duration expireAfterWrite = bounds.getExpireAfterWrite() != null
+                ? bounds.getExpireAfterWrite() : defaults.getExpireAfterWrite();
+            // Stale entries are kept through the grace period; the refresher tells them apart by their age
+            builder.expireAfterWrite(bounds.getStaleWhileRevalidate() != null
+                ? expireAfterWrite.plus(bounds.getStaleWhileRevalidate()) : expireAfterWrite);
+        }
+        if (bounds.getExpireAfterAccess() != null || defaults.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(bounds.getExpireAfterAccess() != null
+                ? bounds.getExpireAfterAccess() : defaults.getExpireAfterAccess());
+        }
+        return builder;
+    }
+    
+    /**
+     * Shared cache tier, created only when enabled.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.cache.shared", name = "enabled", havingValue = "true")
+    static class SharedCacheConfiguration {
+        
+        @Bean(destroyMethod = "close")
+        public SharedCacheStore sharedCacheStore(CacheProperties properties) {
+            CacheProperties.Shared shared = properties.getShared();
+            if (shared.getStore() == CacheProperties.Store.IN_MEMORY) {
+                log.info("Using in-memory shared cache tier; entries are not shared with other instances");
+                return new InMemorySharedCacheStore();
+            }
+            return new MappedFileCacheStore(
+                Path.of(shared.getPath()),
+                shared.getSize().toBytes(),
+                (int) shared.getSlotSize().toBytes(),
+                shared.getInvalidationRingSize(),
+                shared.getPollInterval());
+        }
     }
 }
@@ -0,0 +1,208 @@
+package com.example.core.infrastructure.cache.config;
+
+import com.example.core.infrastructure.cache.offheap.OffHeapCache;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the application cache regions used through {@code CacheService},
+ * {@code @Cacheable} and the query cache.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+    
+    /**
+     * Bounds of configured regions that leave a bound unset.
+     */
+    private Region defaults = Region.of(10_000, Duration.ofMinutes(10));
+    
+    /**
+     * Regions keyed by name. Only configured regions exist; a cache lookup for any other name finds nothing.
+     */
+    private Map<String, Region> regions = new HashMap<>();
+    
+    /**
+     * Second cache tier shared by the application instances, behind the regions marked as shared.
+     */
+    private Shared shared = new Shared();
+    
+    /**
+     * Background refreshes of regions with refresh-ahead or stale-while-revalidate.
+     */
+    private Refresh refresh = new Refresh();
+    
+    /**
+     * Bounds of one cache region. A region is bounded either by entry count or by weight; setting one of them
+     * on a region replaces both defaults.
+     */
+    @Data
+    public static class Region {
+        
+        /**
+         * Maximum number of entries.
+         */
+        private Long maxEntries;
+        
+        /**
+         * Maximum total weight of the entries, where a collection, map or array weighs its number of elements
+         * and any other value weighs one.
+         */
+        private Long maxWeight;
+        
+        /**
+         * How long an entry lives after it is written.
+         */
+        private Duration expireAfterWrite;
+        
+        /**
+         * How long an entry lives after it was last read or written.
+         */
+        private Duration expireAfterAccess;
+        
+        /**
+         * Whether the region keeps its entries in the shared tier as well, so that all instances see them.
+         * Entries are written to the shared tier as JSON; regions holding collections or values that only make
+         * sense within one instance should not be shared.
+         */
+        private boolean shared;
+        
+        /**
+         * Where the region keeps its values. Off-heap regions keep values serialized outside the Java heap,
+         * which shortens garbage collection of large caches at the cost of deserializing each hit; they cannot
+         * be shared and are bounded by max-entries and off-heap capacity, not max-weight.
+         */
+        private Storage storage = Storage.ON_HEAP;
+        
+        /**
+         * Off-heap memory held by an off-heap region, allocated when the region is created.
+         */
+        private DataSize offHeapCapacity = DataSize.ofMegabytes(64);
+        
+        /**
+         * Which values of a full off-heap region give way.
+         */
+        private OffHeapCache.Eviction eviction = OffHeapCache.Eviction.LRU;
+        
+        /**
+         * How long before it expires a read through {@code CacheService.getOrLoad} reloads an entry in the
+         * background, while the entry is still served. Needs expire-after-write; not taken from the defaults.
+         */
+        private Duration refreshAhead;
+        
+        /**
+         * How long after it expires an entry is still served once through {@code CacheService.getOrLoad} while it
+         * is reloaded in the background. The region keeps entries this much longer, so only use it for regions
+         * read through {@code CacheService}, whose other reads miss stale entries: readers that use the
+         * {@code CacheManager} directly, such as {@code @Cacheable} methods, see stale entries as hits.
+         * Entries of shared regions are aged from their write to the shared tier, whichever instance reads them.
+         * Needs expire-after-write; not taken from the defaults.
+         */
+        private Duration staleWhileRevalidate;
+        
+        static Region of(long maxEntries, Duration expireAfterWrite) {
+            Region region = new Region();
+            region.setMaxEntries(maxEntries);
+            region.setExpireAfterWrite(expireAfterWrite);
+            return region;
+        }
+    }
+    
+    /**
+     * Shared cache tier settings.
+     */
+    @Data
+    public static class Shared {
+        
+        /**
+         * Whether shared regions use the shared tier. When disabled, they are cached by each instance alone.
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Where the shared tier is kept. The mapped-file store is an opt-in: it maps a file of {@link #size} at
+         * {@link #path}, relative to the working directory, and locks the file on every access.
+         */
+        private Store store = Store.IN_MEMORY;
+        
+        /**
+         * Store file, shared by all instances on the host. Used by the mapped-file store.
+         */
+        private String path = "data/cache/shared-cache.dat";
+        
+        /**
+         * Size of the store file. Used by the mapped-file store.
+         */
+        private DataSize size = DataSize.ofMegabytes(64);
+        
+        /**
+         * Size of one entry in the store file; larger values are not shared. Used by the mapped-file store.
+         */
+        private DataSize slotSize = DataSize.ofKilobytes(4);
+        
+        /**
+         * Invalidations kept for instances that have not read them yet; an instance falling further behind
+         * drops its whole near-cache. Used by the mapped-file store.
+         */
+        private int invalidationRingSize = 4096;
+        
+        /**
+         * How often invalidations from other instances are read. Used by the mapped-file store.
+         */
+        private Duration pollInterval = Duration.ofMillis(100);
+    }
+    
+    /**
+     * Background refresh settings.
+     */
+    @Data
+    public static class Refresh {
+        
+        /**
+         * Maximum number of refreshes running at once.
+         */
+        private int threads = 2;
+        
+        /**
+         * Maximum number of refreshes waiting for a thread; further refreshes are skipped.
+         */
+        private int queueCapacity = 1000;
+    }
+    
+    /**
+     * Where a region keeps its values.
+     */
+    public enum Storage {
+        
+        /**
+         * As objects on the Java heap, in a Caffeine cache.
+         */
+        ON_HEAP,
+        
+        /**
+         * Serialized in direct memory outside the Java heap.
+         */
+        OFF_HEAP
+    }
+    
+    /**
+     * Shared tier implementations.
+     */
+    public enum Store {
+        
+        /**
+         * A memory-mapped file shared by the instances on one host.
+         */
+        MAPPED_FILE,
+        
+        /**
+         * Kept within the instance; a stand-in for a remote cache in tests and single-instance runs.
+         */
+        IN_MEMORY
+    }
+}
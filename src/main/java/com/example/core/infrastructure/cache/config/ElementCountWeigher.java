@@ -0,0 +1,41 @@
+package com.example.core.infrastructure.cache.config;
+
+import com.example.core.application.dto.CursorPage;
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.springframework.cache.Cache;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Weighs cached values by their number of elements, so that a region of query results is bounded
+ * by the rows it holds rather than by the number of queries. Values that are not containers weigh one.
+ * Values wrapped in a {@link Cache.ValueWrapper}, as the query cache stores its results, and the items of a
+ * {@link CursorPage} are weighed by what they hold.
+ */
+final class ElementCountWeigher implements Weigher<Object, Object> {
+    
+    @Override
+    public int weigh(Object key, Object value) {
+        while (value instanceof Cache.ValueWrapper wrapper && wrapper.get() != null) {
+            value = wrapper.get();
+        }
+        if (value instanceof CursorPage<?> page && page.getItems() != null) {
+            value = page.getItems();
+        }
+        
+        int elements;
+        if (value instanceof Collection<?> collection) {
+            elements = collection.size();
+        } else if (value instanceof Map<?, ?> map) {
+            elements = map.size();
+        } else if (value.getClass().isArray()) {
+            elements = Array.getLength(value);
+        } else {
+            elements = 1;
+        }
+        // Empty containers still take room
+        return Math.max(1, elements);
+    }
+}
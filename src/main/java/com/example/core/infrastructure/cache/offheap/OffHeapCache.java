@@ -0,0 +1,497 @@
+package com.example.core.infrastructure.cache.offheap;
+
+import com.example.core.infrastructure.cache.tiered.CacheValueSerializer;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.Nullable;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache region whose values are kept outside the Java heap, in direct byte buffers.
+ * <p>
+ * Values are serialized on write with a compact binary {@link CacheValueSerializer} and read back on each hit,
+ * so the heap holds a key and a small index entry per value instead of the value's object graph, and the garbage
+ * collector neither traces nor copies cached values. In exchange every hit pays for deserialization and returns
+ * a fresh copy; changing a returned value does not change the cached one.
+ * <p>
+ * The region is split into segments, each with its own lock and buffer. A segment writes values one after another
+ * into its buffer, used as a ring; when the buffer or the entry limit is full, the oldest values are evicted to make
+ * room. With {@link Eviction#LRU}, a value read while it is among the oldest quarter of its segment is written again
+ * at the end of the ring, which approximates least-recently-used eviction; {@link Eviction#FIFO} evicts in write
+ * order. Values the serializer cannot write, such as collections, and values larger than a segment are not cached.
+ */
+public class OffHeapCache extends AbstractValueAdaptingCache {
+    
+    private static final int MAX_SEGMENTS = 16;
+    private static final long MIN_SEGMENT_CAPACITY = 1024 * 1024;
+    
+    private final String name;
+    private final CacheValueSerializer serializer;
+    private final Eviction eviction;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final LongSupplier nanoTime;
+    private final Segment[] segments;
+    private final Map<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    
+    /**
+     * @param name The region name
+     * @param serializer Converts values to and from bytes
+     * @param capacity Off-heap bytes held by the region
+     * @param maxEntries Maximum number of entries; null for no limit besides the capacity
+     * @param eviction Which values give way when the region is full
+     * @param expireAfterWrite How long an entry lives after it is written; null for no limit
+     * @param expireAfterAccess How long an entry lives after it was last read or written; null for no limit
+     */
+    public OffHeapCache(String name, CacheValueSerializer serializer, long capacity, @Nullable Long maxEntries,
+                        Eviction eviction, @Nullable Duration expireAfterWrite, @Nullable Duration expireAfterAccess) {
+        this(name, serializer, capacity, maxEntries, eviction, expireAfterWrite, expireAfterAccess, System::nanoTime);
+    }
+    
+    OffHeapCache(String name, CacheValueSerializer serializer, long capacity, @Nullable Long maxEntries,
+                 Eviction eviction, @Nullable Duration expireAfterWrite, @Nullable Duration expireAfterAccess,
+                 LongSupplier nanoTime) {
+        super(false);
+        int segmentCount = Integer.highestOneBit((int) Math.max(1, Math.min(MAX_SEGMENTS, capacity / MIN_SEGMENT_CAPACITY)));
+        long segmentCapacity = capacity / segmentCount;
+        if (segmentCapacity < 1 || segmentCapacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Off-heap cache capacity out of range: " + capacity);
+        }
+        this.name = name;
+        this.serializer = serializer;
+        this.eviction = eviction;
+        this.expireAfterWriteNanos = expireAfterWrite != null ? expireAfterWrite.toNanos() : 0;
+        this.expireAfterAccessNanos = expireAfterAccess != null ? expireAfterAccess.toNanos() : 0;
+        this.nanoTime = nanoTime;
+        long segmentMaxEntries = maxEntries != null ? Math.max(1, (maxEntries + segmentCount - 1) / segmentCount) : Long.MAX_VALUE;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment((int) segmentCapacity, segmentMaxEntries);
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+    
+    @Override
+    @Nullable
+    protected Object lookup(Object key) {
+        Segment segment = segmentFor(key);
+        Node node;
+        byte[] bytes;
+        segment.lock.lock();
+        try {
+            node = segment.live(key, nanoTime.getAsLong());
+            if (node == null) {
+                misses.increment();
+                return null;
+            }
+            bytes = segment.read(node);
+            if (eviction == Eviction.LRU && segment.isOld(node)) {
+                segment.insert(key, node.type, bytes, node.writtenAt);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+        
+        Object value = serializer.deserializeValue(bytes, node.type);
+        if (value == null) {
+            // Unreadable; drop it so that the caller loads it again
+            evict(key);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return value;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        
+        // One load per key at a time; concurrent callers wait for its result
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = loads.putIfAbsent(key, load);
+        if (running != null) {
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+        try {
+            T value = valueLoader.call();
+            if (value != null) {
+                put(key, value);
+            }
+            load.complete(value);
+            return value;
+        } catch (Exception e) {
+            load.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+    
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        byte[] bytes = serialize(value);
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            if (bytes != null) {
+                segment.insert(key, value.getClass(), bytes, nanoTime.getAsLong());
+                puts.increment();
+            } else {
+                // Do not leave a previous value in place of the one that could not be cached
+                segment.remove(key);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+    
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        byte[] bytes = value != null ? serialize(value) : null;
+        Segment segment = segmentFor(key);
+        Node existing;
+        byte[] existingBytes;
+        segment.lock.lock();
+        try {
+            existing = segment.live(key, nanoTime.getAsLong());
+            if (existing == null) {
+                if (bytes != null) {
+                    segment.insert(key, value.getClass(), bytes, nanoTime.getAsLong());
+                    puts.increment();
+                }
+                return null;
+            }
+            existingBytes = segment.read(existing);
+        } finally {
+            segment.lock.unlock();
+        }
+        return toValueWrapper(serializer.deserializeValue(existingBytes, existing.type));
+    }
+    
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+    
+    @Override
+    public boolean evictIfPresent(Object key) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            return segment.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+    
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = size() > 0;
+        clear();
+        return notEmpty;
+    }
+    
+    /**
+     * Gets the number of entries, including expired ones not yet removed.
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.index.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+    
+    /**
+     * Gets the off-heap bytes taken by entries.
+     */
+    public long usedBytes() {
+        long used = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                used += segment.liveBytes;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return used;
+    }
+    
+    /**
+     * Gets the off-heap bytes held by the region.
+     */
+    public long capacity() {
+        return (long) segments.length * segments[0].capacity;
+    }
+    
+    public long hitCount() {
+        return hits.sum();
+    }
+    
+    public long missCount() {
+        return misses.sum();
+    }
+    
+    public long putCount() {
+        return puts.sum();
+    }
+    
+    /**
+     * Gets the number of entries removed to make room or because they expired.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+    
+    /**
+     * Gets the number of values not cached because they could not be serialized or were too large.
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+    
+    @Nullable
+    private byte[] serialize(Object value) {
+        byte[] bytes = serializer.serializeValue(value);
+        if (bytes == null || bytes.length > segments[0].capacity) {
+            rejected.increment();
+            return null;
+        }
+        return bytes;
+    }
+    
+    private Segment segmentFor(Object key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+    
+    /**
+     * Which values give way when a region is full.
+     */
+    public enum Eviction {
+        
+        /**
+         * Values read recently are kept over others; approximated by rewriting old values when they are read.
+         */
+        LRU,
+        
+        /**
+         * The oldest written values give way.
+         */
+        FIFO
+    }
+    
+    /**
+     * Index entry of a value, kept on the heap.
+     */
+    private static final class Node {
+        
+        final Object key;
+        final Class<?> type;
+        final long position;
+        final int length;
+        final long writtenAt;
+        long accessedAt;
+        boolean removed;
+        
+        Node(Object key, Class<?> type, long position, int length, long writtenAt, long accessedAt) {
+            this.key = key;
+            this.type = type;
+            this.position = position;
+            this.length = length;
+            this.writtenAt = writtenAt;
+            this.accessedAt = accessedAt;
+        }
+    }
+    
+    /**
+     * A part of the region with its own buffer, index and lock. Positions grow without wrapping; a position maps to
+     * the buffer offset {@code position % capacity}, and a value never wraps around the end of the buffer.
+     */
+    private final class Segment {
+        
+        final ReentrantLock lock = new ReentrantLock();
+        final ByteBuffer buffer;
+        final int capacity;
+        final long maxEntries;
+        final Map<Object, Node> index = new HashMap<>();
+        
+        // Values in write order, including removed ones whose space is not reclaimed yet
+        final ArrayDeque<Node> ring = new ArrayDeque<>();
+        long readPosition;
+        long writePosition;
+        long liveBytes;
+        
+        Segment(int capacity, long maxEntries) {
+            this.buffer = ByteBuffer.allocateDirect(capacity);
+            this.capacity = capacity;
+            this.maxEntries = maxEntries;
+        }
+        
+        @Nullable
+        Node live(Object key, long now) {
+            Node node = index.get(key);
+            if (node == null) {
+                return null;
+            }
+            if (expired(node, now)) {
+                unlink(node);
+                evictions.increment();
+                return null;
+            }
+            node.accessedAt = now;
+            return node;
+        }
+        
+        byte[] read(Node node) {
+            byte[] bytes = new byte[node.length];
+            buffer.get(offset(node.position), bytes);
+            return bytes;
+        }
+        
+        /**
+         * Checks if a value is among the oldest quarter of the buffer, so that it is evicted soon.
+         */
+        boolean isOld(Node node) {
+            return node.position - readPosition < capacity / 4;
+        }
+        
+        void insert(Object key, Class<?> type, byte[] bytes, long writtenAt) {
+            remove(key);
+            long position = allocate(bytes.length);
+            buffer.put(offset(position), bytes);
+            Node node = new Node(key, type, position, bytes.length, writtenAt, nanoTime.getAsLong());
+            index.put(key, node);
+            ring.addLast(node);
+            liveBytes += bytes.length;
+            while (index.size() > maxEntries) {
+                reclaim();
+            }
+        }
+        
+        boolean remove(Object key) {
+            Node node = index.get(key);
+            if (node == null) {
+                return false;
+            }
+            unlink(node);
+            return true;
+        }
+        
+        void clear() {
+            index.clear();
+            ring.clear();
+            readPosition = 0;
+            writePosition = 0;
+            liveBytes = 0;
+        }
+        
+        private long allocate(int length) {
+            while (true) {
+                long position = writePosition;
+                int offset = offset(position);
+                if (offset + length > capacity) {
+                    // Skip the end of the buffer so that the value is contiguous
+                    position += capacity - offset;
+                }
+                if (position + length - readPosition <= capacity) {
+                    writePosition = position + length;
+                    return position;
+                }
+                reclaim();
+            }
+        }
+        
+        /**
+         * Frees the space of the oldest value, evicting it if it is still live.
+         */
+        private void reclaim() {
+            Node oldest = ring.pollFirst();
+            if (oldest == null) {
+                readPosition = 0;
+                writePosition = 0;
+                return;
+            }
+            readPosition = oldest.position + oldest.length;
+            if (!oldest.removed) {
+                index.remove(oldest.key);
+                liveBytes -= oldest.length;
+                oldest.removed = true;
+                evictions.increment();
+            }
+        }
+        
+        private void unlink(Node node) {
+            index.remove(node.key);
+            liveBytes -= node.length;
+            node.removed = true;
+        }
+        
+        private boolean expired(Node node, long now) {
+            return expireAfterWriteNanos > 0 && now - node.writtenAt >= expireAfterWriteNanos
+                || expireAfterAccessNanos > 0 && now - node.accessedAt >= expireAfterAccessNanos;
+        }
+        
+        private int offset(long position) {
+            return (int) (position % capacity);
+        }
+    }
+}
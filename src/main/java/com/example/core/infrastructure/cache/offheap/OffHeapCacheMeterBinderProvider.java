@@ -0,0 +1,16 @@
+package com.example.core.infrastructure.cache.offheap;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * Lets Spring Boot's cache metrics bind {@link OffHeapCache} regions, as it does Caffeine caches.
+ */
+public class OffHeapCacheMeterBinderProvider implements CacheMeterBinderProvider<OffHeapCache> {
+    
+    @Override
+    public MeterBinder getMeterBinder(OffHeapCache cache, Iterable<Tag> tags) {
+        return new OffHeapCacheMetrics(cache, tags);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.core.infrastructure.cache.offheap;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes the standard {@code cache.*} meters of an {@link OffHeapCache}, plus its off-heap memory use
+ * as {@code cache.off.heap.used} and {@code cache.off.heap.capacity} and the values it could not hold
+ * as {@code cache.off.heap.rejected}.
+ */
+public class OffHeapCacheMetrics extends CacheMeterBinder<OffHeapCache> {
+    
+    public OffHeapCacheMetrics(OffHeapCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+    
+    @Override
+    protected Long size() {
+        OffHeapCache cache = getCache();
+        return cache != null ? cache.size() : null;
+    }
+    
+    @Override
+    protected long hitCount() {
+        OffHeapCache cache = getCache();
+        return cache != null ? cache.hitCount() : 0;
+    }
+    
+    @Override
+    protected Long missCount() {
+        OffHeapCache cache = getCache();
+        return cache != null ? cache.missCount() : null;
+    }
+    
+    @Override
+    protected Long evictionCount() {
+        OffHeapCache cache = getCache();
+        return cache != null ? cache.evictionCount() : null;
+    }
+    
+    @Override
+    protected long putCount() {
+        OffHeapCache cache = getCache();
+        return cache != null ? cache.putCount() : 0;
+    }
+    
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        OffHeapCache cache = getCache();
+        Gauge.builder("cache.off.heap.used", cache, OffHeapCache::usedBytes)
+            .description("Off-heap bytes taken by cache entries")
+            .baseUnit(BaseUnits.BYTES)
+            .tags(getTagsWithCacheName())
+            .register(registry);
+        Gauge.builder("cache.off.heap.capacity", cache, OffHeapCache::capacity)
+            .description("Off-heap bytes held by the cache")
+            .baseUnit(BaseUnits.BYTES)
+            .tags(getTagsWithCacheName())
+            .register(registry);
+        FunctionCounter.builder("cache.off.heap.rejected", cache, OffHeapCache::rejectedCount)
+            .description("Values not cached because they could not be serialized or were too large")
+            .tags(getTagsWithCacheName())
+            .register(registry);
+    }
+}
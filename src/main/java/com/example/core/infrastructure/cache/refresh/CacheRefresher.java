@@ -0,0 +1,177 @@
+package com.example.core.infrastructure.cache.refresh;
+
+import com.example.core.infrastructure.cache.tiered.TieredCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides when cached entries are due for a refresh and runs the refreshes in the background.
+ * <p>
+ * A region with a {@link Policy} has entries that are fresh for their time to live after they were written.
+ * An entry read within the refresh-ahead window before that is due for a refresh: it is still served while it is
+ * reloaded in the background, so a hot entry is replaced before it expires and its readers never miss together.
+ * An entry read after its time to live but within the stale grace period is stale: it is served once more while it
+ * is reloaded. The cache region keeps entries for the time to live plus the grace period.
+ * <p>
+ * Refreshes run on a bounded pool; when its queue is full, the refresh is skipped and the entry is refreshed on a
+ * later read or loaded again after it expires. Refreshes and stale reads are counted per region in the
+ * {@code cache.refreshes} (by result: success, failure or rejected) and {@code cache.stale.served} meters.
+ * The age of an entry is known for Caffeine-backed regions only; entries of other regions are always fresh.
+ */
+@Slf4j
+public class CacheRefresher implements AutoCloseable {
+    
+    private final Map<String, Policy> policies;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * @param policies Refresh policies by region name; regions without one are never refreshed
+     * @param threads Maximum number of refreshes running at once
+     * @param queueCapacity Maximum number of refreshes waiting for a thread
+     * @param meterRegistry Registry for the refresh meters
+     */
+    public CacheRefresher(Map<String, Policy> policies, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.policies = Map.copyOf(policies);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * Tells how fresh a cached entry is.
+     *
+     * @param cache The region holding the entry
+     * @param key The key of the entry
+     */
+    public Freshness freshness(Cache cache, Object key) {
+        Policy policy = policies.get(cache.getName());
+        if (policy == null) {
+            return Freshness.FRESH;
+        }
+        Optional<Duration> age = ageOf(cache, key);
+        if (age.isEmpty()) {
+            return Freshness.FRESH;
+        }
+        if (age.get().compareTo(policy.timeToLive()) >= 0) {
+            return Freshness.STALE;
+        }
+        if (policy.refreshAhead() != null
+            && age.get().compareTo(policy.timeToLive().minus(policy.refreshAhead())) >= 0) {
+            return Freshness.REFRESH_DUE;
+        }
+        return Freshness.FRESH;
+    }
+    
+    /**
+     * Runs a refresh in the background.
+     *
+     * @param cacheName The region of the refreshed entry
+     * @param refresh Reloads and caches the entry; throws if it fails
+     * @return true if the refresh was started, false if the pool is full
+     */
+    public boolean refresh(String cacheName, Runnable refresh) {
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh.run();
+                    refreshes(cacheName, "success").increment();
+                } catch (RuntimeException e) {
+                    refreshes(cacheName, "failure").increment();
+                    log.warn("Refreshing an entry of cache {} failed: {}", cacheName, e.getMessage());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            refreshes(cacheName, "rejected").increment();
+            return false;
+        }
+    }
+    
+    /**
+     * Records that a stale entry was served while it is refreshed.
+     */
+    public void servedStale(String cacheName) {
+        Counter.builder("cache.stale.served")
+            .description("Stale cache entries served while they were refreshed")
+            .tag("cache", cacheName)
+            .register(meterRegistry)
+            .increment();
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+    
+    private Counter refreshes(String cacheName, String result) {
+        return Counter.builder("cache.refreshes")
+            .description("Background refreshes of cache entries")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Optional<Duration> ageOf(Cache cache, Object key) {
+        // Values read from the shared tier are as old as their write there, not as their near-cache entry
+        if (cache instanceof TieredCache tieredCache) {
+            return tieredCache.ageOf(key);
+        }
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return Optional.empty();
+        }
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).policy().expireAfterWrite()
+            .flatMap(expiration -> expiration.ageOf(key));
+    }
+    
+    /**
+     * How fresh a cached entry is.
+     */
+    public enum Freshness {
+        
+        /**
+         * Within its time to live and not due for a refresh; served as is.
+         */
+        FRESH,
+        
+        /**
+         * Within its time to live, but close to its end; served while it is refreshed.
+         */
+        REFRESH_DUE,
+        
+        /**
+         * Past its time to live, within the grace period; served once more while it is refreshed.
+         */
+        STALE
+    }
+    
+    /**
+     * Refresh settings of a region.
+     *
+     * @param timeToLive How long an entry is fresh after it is written
+     * @param refreshAhead How long before the end of its time to live a read refreshes an entry; null for none
+     */
+    public record Policy(Duration timeToLive, @Nullable Duration refreshAhead) {
+    }
+}
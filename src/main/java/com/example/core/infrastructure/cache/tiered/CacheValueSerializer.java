@@ -0,0 +1,115 @@
+package com.example.core.infrastructure.cache.tiered;
+
+import com.example.core.domain.model.AggregateRoot;
+import com.example.core.infrastructure.serialization.FieldObjectMappers;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Converts cached values to and from the bytes kept in a {@link SharedCacheStore} or an off-heap cache region.
+ * <p>
+ * Values are written as JSON from their fields, preceded by their class name, and read back through their
+ * constructors, the same way as outbox events, so cached aggregates need no Jackson annotations. Pending domain
+ * events of aggregates are not written. Collections, maps and arrays would lose their element types, so they
+ * are not serialized; the shared tier keeps them in the near-cache only.
+ * <p>
+ * Format: {@code [short typeLength][type][payload]}. The payload is JSON, or a binary encoding such as Smile
+ * when the serializer is created with a mapper for it.
+ */
+@Slf4j
+public class CacheValueSerializer {
+    
+    private final ObjectMapper objectMapper;
+    private final ClassLoader classLoader;
+    
+    public CacheValueSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = FieldObjectMappers.copyOf(objectMapper)
+            .addMixIn(AggregateRoot.class, AggregateRootMixin.class);
+        this.classLoader = ClassUtils.getDefaultClassLoader();
+    }
+    
+    /**
+     * Serializes a value together with its type.
+     *
+     * @return The bytes, or null if the value cannot be shared
+     */
+    @Nullable
+    public byte[] serialize(Object value) {
+        byte[] payload = serializeValue(value);
+        if (payload == null) {
+            return null;
+        }
+        byte[] type = value.getClass().getName().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(2 + type.length + payload.length)
+            .putShort((short) type.length)
+            .put(type)
+            .put(payload)
+            .array();
+    }
+    
+    /**
+     * Restores a value written by {@link #serialize(Object)}.
+     *
+     * @return The value, or null if its class is unknown or it cannot be read, for example after the class changed
+     */
+    @Nullable
+    public Object deserialize(byte[] bytes) {
+        String type = null;
+        try {
+            int typeLength = ByteBuffer.wrap(bytes).getShort();
+            type = new String(bytes, 2, typeLength, StandardCharsets.UTF_8);
+            int payloadStart = 2 + typeLength;
+            return objectMapper.readValue(bytes, payloadStart, bytes.length - payloadStart,
+                ClassUtils.forName(type, classLoader));
+        } catch (IOException | ClassNotFoundException | LinkageError | RuntimeException e) {
+            log.warn("Cannot read cached value of type {}: {}", type, e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Serializes a value without its type, for stores that keep the type themselves.
+     *
+     * @return The bytes, or null if the value cannot be serialized
+     */
+    @Nullable
+    public byte[] serializeValue(Object value) {
+        if (value instanceof Collection || value instanceof Map || value.getClass().isArray()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            log.debug("Cannot serialize cached {}: {}", value.getClass().getName(), e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Restores a value written by {@link #serializeValue(Object)}.
+     *
+     * @return The value, or null if it cannot be read
+     */
+    @Nullable
+    public <T> T deserializeValue(byte[] bytes, Class<T> type) {
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot read cached value of type {}: {}", type.getName(), e.getMessage());
+            return null;
+        }
+    }
+    
+    @JsonIgnoreProperties("domainEvents")
+    private abstract static class AggregateRootMixin {
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.core.infrastructure.cache.tiered;
+
+import org.springframework.lang.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process stand-in for a remote shared cache, for tests and single-instance runs.
+ * <p>
+ * Nodes created from the same {@link Backend} share its values and receive each other's invalidations
+ * synchronously, the way separate application instances would share a remote cache.
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+    
+    private final Backend backend;
+    private volatile InvalidationListener listener;
+    
+    /**
+     * Creates a node with a backend of its own.
+     */
+    public InMemorySharedCacheStore() {
+        this(new Backend(Clock.systemUTC()));
+    }
+    
+    /**
+     * Creates a node sharing the given backend with other nodes.
+     */
+    public InMemorySharedCacheStore(Backend backend) {
+        this.backend = backend;
+        backend.nodes.add(this);
+    }
+    
+    @Override
+    @Nullable
+    public byte[] get(String region, String key) {
+        Entry entry = backend.entries.get(new EntryKey(region, key));
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= backend.clock.millis()) {
+            backend.entries.remove(new EntryKey(region, key), entry);
+            return null;
+        }
+        return entry.value;
+    }
+    
+    @Override
+    public void put(String region, String key, byte[] value, @Nullable Duration timeToLive) {
+        long expiresAt = timeToLive != null ? backend.clock.millis() + timeToLive.toMillis() : Long.MAX_VALUE;
+        backend.entries.put(new EntryKey(region, key), new Entry(value.clone(), expiresAt));
+    }
+    
+    @Override
+    public void evict(String region, String key) {
+        backend.entries.remove(new EntryKey(region, key));
+    }
+    
+    @Override
+    public void clear(String region) {
+        backend.entries.keySet().removeIf(key -> key.region.equals(region));
+    }
+    
+    @Override
+    public void publishInvalidation(String region, @Nullable String key) {
+        for (InMemorySharedCacheStore node : backend.nodes) {
+            InvalidationListener nodeListener = node.listener;
+            if (node != this && nodeListener != null) {
+                nodeListener.invalidate(region, key);
+            }
+        }
+    }
+    
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        this.listener = listener;
+    }
+    
+    @Override
+    public void close() {
+        backend.nodes.remove(this);
+    }
+    
+    /**
+     * Values and nodes of one simulated shared cache.
+     */
+    public static class Backend {
+        
+        private final Map<EntryKey, Entry> entries = new ConcurrentHashMap<>();
+        private final List<InMemorySharedCacheStore> nodes = new CopyOnWriteArrayList<>();
+        private final Clock clock;
+        
+        public Backend(Clock clock) {
+            this.clock = clock;
+        }
+    }
+    
+    private record EntryKey(String region, String key) {
+    }
+    
+    private record Entry(byte[] value, long expiresAt) {
+    }
+}
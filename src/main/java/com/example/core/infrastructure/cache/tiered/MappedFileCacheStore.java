@@ -0,0 +1,406 @@
+package com.example.core.infrastructure.cache.tiered;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache tier in a memory-mapped file, shared by all application instances on one host.
+ * <p>
+ * The file holds a fixed number of equal-sized slots, grouped into buckets of four. A key can live in any slot
+ * of its bucket; when all four are taken, the entry closest to expiry gives way, so the file never grows.
+ * Values that do not fit into a slot are not shared. Buckets are guarded by 64 lock stripes, each an exclusive
+ * lock on one byte of the file header, held together with a lock of this JVM.
+ * <p>
+ * Invalidations go into a ring of fixed-size messages in the same file. Every instance polls the ring and
+ * passes messages from other instances to its listener; an instance that falls more than a ring behind
+ * invalidates everything.
+ * <p>
+ * File layout: a 4 KiB header ({@code magic, slot count, slot size, ring size, last sequence} and the lock bytes),
+ * the invalidation ring, then the slots. Each slot is {@code [long expiresAt][int keyLength][int valueLength][key][value]},
+ * where the key is the region and key separated by a NUL character; a zero key length marks a free slot.
+ */
+@Slf4j
+public class MappedFileCacheStore implements SharedCacheStore {
+    
+    private static final long MAGIC = 0x5348415245434331L;
+    private static final int HEADER_SIZE = 4096;
+    private static final int SLOT_COUNT_AT = 8;
+    private static final int SLOT_SIZE_AT = 12;
+    private static final int RING_SIZE_AT = 16;
+    private static final int SEQUENCE_AT = 24;
+    
+    private static final int STRIPES = 64;
+    private static final int LOCK_AREA = 1024;
+    private static final int RING_LOCK = STRIPES;
+    private static final int INIT_LOCK = STRIPES + 1;
+    
+    private static final int WAYS = 4;
+    private static final int SLOT_HEADER = 16;
+    private static final int MESSAGE_SIZE = 256;
+    private static final int MESSAGE_HEADER = 20;
+    
+    // File locks are held per process, so threads of one JVM also need to exclude each other
+    private static final ConcurrentMap<Path, ReentrantLock[]> JVM_LOCKS = new ConcurrentHashMap<>();
+    
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ReentrantLock[] jvmLocks;
+    private final int buckets;
+    private final int slotSize;
+    private final int ringSize;
+    private final int slotsStart;
+    private final long nodeId = ThreadLocalRandom.current().nextLong();
+    private final Duration pollInterval;
+    
+    private ScheduledExecutorService poller;
+    private long lastSequence;
+    
+    /**
+     * Opens the store file, creating it if it does not exist.
+     *
+     * @param file The store file
+     * @param size Size of the file in bytes; at most 2 GiB
+     * @param slotSize Size of a slot in bytes, which bounds the size of a shared value
+     * @param ringSize Number of invalidation messages kept for instances that have not read them yet
+     * @param pollInterval How often invalidations from other instances are read
+     * @throws IllegalStateException if the file exists with a different layout
+     */
+    public MappedFileCacheStore(Path file, long size, int slotSize, int ringSize, Duration pollInterval) {
+        long slotsStart = HEADER_SIZE + (long) ringSize * MESSAGE_SIZE;
+        long slots = (size - slotsStart) / slotSize / WAYS * WAYS;
+        if (size > Integer.MAX_VALUE || slots < WAYS || slotSize <= SLOT_HEADER) {
+            throw new IllegalArgumentException("Shared cache file of " + size + " bytes cannot hold slots of "
+                + slotSize + " bytes and " + ringSize + " invalidation messages");
+        }
+        this.file = file.toAbsolutePath().normalize();
+        this.slotSize = slotSize;
+        this.ringSize = ringSize;
+        this.slotsStart = (int) slotsStart;
+        this.buckets = (int) (slots / WAYS);
+        this.pollInterval = pollInterval;
+        this.jvmLocks = JVM_LOCKS.computeIfAbsent(this.file, path -> {
+            ReentrantLock[] locks = new ReentrantLock[INIT_LOCK + 1];
+            for (int i = 0; i < locks.length; i++) {
+                locks[i] = new ReentrantLock();
+            }
+            return locks;
+        });
+        
+        try {
+            Files.createDirectories(this.file.getParent());
+            this.channel = FileChannel.open(this.file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.slotsStart + slots * slotSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open shared cache file " + file, e);
+        }
+        try {
+            locked(INIT_LOCK, () -> {
+                initializeOrVerify((int) slots);
+                lastSequence = buffer.getLong(SEQUENCE_AT);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        log.info("Opened shared cache file {} with {} slots of {} bytes", this.file, slots, slotSize);
+    }
+    
+    @Override
+    @Nullable
+    public byte[] get(String region, String key) {
+        byte[] entryKey = entryKey(region, key);
+        int bucket = bucketOf(entryKey);
+        return locked(bucket % STRIPES, () -> {
+            int slot = find(bucket, entryKey);
+            if (slot < 0) {
+                return null;
+            }
+            if (buffer.getLong(slot) <= System.currentTimeMillis()) {
+                buffer.putInt(slot + 8, 0);
+                return null;
+            }
+            byte[] value = new byte[buffer.getInt(slot + 12)];
+            buffer.get(slot + SLOT_HEADER + entryKey.length, value);
+            return value;
+        });
+    }
+    
+    @Override
+    public void put(String region, String key, byte[] value, @Nullable Duration timeToLive) {
+        byte[] entryKey = entryKey(region, key);
+        int bucket = bucketOf(entryKey);
+        boolean fits = SLOT_HEADER + entryKey.length + value.length <= slotSize;
+        long expiresAt = timeToLive != null ? System.currentTimeMillis() + timeToLive.toMillis() : Long.MAX_VALUE;
+        
+        locked(bucket % STRIPES, () -> {
+            int slot = find(bucket, entryKey);
+            if (!fits) {
+                // Too large to share; drop the previous value so that it is not served instead
+                if (slot >= 0) {
+                    buffer.putInt(slot + 8, 0);
+                }
+                return null;
+            }
+            if (slot < 0) {
+                slot = victim(bucket);
+            }
+            buffer.putInt(slot + 8, 0);
+            buffer.put(slot + SLOT_HEADER, entryKey);
+            buffer.put(slot + SLOT_HEADER + entryKey.length, value);
+            buffer.putLong(slot, expiresAt);
+            buffer.putInt(slot + 12, value.length);
+            buffer.putInt(slot + 8, entryKey.length);
+            return null;
+        });
+    }
+    
+    @Override
+    public void evict(String region, String key) {
+        byte[] entryKey = entryKey(region, key);
+        int bucket = bucketOf(entryKey);
+        locked(bucket % STRIPES, () -> {
+            int slot = find(bucket, entryKey);
+            if (slot >= 0) {
+                buffer.putInt(slot + 8, 0);
+            }
+            return null;
+        });
+    }
+    
+    @Override
+    public void clear(String region) {
+        byte[] prefix = (region + '\0').getBytes(StandardCharsets.UTF_8);
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            int first = stripe;
+            locked(stripe, () -> {
+                for (int bucket = first; bucket < buckets; bucket += STRIPES) {
+                    for (int way = 0; way < WAYS; way++) {
+                        int slot = slotPosition(bucket, way);
+                        if (buffer.getInt(slot + 8) >= prefix.length && startsWith(slot, prefix)) {
+                            buffer.putInt(slot + 8, 0);
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+    }
+    
+    @Override
+    public void publishInvalidation(String region, @Nullable String key) {
+        byte[] regionBytes = region.getBytes(StandardCharsets.UTF_8);
+        byte[] keyBytes = key != null ? key.getBytes(StandardCharsets.UTF_8) : null;
+        if (keyBytes != null && MESSAGE_HEADER + regionBytes.length + keyBytes.length > MESSAGE_SIZE) {
+            // Too long for a message; invalidating the whole region is safe
+            keyBytes = null;
+        }
+        if (MESSAGE_HEADER + regionBytes.length > MESSAGE_SIZE) {
+            throw new IllegalArgumentException("Cache region name too long: " + region);
+        }
+        
+        byte[] invalidatedKey = keyBytes;
+        locked(RING_LOCK, () -> {
+            long sequence = buffer.getLong(SEQUENCE_AT) + 1;
+            int message = messagePosition(sequence);
+            buffer.putLong(message + 8, nodeId);
+            buffer.putShort(message + 16, (short) regionBytes.length);
+            buffer.putShort(message + 18, (short) (invalidatedKey != null ? invalidatedKey.length : -1));
+            buffer.put(message + MESSAGE_HEADER, regionBytes);
+            if (invalidatedKey != null) {
+                buffer.put(message + MESSAGE_HEADER + regionBytes.length, invalidatedKey);
+            }
+            buffer.putLong(message, sequence);
+            buffer.putLong(SEQUENCE_AT, sequence);
+            return null;
+        });
+    }
+    
+    @Override
+    public synchronized void subscribe(InvalidationListener listener) {
+        if (poller != null) {
+            throw new IllegalStateException("Shared cache store already has a listener");
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shared-cache-invalidations");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                pollInvalidations(listener);
+            } catch (RuntimeException e) {
+                // Keep the scheduled task alive; the next poll retries
+                log.error("Reading shared cache invalidations failed: {}", e.getMessage(), e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Passes the invalidations published by other instances since the last poll to the listener.
+     */
+    void pollInvalidations(InvalidationListener listener) {
+        List<String[]> invalidations = new ArrayList<>();
+        boolean missed = locked(RING_LOCK, () -> {
+            long sequence = buffer.getLong(SEQUENCE_AT);
+            long from = lastSequence + 1;
+            lastSequence = sequence;
+            if (sequence - from >= ringSize) {
+                return true;
+            }
+            for (long next = from; next <= sequence; next++) {
+                int message = messagePosition(next);
+                if (buffer.getLong(message + 8) == nodeId) {
+                    continue;
+                }
+                byte[] region = new byte[buffer.getShort(message + 16)];
+                buffer.get(message + MESSAGE_HEADER, region);
+                short keyLength = buffer.getShort(message + 18);
+                String key = null;
+                if (keyLength >= 0) {
+                    byte[] keyBytes = new byte[keyLength];
+                    buffer.get(message + MESSAGE_HEADER + region.length, keyBytes);
+                    key = new String(keyBytes, StandardCharsets.UTF_8);
+                }
+                invalidations.add(new String[] {new String(region, StandardCharsets.UTF_8), key});
+            }
+            return false;
+        });
+        
+        if (missed) {
+            log.warn("Missed shared cache invalidations; invalidating all near-cache entries");
+            listener.invalidateAll();
+            return;
+        }
+        for (String[] invalidation : invalidations) {
+            listener.invalidate(invalidation[0], invalidation[1]);
+        }
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Cannot close shared cache file {}: {}", file, e.getMessage());
+        }
+    }
+    
+    private void initializeOrVerify(int slots) {
+        if (buffer.getLong(0) != MAGIC) {
+            // A new file; the mapping has already sized it
+            buffer.putInt(SLOT_COUNT_AT, slots);
+            buffer.putInt(SLOT_SIZE_AT, slotSize);
+            buffer.putInt(RING_SIZE_AT, ringSize);
+            buffer.putLong(SEQUENCE_AT, 0);
+            buffer.putLong(0, MAGIC);
+            buffer.force();
+        } else if (buffer.getInt(SLOT_COUNT_AT) != slots || buffer.getInt(SLOT_SIZE_AT) != slotSize
+            || buffer.getInt(RING_SIZE_AT) != ringSize) {
+            throw new IllegalStateException("Shared cache file " + file + " was created with another size, slot size "
+                + "or ring size; delete it or configure the same values as the other instances");
+        }
+    }
+    
+    private <T> T locked(int lock, Supplier<T> action) {
+        ReentrantLock jvmLock = jvmLocks[lock];
+        // An interrupt during a file lock would close the channel for every thread
+        boolean interrupted = Thread.interrupted();
+        jvmLock.lock();
+        try (FileLock ignored = channel.lock(LOCK_AREA + lock, 1, false)) {
+            return action.get();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot lock shared cache file " + file, e);
+        } finally {
+            jvmLock.unlock();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private int find(int bucket, byte[] entryKey) {
+        for (int way = 0; way < WAYS; way++) {
+            int slot = slotPosition(bucket, way);
+            if (buffer.getInt(slot + 8) == entryKey.length && startsWith(slot, entryKey)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+    
+    private int victim(int bucket) {
+        long now = System.currentTimeMillis();
+        int victim = slotPosition(bucket, 0);
+        for (int way = 0; way < WAYS; way++) {
+            int slot = slotPosition(bucket, way);
+            if (buffer.getInt(slot + 8) == 0 || buffer.getLong(slot) <= now) {
+                return slot;
+            }
+            if (buffer.getLong(slot) < buffer.getLong(victim)) {
+                victim = slot;
+            }
+        }
+        return victim;
+    }
+    
+    private boolean startsWith(int slot, byte[] prefix) {
+        int keyStart = slot + SLOT_HEADER;
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(keyStart + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private int bucketOf(byte[] entryKey) {
+        int hash = 1;
+        for (byte b : entryKey) {
+            hash = 31 * hash + b;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return Math.floorMod(hash, buckets);
+    }
+    
+    private int slotPosition(int bucket, int way) {
+        return slotsStart + (bucket * WAYS + way) * slotSize;
+    }
+    
+    private int messagePosition(long sequence) {
+        return HEADER_SIZE + (int) ((sequence - 1) % ringSize) * MESSAGE_SIZE;
+    }
+    
+    private static byte[] entryKey(String region, String key) {
+        return (region + '\0' + key).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.core.infrastructure.cache.tiered;
+
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Second cache tier shared by all application instances, holding serialized values.
+ * <p>
+ * Each store instance is one node. Besides the values, the store carries invalidation messages between nodes:
+ * an invalidation published by one node reaches the listeners of every other node, which drop the entry
+ * from their near-cache.
+ */
+public interface SharedCacheStore extends AutoCloseable {
+    
+    /**
+     * Gets a value.
+     *
+     * @return The serialized value, or null if absent or expired
+     */
+    @Nullable
+    byte[] get(String region, String key);
+    
+    /**
+     * Stores a value, replacing any previous one. A store may drop values it cannot hold, such as ones
+     * larger than its entries; later reads then miss.
+     *
+     * @param timeToLive How long the value lives; null for no limit
+     */
+    void put(String region, String key, byte[] value, @Nullable Duration timeToLive);
+    
+    /**
+     * Removes a value.
+     */
+    void evict(String region, String key);
+    
+    /**
+     * Removes all values of a region.
+     */
+    void clear(String region);
+    
+    /**
+     * Tells the other nodes that an entry changed.
+     *
+     * @param key The changed key, or null if the whole region changed
+     */
+    void publishInvalidation(String region, @Nullable String key);
+    
+    /**
+     * Registers the listener that receives invalidations published by other nodes.
+     */
+    void subscribe(InvalidationListener listener);
+    
+    @Override
+    void close();
+    
+    /**
+     * Receives invalidations published by other nodes.
+     */
+    interface InvalidationListener {
+        
+        /**
+         * An entry changed on another node.
+         *
+         * @param key The changed key, or null if the whole region changed
+         */
+        void invalidate(String region, @Nullable String key);
+        
+        /**
+         * Invalidations were missed, so every entry may be stale.
+         */
+        void invalidateAll();
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.core.infrastructure.cache.tiered;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.Nullable;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache region with an on-heap Caffeine near-cache in front of a {@link SharedCacheStore}.
+ * <p>
+ * Reads are served by the near-cache and fall back to the shared store before the caller loads the value,
+ * so a value loaded by one instance is found by the others. Writes and evictions go to both tiers and publish
+ * an invalidation, so other instances drop the entry from their near-cache and read it again from the shared
+ * store. Only entries with String keys are shared; values the {@link CacheValueSerializer} cannot write,
+ * and entries with other keys, stay in the near-cache of the instance that cached them.
+ * <p>
+ * Invalidations are delivered asynchronously by most stores, so another instance may serve the previous value
+ * from its near-cache for a short while after a write.
+ * <p>
+ * Entries keep the time they were first written, in the shared store as well as in the near-cache. A value read
+ * from the shared store therefore ages, and expires from the near-cache after its expire-after-write, from that
+ * time rather than from the read, so that it is not kept for longer on the instances that read it later.
+ */
+public class TieredCache extends CaffeineCache {
+    
+    private final SharedCacheStore store;
+    private final CacheValueSerializer serializer;
+    private final Duration timeToLive;
+    private final Clock clock;
+    
+    // Counts invalidations from other nodes, to detect one racing with a read from the shared store
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    /**
+     * @param name The region name, which is also the region in the shared store
+     * @param nearCache The near-cache
+     * @param store The shared store
+     * @param serializer Converts values for the shared store
+     * @param timeToLive How long values live in the shared store; null for no limit
+     */
+    public TieredCache(String name, Cache<Object, Object> nearCache, SharedCacheStore store,
+                       CacheValueSerializer serializer, @Nullable Duration timeToLive) {
+        this(name, nearCache, store, serializer, timeToLive, Clock.systemUTC());
+    }
+    
+    /**
+     * @param clock Tells when entries are written and how old they are
+     */
+    public TieredCache(String name, Cache<Object, Object> nearCache, SharedCacheStore store,
+                       CacheValueSerializer serializer, @Nullable Duration timeToLive, Clock clock) {
+        super(name, nearCache, false);
+        this.store = store;
+        this.serializer = serializer;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+    
+    /**
+     * Tells how long ago a cached entry was written, on whichever instance wrote it.
+     *
+     * @return The age, or empty if the entry is not in the near-cache
+     */
+    public Optional<Duration> ageOf(Object key) {
+        if (getNativeCache().getIfPresent(key) instanceof Entry entry) {
+            return Optional.of(Duration.ofMillis(Math.max(0, clock.millis() - entry.writtenAt())));
+        }
+        return Optional.empty();
+    }
+    
+    @Override
+    @Nullable
+    protected Object lookup(Object key) {
+        expireIfOutlived(key);
+        Object value = super.lookup(key);
+        if (value != null || !(key instanceof String sharedKey)) {
+            return value;
+        }
+        
+        long seen = invalidations.get();
+        value = readShared(sharedKey);
+        if (value != null) {
+            getNativeCache().put(key, value);
+            // An invalidation may have passed between the read and the put; do not keep what it invalidated
+            if (invalidations.get() != seen) {
+                getNativeCache().invalidate(key);
+            }
+        }
+        return value;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        expireIfOutlived(key);
+        if (!(key instanceof String sharedKey)) {
+            return super.get(key, valueLoader);
+        }
+        return super.get(key, () -> {
+            // Returned as stored, so that the near-cache keeps the time it was written to the shared store
+            Entry shared = readShared(sharedKey);
+            if (shared != null) {
+                return (T) shared;
+            }
+            T value = valueLoader.call();
+            if (value != null) {
+                writeShared(sharedKey, value);
+            }
+            return value;
+        });
+    }
+    
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        // Null values are not allowed, so a null value is rejected here before anything is shared
+        super.put(key, value);
+        if (key instanceof String sharedKey) {
+            writeShared(sharedKey, value);
+            store.publishInvalidation(getName(), sharedKey);
+        }
+    }
+    
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        expireIfOutlived(key);
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null && key instanceof String sharedKey) {
+            writeShared(sharedKey, value);
+            store.publishInvalidation(getName(), sharedKey);
+        }
+        return existing;
+    }
+    
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+    
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        if (key instanceof String sharedKey) {
+            store.evict(getName(), sharedKey);
+            store.publishInvalidation(getName(), sharedKey);
+        }
+        return present;
+    }
+    
+    @Override
+    public void clear() {
+        invalidate();
+    }
+    
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = super.invalidate();
+        store.clear(getName());
+        store.publishInvalidation(getName(), null);
+        return notEmpty;
+    }
+    
+    /**
+     * Drops an entry, or all entries, from the near-cache only, after another instance changed them.
+     *
+     * @param key The changed key, or null for all entries
+     */
+    void invalidateNearCache(@Nullable String key) {
+        invalidations.incrementAndGet();
+        if (key != null) {
+            getNativeCache().invalidate(key);
+        } else {
+            getNativeCache().invalidateAll();
+        }
+    }
+    
+    @Override
+    protected Object toStoreValue(@Nullable Object userValue) {
+        if (userValue instanceof Entry entry) {
+            return entry;
+        }
+        return new Entry(super.toStoreValue(userValue), clock.millis());
+    }
+    
+    @Override
+    @Nullable
+    protected Object fromStoreValue(@Nullable Object storeValue) {
+        return super.fromStoreValue(storeValue instanceof Entry entry ? entry.value() : storeValue);
+    }
+    
+    /**
+     * Drops a near-cache entry that has been cached for longer than the near-cache's expire-after-write
+     * since it was written to the shared store.
+     */
+    private void expireIfOutlived(Object key) {
+        getNativeCache().policy().expireAfterWrite().ifPresent(expiration -> {
+            Optional<Duration> age = ageOf(key);
+            if (age.isPresent() && age.get().compareTo(expiration.getExpiresAfter()) >= 0) {
+                getNativeCache().invalidate(key);
+            }
+        });
+    }
+    
+    /**
+     * Reads a value from the shared store, with the time it was written there.
+     * Stored as {@code [long writtenAt][serialized value]}.
+     */
+    @Nullable
+    private Entry readShared(String key) {
+        byte[] bytes = store.get(getName(), key);
+        if (bytes == null) {
+            return null;
+        }
+        Object value = bytes.length > Long.BYTES
+            ? serializer.deserialize(Arrays.copyOfRange(bytes, Long.BYTES, bytes.length)) : null;
+        if (value == null) {
+            // Unreadable, for example written by an instance running another version; load it again
+            store.evict(getName(), key);
+            return null;
+        }
+        return new Entry(value, ByteBuffer.wrap(bytes).getLong());
+    }
+    
+    private void writeShared(String key, Object value) {
+        Entry entry = value instanceof Entry written ? written : new Entry(value, clock.millis());
+        byte[] bytes = serializer.serialize(entry.value());
+        if (bytes != null) {
+            store.put(getName(), key, ByteBuffer.allocate(Long.BYTES + bytes.length)
+                .putLong(entry.writtenAt())
+                .put(bytes)
+                .array(), timeToLive);
+        } else {
+            // Do not leave a previous value for other instances to read
+            store.evict(getName(), key);
+        }
+    }
+    
+    /**
+     * A near-cache value with the time it was first written, in epoch milliseconds; a value wrapper, so that
+     * cache weighers see the value itself.
+     */
+    private record Entry(Object value, long writtenAt) implements ValueWrapper {
+        
+        @Override
+        public Object get() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.core.infrastructure.cache.tiered;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caffeine cache manager whose shared regions are {@link TieredCache}s over one {@link SharedCacheStore}.
+ * <p>
+ * Other regions stay plain Caffeine caches. The manager subscribes to the store's invalidations and routes
+ * each one to the near-cache of its region.
+ */
+@Slf4j
+public class TieredCacheManager extends CaffeineCacheManager {
+    
+    private final SharedCacheStore store;
+    private final CacheValueSerializer serializer;
+    private final Map<String, Duration> sharedRegions;
+    private final Map<String, TieredCache> tieredCaches = new ConcurrentHashMap<>();
+    
+    /**
+     * @param store The shared store
+     * @param serializer Converts values for the shared store
+     * @param sharedRegions The names of the shared regions, each with how long its values live in the shared store;
+     *                      a zero duration for no limit
+     */
+    public TieredCacheManager(SharedCacheStore store, CacheValueSerializer serializer, Map<String, Duration> sharedRegions) {
+        this.store = store;
+        this.serializer = serializer;
+        this.sharedRegions = Map.copyOf(sharedRegions);
+        store.subscribe(new NearCacheInvalidator());
+    }
+    
+    @Override
+    protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+        Duration timeToLive = sharedRegions.get(name);
+        if (timeToLive == null) {
+            return super.adaptCaffeineCache(name, cache);
+        }
+        TieredCache tieredCache = new TieredCache(name, cache, store, serializer,
+            timeToLive.isZero() ? null : timeToLive);
+        tieredCaches.put(name, tieredCache);
+        return tieredCache;
+    }
+    
+    private final class NearCacheInvalidator implements SharedCacheStore.InvalidationListener {
+        
+        @Override
+        public void invalidate(String region, @Nullable String key) {
+            TieredCache cache = tieredCaches.get(region);
+            if (cache != null) {
+                cache.invalidateNearCache(key);
+            }
+        }
+        
+        @Override
+        public void invalidateAll() {
+            for (TieredCache cache : tieredCaches.values()) {
+                cache.invalidateNearCache(null);
+            }
+        }
+    }
+}
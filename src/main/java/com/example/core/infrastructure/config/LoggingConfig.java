@@ -28,6 +28,11 @@ public class LoggingConfig implements WebMvcConfigurer {
         
         @Override
         public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            // Asynchronous requests are dispatched again once the result is ready; keep the original start time
+            if (request.getAttribute("startTime") != null) {
+                return true;
+            }
+            
             long startTime = System.currentTimeMillis();
             request.setAttribute("startTime", startTime);
             
@@ -41,7 +46,7 @@ public class LoggingConfig implements WebMvcConfigurer {
         }
         
         @Override
-        public void afterCompletion(HttpServletRequest request, HttpServletResponse response, 
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
                                   Object handler, Exception ex) {
             Long startTime = (Long) request.getAttribute("startTime");
             if (startTime != null) {
@@ -1,20 +1,32 @@
 package com.example.core.infrastructure.config;
 
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseBatch;
 import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.application.usecase.UseCasePipelineBehavior;
 import com.example.core.domain.validation.DomainValidator;
-import com.example.core.infrastructure.service.SpringUseCaseDispatcher;
 import com.example.core.infrastructure.database.config.DatabaseConfig;
 import com.example.core.infrastructure.cache.config.CacheConfig;
+import com.example.core.infrastructure.dispatch.config.DispatcherConfig;
+import com.example.core.infrastructure.dispatch.config.DispatcherProperties;
+import com.example.core.infrastructure.dispatch.routing.UseCaseRoutingTable;
 import com.example.core.infrastructure.external.config.ExternalApiConfig;
 import com.example.core.infrastructure.messaging.config.MessagingConfig;
 import com.example.core.infrastructure.security.config.SecurityConfig;
-import org.springframework.context.ApplicationContext;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
 
 import jakarta.validation.Validator;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +37,7 @@ import java.util.stream.Collectors;
 @Import({
     DatabaseConfig.class,
     CacheConfig.class,
+    DispatcherConfig.class,
     ExternalApiConfig.class,
     MessagingConfig.class,
     SecurityConfig.class,
@@ -42,37 +55,40 @@ public class UseCaseConfig {
         return new DomainValidator(validator);
     }
     
+    /**
+     * Build the use case routing table from all handler and pipeline behavior beans.
+     * Behaviors wrap handling in their {@code @Order}; the first behavior is the outermost.
+     * Fails fast on duplicate handlers and, unless disabled, on use cases in the application packages without a handler.
+     */
     @Bean
-    public Map<Class<?>, UseCaseHandler<?, ?>> useCaseHandlers(ApplicationContext applicationContext) {
-        return applicationContext.getBeansOfType(UseCaseHandler.class)
-            .values()
-            .stream()
-            .collect(Collectors.toMap(
-                handler -> getUseCaseClass(handler),
-                handler -> handler
-            ));
+    public UseCaseRoutingTable useCaseRoutingTable(List<UseCaseHandler<?, ?>> handlers,
+                                                   ObjectProvider<UseCasePipelineBehavior> behaviors,
+                                                   DispatcherProperties properties,
+                                                   BeanFactory beanFactory) {
+        UseCaseRoutingTable routingTable = new UseCaseRoutingTable(
+            handlers, behaviors.orderedStream().collect(Collectors.toList()));
+        if (properties.isVerifyHandlers()) {
+            routingTable.verifyRoutable(findUseCaseTypes(beanFactory));
+        }
+        return routingTable;
     }
     
-    @SuppressWarnings("unchecked")
-    private Class<?> getUseCaseClass(UseCaseHandler<?, ?> handler) {
-        // Get the actual class (not the CGLIB proxy)
-        Class<?> handlerClass = handler.getClass();
-        String handlerClassName = handlerClass.getSimpleName();
-        
-        // Handle CGLIB proxy
-        if (handlerClassName.contains("$$")) {
-            handlerClass = handlerClass.getSuperclass();
-            handlerClassName = handlerClass.getSimpleName();
+    private List<Class<?>> findUseCaseTypes(BeanFactory beanFactory) {
+        List<Class<?>> useCaseTypes = new ArrayList<>();
+        if (!AutoConfigurationPackages.has(beanFactory)) {
+            return useCaseTypes;
         }
         
-        String useCaseClassName = handlerClassName.replace("Handler", "");
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(UseCase.class));
+        // Batches are routed by the type of the use cases they contain
+        scanner.addExcludeFilter(new AssignableTypeFilter(UseCaseBatch.class));
         
-        try {
-            String packageName = handlerClass.getPackage().getName();
-            // Try to find the use case in the same package first
-            return Class.forName(packageName + "." + useCaseClassName);
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("Could not find use case class for handler: " + handlerClassName, e);
+        for (String basePackage : AutoConfigurationPackages.get(beanFactory)) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                useCaseTypes.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), getClass().getClassLoader()));
+            }
         }
+        return useCaseTypes;
     }
 }
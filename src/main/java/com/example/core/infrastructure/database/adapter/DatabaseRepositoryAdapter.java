@@ -2,31 +2,95 @@ package com.example.core.infrastructure.database.adapter;
 
 import com.example.core.domain.model.AggregateRoot;
 import com.example.core.domain.repository.Repository;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.core.ResolvableType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
 
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Base implementation for database access adapters using JPA.
  * Provides transactional database operations.
- * 
+ * <p>
+ * Subclasses answer yes/no and how-many questions with {@link AttributeProbe}s declared through
+ * {@link #probe(String)}, which select a constant or a count instead of loading entities.
+ * Reads that only need data declare a {@link Projection} through {@link #projection(Class, String...)},
+ * which selects the needed columns straight into an unmanaged row object, with no entity hydration,
+ * dirty-checking snapshot or persistence context entry. Projections of {@code @Cacheable} aggregates
+ * use the query cache, which any write to the aggregate's table invalidates.
+ *
  * @param <T> The aggregate root type
  * @param <ID> The identifier type
  */
 @Transactional
-public abstract class DatabaseRepositoryAdapter<T extends AggregateRoot<ID>, ID> 
+public abstract class DatabaseRepositoryAdapter<T extends AggregateRoot<ID>, ID>
     implements Repository<T, ID> {
     
+    @PersistenceContext
+    private EntityManager entityManager;
+    
     protected abstract JpaRepository<T, ID> getJpaRepository();
     
+    /**
+     * Gets the shared, transaction-bound entity manager.
+     */
+    protected EntityManager getEntityManager() {
+        return entityManager;
+    }
+    
+    /**
+     * Declare an existence and count probe on one attribute of the aggregate.
+     * Probes build their queries once; declare them as fields.
+     *
+     * @param attribute The entity attribute compared for equality, as named in JPQL
+     * @param <V> The attribute type
+     * @return The probe
+     */
+    protected <V> AttributeProbe<V> probe(String attribute) {
+        return new AttributeProbe<>(entityName(), attribute);
+    }
+    
+    /**
+     * Declare a read projection of the aggregate into a row type.
+     * Projections build their queries once; declare them as fields.
+     *
+     * @param rowType The row class, with a constructor taking the attributes in order
+     * @param attributes The entity attributes to select, as named in JPQL
+     * @param <P> The type the rows are returned as, usually an interface the row class implements
+     * @return The projection
+     */
+    protected <P> Projection<P> projection(Class<? extends P> rowType, String... attributes) {
+        Cacheable cacheable = entityClass().getAnnotation(Cacheable.class);
+        boolean useQueryCache = cacheable != null && cacheable.value();
+        return new Projection<>(rowType, entityName(), idAttribute(), attributes, useQueryCache);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<T> findById(ID id) {
         return getJpaRepository().findById(id);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<T> findAllById(Collection<ID> ids) {
+        return getJpaRepository().findAllById(ids);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<T> findAll() {
@@ -38,6 +102,11 @@ public abstract class DatabaseRepositoryAdapter<T extends AggregateRoot<ID>, ID>
         return getJpaRepository().save(aggregate);
     }
     
+    @Override
+    public List<T> saveAll(Collection<T> aggregates) {
+        return getJpaRepository().saveAll(aggregates);
+    }
+    
     @Override
     public void deleteById(ID id) {
         getJpaRepository().deleteById(id);
@@ -48,4 +117,127 @@ public abstract class DatabaseRepositoryAdapter<T extends AggregateRoot<ID>, ID>
     public boolean existsById(ID id) {
         return getJpaRepository().existsById(id);
     }
+    
+    private Class<?> entityClass() {
+        Class<?> entityClass = ResolvableType.forClass(ClassUtils.getUserClass(getClass()))
+            .as(DatabaseRepositoryAdapter.class)
+            .getGeneric(0)
+            .resolve();
+        if (entityClass == null) {
+            throw new IllegalStateException("Could not resolve entity type of " + getClass().getName());
+        }
+        return entityClass;
+    }
+    
+    private String entityName() {
+        Class<?> entityClass = entityClass();
+        Entity entity = entityClass.getAnnotation(Entity.class);
+        return entity != null && !entity.name().isEmpty() ? entity.name() : entityClass.getSimpleName();
+    }
+    
+    private String idAttribute() {
+        for (Class<?> type = entityClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class)) {
+                    return field.getName();
+                }
+            }
+        }
+        throw new IllegalStateException("No @Id field found on " + entityClass().getName());
+    }
+    
+    /**
+     * Existence and count queries on one attribute that never load or hydrate entities.
+     * The existence query selects a constant and stops at the first match, so a unique or plain index
+     * on the attribute answers it without reading the table rows.
+     *
+     * @param <V> The attribute type
+     */
+    protected final class AttributeProbe<V> {
+        
+        private final String existsQuery;
+        private final String countQuery;
+        
+        private AttributeProbe(String entityName, String attribute) {
+            String where = " FROM " + entityName + " e WHERE e." + attribute + " = :value";
+            this.existsQuery = "SELECT 1" + where;
+            this.countQuery = "SELECT COUNT(e)" + where;
+        }
+        
+        /**
+         * Checks if any aggregate has the given attribute value.
+         */
+        public boolean exists(V value) {
+            return !entityManager.createQuery(existsQuery, Integer.class)
+                .setParameter("value", value)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+        }
+        
+        /**
+         * Counts the aggregates with the given attribute value.
+         */
+        public long count(V value) {
+            return entityManager.createQuery(countQuery, Long.class)
+                .setParameter("value", value)
+                .getSingleResult();
+        }
+    }
+    
+    /**
+     * Read queries that construct unmanaged row objects with a JPQL constructor expression.
+     * Rows are plain objects: nothing is added to the persistence context and nothing is dirty-checked.
+     *
+     * @param <P> The type the rows are returned as
+     */
+    protected final class Projection<P> {
+        
+        private final Class<? extends P> rowType;
+        private final boolean cacheable;
+        private final String byIdQuery;
+        private final String firstPageQuery;
+        private final String pageAfterIdQuery;
+        
+        private Projection(Class<? extends P> rowType, String entityName, String idAttribute, String[] attributes,
+                           boolean cacheable) {
+            this.rowType = rowType;
+            this.cacheable = cacheable;
+            String select = Stream.of(attributes)
+                .map(attribute -> "e." + attribute)
+                .collect(Collectors.joining(", ",
+                    "SELECT new " + rowType.getName() + "(", ") FROM " + entityName + " e"));
+            String orderById = " ORDER BY e." + idAttribute;
+            this.byIdQuery = select + " WHERE e." + idAttribute + " = :id";
+            this.firstPageQuery = select + orderById;
+            this.pageAfterIdQuery = select + " WHERE e." + idAttribute + " > :afterId" + orderById;
+        }
+        
+        /**
+         * Finds the row of the aggregate with the given identifier.
+         */
+        public Optional<P> findById(ID id) {
+            List<? extends P> rows = entityManager.createQuery(byIdQuery, rowType)
+                .setParameter("id", id)
+                .setHint(HibernateHints.HINT_CACHEABLE, cacheable)
+                .getResultList();
+            return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+        }
+        
+        /**
+         * Finds the rows of the aggregates with an identifier greater than the given one, in identifier order.
+         *
+         * @param afterId The identifier to seek past, or null to start from the first aggregate
+         * @param limit The maximum number of rows
+         */
+        public List<P> findPageAfterId(ID afterId, int limit) {
+            TypedQuery<? extends P> query = afterId == null
+                ? entityManager.createQuery(firstPageQuery, rowType)
+                : entityManager.createQuery(pageAfterIdQuery, rowType).setParameter("afterId", afterId);
+            return Collections.unmodifiableList(query
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_CACHEABLE, cacheable)
+                .getResultList());
+        }
+    }
 }
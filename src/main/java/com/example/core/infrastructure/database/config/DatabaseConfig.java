@@ -1,9 +1,47 @@
 package com.example.core.infrastructure.database.config;
 
+import com.example.core.infrastructure.database.routing.ReadWriteRoutingDataSource;
+import com.example.core.infrastructure.database.routing.ReplicaLagGuard;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpSession;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.sql.DataSource;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Database configuration for JPA repositories and entities.
@@ -16,5 +54,137 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
     basePackages = "com.example.*.domain.model"
 )
 @EnableTransactionManagement
+@EnableConfigurationProperties(DatabaseProperties.class)
 public class DatabaseConfig {
+    
+    /**
+     * Data source routing read-only work to read replicas when {@code app.database.replicas.enabled=true}.
+     * Replaces Spring Boot's data source; the primary is built from {@code spring.datasource}.
+     * Replica pools publish the same {@code hikaricp} meters as the primary, tagged with pool {@code replica-<n>}.
+     * The pools are owned by the returned data source and closed with it.
+     * <p>
+     * Sessions are keyed by the authenticated principal for the replica-lag guard, or else by the caller's
+     * HTTP session. Anonymous callers without a session are not pinned, so their reads right after a write
+     * may not see it yet.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.database.replicas", name = "enabled", havingValue = "true")
+    public DataSource dataSource(DataSourceProperties primaryProperties, DatabaseProperties databaseProperties,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        DatabaseProperties.Replicas replicas = databaseProperties.getReplicas();
+        if (replicas.getInstances().isEmpty()) {
+            throw new IllegalStateException("app.database.replicas.enabled is set but no replica instances are configured");
+        }
+        
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName("primary");
+        
+        List<HikariDataSource> replicaDataSources = new ArrayList<>();
+        for (int i = 0; i < replicas.getInstances().size(); i++) {
+            HikariDataSource replica = createReplica(primaryProperties, replicas.getInstances().get(i), i);
+            meterRegistry.ifAvailable(registry ->
+                replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicaDataSources.add(replica);
+        }
+        
+        ReplicaLagGuard lagGuard = new ReplicaLagGuard(replicas.getPrimaryPinAfterWrite(), DatabaseConfig::sessionKey);
+        return ReadWriteRoutingDataSource.lazy(
+            new ReadWriteRoutingDataSource(primary, replicaDataSources, replicas.getSelection(), lagGuard));
+    }
+    
+    /**
+     * In-process JCache (Ehcache 3) cache manager holding the Hibernate second-level cache regions.
+     * Every configured region is bounded by entry count and time to live. Query results share the default bounds,
+     * while the update timestamps region never expires, as the query cache requires.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.database.second-level-cache", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public CacheManager secondLevelCacheManager(DatabaseProperties databaseProperties) {
+        DatabaseProperties.SecondLevelCache properties = databaseProperties.getSecondLevelCache();
+        DatabaseProperties.Region defaults = properties.getDefaults();
+        
+        // A cache manager of its own per application context, so that contexts in one JVM do not share regions
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+            EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("urn:second-level-cache:" + UUID.randomUUID()),
+            new DefaultConfiguration(getClass().getClassLoader()));
+        
+        for (Map.Entry<String, DatabaseProperties.Region> region : properties.getRegions().entrySet()) {
+            DatabaseProperties.Region bounds = region.getValue();
+            createRegion(cacheManager, region.getKey(),
+                bounds.getMaxEntries() != null ? bounds.getMaxEntries() : defaults.getMaxEntries(),
+                bounds.getTimeToLive() != null ? bounds.getTimeToLive() : defaults.getTimeToLive());
+        }
+        if (properties.isQueryCache()) {
+            createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                defaults.getMaxEntries(), defaults.getTimeToLive());
+            createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                defaults.getMaxEntries(), null);
+        }
+        return cacheManager;
+    }
+    
+    /**
+     * Enable the Hibernate second-level cache on the cache manager above. A cacheable entity whose region is not
+     * configured fails startup rather than getting an unbounded cache. Statistics are enabled so that hit and miss
+     * counts per region are published as {@code hibernate.second.level.cache.requests}, and query cache counts as
+     * {@code hibernate.cache.query.requests}.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.database.second-level-cache", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager,
+                                                                    DatabaseProperties databaseProperties) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.USE_QUERY_CACHE, databaseProperties.getSecondLevelCache().isQueryCache());
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+    
+    private static void createRegion(CacheManager cacheManager, String name, long maxEntries, Duration timeToLive) {
+        CacheConfigurationBuilder<Object, Object> region = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+            Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries));
+        if (timeToLive != null) {
+            region = region.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive));
+        }
+        cacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(region));
+    }
+    
+    private static HikariDataSource createReplica(DataSourceProperties primaryProperties,
+                                                  DatabaseProperties.Instance instance, int index) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica-" + index);
+        replica.setJdbcUrl(instance.getUrl());
+        replica.setUsername(instance.getUsername() != null
+            ? instance.getUsername() : primaryProperties.determineUsername());
+        replica.setPassword(instance.getPassword() != null
+            ? instance.getPassword() : primaryProperties.determinePassword());
+        replica.setMaximumPoolSize(instance.getMaximumPoolSize());
+        replica.setReadOnly(true);
+        return replica;
+    }
+    
+    @Nullable
+    private static String sessionKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        // Never creates a session; callers without one are not told apart, so they are not pinned at all
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes request) {
+            HttpSession session = request.getRequest().getSession(false);
+            if (session != null) {
+                return "session:" + session.getId();
+            }
+        }
+        return null;
+    }
 }
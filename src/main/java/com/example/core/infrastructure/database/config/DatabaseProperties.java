@@ -0,0 +1,138 @@
+package com.example.core.infrastructure.database.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration properties for database access beyond the primary {@code spring.datasource}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.database")
+public class DatabaseProperties {
+    
+    private Replicas replicas = new Replicas();
+    
+    private SecondLevelCache secondLevelCache = new SecondLevelCache();
+    
+    /**
+     * Read replicas serving read-only transactions and query dispatches.
+     */
+    @Data
+    public static class Replicas {
+        
+        /**
+         * Whether reads are routed to the replicas; when disabled all traffic goes to the primary.
+         */
+        private boolean enabled = false;
+        
+        /**
+         * How a replica is chosen for each read.
+         */
+        private Selection selection = Selection.ROUND_ROBIN;
+        
+        /**
+         * How long a session reads from the primary after it writes, so that it sees its own writes
+         * despite replication lag. Sessions are authenticated users or HTTP sessions; anonymous callers
+         * without a session are not pinned. Zero disables pinning.
+         */
+        private Duration primaryPinAfterWrite = Duration.ofSeconds(2);
+        
+        /**
+         * The replica databases.
+         */
+        private List<Instance> instances = new ArrayList<>();
+    }
+    
+    /**
+     * Connection settings of one replica. Username and password default to the primary's.
+     */
+    @Data
+    public static class Instance {
+        
+        private String url;
+        
+        private String username;
+        
+        private String password;
+        
+        /**
+         * Maximum size of the replica's connection pool.
+         */
+        private int maximumPoolSize = 10;
+    }
+    
+    /**
+     * Hibernate second-level cache, kept in process. Aggregates opt in with {@code @Cacheable} and
+     * {@code @Cache(region = ...)}; each region they use must be configured here.
+     * <p>
+     * Writes evict entries on the instance that made them only. Other instances serve stale aggregates and query
+     * results for up to the time-to-live of their region, so keep it short for aggregates updated in place.
+     */
+    @Data
+    public static class SecondLevelCache {
+        
+        /**
+         * Whether the second-level cache is used.
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Whether query results are cached as well, including projections of cached aggregates.
+         */
+        private boolean queryCache = true;
+        
+        /**
+         * Bounds of the query results region, and of configured regions that leave a bound unset.
+         */
+        private Region defaults = Region.of(10_000, Duration.ofMinutes(10));
+        
+        /**
+         * Entity regions keyed by region name.
+         */
+        private Map<String, Region> regions = new HashMap<>();
+    }
+    
+    /**
+     * Bounds of one cache region.
+     */
+    @Data
+    public static class Region {
+        
+        /**
+         * Maximum number of entries kept on heap.
+         */
+        private Long maxEntries;
+        
+        /**
+         * How long an entry lives after it is written.
+         */
+        private Duration timeToLive;
+        
+        static Region of(long maxEntries, Duration timeToLive) {
+            Region region = new Region();
+            region.setMaxEntries(maxEntries);
+            region.setTimeToLive(timeToLive);
+            return region;
+        }
+    }
+    
+    /**
+     * Replica selection strategies.
+     */
+    public enum Selection {
+        /**
+         * Replicas take turns.
+         */
+        ROUND_ROBIN,
+        /**
+         * The replica with the fewest connections in use is chosen.
+         */
+        LEAST_CONNECTIONS
+    }
+}
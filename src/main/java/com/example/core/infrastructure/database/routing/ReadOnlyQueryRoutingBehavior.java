@@ -0,0 +1,44 @@
+package com.example.core.infrastructure.database.routing;
+
+import com.example.core.application.query.Query;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseInvocation;
+import com.example.core.application.usecase.UseCasePipelineBehavior;
+import com.example.core.infrastructure.database.config.DatabaseProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pipeline behavior marking query dispatches as read-only, so that their database work may be served by
+ * a read replica even where the handler opens no read-only transaction. Applies only when replicas are enabled.
+ */
+@Component
+@Order(ReadOnlyQueryRoutingBehavior.ORDER)
+public class ReadOnlyQueryRoutingBehavior implements UseCasePipelineBehavior {
+    
+    /**
+     * Pipeline position: inside the built-in behaviors, right around the handler.
+     */
+    public static final int ORDER = 500;
+    
+    private final DatabaseProperties properties;
+    
+    public ReadOnlyQueryRoutingBehavior(DatabaseProperties properties) {
+        this.properties = properties;
+    }
+    
+    @Override
+    public boolean appliesTo(Class<?> useCaseType) {
+        return properties.getReplicas().isEnabled() && Query.class.isAssignableFrom(useCaseType);
+    }
+    
+    @Override
+    public <TResponse> TResponse handle(UseCase<TResponse> useCase, UseCaseInvocation next) {
+        boolean outer = ReadOnlyRoutingContext.enter();
+        try {
+            return next.proceed(useCase);
+        } finally {
+            ReadOnlyRoutingContext.exit(outer);
+        }
+    }
+}
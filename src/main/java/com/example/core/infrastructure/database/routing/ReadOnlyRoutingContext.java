@@ -0,0 +1,40 @@
+package com.example.core.infrastructure.database.routing;
+
+/**
+ * Marks work on the current thread as read-only outside of a transaction, such as a query dispatch,
+ * so that the connections it opens may be routed to a replica.
+ */
+public final class ReadOnlyRoutingContext {
+    
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+    
+    private ReadOnlyRoutingContext() {
+    }
+    
+    /**
+     * Marks the current thread as doing read-only work.
+     *
+     * @return Whether the thread was already marked, to pass to {@link #exit(boolean)}
+     */
+    public static boolean enter() {
+        boolean outer = isReadOnly();
+        READ_ONLY.set(Boolean.TRUE);
+        return outer;
+    }
+    
+    /**
+     * Restores the marking that was in place before the matching {@link #enter()}.
+     */
+    public static void exit(boolean outer) {
+        if (!outer) {
+            READ_ONLY.remove();
+        }
+    }
+    
+    /**
+     * Checks if the current thread is marked as doing read-only work.
+     */
+    public static boolean isReadOnly() {
+        return READ_ONLY.get() != null;
+    }
+}
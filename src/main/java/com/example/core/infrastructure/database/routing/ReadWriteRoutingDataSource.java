@@ -0,0 +1,228 @@
+package com.example.core.infrastructure.database.routing;
+
+import com.example.core.infrastructure.database.config.DatabaseProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Data source sending read-only work to read replicas and everything else to the primary.
+ * <p>
+ * Work is read-only inside a {@code @Transactional(readOnly = true)} transaction, or outside any transaction
+ * while {@link ReadOnlyRoutingContext} marks the thread, as it does for query dispatches. A read-write transaction
+ * always uses the primary, even when it runs inside a query. After a read-write transaction that executed
+ * an update commits, the {@link ReplicaLagGuard} keeps the session on the primary for a while; read-write
+ * transactions that only queried leave the session alone. Other work outside transactions,
+ * such as health checks, uses the primary without pinning the session.
+ * <p>
+ * The route is chosen when a connection is opened, and transaction managers open connections before they
+ * publish the transaction's read-only flag. Use this data source through {@link #lazy(ReadWriteRoutingDataSource)},
+ * which defers opening the connection until the first statement.
+ * <p>
+ * The routing data source owns its target pools: closing it, or the lazy wrapper, closes them.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    
+    private static final String PRIMARY = "primary";
+    
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final String[] replicaKeys;
+    private final DatabaseProperties.Selection selection;
+    private final ReplicaLagGuard lagGuard;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    
+    public ReadWriteRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                                      DatabaseProperties.Selection selection, ReplicaLagGuard lagGuard) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.replicaKeys = new String[replicas.size()];
+        this.selection = selection;
+        this.lagGuard = lagGuard;
+        
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            replicaKeys[i] = "replica-" + i;
+            targets.put(replicaKeys[i], replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+    
+    /**
+     * Wraps the routing data source so that each connection is routed when it is first used.
+     * Closing the wrapper closes the routing data source.
+     */
+    public static DataSource lazy(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyRoutingDataSource(routingDataSource);
+    }
+    
+    /**
+     * Closes the primary and replica data sources that can be closed.
+     */
+    @Override
+    public void close() {
+        RuntimeException failure = null;
+        List<DataSource> targets = new ArrayList<>(replicas);
+        targets.add(primary);
+        for (DataSource target : targets) {
+            if (target instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    if (failure == null) {
+                        failure = new IllegalStateException("Failed to close data source", e);
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrites(super.getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackWrites(super.getConnection(username, password));
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!isReadOnly()) {
+            return PRIMARY;
+        }
+        if (lagGuard.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        return replicaKeys[selectReplica()];
+    }
+    
+    private static boolean isReadOnly() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            ? TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            : ReadOnlyRoutingContext.isReadOnly();
+    }
+    
+    /**
+     * Watches the connection of a read-write transaction for updates, and records a write when the transaction
+     * commits after one.
+     */
+    private Connection trackWrites(Connection connection) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive() || isReadOnly()) {
+            return connection;
+        }
+        AtomicBoolean wrote = new AtomicBoolean();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (wrote.get()) {
+                    lagGuard.recordWrite();
+                }
+            }
+        });
+        return proxy(Connection.class, connection, (method, result) -> {
+            if (result instanceof Statement statement) {
+                return proxy(method.getReturnType(), statement, (statementMethod, executed) -> {
+                    if (isUpdate(statementMethod, executed)) {
+                        wrote.set(true);
+                    }
+                    return executed;
+                });
+            }
+            return result;
+        });
+    }
+    
+    private static boolean isUpdate(Method method, Object result) {
+        return switch (method.getName()) {
+            case "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch" -> true;
+            // execute returns false when the statement produced an update count rather than a result set
+            case "execute" -> Boolean.FALSE.equals(result);
+            default -> false;
+        };
+    }
+    
+    /**
+     * Creates a proxy of a JDBC interface that passes each call's result through a decorator.
+     */
+    private static <T> T proxy(Class<T> type, Object target, BiFunction<Method, Object, Object> decorator) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            try {
+                return decorator.apply(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }));
+    }
+    
+    private int selectReplica() {
+        if (selection == DatabaseProperties.Selection.LEAST_CONNECTIONS) {
+            int best = 0;
+            int fewest = Integer.MAX_VALUE;
+            for (int i = 0; i < replicas.size(); i++) {
+                int active = activeConnections(replicas.get(i));
+                if (active < fewest) {
+                    best = i;
+                    fewest = active;
+                }
+            }
+            return best;
+        }
+        return Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    }
+    
+    private static int activeConnections(DataSource dataSource) {
+        // Only Hikari pools report their usage; other data sources count as idle
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+        return 0;
+    }
+    
+    private static final class LazyRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+        
+        private final ReadWriteRoutingDataSource routingDataSource;
+        
+        LazyRoutingDataSource(ReadWriteRoutingDataSource routingDataSource) {
+            super(routingDataSource);
+            this.routingDataSource = routingDataSource;
+        }
+        
+        @Override
+        public void close() {
+            routingDataSource.close();
+        }
+    }
+}
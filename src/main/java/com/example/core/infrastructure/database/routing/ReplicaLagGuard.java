@@ -0,0 +1,70 @@
+package com.example.core.infrastructure.database.routing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Pins a session to the primary database for a while after it writes, so that its next reads
+ * see its own writes even when the replicas lag behind.
+ * <p>
+ * Sessions are identified by a key supplied by the caller, such as the authenticated principal.
+ * A null key means the session cannot be identified; such sessions are never pinned.
+ */
+public class ReplicaLagGuard {
+    
+    // Expired pins are normally dropped when their session next reads; sweep once the map grows past this
+    private static final int SWEEP_THRESHOLD = 10_000;
+    
+    private final long pinNanos;
+    private final Supplier<String> sessionKey;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    
+    public ReplicaLagGuard(Duration pinAfterWrite, Supplier<String> sessionKey) {
+        this.pinNanos = pinAfterWrite.toNanos();
+        this.sessionKey = sessionKey;
+    }
+    
+    /**
+     * Records that the current session has written to the primary.
+     */
+    public void recordWrite() {
+        if (pinNanos <= 0) {
+            return;
+        }
+        
+        String key = sessionKey.get();
+        if (key == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (pinnedUntil.size() > SWEEP_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> until - now <= 0);
+        }
+        pinnedUntil.put(key, now + pinNanos);
+    }
+    
+    /**
+     * Checks if the current session must read from the primary.
+     */
+    public boolean isPinnedToPrimary() {
+        if (pinNanos <= 0 || pinnedUntil.isEmpty()) {
+            return false;
+        }
+        
+        String key = sessionKey.get();
+        if (key == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(key, until);
+        return false;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.core.infrastructure.dispatch.admission;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limiter with a bounded wait queue and an AIMD (additive increase, multiplicative decrease) limit.
+ * <p>
+ * The limit grows by one after a fast completion while at least half of it is in use, and is multiplied by
+ * the backoff ratio after a completion slower than the latency threshold or one that failed from overload.
+ * Callers over the limit wait in a bounded queue for a slot; when the queue is full or the wait times out,
+ * {@link #tryAcquire()} fails at once instead of piling more work onto the handler.
+ */
+public class AdaptiveConcurrencyLimiter {
+    
+    /**
+     * Outcome of an admission attempt.
+     */
+    public enum Admission {
+        ACQUIRED,
+        QUEUE_FULL,
+        TIMED_OUT
+    }
+    
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueCapacity;
+    private final long maxQueueWaitNanos;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotAvailable = lock.newCondition();
+    
+    private volatile int limit;
+    private volatile int active;
+    private volatile int queued;
+    
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int queueCapacity,
+                                      long maxQueueWaitNanos, long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid concurrency limits: initial %d, min %d, max %d", initialLimit, minLimit, maxLimit));
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.queueCapacity = queueCapacity;
+        this.maxQueueWaitNanos = maxQueueWaitNanos;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+    }
+    
+    /**
+     * Acquires a slot, waiting in the queue if the limit is reached.
+     * Every successful acquisition must be followed by {@link #release(long, boolean)}.
+     *
+     * @return {@link Admission#ACQUIRED}, or why the caller was rejected
+     */
+    public Admission tryAcquire() {
+        lock.lock();
+        try {
+            if (active < limit && queued == 0) {
+                active++;
+                return Admission.ACQUIRED;
+            }
+            if (queued >= queueCapacity) {
+                return Admission.QUEUE_FULL;
+            }
+            
+            queued++;
+            try {
+                long remainingNanos = maxQueueWaitNanos;
+                while (active >= limit) {
+                    if (remainingNanos <= 0) {
+                        return Admission.TIMED_OUT;
+                    }
+                    remainingNanos = slotAvailable.awaitNanos(remainingNanos);
+                }
+                active++;
+                return Admission.ACQUIRED;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Admission.TIMED_OUT;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Releases a slot and adjusts the limit from the observed completion.
+     *
+     * @param latencyNanos How long the caller held the slot
+     * @param overloaded Whether the work failed in a way that indicates overload, such as a timeout
+     */
+    public void release(long latencyNanos, boolean overloaded) {
+        lock.lock();
+        try {
+            int inUse = active;
+            active = inUse - 1;
+            
+            int previousLimit = limit;
+            if (overloaded || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, (int) (previousLimit * backoffRatio));
+            } else if (inUse * 2 >= previousLimit) {
+                limit = Math.min(maxLimit, previousLimit + 1);
+            }
+            
+            if (limit > previousLimit) {
+                slotAvailable.signalAll();
+            } else {
+                slotAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Gets the current concurrency limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+    
+    /**
+     * Gets the number of slots in use.
+     */
+    public int getActive() {
+        return active;
+    }
+    
+    /**
+     * Gets the number of callers waiting for a slot.
+     */
+    public int getQueued() {
+        return queued;
+    }
+}
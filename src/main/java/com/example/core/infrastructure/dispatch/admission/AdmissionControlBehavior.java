@@ -0,0 +1,159 @@
+package com.example.core.infrastructure.dispatch.admission;
+
+import com.example.core.application.command.Command;
+import com.example.core.application.exception.UseCaseRejectedException;
+import com.example.core.application.exception.UseCaseTimeoutException;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseBatch;
+import com.example.core.application.usecase.UseCaseInvocation;
+import com.example.core.application.usecase.UseCasePipelineBehavior;
+import com.example.core.infrastructure.dispatch.config.DispatcherProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * Pipeline behavior admitting commands through an {@link AdaptiveConcurrencyLimiter} per command type.
+ * <p>
+ * Commands over the limit wait briefly in a bounded queue; when the queue is full or the wait times out
+ * the command is rejected with {@link UseCaseRejectedException} before it reaches the handler or takes
+ * a database connection. The limit adapts to handler latency and to failures that signal overload,
+ * such as lock and query timeouts. A batch of commands takes a single slot.
+ * <p>
+ * Per command type, {@code usecase.admission.limit}, {@code usecase.admission.active} and
+ * {@code usecase.admission.queued} gauges and a {@code usecase.admission.rejected} counter are published.
+ * Configured through {@code app.dispatcher.admission}.
+ */
+@Component
+@Order(AdmissionControlBehavior.ORDER)
+public class AdmissionControlBehavior implements UseCasePipelineBehavior {
+    
+    /**
+     * Pipeline position: inside metrics, so rejections are timed and counted as errors.
+     */
+    public static final int ORDER = 200;
+    
+    static final String LIMIT_NAME = "usecase.admission.limit";
+    static final String ACTIVE_NAME = "usecase.admission.active";
+    static final String QUEUED_NAME = "usecase.admission.queued";
+    static final String REJECTED_NAME = "usecase.admission.rejected";
+    
+    private final DispatcherProperties.Admission properties;
+    private final MeterRegistry meterRegistry;
+    
+    public AdmissionControlBehavior(DispatcherProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getAdmission();
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public boolean appliesTo(Class<?> useCaseType) {
+        return properties.isEnabled() && Command.class.isAssignableFrom(useCaseType);
+    }
+    
+    @Override
+    public UseCaseInvocation bind(Class<?> useCaseType, UseCaseInvocation next) {
+        if (!appliesTo(useCaseType)) {
+            return next;
+        }
+        
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            properties.getInitialLimit(),
+            properties.getMinLimit(),
+            properties.getMaxLimit(),
+            properties.getQueueCapacity(),
+            properties.getMaxQueueWait().toNanos(),
+            properties.getLatencyThreshold().toNanos(),
+            properties.getBackoffRatio());
+        return new AdmittingInvocation(useCaseType, limiter, next);
+    }
+    
+    @Override
+    public <TResponse> TResponse handle(UseCase<TResponse> useCase, UseCaseInvocation next) {
+        // Per-type invocations are built in bind()
+        return next.proceed(useCase);
+    }
+    
+    /**
+     * Checks if a failure indicates that the handler or its resources are overloaded.
+     */
+    static boolean isOverload(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+            || e instanceof TransactionTimedOutException
+            || e instanceof UseCaseTimeoutException;
+    }
+    
+    private final class AdmittingInvocation implements UseCaseInvocation {
+        
+        private final String commandName;
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final Counter queueFull;
+        private final Counter timedOut;
+        private final UseCaseInvocation next;
+        
+        AdmittingInvocation(Class<?> commandType, AdaptiveConcurrencyLimiter limiter, UseCaseInvocation next) {
+            this.commandName = commandType.getSimpleName();
+            this.limiter = limiter;
+            this.next = next;
+            
+            Tags tags = Tags.of("usecase", commandName);
+            Gauge.builder(LIMIT_NAME, limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tags(tags)
+                .register(meterRegistry);
+            Gauge.builder(ACTIVE_NAME, limiter, AdaptiveConcurrencyLimiter::getActive)
+                .description("Admitted commands being handled")
+                .tags(tags)
+                .register(meterRegistry);
+            Gauge.builder(QUEUED_NAME, limiter, AdaptiveConcurrencyLimiter::getQueued)
+                .description("Commands waiting for admission")
+                .tags(tags)
+                .register(meterRegistry);
+            this.queueFull = rejectedCounter(tags, "queue_full");
+            this.timedOut = rejectedCounter(tags, "timeout");
+        }
+        
+        @Override
+        public <TResponse> TResponse proceed(UseCase<TResponse> command) {
+            AdaptiveConcurrencyLimiter.Admission admission = limiter.tryAcquire();
+            if (admission != AdaptiveConcurrencyLimiter.Admission.ACQUIRED) {
+                reject(admission);
+            }
+            
+            long start = System.nanoTime();
+            boolean overloaded = false;
+            try {
+                return next.proceed(command);
+            } catch (RuntimeException e) {
+                overloaded = isOverload(e);
+                throw e;
+            } finally {
+                // A batch takes one slot, but its duration says nothing about per-command latency
+                long latency = command instanceof UseCaseBatch ? 0 : System.nanoTime() - start;
+                limiter.release(latency, overloaded);
+            }
+        }
+        
+        private void reject(AdaptiveConcurrencyLimiter.Admission admission) {
+            if (admission == AdaptiveConcurrencyLimiter.Admission.QUEUE_FULL) {
+                queueFull.increment();
+                throw new UseCaseRejectedException(commandName + " rejected: too many commands waiting");
+            }
+            timedOut.increment();
+            throw new UseCaseRejectedException(commandName + " rejected: timed out waiting for admission");
+        }
+        
+        private Counter rejectedCounter(Tags tags, String reason) {
+            return Counter.builder(REJECTED_NAME)
+                .description("Commands rejected by admission control")
+                .tags(tags)
+                .tag("reason", reason)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.core.infrastructure.dispatch.async;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor that runs at most a fixed number of tasks at a time on a delegate executor.
+ * Tasks over the limit wait in a queue instead of occupying a delegate thread.
+ * <p>
+ * A queued task is handed to the delegate by whichever thread frees a slot or submits the next task, so it must
+ * not depend on the state of that thread. When the delegate rejects a task, a {@link RejectableTask} is told
+ * so and dropped; any other task is put back in the queue and the rejection is thrown to the submitting thread.
+ */
+public class ConcurrencyLimitedExecutor implements Executor {
+    
+    private final Executor delegate;
+    private final int limit;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    
+    public ConcurrencyLimitedExecutor(Executor delegate, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Concurrency limit must be at least 1");
+        }
+        this.delegate = delegate;
+        this.limit = limit;
+    }
+    
+    @Override
+    public void execute(Runnable task) {
+        pending.add(task);
+        drain();
+    }
+    
+    /**
+     * Gets the number of tasks currently running on the delegate.
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+    
+    /**
+     * Gets the number of tasks waiting for a free slot.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+    
+    private void drain() {
+        while (!pending.isEmpty()) {
+            int current = active.get();
+            if (current >= limit) {
+                return;
+            }
+            if (!active.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            
+            Runnable task = pending.poll();
+            if (task == null) {
+                active.decrementAndGet();
+                continue;
+            }
+            
+            try {
+                delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        active.decrementAndGet();
+                        drain();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                active.decrementAndGet();
+                if (task instanceof RejectableTask rejectable) {
+                    // Go on with the queue, so no queued task is left waiting without a running task to drain it
+                    rejectable.reject(e);
+                    continue;
+                }
+                pending.add(task);
+                throw e;
+            } catch (RuntimeException e) {
+                active.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+    
+    /**
+     * A task that is told when the delegate rejects it, so that whoever waits for it does not wait forever.
+     */
+    public interface RejectableTask extends Runnable {
+        
+        /**
+         * Called instead of running the task when the delegate rejected it.
+         *
+         * @param e The rejection
+         */
+        void reject(RejectedExecutionException e);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.core.infrastructure.dispatch.async;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.Executor;
+import java.util.function.ToIntFunction;
+
+/**
+ * Executes asynchronously dispatched use cases, applying per-use-case-type concurrency limits.
+ * The executor for each use case type is resolved once and cached per class.
+ */
+public class UseCaseAsyncExecutor implements DisposableBean {
+    
+    private final Executor executor;
+    private final ToIntFunction<Class<?>> concurrencyLimits;
+    
+    private final ClassValue<Executor> executors = new ClassValue<>() {
+        @Override
+        protected Executor computeValue(Class<?> useCaseType) {
+            int limit = concurrencyLimits.applyAsInt(useCaseType);
+            return limit > 0 ? new ConcurrencyLimitedExecutor(executor, limit) : executor;
+        }
+    };
+    
+    /**
+     * @param executor The executor running the handlers
+     * @param concurrencyLimits Concurrency limit per use case type; 0 or less means unlimited
+     */
+    public UseCaseAsyncExecutor(Executor executor, ToIntFunction<Class<?>> concurrencyLimits) {
+        this.executor = executor;
+        this.concurrencyLimits = concurrencyLimits;
+    }
+    
+    /**
+     * Gets the executor for a use case type.
+     *
+     * @param useCaseType The concrete use case class
+     * @return The executor, limited if the type has a concurrency limit
+     */
+    public Executor executorFor(Class<?> useCaseType) {
+        return executors.get(useCaseType);
+    }
+    
+    /**
+     * Shuts down the underlying executor if it has a lifecycle.
+     */
+    @Override
+    public void destroy() throws Exception {
+        if (executor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
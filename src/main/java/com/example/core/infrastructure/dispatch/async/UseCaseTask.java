@@ -0,0 +1,49 @@
+package com.example.core.infrastructure.dispatch.async;
+
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * An asynchronously dispatched use case, completing its future with the handler's result or failure.
+ * <p>
+ * The security context of the dispatching thread is captured when the task is created, so a task waiting
+ * behind a concurrency limit runs as its own caller, not as whichever thread happens to start it.
+ */
+public class UseCaseTask<T> implements ConcurrencyLimitedExecutor.RejectableTask {
+    
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final Runnable task;
+    
+    /**
+     * @param handler Handles the use case; runs on the executor thread with the caller's security context
+     */
+    public UseCaseTask(Supplier<T> handler) {
+        this.task = DelegatingSecurityContextRunnable.create(() -> {
+            try {
+                result.complete(handler.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, null);
+    }
+    
+    /**
+     * Gets the future completed when the use case has been handled.
+     */
+    public CompletableFuture<T> getResult() {
+        return result;
+    }
+    
+    @Override
+    public void run() {
+        task.run();
+    }
+    
+    @Override
+    public void reject(RejectedExecutionException e) {
+        result.completeExceptionally(e);
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.core.infrastructure.dispatch.cache;
+
+import com.example.core.application.command.InvalidatesQueries;
+import com.example.core.application.query.CacheableQuery;
+import com.example.core.application.query.Query;
+import com.example.core.application.query.QueryCache;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseBatch;
+import com.example.core.application.usecase.UseCaseInvocation;
+import com.example.core.application.usecase.UseCasePipelineBehavior;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Pipeline behavior caching the results of {@link CacheableQuery} queries in the "queries" cache
+ * and invalidating them when an {@link InvalidatesQueries} command succeeds.
+ * <p>
+ * Each query type has a generation number. Cached entries record the generation they were loaded in,
+ * and invalidating a query type increments its generation, so all of its entries become stale at once
+ * without scanning the cache. A result loaded while an invalidation happens is never served afterwards.
+ * <p>
+ * Hits and misses are counted per query type in the {@code usecase.query.cache.gets} meter.
+ */
+@Component
+@Order(QueryCachingBehavior.ORDER)
+@Slf4j
+public class QueryCachingBehavior implements UseCasePipelineBehavior, QueryCache {
+    
+    /**
+     * Pipeline position: inside metrics and admission control, outside request coalescing.
+     */
+    public static final int ORDER = 300;
+    
+    static final String CACHE_NAME = "queries";
+    static final String METER_NAME = "usecase.query.cache.gets";
+    
+    private final Cache cache;
+    private final MeterRegistry meterRegistry;
+    
+    private final ClassValue<AtomicLong> generations = new ClassValue<>() {
+        @Override
+        protected AtomicLong computeValue(Class<?> queryType) {
+            return new AtomicLong();
+        }
+    };
+    
+    public QueryCachingBehavior(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache '" + CACHE_NAME + "' is not configured");
+        }
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public boolean appliesTo(Class<?> useCaseType) {
+        return AnnotatedElementUtils.hasAnnotation(useCaseType, CacheableQuery.class)
+            || AnnotatedElementUtils.hasAnnotation(useCaseType, InvalidatesQueries.class);
+    }
+    
+    @Override
+    public UseCaseInvocation bind(Class<?> useCaseType, UseCaseInvocation next) {
+        UseCaseInvocation invocation = next;
+        
+        CacheableQuery cacheable = AnnotatedElementUtils.findMergedAnnotation(useCaseType, CacheableQuery.class);
+        if (cacheable != null) {
+            QueryKeys.requireValueEquality(useCaseType, CacheableQuery.class);
+            invocation = new CachingInvocation(useCaseType, cacheable, invocation);
+        }
+        
+        InvalidatesQueries invalidates = AnnotatedElementUtils.findMergedAnnotation(useCaseType, InvalidatesQueries.class);
+        if (invalidates != null) {
+            List<AtomicLong> invalidated = Arrays.stream(invalidates.value())
+                .map(generations::get)
+                .collect(Collectors.toList());
+            invocation = new InvalidatingInvocation(invalidated, invocation);
+        }
+        
+        return invocation;
+    }
+    
+    @Override
+    public <TResponse> TResponse handle(UseCase<TResponse> useCase, UseCaseInvocation next) {
+        // Per-type invocations are built in bind(); this is only reached for types without annotations
+        return next.proceed(useCase);
+    }
+    
+    @Override
+    public void invalidate(Class<? extends Query<?>> queryType) {
+        generations.get(queryType).incrementAndGet();
+        log.debug("Invalidated cached results of {}", queryType.getSimpleName());
+    }
+    
+    private final class CachingInvocation implements UseCaseInvocation {
+        
+        private final AtomicLong generation;
+        private final long ttlNanos;
+        private final Counter hits;
+        private final Counter misses;
+        private final UseCaseInvocation next;
+        
+        CachingInvocation(Class<?> queryType, CacheableQuery cacheable, UseCaseInvocation next) {
+            this.generation = generations.get(queryType);
+            this.ttlNanos = TimeUnit.SECONDS.toNanos(cacheable.ttlSeconds());
+            this.hits = counter(queryType, "hit");
+            this.misses = counter(queryType, "miss");
+            this.next = next;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public <TResponse> TResponse proceed(UseCase<TResponse> query) {
+            if (query instanceof UseCaseBatch) {
+                return next.proceed(query);
+            }
+            
+            long currentGeneration = generation.get();
+            long now = System.nanoTime();
+            
+            Cache.ValueWrapper wrapper = cache.get(query);
+            if (wrapper != null && wrapper.get() instanceof CachedResult cached) {
+                if (cached.generation() == currentGeneration && now - cached.loadedAt() < ttlNanos) {
+                    hits.increment();
+                    return (TResponse) cached.value();
+                }
+                cache.evict(query);
+            }
+            
+            misses.increment();
+            TResponse result = next.proceed(query);
+            cache.put(query, new CachedResult(currentGeneration, now, result));
+            return result;
+        }
+        
+        private Counter counter(Class<?> queryType, String result) {
+            return Counter.builder(METER_NAME)
+                .description("Query result cache lookups")
+                .tag("query", queryType.getSimpleName())
+                .tag("result", result)
+                .register(meterRegistry);
+        }
+    }
+    
+    private static final class InvalidatingInvocation implements UseCaseInvocation {
+        
+        private final List<AtomicLong> invalidated;
+        private final UseCaseInvocation next;
+        
+        InvalidatingInvocation(List<AtomicLong> invalidated, UseCaseInvocation next) {
+            this.invalidated = invalidated;
+            this.next = next;
+        }
+        
+        @Override
+        public <TResponse> TResponse proceed(UseCase<TResponse> command) {
+            TResponse result = next.proceed(command);
+            invalidateAll();
+            
+            // Readers outside the transaction can still load and cache the old state until it commits
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        invalidateAll();
+                    }
+                });
+            }
+            return result;
+        }
+        
+        private void invalidateAll() {
+            for (AtomicLong generation : invalidated) {
+                generation.incrementAndGet();
+            }
+        }
+    }
+    
+    /**
+     * A cached result with its load bookkeeping; a value wrapper, so that cache weighers see the result itself.
+     */
+    private record CachedResult(long generation, long loadedAt, Object value) implements Cache.ValueWrapper {
+        
+        @Override
+        public Object get() {
+            return value;
+        }
+    }
+}
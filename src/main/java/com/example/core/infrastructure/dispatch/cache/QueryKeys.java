@@ -0,0 +1,31 @@
+package com.example.core.infrastructure.dispatch.cache;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Checks for query types used as keys by the dispatcher's query behaviors.
+ */
+final class QueryKeys {
+    
+    private QueryKeys() {
+    }
+    
+    /**
+     * Verifies that a query type compares by value.
+     *
+     * @param queryType The query type
+     * @param annotation The annotation that requires value equality, for the error message
+     * @throws IllegalStateException if the type does not override equals and hashCode
+     */
+    static void requireValueEquality(Class<?> queryType, Class<?> annotation) {
+        Method equals = ReflectionUtils.findMethod(queryType, "equals", Object.class);
+        Method hashCode = ReflectionUtils.findMethod(queryType, "hashCode");
+        if (equals == null || equals.getDeclaringClass() == Object.class
+                || hashCode == null || hashCode.getDeclaringClass() == Object.class) {
+            throw new IllegalStateException("@" + annotation.getSimpleName() + " query " + queryType.getName()
+                + " must implement equals and hashCode, since the query is used as a key");
+        }
+    }
+}
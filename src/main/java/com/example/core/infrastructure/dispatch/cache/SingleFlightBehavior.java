@@ -0,0 +1,179 @@
+package com.example.core.infrastructure.dispatch.cache;
+
+import com.example.core.application.command.InvalidatesQueries;
+import com.example.core.application.exception.UseCaseTimeoutException;
+import com.example.core.application.query.IdempotentQuery;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseBatch;
+import com.example.core.application.usecase.UseCaseInvocation;
+import com.example.core.application.usecase.UseCasePipelineBehavior;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Pipeline behavior coalescing identical concurrent {@link IdempotentQuery} queries into one execution.
+ * <p>
+ * The first dispatch of a query becomes the leader and runs the handler; equal queries dispatched while
+ * it runs wait for the leader's result, or rethrow its exception. Nothing is kept once the leader finishes,
+ * so coalescing never serves a result older than a concurrent execution would have.
+ * When an {@link InvalidatesQueries} command succeeds, executions already in flight for the listed
+ * query types stop accepting new waiters.
+ * <p>
+ * Coalesced dispatches are counted per query type in the {@code usecase.query.coalesced} meter.
+ */
+@Component
+@Order(SingleFlightBehavior.ORDER)
+public class SingleFlightBehavior implements UseCasePipelineBehavior {
+    
+    /**
+     * Pipeline position: innermost of the built-in behaviors, so only cache misses are coalesced.
+     */
+    public static final int ORDER = 400;
+    
+    static final String METER_NAME = "usecase.query.coalesced";
+    
+    private final MeterRegistry meterRegistry;
+    
+    private final ClassValue<ConcurrentMap<Object, CompletableFuture<Object>>> inFlight = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Object, CompletableFuture<Object>> computeValue(Class<?> queryType) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    
+    public SingleFlightBehavior(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public boolean appliesTo(Class<?> useCaseType) {
+        return AnnotatedElementUtils.hasAnnotation(useCaseType, IdempotentQuery.class)
+            || AnnotatedElementUtils.hasAnnotation(useCaseType, InvalidatesQueries.class);
+    }
+    
+    @Override
+    public UseCaseInvocation bind(Class<?> useCaseType, UseCaseInvocation next) {
+        UseCaseInvocation invocation = next;
+        
+        IdempotentQuery idempotent = AnnotatedElementUtils.findMergedAnnotation(useCaseType, IdempotentQuery.class);
+        if (idempotent != null) {
+            QueryKeys.requireValueEquality(useCaseType, IdempotentQuery.class);
+            invocation = new CoalescingInvocation(useCaseType, idempotent, invocation);
+        }
+        
+        InvalidatesQueries invalidates = AnnotatedElementUtils.findMergedAnnotation(useCaseType, InvalidatesQueries.class);
+        if (invalidates != null) {
+            List<ConcurrentMap<Object, CompletableFuture<Object>>> detached = Arrays.stream(invalidates.value())
+                .map(inFlight::get)
+                .collect(Collectors.toList());
+            invocation = new DetachingInvocation(detached, invocation);
+        }
+        
+        return invocation;
+    }
+    
+    @Override
+    public <TResponse> TResponse handle(UseCase<TResponse> useCase, UseCaseInvocation next) {
+        // Per-type invocations are built in bind()
+        return next.proceed(useCase);
+    }
+    
+    private final class CoalescingInvocation implements UseCaseInvocation {
+        
+        private final String queryName;
+        private final ConcurrentMap<Object, CompletableFuture<Object>> executions;
+        private final long maxWaitMillis;
+        private final Counter coalesced;
+        private final UseCaseInvocation next;
+        
+        CoalescingInvocation(Class<?> queryType, IdempotentQuery idempotent, UseCaseInvocation next) {
+            this.queryName = queryType.getSimpleName();
+            this.executions = inFlight.get(queryType);
+            this.maxWaitMillis = idempotent.maxWaitMillis();
+            this.coalesced = Counter.builder(METER_NAME)
+                .description("Queries that shared the result of an identical query in flight")
+                .tag("query", queryName)
+                .register(meterRegistry);
+            this.next = next;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public <TResponse> TResponse proceed(UseCase<TResponse> query) {
+            if (query instanceof UseCaseBatch) {
+                return next.proceed(query);
+            }
+            
+            CompletableFuture<Object> execution = new CompletableFuture<>();
+            CompletableFuture<Object> leader = executions.putIfAbsent(query, execution);
+            if (leader != null) {
+                coalesced.increment();
+                return (TResponse) await(leader);
+            }
+            
+            try {
+                TResponse result = next.proceed(query);
+                execution.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                execution.completeExceptionally(e);
+                throw e;
+            } finally {
+                executions.remove(query, execution);
+            }
+        }
+        
+        private Object await(CompletableFuture<Object> leader) {
+            try {
+                return leader.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Query " + queryName + " failed", cause);
+            } catch (TimeoutException e) {
+                throw new UseCaseTimeoutException(String.format(
+                    "Timed out after %d ms waiting for identical %s in flight", maxWaitMillis, queryName), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UseCaseTimeoutException("Interrupted waiting for identical " + queryName + " in flight", e);
+            }
+        }
+    }
+    
+    private static final class DetachingInvocation implements UseCaseInvocation {
+        
+        private final List<ConcurrentMap<Object, CompletableFuture<Object>>> detached;
+        private final UseCaseInvocation next;
+        
+        DetachingInvocation(List<ConcurrentMap<Object, CompletableFuture<Object>>> detached, UseCaseInvocation next) {
+            this.detached = detached;
+            this.next = next;
+        }
+        
+        @Override
+        public <TResponse> TResponse proceed(UseCase<TResponse> command) {
+            TResponse result = next.proceed(command);
+            // Leaders keep running for their current waiters; later queries start a new execution
+            detached.forEach(ConcurrentMap::clear);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.core.infrastructure.dispatch.config;
+
+import com.example.core.infrastructure.dispatch.async.UseCaseAsyncExecutor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration for use case dispatching infrastructure.
+ */
+@Configuration
+@EnableConfigurationProperties(DispatcherProperties.class)
+public class DispatcherConfig {
+    
+    /**
+     * Executor for asynchronously dispatched use cases.
+     * Runs on a bounded platform thread pool, or on virtual threads when
+     * {@code app.dispatcher.async.mode=virtual} (Java 21 or later).
+     * The caller's security context is captured with each dispatched task, not by the executor.
+     * <p>
+     * The thread pool is owned by this bean rather than exposed as an {@code Executor} bean,
+     * which would replace Spring Boot's {@code applicationTaskExecutor} used by Spring MVC.
+     */
+    @Bean
+    public UseCaseAsyncExecutor useCaseAsyncExecutor(DispatcherProperties properties) {
+        DispatcherProperties.Async async = properties.getAsync();
+        if (async.getMode() == DispatcherProperties.Mode.VIRTUAL) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("usecase-vt-");
+            executor.setVirtualThreads(true);
+            return new UseCaseAsyncExecutor(executor, async::concurrencyLimitFor);
+        }
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("usecase-");
+        executor.setCorePoolSize(async.getCorePoolSize());
+        executor.setMaxPoolSize(async.getMaxPoolSize());
+        executor.setQueueCapacity(async.getQueueCapacity());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return new UseCaseAsyncExecutor(executor, async::concurrencyLimitFor);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.core.infrastructure.dispatch.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the use case dispatcher.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.dispatcher")
+public class DispatcherProperties {
+    
+    /**
+     * Whether startup fails when a use case in the application packages has no handler.
+     * Disable only where the classpath holds use cases that are never dispatched, such as test fixtures.
+     */
+    private boolean verifyHandlers = true;
+    
+    private Async async = new Async();
+    
+    private Admission admission = new Admission();
+    
+    /**
+     * Settings for {@code dispatchAsync}.
+     */
+    @Data
+    public static class Async {
+        
+        /**
+         * Thread type that runs asynchronously dispatched handlers.
+         */
+        private Mode mode = Mode.PLATFORM;
+        
+        /**
+         * Core size of the platform thread pool.
+         */
+        private int corePoolSize = 8;
+        
+        /**
+         * Maximum size of the platform thread pool.
+         */
+        private int maxPoolSize = 64;
+        
+        /**
+         * Queue capacity of the platform thread pool.
+         */
+        private int queueCapacity = 1000;
+        
+        /**
+         * Concurrency limit for use case types without an explicit limit; 0 or less means unlimited.
+         */
+        private int defaultConcurrencyLimit = 0;
+        
+        /**
+         * Concurrency limits keyed by use case simple class name, or fully qualified name in brackets.
+         */
+        private Map<String, Integer> concurrencyLimits = new HashMap<>();
+        
+        /**
+         * Gets the concurrency limit for a use case type.
+         */
+        public int concurrencyLimitFor(Class<?> useCaseType) {
+            Integer limit = concurrencyLimits.get(useCaseType.getSimpleName());
+            if (limit == null) {
+                limit = concurrencyLimits.get(useCaseType.getName());
+            }
+            return limit != null ? limit : defaultConcurrencyLimit;
+        }
+    }
+    
+    /**
+     * Admission control for commands: an adaptive concurrency limit and a bounded wait queue per command type.
+     */
+    @Data
+    public static class Admission {
+        
+        /**
+         * Whether commands are subject to admission control.
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Concurrency limit each command type starts with.
+         */
+        private int initialLimit = 20;
+        
+        /**
+         * Lowest concurrency limit the limit can shrink to.
+         */
+        private int minLimit = 1;
+        
+        /**
+         * Highest concurrency limit the limit can grow to.
+         */
+        private int maxLimit = 200;
+        
+        /**
+         * Maximum number of commands per type waiting for a slot; further commands are rejected at once.
+         */
+        private int queueCapacity = 50;
+        
+        /**
+         * Maximum time a command waits for a slot before it is rejected.
+         */
+        private Duration maxQueueWait = Duration.ofMillis(500);
+        
+        /**
+         * Handling latency above which the limit is reduced.
+         */
+        private Duration latencyThreshold = Duration.ofMillis(500);
+        
+        /**
+         * Factor the limit is multiplied by when it is reduced.
+         */
+        private double backoffRatio = 0.9;
+    }
+    
+    /**
+     * Thread type for asynchronous dispatch.
+     */
+    public enum Mode {
+        
+        /**
+         * Bounded pool of platform threads.
+         */
+        PLATFORM,
+        
+        /**
+         * One virtual thread per dispatch. Requires Java 21 or later.
+         */
+        VIRTUAL
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.core.infrastructure.dispatch.metrics;
+
+import com.example.core.application.command.Command;
+import com.example.core.application.query.Query;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseInvocation;
+import com.example.core.application.usecase.UseCasePipelineBehavior;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Outermost pipeline behavior recording latency, concurrency and errors for every use case type.
+ * <p>
+ * Meters are tagged with the use case class ({@code usecase}) and its kind ({@code command}, {@code query}
+ * or {@code usecase}), and are registered once per use case type when its pipeline is bound:
+ * <ul>
+ *   <li>{@code usecase.dispatch} - timer with a percentile histogram, for latency quantiles across instances</li>
+ *   <li>{@code usecase.dispatch.active} - gauge of use cases currently being handled</li>
+ *   <li>{@code usecase.dispatch.errors} - counter of failed use cases, additionally tagged by exception class</li>
+ * </ul>
+ * Successful dispatches only update atomic counters and histogram buckets, so recording neither
+ * allocates nor locks.
+ */
+@Component
+@Order(UseCaseMetricsBehavior.ORDER)
+public class UseCaseMetricsBehavior implements UseCasePipelineBehavior {
+    
+    /**
+     * Pipeline position: outermost, so the timings include every other behavior.
+     */
+    public static final int ORDER = 100;
+    
+    static final String TIMER_NAME = "usecase.dispatch";
+    static final String ACTIVE_NAME = "usecase.dispatch.active";
+    static final String ERRORS_NAME = "usecase.dispatch.errors";
+    
+    private final MeterRegistry meterRegistry;
+    
+    public UseCaseMetricsBehavior(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public UseCaseInvocation bind(Class<?> useCaseType, UseCaseInvocation next) {
+        return new MeteredInvocation(useCaseType, next);
+    }
+    
+    @Override
+    public <TResponse> TResponse handle(UseCase<TResponse> useCase, UseCaseInvocation next) {
+        // Per-type invocations are built in bind()
+        return next.proceed(useCase);
+    }
+    
+    static String kindOf(Class<?> useCaseType) {
+        if (Command.class.isAssignableFrom(useCaseType)) {
+            return "command";
+        }
+        if (Query.class.isAssignableFrom(useCaseType)) {
+            return "query";
+        }
+        return "usecase";
+    }
+    
+    private final class MeteredInvocation implements UseCaseInvocation {
+        
+        private final Tags tags;
+        private final Timer timer;
+        private final AtomicInteger active = new AtomicInteger();
+        private final UseCaseInvocation next;
+        
+        MeteredInvocation(Class<?> useCaseType, UseCaseInvocation next) {
+            this.tags = Tags.of("usecase", useCaseType.getSimpleName(), "kind", kindOf(useCaseType));
+            this.timer = Timer.builder(TIMER_NAME)
+                .description("Use case handling latency")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+            Gauge.builder(ACTIVE_NAME, active, AtomicInteger::get)
+                .description("Use cases currently being handled")
+                .tags(tags)
+                .register(meterRegistry);
+            this.next = next;
+        }
+        
+        @Override
+        public <TResponse> TResponse proceed(UseCase<TResponse> useCase) {
+            active.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                return next.proceed(useCase);
+            } catch (RuntimeException e) {
+                errorCounter(e).increment();
+                throw e;
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                active.decrementAndGet();
+            }
+        }
+        
+        private Counter errorCounter(RuntimeException e) {
+            // Registered lazily, since the exception types are only known when they occur
+            return Counter.builder(ERRORS_NAME)
+                .description("Use cases that failed with an exception")
+                .tags(tags)
+                .tag("exception", e.getClass().getSimpleName())
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.core.infrastructure.dispatch.routing;
+
+import com.example.core.application.usecase.BatchUseCaseHandler;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseBatch;
+import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.application.usecase.UseCaseInvocation;
+
+/**
+ * Terminal pipeline stage that calls the use case handler.
+ * A {@link UseCaseBatch} is passed to the handler's {@link BatchUseCaseHandler#handleAll(java.util.List)}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class HandlerInvocation implements UseCaseInvocation {
+    
+    private final UseCaseHandler handler;
+    
+    HandlerInvocation(UseCaseHandler<?, ?> handler) {
+        this.handler = handler;
+    }
+    
+    @Override
+    public <TResponse> TResponse proceed(UseCase<TResponse> useCase) {
+        if (useCase instanceof UseCaseBatch batch && handler instanceof BatchUseCaseHandler batchHandler) {
+            return (TResponse) batchHandler.handleAll(batch.getUseCases());
+        }
+        return (TResponse) handler.handle(useCase);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.core.infrastructure.dispatch.routing;
+
+import com.example.core.application.usecase.BatchUseCaseHandler;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseBatch;
+import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.application.usecase.UseCaseInvocation;
+import com.example.core.application.usecase.UseCaseResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolved dispatch target for a single concrete use case class.
+ * Instances are created once per use case class and cached by {@link UseCaseRoutingTable}.
+ * The pipeline behaviors that apply to the use case type are already bound into the invocation.
+ */
+public final class UseCaseRoute {
+    
+    private final Class<?> useCaseType;
+    private final UseCaseHandler<?, ?> handler;
+    private final UseCaseInvocation invocation;
+    
+    UseCaseRoute(Class<?> useCaseType, UseCaseHandler<?, ?> handler, UseCaseInvocation invocation) {
+        this.useCaseType = useCaseType;
+        this.handler = handler;
+        this.invocation = invocation;
+    }
+    
+    /**
+     * Invokes the pipeline and handler resolved for this route.
+     *
+     * @param useCase The use case to handle
+     * @param <TResponse> The response type
+     * @return The response from the handler
+     * @throws IllegalArgumentException if no handler is registered for the use case type
+     */
+    public <TResponse> TResponse invoke(UseCase<TResponse> useCase) {
+        requireHandler();
+        return invocation.proceed(useCase);
+    }
+    
+    /**
+     * Invokes the handler for a batch of use cases of this route's type.
+     * <p>
+     * A {@link BatchUseCaseHandler} receives the whole batch in one call, and the pipeline behaviors run
+     * once for the batch as a {@link UseCaseBatch}. Any other handler is invoked through the pipeline once per use case, and an exception thrown for
+     * one use case is recorded as its failed result.
+     *
+     * @param useCases The use cases to handle, all of this route's type
+     * @param <TResponse> The response type
+     * @return One result per use case, in the same order
+     * @throws IllegalArgumentException if no handler is registered for the use case type
+     * @throws IllegalStateException if a batch handler returns the wrong number of results
+     */
+    public <TResponse> List<UseCaseResult<TResponse>> invokeAll(List<? extends UseCase<TResponse>> useCases) {
+        requireHandler();
+        
+        if (handler instanceof BatchUseCaseHandler) {
+            List<UseCaseResult<TResponse>> results = invocation.proceed(new UseCaseBatch<>(useCases));
+            if (results.size() != useCases.size()) {
+                throw new IllegalStateException(String.format(
+                    "Batch handler for %s returned %d results for %d use cases",
+                    useCaseType.getSimpleName(), results.size(), useCases.size()));
+            }
+            return results;
+        }
+        
+        List<UseCaseResult<TResponse>> results = new ArrayList<>(useCases.size());
+        for (UseCase<TResponse> useCase : useCases) {
+            try {
+                results.add(UseCaseResult.success(invocation.proceed(useCase)));
+            } catch (RuntimeException e) {
+                results.add(UseCaseResult.failure(e));
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * Gets the concrete use case class this route was resolved for.
+     */
+    public Class<?> getUseCaseType() {
+        return useCaseType;
+    }
+    
+    /**
+     * Gets the resolved handler, or null if the use case type has no handler.
+     */
+    public UseCaseHandler<?, ?> getHandler() {
+        return handler;
+    }
+    
+    /**
+     * Checks if a handler was resolved for this route.
+     */
+    public boolean isRoutable() {
+        return handler != null;
+    }
+    
+    private void requireHandler() {
+        if (handler == null) {
+            throw new IllegalArgumentException(
+                "No handler found for use case: " + useCaseType.getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.core.infrastructure.dispatch.routing;
+
+import com.example.core.application.command.Command;
+import com.example.core.application.query.Query;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.application.usecase.UseCaseInvocation;
+import com.example.core.application.usecase.UseCasePipelineBehavior;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Routing table mapping use case classes to their handlers.
+ * <p>
+ * The use case type of each handler is resolved once at startup from the generic type arguments
+ * of {@link UseCaseHandler}. Routes are then computed lazily per concrete use case class and cached
+ * in a {@link ClassValue}, so dispatching does no map lookups or proxy unwrapping on the hot path.
+ * A use case class without a handler of its own resolves to the handler of its nearest superclass
+ * or, failing that, of one of its interfaces.
+ * <p>
+ * Each route also carries the {@link UseCasePipelineBehavior} chain for its use case type,
+ * bound once in order so that the first behavior is the outermost.
+ */
+public class UseCaseRoutingTable {
+    
+    private final Map<Class<?>, UseCaseHandler<?, ?>> handlers;
+    private final List<UseCasePipelineBehavior> behaviors;
+    
+    private final ClassValue<UseCaseRoute> routes = new ClassValue<>() {
+        @Override
+        protected UseCaseRoute computeValue(Class<?> useCaseType) {
+            return compileRoute(useCaseType);
+        }
+    };
+    
+    public UseCaseRoutingTable(Collection<? extends UseCaseHandler<?, ?>> handlers) {
+        this(handlers, List.of());
+    }
+    
+    public UseCaseRoutingTable(Collection<? extends UseCaseHandler<?, ?>> handlers,
+                               List<? extends UseCasePipelineBehavior> behaviors) {
+        Map<Class<?>, UseCaseHandler<?, ?>> registered = new LinkedHashMap<>();
+        for (UseCaseHandler<?, ?> handler : handlers) {
+            Class<?> useCaseType = resolveUseCaseType(handler);
+            UseCaseHandler<?, ?> existing = registered.putIfAbsent(useCaseType, handler);
+            if (existing != null) {
+                throw new IllegalStateException(String.format(
+                    "Duplicate handlers for use case %s: %s and %s",
+                    useCaseType.getName(),
+                    AopProxyUtils.ultimateTargetClass(existing).getName(),
+                    AopProxyUtils.ultimateTargetClass(handler).getName()));
+            }
+        }
+        this.handlers = Collections.unmodifiableMap(registered);
+        this.behaviors = List.copyOf(behaviors);
+    }
+    
+    /**
+     * Gets the route for a concrete use case class.
+     * Never returns null; use {@link UseCaseRoute#isRoutable()} to check for a handler.
+     *
+     * @param useCaseType The use case class
+     * @return The cached route
+     */
+    public UseCaseRoute routeFor(Class<?> useCaseType) {
+        return routes.get(useCaseType);
+    }
+    
+    /**
+     * Gets all registered handlers keyed by the use case type they declare.
+     */
+    public Map<Class<?>, UseCaseHandler<?, ?>> getHandlers() {
+        return handlers;
+    }
+    
+    /**
+     * Verifies that every given use case class resolves to a handler.
+     *
+     * @param useCaseTypes The use case classes to check
+     * @throws IllegalStateException listing the use case classes without a handler
+     */
+    public void verifyRoutable(Collection<Class<?>> useCaseTypes) {
+        List<String> unhandled = useCaseTypes.stream()
+            .filter(type -> !routeFor(type).isRoutable())
+            .map(Class::getName)
+            .sorted()
+            .collect(Collectors.toList());
+        
+        if (!unhandled.isEmpty()) {
+            throw new IllegalStateException("No handlers registered for use cases: " + unhandled);
+        }
+    }
+    
+    /**
+     * Gets the pipeline behaviors in the order they wrap handling.
+     */
+    public List<UseCasePipelineBehavior> getBehaviors() {
+        return behaviors;
+    }
+    
+    private UseCaseRoute compileRoute(Class<?> useCaseType) {
+        UseCaseHandler<?, ?> handler = findHandler(useCaseType);
+        if (handler == null) {
+            return new UseCaseRoute(useCaseType, null, null);
+        }
+        
+        UseCaseInvocation invocation = new HandlerInvocation(handler);
+        for (int i = behaviors.size() - 1; i >= 0; i--) {
+            invocation = behaviors.get(i).bind(useCaseType, invocation);
+        }
+        return new UseCaseRoute(useCaseType, handler, invocation);
+    }
+    
+    private UseCaseHandler<?, ?> findHandler(Class<?> useCaseType) {
+        for (Class<?> type = useCaseType; type != null && type != Object.class; type = type.getSuperclass()) {
+            UseCaseHandler<?, ?> handler = handlers.get(type);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(useCaseType)) {
+            UseCaseHandler<?, ?> handler = handlers.get(type);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Resolves the use case type a handler declares through its {@code UseCaseHandler} type arguments.
+     *
+     * @param handler The handler, possibly a Spring proxy
+     * @return The declared use case type
+     * @throws IllegalStateException if the type argument cannot be resolved
+     */
+    static Class<?> resolveUseCaseType(UseCaseHandler<?, ?> handler) {
+        Class<?> handlerClass = AopProxyUtils.ultimateTargetClass(handler);
+        ResolvableType useCaseType = ResolvableType.forClass(handlerClass)
+            .as(UseCaseHandler.class)
+            .getGeneric(0);
+        
+        // An unbound type variable resolves to its bound, which is one of the base use case interfaces
+        Class<?> resolved = useCaseType.resolve();
+        if (resolved == null || resolved == UseCase.class || resolved == Command.class || resolved == Query.class
+                || !UseCase.class.isAssignableFrom(resolved)) {
+            throw new IllegalStateException(
+                "Could not resolve use case type for handler: " + handlerClass.getName()
+                    + ". Declare the use case as a type argument of UseCaseHandler.");
+        }
+        return resolved;
+    }
+}
@@ -2,9 +2,15 @@ package com.example.core.infrastructure.messaging.adapter;
 
 import com.example.core.domain.event.DomainEvent;
 import com.example.core.domain.event.DomainEventPublisher;
+import com.example.core.infrastructure.messaging.log.LogRecord;
+import com.example.core.infrastructure.messaging.log.MessageLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -13,6 +19,12 @@ import java.util.List;
  * Messaging adapter for publishing and consuming messages.
  * Currently uses Spring's ApplicationEventPublisher for internal events.
  * Can be extended to support external message brokers.
+ * <p>
+ * With a {@link MessageLog} ({@code app.messaging.log.enabled=true}), published messages and commands are
+ * serialized to JSON and appended durably to the log under their topic or destination, where consumer groups
+ * can read them. Without it they are only logged. Messages are partitioned by key, so messages with the same key
+ * are read in the order they were appended; domain events sent without a key are keyed by their aggregate.
+ * Unkeyed messages are spread across the partitions.
  */
 @Component
 public class MessagingAdapter implements DomainEventPublisher {
@@ -20,9 +32,19 @@ public class MessagingAdapter implements DomainEventPublisher {
     private static final Logger logger = LoggerFactory.getLogger(MessagingAdapter.class);
     
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final MessageLog messageLog;
+    private final ObjectMapper objectMapper;
     
     public MessagingAdapter(ApplicationEventPublisher applicationEventPublisher) {
+        this(applicationEventPublisher, null, null);
+    }
+    
+    @Autowired
+    public MessagingAdapter(ApplicationEventPublisher applicationEventPublisher,
+                            @Nullable MessageLog messageLog, @Nullable ObjectMapper objectMapper) {
         this.applicationEventPublisher = applicationEventPublisher;
+        this.messageLog = messageLog;
+        this.objectMapper = objectMapper;
     }
     
     @Override
@@ -38,27 +60,68 @@ public class MessagingAdapter implements DomainEventPublisher {
     }
     
     /**
-     * Publish message to external message broker.
-     * This is a placeholder for future implementation.
+     * Publish message to the message log, when enabled.
+     * An external message broker can take its place in the future,
+     * for example: RabbitMQ, Apache Kafka, Azure Service Bus, etc.
      * 
      * @param topic The message topic/queue
      * @param message The message to publish
      */
     public void publishMessage(String topic, Object message) {
+        publishMessage(topic, defaultKey(message), message);
+    }
+    
+    /**
+     * Publish message to the message log under a key, when enabled.
+     * 
+     * @param topic The message topic/queue
+     * @param key Keeps messages with the same key in order; null spreads them
+     * @param message The message to publish
+     */
+    public void publishMessage(String topic, @Nullable Object key, Object message) {
         logger.info("Publishing message to topic {}: {}", topic, message.getClass().getSimpleName());
-        // Future: Implement external message broker publishing
-        // For example: RabbitMQ, Apache Kafka, Azure Service Bus, etc.
+        append(topic, key, message);
     }
     
     /**
-     * Send command message to external service.
-     * This is a placeholder for future implementation.
+     * Send command message to a destination topic of the message log, when enabled.
      * 
      * @param destination The destination service/queue
      * @param command The command to send
      */
     public void sendCommand(String destination, Object command) {
+        sendCommand(destination, defaultKey(command), command);
+    }
+    
+    /**
+     * Send command message to a destination topic of the message log under a key, when enabled.
+     * 
+     * @param destination The destination service/queue
+     * @param key Keeps commands with the same key in order; null spreads them
+     * @param command The command to send
+     */
+    public void sendCommand(String destination, @Nullable Object key, Object command) {
         logger.info("Sending command to {}: {}", destination, command.getClass().getSimpleName());
-        // Future: Implement command messaging
+        append(destination, key, command);
+    }
+    
+    @Nullable
+    private static Object defaultKey(Object message) {
+        return message instanceof DomainEvent event ? event.getAggregateId() : null;
+    }
+    
+    private void append(String topic, @Nullable Object key, Object message) {
+        if (messageLog == null) {
+            return;
+        }
+        
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize message " + message.getClass().getName(), e);
+        }
+        LogRecord record = messageLog.append(topic, key, message.getClass().getName(), payload);
+        logger.debug("Appended message to {}-{} at offset {}", topic, record.getPartition(), record.getOffset());
     }
 }
@@ -0,0 +1,127 @@
+package com.example.core.infrastructure.messaging.async;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.domain.event.DomainEventHandler;
+import com.example.core.infrastructure.messaging.deadletter.DeadLetter;
+import com.example.core.infrastructure.messaging.deadletter.DeadLetterStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs domain event handlers asynchronously, retrying failures with exponential backoff.
+ * <p>
+ * Each handler receives the events of one aggregate, as given by {@link DomainEvent#getAggregateId()},
+ * in the order they were submitted: invocations are partitioned by aggregate and handler, so different
+ * handlers and different aggregates proceed in parallel. A retry holds back later events of its partition
+ * until it succeeds or gives up. A handler that still fails after the last attempt has the event sent to
+ * the {@link DeadLetterStore}.
+ */
+@Slf4j
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class AsyncEventHandlerExecutor implements AutoCloseable {
+    
+    private final Executor executor;
+    private final PartitionedExecutor partitions;
+    private final DeadLetterStore deadLetterStore;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final double backoffMultiplier;
+    private final long maxBackoffMillis;
+    
+    /**
+     * @param executor Runs the handlers; bound it to limit how many run at once
+     * @param partitions Number of ordering partitions
+     * @param deadLetterStore Receives events whose handler failed on every attempt
+     * @param maxAttempts Number of attempts per handler, including the first
+     * @param initialBackoff Delay before the first retry
+     * @param backoffMultiplier Factor each further delay is multiplied by
+     * @param maxBackoff Upper bound for the delay between attempts
+     */
+    public AsyncEventHandlerExecutor(Executor executor, int partitions, DeadLetterStore deadLetterStore,
+                                     int maxAttempts, Duration initialBackoff, double backoffMultiplier,
+                                     Duration maxBackoff) {
+        this.executor = executor;
+        this.partitions = new PartitionedExecutor(executor, partitions);
+        this.deadLetterStore = deadLetterStore;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.backoffMultiplier = backoffMultiplier;
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+    
+    /**
+     * Schedules a handler for an event.
+     *
+     * @param handler The handler
+     * @param event The event
+     * @return A future that completes once the handler has succeeded or the event has been dead-lettered,
+     * and completes exceptionally only if the dead letter could not be stored
+     */
+    public CompletableFuture<Void> execute(DomainEventHandler<? extends DomainEvent> handler, DomainEvent event) {
+        Object aggregateId = event.getAggregateId();
+        if (aggregateId == null) {
+            return partitions.submit(() -> attempt(handler, event, 1));
+        }
+        int orderingKey = 31 * aggregateId.hashCode() + System.identityHashCode(handler);
+        return partitions.submit(orderingKey, () -> attempt(handler, event, 1));
+    }
+    
+    private CompletableFuture<Void> attempt(DomainEventHandler handler, DomainEvent event, int attempt) {
+        try {
+            handler.handle(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            if (attempt >= maxAttempts) {
+                return deadLetter(handler, event, attempt, e);
+            }
+            
+            long delay = backoffMillis(attempt);
+            log.warn("Handler {} failed on event {} {} (attempt {} of {}), retrying in {} ms: {}",
+                handlerName(handler), event.getEventType(), event.getEventId(), attempt, maxAttempts, delay, e.getMessage());
+            Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor);
+            return CompletableFuture.supplyAsync(() -> attempt(handler, event, attempt + 1), delayed)
+                .thenCompose(Function.identity());
+        }
+    }
+    
+    private CompletableFuture<Void> deadLetter(DomainEventHandler handler, DomainEvent event, int attempts,
+                                               RuntimeException failure) {
+        log.error("Handler {} failed on event {} {} after {} attempts, sending it to the dead-letter store",
+            handlerName(handler), event.getEventType(), event.getEventId(), attempts, failure);
+        try {
+            deadLetterStore.add(new DeadLetter(event, handlerName(handler), attempts, failure));
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            log.error("Could not store dead letter for event {}: {}", event.getEventId(), e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    long backoffMillis(int attempt) {
+        double delay = initialBackoffMillis * Math.pow(backoffMultiplier, attempt - 1);
+        return (long) Math.min(delay, maxBackoffMillis);
+    }
+    
+    private static String handlerName(DomainEventHandler<?> handler) {
+        return AopProxyUtils.ultimateTargetClass(handler).getName();
+    }
+    
+    /**
+     * Shuts down the handler executor, letting running handlers finish.
+     */
+    @Override
+    public void close() throws Exception {
+        if (executor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.core.infrastructure.messaging.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs asynchronous tasks on a shared executor while keeping tasks with the same ordering key in submission order.
+ * <p>
+ * Keys are hashed onto a fixed number of partitions. Each partition starts its next task only when the future
+ * returned by the previous one completes, so a task that waits, for example for a retry backoff, holds back
+ * later tasks of its partition without holding a thread. Tasks in different partitions run in parallel.
+ */
+public class PartitionedExecutor {
+    
+    private final Executor executor;
+    private final Partition[] partitions;
+    
+    public PartitionedExecutor(Executor executor, int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("At least one partition is required");
+        }
+        this.executor = executor;
+        this.partitions = new Partition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = new Partition();
+        }
+    }
+    
+    /**
+     * Submits a task that runs after all earlier tasks with an ordering key in the same partition.
+     *
+     * @param orderingKey Hash of the key whose tasks must run in order
+     * @param task Starts the task and returns a future that completes when it is done
+     * @return A future completing with the task's future
+     */
+    public CompletableFuture<Void> submit(int orderingKey, Supplier<CompletableFuture<Void>> task) {
+        int spread = orderingKey ^ (orderingKey >>> 16);
+        return partitions[Math.floorMod(spread, partitions.length)].enqueue(task, executor);
+    }
+    
+    /**
+     * Submits a task with no ordering constraint.
+     *
+     * @param task Starts the task and returns a future that completes when it is done
+     * @return A future completing with the task's future
+     */
+    public CompletableFuture<Void> submit(Supplier<CompletableFuture<Void>> task) {
+        return CompletableFuture.supplyAsync(task, executor).thenCompose(Function.identity());
+    }
+    
+    private static final class Partition {
+        
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+        
+        synchronized CompletableFuture<Void> enqueue(Supplier<CompletableFuture<Void>> task, Executor executor) {
+            // A failed task must not stop the partition, so the next task waits for completion of either kind
+            CompletableFuture<Void> next = tail
+                .handle((result, failure) -> null)
+                .thenComposeAsync(ignored -> task.get(), executor);
+            tail = next;
+            return next;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.core.infrastructure.messaging.bus;
+
+import com.example.core.domain.event.DomainEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded ring buffer of domain events for many producers and a single consumer.
+ * <p>
+ * Slots are preallocated, so publishing allocates nothing. Producers claim a sequence number with a CAS,
+ * store the event in the slot for that sequence and then mark the slot as published with the sequence itself.
+ * The consumer reads published slots in sequence order and releases a whole batch of them with one write
+ * of its consumed sequence. A producer cannot claim a slot the consumer has not released, which is what makes
+ * a full buffer push back on publishers.
+ */
+public class EventRingBuffer {
+    
+    private final DomainEvent[] entries;
+    private final AtomicLongArray published;
+    private final int mask;
+    
+    // Last sequence claimed by a producer
+    private final AtomicLong claimed = new AtomicLong(-1);
+    
+    // Last sequence released by the consumer
+    private final AtomicLong consumed = new AtomicLong(-1);
+    
+    /**
+     * @param capacity Number of slots; must be a power of two
+     */
+    public EventRingBuffer(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two: " + capacity);
+        }
+        this.entries = new DomainEvent[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+    }
+    
+    /**
+     * Publishes an event if a slot is free.
+     *
+     * @param event The event to publish
+     * @return true if the event was published, false if the buffer is full
+     */
+    public boolean offer(DomainEvent event) {
+        long sequence;
+        do {
+            sequence = claimed.get() + 1;
+            if (sequence - entries.length > consumed.get()) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence - 1, sequence));
+        
+        int index = (int) sequence & mask;
+        entries[index] = event;
+        published.set(index, sequence);
+        return true;
+    }
+    
+    /**
+     * Hands published events to the consumer in sequence order. Must only be called by the consumer thread.
+     *
+     * @param consumer Receives each event
+     * @param maxBatch Maximum number of events to hand over
+     * @return The number of events handed over
+     */
+    public int drainTo(Consumer<DomainEvent> consumer, int maxBatch) {
+        long first = consumed.get() + 1;
+        long next = first;
+        while (next - first < maxBatch) {
+            int index = (int) next & mask;
+            if (published.get(index) != next) {
+                break;
+            }
+            DomainEvent event = entries[index];
+            entries[index] = null;
+            consumer.accept(event);
+            next++;
+        }
+        
+        if (next != first) {
+            // One release for the whole batch
+            consumed.set(next - 1);
+        }
+        return (int) (next - first);
+    }
+    
+    /**
+     * Checks if the next event for the consumer has been published.
+     */
+    public boolean hasAvailable() {
+        long next = consumed.get() + 1;
+        return published.get((int) next & mask) == next;
+    }
+    
+    /**
+     * Gets the number of claimed events the consumer has not released yet.
+     */
+    public long size() {
+        return claimed.get() - consumed.get();
+    }
+    
+    /**
+     * Gets the number of slots.
+     */
+    public int capacity() {
+        return entries.length;
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.core.infrastructure.messaging.bus;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.domain.event.DomainEventHandler;
+import com.example.core.domain.event.DomainEventPublisher;
+import com.example.core.infrastructure.messaging.routing.EventHandlerRoutingTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * In-process domain event bus for high-rate fan-out, built on one {@link EventRingBuffer} per partition.
+ * <p>
+ * Publishing only places the event in the ring buffer of its partition, chosen by the event's aggregate id,
+ * so events of one aggregate keep their order; events without an aggregate id go to a random partition.
+ * Each partition has one consumer thread that takes events off its buffer in batches and hands them to
+ * their handlers, resolved through an {@link EventHandlerRoutingTable}. A failing handler is logged and skipped.
+ * An idle consumer waits according to its {@link WaitStrategy}.
+ * <p>
+ * When a partition's buffer is full, publishers wait for space up to the configured time and then get a
+ * {@link RejectedExecutionException}; a zero wait rejects at once. Events are held in memory only, so they
+ * are lost if the application crashes; use the transactional outbox for events that must not be lost.
+ * Stopping the bus rejects further events and lets the consumers handle what is already buffered.
+ */
+@Slf4j
+@SuppressWarnings("unchecked")
+public class RingBufferEventBus implements DomainEventPublisher, SmartLifecycle {
+    
+    private static final int PUBLISH_SPINS = 100;
+    private static final long PUBLISH_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    
+    private final EventHandlerRoutingTable routingTable;
+    private final Partition[] partitions;
+    private final int batchSize;
+    private final long maxPublishWaitNanos;
+    private final Consumer<DomainEvent> deliverer = this::deliver;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    
+    private volatile boolean running;
+    private volatile boolean stopped;
+    
+    /**
+     * @param handlers The event handlers
+     * @param partitions Number of partitions, each with its own ring buffer and consumer thread
+     * @param bufferSize Ring buffer slots per partition; must be a power of two
+     * @param batchSize Maximum number of events a consumer takes off its buffer at once
+     * @param waitStrategy How idle consumers wait for events
+     * @param maxPublishWait How long a publisher waits for space in a full buffer before the event is rejected
+     */
+    public RingBufferEventBus(List<? extends DomainEventHandler<? extends DomainEvent>> handlers, int partitions,
+                              int bufferSize, int batchSize, WaitStrategy.Type waitStrategy, Duration maxPublishWait) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Event bus needs at least one partition: " + partitions);
+        }
+        this.routingTable = new EventHandlerRoutingTable(handlers);
+        this.partitions = new Partition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = new Partition(new EventRingBuffer(bufferSize), waitStrategy.create());
+        }
+        this.batchSize = batchSize;
+        this.maxPublishWaitNanos = maxPublishWait.toNanos();
+    }
+    
+    @Override
+    public void publish(DomainEvent event) {
+        if (stopped) {
+            throw new RejectedExecutionException("Event bus is stopped");
+        }
+        
+        Partition partition = partitions[partitionOf(event)];
+        if (!partition.buffer.offer(event)) {
+            awaitSpace(partition, event);
+        }
+        partition.waitStrategy.signal();
+    }
+    
+    @Override
+    public void publishAll(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            publish(event);
+        }
+    }
+    
+    /**
+     * Gets the number of events published but not yet handled, across all partitions.
+     */
+    public long getBacklog() {
+        long backlog = 0;
+        for (Partition partition : partitions) {
+            backlog += partition.buffer.size();
+        }
+        return backlog;
+    }
+    
+    /**
+     * Gets the number of events rejected because their partition stayed full.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+    
+    /**
+     * Gets the number of handler invocations that failed.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+    
+    private int partitionOf(DomainEvent event) {
+        if (partitions.length == 1) {
+            return 0;
+        }
+        Object aggregateId = event.getAggregateId();
+        if (aggregateId == null) {
+            return ThreadLocalRandom.current().nextInt(partitions.length);
+        }
+        int hash = aggregateId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), partitions.length);
+    }
+    
+    private void awaitSpace(Partition partition, DomainEvent event) {
+        long deadline = System.nanoTime() + maxPublishWaitNanos;
+        int rounds = 0;
+        do {
+            if (stopped || System.nanoTime() - deadline >= 0) {
+                rejected.increment();
+                throw new RejectedExecutionException(stopped ? "Event bus is stopped"
+                    : "Event bus partition is full, rejected " + event.getClass().getSimpleName());
+            }
+            // The consumer may be parked while publishers of this partition outpace it
+            partition.waitStrategy.signal();
+            if (rounds++ < PUBLISH_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PUBLISH_PARK_NANOS);
+            }
+        } while (!partition.buffer.offer(event));
+    }
+    
+    private void consume(Partition partition) {
+        try {
+            while (true) {
+                if (partition.buffer.drainTo(deliverer, batchSize) > 0) {
+                    continue;
+                }
+                // Once stopped, leave only after everything claimed before the stop has been handled
+                if (!running && partition.buffer.size() == 0) {
+                    return;
+                }
+                partition.waitStrategy.await(() -> !running || partition.buffer.hasAvailable());
+            }
+        } catch (InterruptedException e) {
+            log.warn("Event bus consumer interrupted with {} events left", partition.buffer.size());
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void deliver(DomainEvent event) {
+        for (DomainEventHandler<? extends DomainEvent> handler : routingTable.handlersFor(event.getClass())) {
+            try {
+                ((DomainEventHandler) handler).handle(event);
+            } catch (Exception e) {
+                failed.increment();
+                log.error("Error handling event {} with handler {}: {}",
+                    event.getClass().getSimpleName(),
+                    handler.getClass().getSimpleName(),
+                    e.getMessage(), e);
+            }
+        }
+    }
+    
+    @Override
+    public synchronized void start() {
+        if (running || stopped) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < partitions.length; i++) {
+            Partition partition = partitions[i];
+            partition.consumer = new Thread(() -> consume(partition), "event-bus-" + i);
+            partition.consumer.setDaemon(true);
+            partition.consumer.start();
+        }
+        log.info("Started event bus with {} partitions of {} slots", partitions.length, partitions[0].buffer.capacity());
+    }
+    
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        stopped = true;
+        running = false;
+        for (Partition partition : partitions) {
+            partition.waitStrategy.signal();
+        }
+        try {
+            for (Partition partition : partitions) {
+                partition.consumer.join(TimeUnit.SECONDS.toMillis(10));
+                if (partition.consumer.isAlive()) {
+                    partition.consumer.interrupt();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Stopped event bus with {} events left unhandled", getBacklog());
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    private static final class Partition {
+        
+        final EventRingBuffer buffer;
+        final WaitStrategy waitStrategy;
+        Thread consumer;
+        
+        Partition(EventRingBuffer buffer, WaitStrategy waitStrategy) {
+            this.buffer = buffer;
+            this.waitStrategy = waitStrategy;
+        }
+    }
+}
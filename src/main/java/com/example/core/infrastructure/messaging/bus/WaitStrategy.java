@@ -0,0 +1,150 @@
+package com.example.core.infrastructure.messaging.bus;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * How an event bus consumer waits for events when its ring buffer is empty.
+ * One instance belongs to one consumer.
+ */
+public interface WaitStrategy {
+    
+    /**
+     * Waits until the condition holds. May return early; callers check again.
+     *
+     * @param ready Tells whether the consumer has work or must stop
+     * @throws InterruptedException if the consumer thread is interrupted
+     */
+    void await(BooleanSupplier ready) throws InterruptedException;
+    
+    /**
+     * Wakes the consumer after an event was published or the bus was stopped.
+     */
+    default void signal() {
+    }
+    
+    /**
+     * Available wait strategies, from lowest latency and highest CPU use to the reverse.
+     */
+    enum Type {
+        
+        /**
+         * Spins on the CPU. Lowest latency; keeps one core busy per consumer.
+         */
+        BUSY_SPIN,
+        
+        /**
+         * Spins briefly, then yields the CPU to other threads.
+         */
+        YIELDING,
+        
+        /**
+         * Spins, yields, then sleeps in short naps. Adds up to the nap length to latency when idle.
+         */
+        SLEEPING,
+        
+        /**
+         * Parks on a condition that publishers signal. Uses no CPU when idle.
+         */
+        BLOCKING;
+        
+        /**
+         * Creates a new wait strategy of this type.
+         */
+        public WaitStrategy create() {
+            switch (this) {
+                case BUSY_SPIN:
+                    return ready -> {
+                        while (!ready.getAsBoolean()) {
+                            Thread.onSpinWait();
+                        }
+                    };
+                case YIELDING:
+                    return new BackoffWaitStrategy(100, Long.MAX_VALUE, 0);
+                case SLEEPING:
+                    return new BackoffWaitStrategy(100, 100, TimeUnit.MICROSECONDS.toNanos(100));
+                case BLOCKING:
+                    return new BlockingWaitStrategy();
+                default:
+                    throw new IllegalStateException("Unknown wait strategy: " + this);
+            }
+        }
+    }
+    
+    /**
+     * Spins, then yields, then parks for a fixed time between checks.
+     */
+    final class BackoffWaitStrategy implements WaitStrategy {
+        
+        private final int spins;
+        private final long yields;
+        private final long parkNanos;
+        
+        BackoffWaitStrategy(int spins, long yields, long parkNanos) {
+            this.spins = spins;
+            this.yields = yields;
+            this.parkNanos = parkNanos;
+        }
+        
+        @Override
+        public void await(BooleanSupplier ready) throws InterruptedException {
+            long rounds = 0;
+            while (!ready.getAsBoolean()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (rounds < spins) {
+                    Thread.onSpinWait();
+                } else if (rounds - spins < yields) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(parkNanos);
+                }
+                rounds++;
+            }
+        }
+    }
+    
+    /**
+     * Parks the consumer on a condition. Publishers take the lock only while the consumer is parked.
+     */
+    final class BlockingWaitStrategy implements WaitStrategy {
+        
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private volatile boolean waiting;
+        
+        @Override
+        public void await(BooleanSupplier ready) throws InterruptedException {
+            if (ready.getAsBoolean()) {
+                return;
+            }
+            lock.lock();
+            try {
+                // Announce the wait before checking again, so a publisher either sees the flag or the check sees its event
+                waiting = true;
+                while (!ready.getAsBoolean()) {
+                    notEmpty.await();
+                }
+            } finally {
+                waiting = false;
+                lock.unlock();
+            }
+        }
+        
+        @Override
+        public void signal() {
+            if (waiting) {
+                lock.lock();
+                try {
+                    notEmpty.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
@@ -1,14 +1,191 @@
 package com.example.core.infrastructure.messaging.config;
 
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.domain.event.DomainEventHandler;
+import com.example.core.domain.event.DomainEventPublisher;
+import com.example.core.infrastructure.messaging.async.AsyncEventHandlerExecutor;
+import com.example.core.infrastructure.messaging.bus.RingBufferEventBus;
+import com.example.core.infrastructure.messaging.deadletter.DeadLetterStore;
+import com.example.core.infrastructure.messaging.deadletter.JdbcDeadLetterStore;
+import com.example.core.infrastructure.messaging.log.MessageLog;
+import com.example.core.infrastructure.messaging.outbox.OutboxDomainEventPublisher;
+import com.example.core.infrastructure.messaging.outbox.OutboxEventSerializer;
+import com.example.core.infrastructure.messaging.outbox.OutboxRelay;
+import com.example.core.infrastructure.messaging.outbox.OutboxStore;
+import com.example.core.infrastructure.messaging.publisher.SpringDomainEventPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuration for messaging infrastructure.
  * This can be extended to include message brokers like RabbitMQ, Apache Kafka, etc.
+ * <p>
+ * The primary {@link DomainEventPublisher} is the transactional outbox unless
+ * {@code app.messaging.outbox.enabled=false}, in which case events go straight to
+ * {@link SpringDomainEventPublisher}.
  */
 @Configuration
+@EnableConfigurationProperties(MessagingProperties.class)
 public class MessagingConfig {
     
-    // Future: Add message broker configurations here
-    // For example: RabbitMQ, Apache Kafka, Azure Service Bus, etc.
+    @Bean
+    public OutboxEventSerializer outboxEventSerializer(ObjectMapper objectMapper) {
+        return new OutboxEventSerializer(objectMapper);
+    }
+    
+    /**
+     * Publishes domain events straight to their handlers when the outbox is disabled.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.messaging.outbox", name = "enabled", havingValue = "false")
+    public DomainEventPublisher directDomainEventPublisher(SpringDomainEventPublisher handlerPublisher) {
+        return handlerPublisher;
+    }
+    
+    /**
+     * In-process event bus for high-rate events, injected as {@link RingBufferEventBus} by the code that
+     * publishes them. It is not the primary publisher, so domain events keep going through the outbox.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.messaging.bus", name = "enabled", havingValue = "true")
+    public RingBufferEventBus ringBufferEventBus(List<DomainEventHandler<? extends DomainEvent>> eventHandlers,
+                                                 MessagingProperties properties,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        MessagingProperties.Bus bus = properties.getBus();
+        RingBufferEventBus eventBus = new RingBufferEventBus(eventHandlers, bus.getPartitions(), bus.getBufferSize(),
+            bus.getBatchSize(), bus.getWaitStrategy(), bus.getMaxPublishWait());
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("domain.events.bus.backlog", eventBus, RingBufferEventBus::getBacklog)
+                .description("Events published to the event bus but not yet handled")
+                .register(registry);
+            FunctionCounter.builder("domain.events.bus.rejected", eventBus, RingBufferEventBus::getRejectedCount)
+                .description("Events rejected because the event bus was full")
+                .register(registry);
+            FunctionCounter.builder("domain.events.bus.failed", eventBus, RingBufferEventBus::getFailedCount)
+                .description("Event bus handler invocations that failed")
+                .register(registry);
+        });
+        return eventBus;
+    }
+    
+    /**
+     * Durable local message log that {@code MessagingAdapter} appends published messages and commands to.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.messaging.log", name = "enabled", havingValue = "true")
+    public MessageLog messageLog(MessagingProperties properties) {
+        MessagingProperties.Log log = properties.getLog();
+        return new MessageLog(Path.of(log.getDirectory()), log.getPartitions(), (int) log.getSegmentSize().toBytes(),
+            log.getMaxSegments(), log.getFsync(), log.getFsyncInterval());
+    }
+    
+    /**
+     * Transactional outbox for domain events.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.messaging.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class OutboxConfiguration {
+        
+        @Bean
+        public OutboxStore outboxStore(JdbcTemplate jdbcTemplate, MessagingProperties properties) {
+            OutboxStore store = new OutboxStore(jdbcTemplate);
+            if (properties.isInitializeSchema()) {
+                store.initializeSchema();
+            }
+            return store;
+        }
+        
+        /**
+         * Stores domain events in the outbox within the publishing transaction.
+         */
+        @Bean
+        @Primary
+        public OutboxDomainEventPublisher outboxDomainEventPublisher(OutboxStore store, OutboxEventSerializer serializer) {
+            return new OutboxDomainEventPublisher(store, serializer);
+        }
+        
+        /**
+         * Relays stored domain events to their handlers through {@link SpringDomainEventPublisher}.
+         */
+        @Bean
+        public OutboxRelay outboxRelay(OutboxStore store, OutboxEventSerializer serializer,
+                                       SpringDomainEventPublisher handlerPublisher, MessagingProperties properties) {
+            MessagingProperties.Outbox outbox = properties.getOutbox();
+            return new OutboxRelay(store, serializer, handlerPublisher,
+                outbox.getPollInterval(), outbox.getBatchSize(), outbox.getMaxAttempts(), outbox.getLease(),
+                outbox.getDeliveryTimeout(), outbox.getRetryBackoff(), outbox.getMaxRetryBackoff());
+        }
+    }
+    
+    /**
+     * Asynchronous domain event handlers with retries and a dead-letter table.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.messaging.handlers.async", name = "enabled", havingValue = "true")
+    static class AsyncHandlersConfiguration {
+        
+        @Bean
+        public JdbcDeadLetterStore deadLetterStore(JdbcTemplate jdbcTemplate, OutboxEventSerializer serializer,
+                                                   MessagingProperties properties) {
+            JdbcDeadLetterStore store = new JdbcDeadLetterStore(jdbcTemplate, serializer);
+            if (properties.isInitializeSchema()) {
+                store.initializeSchema();
+            }
+            return store;
+        }
+        
+        /**
+         * Runs handlers on a bounded platform thread pool, or on virtual threads up to the same limit when
+         * {@code app.messaging.handlers.async.mode=virtual} (Java 21 or later). When the pool queue is full
+         * the publishing thread runs the handler itself, which slows publishers down instead of dropping events.
+         * <p>
+         * The thread pool is owned by this bean rather than exposed as an {@code Executor} bean,
+         * which would replace Spring Boot's {@code applicationTaskExecutor} used by Spring MVC.
+         */
+        @Bean(destroyMethod = "close")
+        public AsyncEventHandlerExecutor asyncEventHandlerExecutor(MessagingProperties properties,
+                                                                   DeadLetterStore deadLetterStore) {
+            MessagingProperties.Async async = properties.getHandlers().getAsync();
+            MessagingProperties.Retry retry = properties.getHandlers().getRetry();
+            return new AsyncEventHandlerExecutor(handlerExecutor(async), async.getPartitions(), deadLetterStore,
+                retry.getMaxAttempts(), retry.getInitialBackoff(), retry.getMultiplier(), retry.getMaxBackoff());
+        }
+        
+        private static Executor handlerExecutor(MessagingProperties.Async async) {
+            if (async.getMode() == MessagingProperties.Mode.VIRTUAL) {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("event-vt-");
+                executor.setVirtualThreads(true);
+                executor.setConcurrencyLimit(async.getMaxPoolSize());
+                return executor;
+            }
+            
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setThreadNamePrefix("event-handler-");
+            executor.setCorePoolSize(async.getCorePoolSize());
+            executor.setMaxPoolSize(async.getMaxPoolSize());
+            executor.setQueueCapacity(async.getQueueCapacity());
+            executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.setWaitForTasksToCompleteOnShutdown(true);
+            executor.setAwaitTerminationSeconds(10);
+            executor.initialize();
+            return executor;
+        }
+    }
 }
@@ -0,0 +1,250 @@
+package com.example.core.infrastructure.messaging.config;
+
+import com.example.core.infrastructure.messaging.bus.WaitStrategy;
+import com.example.core.infrastructure.messaging.log.FsyncPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for messaging and domain event delivery.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.messaging")
+public class MessagingProperties {
+    
+    /**
+     * Whether the outbox and dead-letter tables are created at startup if they do not exist.
+     */
+    private boolean initializeSchema = true;
+    
+    private Outbox outbox = new Outbox();
+    
+    private Handlers handlers = new Handlers();
+    
+    private Bus bus = new Bus();
+    
+    private Log log = new Log();
+    
+    /**
+     * Transactional outbox for domain events: events are stored in the publishing transaction
+     * and relayed to their handlers in the background.
+     */
+    @Data
+    public static class Outbox {
+        
+        /**
+         * Whether domain events go through the outbox; when disabled they are handled synchronously on publish.
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Delay between relay polls once the outbox has been drained.
+         */
+        private Duration pollInterval = Duration.ofMillis(200);
+        
+        /**
+         * Maximum number of events the relay reads and dispatches per batch.
+         */
+        private int batchSize = 100;
+        
+        /**
+         * Number of failed relay attempts after which an event is left in the outbox for inspection.
+         */
+        private int maxAttempts = 10;
+        
+        /**
+         * How long a relayed batch is withheld from the relays of other instances; must exceed the time
+         * it takes to handle a batch, or the batch is relayed twice.
+         */
+        private Duration lease = Duration.ofMinutes(1);
+        
+        /**
+         * How long the relay waits for the handlers of a batch; events whose handlers have not finished by then
+         * count as failed. Should be well below the lease.
+         */
+        private Duration deliveryTimeout = Duration.ofSeconds(30);
+        
+        /**
+         * Delay before a failed event is relayed again; doubles with each further attempt.
+         */
+        private Duration retryBackoff = Duration.ofSeconds(1);
+        
+        /**
+         * Upper bound for the delay before a failed event is relayed again.
+         */
+        private Duration maxRetryBackoff = Duration.ofMinutes(5);
+    }
+    
+    /**
+     * Execution of domain event handlers.
+     */
+    @Data
+    public static class Handlers {
+        
+        private Async async = new Async();
+        
+        private Retry retry = new Retry();
+    }
+    
+    /**
+     * Asynchronous handler execution; when disabled, handlers run one after another on the publishing thread.
+     */
+    @Data
+    public static class Async {
+        
+        /**
+         * Whether handlers run asynchronously, in parallel and with retries.
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Thread type that runs the handlers.
+         */
+        private Mode mode = Mode.PLATFORM;
+        
+        /**
+         * Core size of the platform thread pool.
+         */
+        private int corePoolSize = 4;
+        
+        /**
+         * Maximum size of the platform thread pool, or the concurrency limit for virtual threads.
+         */
+        private int maxPoolSize = 16;
+        
+        /**
+         * Queue capacity of the platform thread pool; when full, the publishing thread runs the handler itself.
+         */
+        private int queueCapacity = 1000;
+        
+        /**
+         * Number of partitions that keep the events of one aggregate in order.
+         */
+        private int partitions = 64;
+    }
+    
+    /**
+     * Retries of failed asynchronous handlers before the event is dead-lettered.
+     */
+    @Data
+    public static class Retry {
+        
+        /**
+         * Number of attempts per handler, including the first.
+         */
+        private int maxAttempts = 3;
+        
+        /**
+         * Delay before the first retry.
+         */
+        private Duration initialBackoff = Duration.ofMillis(100);
+        
+        /**
+         * Factor each further delay is multiplied by.
+         */
+        private double multiplier = 2.0;
+        
+        /**
+         * Upper bound for the delay between attempts.
+         */
+        private Duration maxBackoff = Duration.ofSeconds(5);
+    }
+    
+    /**
+     * In-process ring buffer event bus for high-rate events that may be lost on a crash.
+     */
+    @Data
+    public static class Bus {
+        
+        /**
+         * Whether the event bus is created.
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Number of partitions, each with its own ring buffer and consumer thread.
+         */
+        private int partitions = 4;
+        
+        /**
+         * Ring buffer slots per partition; must be a power of two.
+         */
+        private int bufferSize = 8192;
+        
+        /**
+         * Maximum number of events a consumer takes off its ring buffer at once.
+         */
+        private int batchSize = 256;
+        
+        /**
+         * How idle consumers wait for events.
+         */
+        private WaitStrategy.Type waitStrategy = WaitStrategy.Type.BLOCKING;
+        
+        /**
+         * How long a publisher waits for space in a full ring buffer before the event is rejected; zero rejects at once.
+         */
+        private Duration maxPublishWait = Duration.ofSeconds(1);
+    }
+    
+    /**
+     * Durable local message log behind {@code MessagingService.publishMessage} and {@code sendMessage}.
+     */
+    @Data
+    public static class Log {
+        
+        /**
+         * Whether published messages are appended to the log; when disabled they are only logged.
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Directory that holds the topics and consumer offsets; each application instance needs its own.
+         */
+        private String directory = "data/message-log";
+        
+        /**
+         * Number of partitions of a new topic.
+         */
+        private int partitions = 4;
+        
+        /**
+         * Size of a segment file; also the upper bound for a single message.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+        
+        /**
+         * Number of segments kept per partition; the oldest is deleted when a new one is started.
+         */
+        private int maxSegments = 16;
+        
+        /**
+         * When appended messages are forced to disk.
+         */
+        private FsyncPolicy fsync = FsyncPolicy.ALWAYS;
+        
+        /**
+         * Interval of background forcing with the interval fsync policy.
+         */
+        private Duration fsyncInterval = Duration.ofMillis(100);
+    }
+    
+    /**
+     * Thread type for asynchronous handlers.
+     */
+    public enum Mode {
+        
+        /**
+         * Bounded pool of platform threads.
+         */
+        PLATFORM,
+        
+        /**
+         * One virtual thread per handler invocation, up to the concurrency limit. Requires Java 21 or later.
+         */
+        VIRTUAL
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.core.infrastructure.messaging.deadletter;
+
+import com.example.core.domain.event.DomainEvent;
+import lombok.Value;
+
+/**
+ * A domain event that a handler failed to process after all retries.
+ */
+@Value
+public class DeadLetter {
+    
+    DomainEvent event;
+    
+    /**
+     * Class name of the handler that failed.
+     */
+    String handler;
+    
+    int attempts;
+    Throwable failure;
+}
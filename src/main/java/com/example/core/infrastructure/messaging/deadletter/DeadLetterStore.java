@@ -0,0 +1,14 @@
+package com.example.core.infrastructure.messaging.deadletter;
+
+/**
+ * Destination for domain events that handlers could not process.
+ */
+public interface DeadLetterStore {
+    
+    /**
+     * Stores a dead letter.
+     *
+     * @param deadLetter The failed event and handler
+     */
+    void add(DeadLetter deadLetter);
+}
@@ -0,0 +1,69 @@
+package com.example.core.infrastructure.messaging.deadletter;
+
+import com.example.core.infrastructure.messaging.outbox.OutboxEventSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Dead-letter store that keeps failed events in a database table, serialized like outbox messages,
+ * so they can be inspected and replayed.
+ */
+@Slf4j
+public class JdbcDeadLetterStore implements DeadLetterStore {
+    
+    static final String TABLE = "domain_event_dead_letter";
+    
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+        + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+        + "event_id VARCHAR(64) NOT NULL, "
+        + "event_type VARCHAR(255) NOT NULL, "
+        + "handler VARCHAR(255) NOT NULL, "
+        + "payload TEXT, "
+        + "attempts INT NOT NULL, "
+        + "error VARCHAR(1000), "
+        + "failed_at TIMESTAMP NOT NULL)";
+    
+    private static final String INSERT = "INSERT INTO " + TABLE
+        + " (event_id, event_type, handler, payload, attempts, error, failed_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final int MAX_ERROR_LENGTH = 1000;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxEventSerializer serializer;
+    
+    public JdbcDeadLetterStore(JdbcTemplate jdbcTemplate, OutboxEventSerializer serializer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.serializer = serializer;
+    }
+    
+    /**
+     * Creates the dead-letter table if it does not exist.
+     */
+    public void initializeSchema() {
+        jdbcTemplate.execute(CREATE_TABLE);
+    }
+    
+    @Override
+    public void add(DeadLetter deadLetter) {
+        String payload = null;
+        try {
+            payload = serializer.serialize(deadLetter.getEvent()).getPayload();
+        } catch (IllegalArgumentException e) {
+            // Keep the record without the payload rather than lose it
+            log.warn("Storing dead letter for event {} without payload: {}", deadLetter.getEvent().getEventId(), e.getMessage());
+        }
+        
+        String error = String.valueOf(deadLetter.getFailure());
+        jdbcTemplate.update(INSERT,
+            deadLetter.getEvent().getEventId(),
+            deadLetter.getEvent().getClass().getName(),
+            deadLetter.getHandler(),
+            payload,
+            deadLetter.getAttempts(),
+            error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+            Timestamp.from(Instant.now()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.core.infrastructure.messaging.log;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Committed read positions of consumer groups, one properties file per group.
+ * <p>
+ * A commit rewrites the group's file through a temporary file that is forced to disk and then moved
+ * over the old one, so a crash leaves either the old or the new offsets.
+ */
+final class ConsumerOffsets {
+    
+    private final Path directory;
+    private final Map<String, Properties> groups = new HashMap<>();
+    
+    ConsumerOffsets(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create consumer offset directory " + directory, e);
+        }
+    }
+    
+    /**
+     * Gets the committed offset of a group for a partition.
+     *
+     * @return The next offset the group reads, or 0 if the group has not committed one
+     */
+    synchronized long committed(String group, String topic, int partition) {
+        String offset = offsets(group).getProperty(key(topic, partition));
+        return offset != null ? Long.parseLong(offset) : 0;
+    }
+    
+    /**
+     * Commits offsets of a group for the partitions of a topic.
+     *
+     * @param offsets The next offset to read, indexed by partition
+     */
+    synchronized void commit(String group, String topic, long[] offsets) {
+        Properties properties = offsets(group);
+        for (int partition = 0; partition < offsets.length; partition++) {
+            properties.setProperty(key(topic, partition), Long.toString(offsets[partition]));
+        }
+        
+        Path file = file(group);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            properties.store(out, "Committed offsets of consumer group " + group);
+            channel.force(true);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot commit offsets of consumer group " + group, e);
+        }
+    }
+    
+    private Properties offsets(String group) {
+        return groups.computeIfAbsent(group, name -> {
+            Properties properties = new Properties();
+            Path file = file(name);
+            if (Files.exists(file)) {
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+                    properties.load(reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot read offsets of consumer group " + name, e);
+                }
+            }
+            return properties;
+        });
+    }
+    
+    private Path file(String group) {
+        return directory.resolve(group + ".properties");
+    }
+    
+    private static String key(String topic, int partition) {
+        return topic + "." + partition;
+    }
+}
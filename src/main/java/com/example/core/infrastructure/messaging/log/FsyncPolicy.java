@@ -0,0 +1,24 @@
+package com.example.core.infrastructure.messaging.log;
+
+/**
+ * When appended messages are forced from the page cache to disk.
+ * Messages written to the memory-mapped log survive a crash of the application in any case;
+ * the policy decides what survives a crash of the operating system or a power loss.
+ */
+public enum FsyncPolicy {
+    
+    /**
+     * Every append returns only once its message is on disk. Concurrent appends share one fsync (group commit).
+     */
+    ALWAYS,
+    
+    /**
+     * Messages are forced to disk in the background at a fixed interval, so up to one interval can be lost.
+     */
+    INTERVAL,
+    
+    /**
+     * Messages are forced to disk only when a segment is full and on shutdown; otherwise the operating system decides.
+     */
+    NEVER
+}
@@ -0,0 +1,220 @@
+package com.example.core.infrastructure.messaging.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * One partition of a topic: a directory of segments, of which only the newest is appended to.
+ * <p>
+ * A full segment is forced to disk and a new one started at the next offset; beyond the segment limit the
+ * oldest segment is deleted. Waiting for durability uses group commit: the first waiting appender forces
+ * everything written so far while later ones wait for it, so concurrent appends share one fsync.
+ */
+final class LogPartition {
+    
+    private final String topic;
+    private final int partition;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    
+    private final ConcurrentNavigableMap<Long, LogSegment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile LogSegment active;
+    
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private boolean syncing;
+    private long durableEndOffset;
+    
+    private LogPartition(String topic, int partition, Path directory, int segmentSize, int maxSegments) {
+        this.topic = topic;
+        this.partition = partition;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+    }
+    
+    /**
+     * Opens the partition directory, creating it if needed, and recovers its segments.
+     */
+    static LogPartition open(String topic, int partition, Path directory, int segmentSize, int maxSegments) {
+        LogPartition logPartition = new LogPartition(topic, partition, directory, segmentSize, maxSegments);
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(directory)) {
+                files = listing
+                    .filter(file -> file.getFileName().toString().endsWith(".log"))
+                    .sorted()
+                    .collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                long baseOffset = Long.parseLong(file.getFileName().toString().replace(".log", ""));
+                logPartition.segments.put(baseOffset, LogSegment.open(file, baseOffset, segmentSize));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open log partition " + directory, e);
+        }
+        
+        if (logPartition.segments.isEmpty()) {
+            logPartition.segments.put(0L, LogSegment.open(directory.resolve(LogSegment.fileName(0)), 0, segmentSize));
+        }
+        logPartition.active = logPartition.segments.lastEntry().getValue();
+        logPartition.durableEndOffset = logPartition.active.endOffset();
+        return logPartition;
+    }
+    
+    /**
+     * Appends a record.
+     *
+     * @return The offset of the record
+     */
+    long append(long timestamp, byte[] type, byte[] payload) {
+        if (!fitsEmptySegment(type.length, payload.length)) {
+            throw new IllegalArgumentException("Message of " + payload.length + " bytes does not fit into a log segment of "
+                + segmentSize + " bytes");
+        }
+        
+        appendLock.lock();
+        try {
+            if (!active.hasRoom(type.length, payload.length)) {
+                roll();
+            }
+            return active.append(timestamp, type, payload);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+    
+    /**
+     * Waits until all records below an offset are on disk, forcing them if no other thread is doing so.
+     */
+    void awaitDurable(long endOffset) {
+        syncLock.lock();
+        try {
+            while (durableEndOffset < endOffset) {
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+                
+                // Lead this round: force everything appended so far, outside the lock
+                syncing = true;
+                syncLock.unlock();
+                long forcedEndOffset = durableEndOffset;
+                try {
+                    forcedEndOffset = forceActive();
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    durableEndOffset = Math.max(durableEndOffset, forcedEndOffset);
+                    synced.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+    
+    /**
+     * Forces all records appended so far to disk.
+     */
+    void flush() {
+        awaitDurable(endOffset());
+    }
+    
+    /**
+     * Reads records from an offset on.
+     *
+     * @param offset The first offset to read; an offset before the oldest retained record reads from that record
+     * @param maxRecords Maximum number of records
+     * @return The records in offset order; empty if there are none at or after the offset
+     */
+    List<LogRecord> read(long offset, int maxRecords) {
+        long from = Math.max(offset, startOffset());
+        Map.Entry<Long, LogSegment> entry = segments.floorEntry(from);
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+        
+        List<LogRecord> records = new ArrayList<>(Math.min(maxRecords, 64));
+        LogSegment segment = entry.getValue();
+        long next = from;
+        while (records.size() < maxRecords) {
+            if (next < segment.endOffset()) {
+                records.add(segment.read(topic, partition, next++));
+            } else {
+                Map.Entry<Long, LogSegment> following = segments.higherEntry(segment.getBaseOffset());
+                if (following == null) {
+                    break;
+                }
+                segment = following.getValue();
+            }
+        }
+        return records;
+    }
+    
+    /**
+     * Gets the offset of the oldest retained record.
+     */
+    long startOffset() {
+        return segments.firstKey();
+    }
+    
+    /**
+     * Gets the offset the next appended record will get.
+     */
+    long endOffset() {
+        return active.endOffset();
+    }
+    
+    int getPartition() {
+        return partition;
+    }
+    
+    private boolean fitsEmptySegment(int typeLength, int payloadLength) {
+        return (long) LogSegment.HEADER_SIZE + LogSegment.BODY_OVERHEAD + typeLength + payloadLength <= segmentSize;
+    }
+    
+    private long forceActive() {
+        LogSegment segment;
+        long endOffset;
+        int position;
+        appendLock.lock();
+        try {
+            segment = active;
+            endOffset = segment.endOffset();
+            position = segment.getWritePosition();
+        } finally {
+            appendLock.unlock();
+        }
+        // Segments before it were forced when they were rolled
+        segment.force(position);
+        return endOffset;
+    }
+    
+    private void roll() {
+        active.force();
+        long baseOffset = active.endOffset();
+        LogSegment segment = LogSegment.open(directory.resolve(LogSegment.fileName(baseOffset)), baseOffset, segmentSize);
+        segments.put(baseOffset, segment);
+        active = segment;
+        
+        while (segments.size() > maxSegments) {
+            segments.pollFirstEntry().getValue().delete();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.core.infrastructure.messaging.log;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * A message stored in the message log, identified by its topic, partition and offset.
+ */
+@Value
+public class LogRecord {
+    
+    String topic;
+    int partition;
+    long offset;
+    Instant timestamp;
+    
+    /**
+     * Name of the message class the payload was serialized from.
+     */
+    String type;
+    
+    byte[] payload;
+}
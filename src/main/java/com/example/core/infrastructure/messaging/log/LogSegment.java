@@ -0,0 +1,204 @@
+package com.example.core.infrastructure.messaging.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped file of a log partition, holding consecutive records from its base offset on.
+ * <p>
+ * Each record is laid out as {@code [int length][int crc32c][long timestamp][short typeLength][type][payload]},
+ * where length and checksum cover everything after them. The file is preallocated, so a zero length marks
+ * the end of the records. On opening, records are checked up to the first bad checksum, which is where a
+ * crash left a partly written record, and everything from there on is cleared.
+ * <p>
+ * Appends are serialized by the owning partition. Readers may run concurrently and see records up to
+ * the published record count.
+ */
+final class LogSegment {
+    
+    static final int HEADER_SIZE = 8;
+    static final int BODY_OVERHEAD = 10;
+    
+    private final Path file;
+    private final long baseOffset;
+    private final MappedByteBuffer buffer;
+    
+    // Start position of each record; replaced when grown, always before recordCount is raised
+    private int[] positions = new int[1024];
+    private volatile int recordCount;
+    private int writePosition;
+    private int flushedPosition;
+    
+    private LogSegment(Path file, long baseOffset, MappedByteBuffer buffer) {
+        this.file = file;
+        this.baseOffset = baseOffset;
+        this.buffer = buffer;
+    }
+    
+    /**
+     * Opens a segment file, creating and preallocating it if it does not exist, and recovers its records.
+     *
+     * @param file The segment file
+     * @param baseOffset Offset of the first record in the segment
+     * @param size Size of a new segment file in bytes
+     */
+    static LogSegment open(Path file, long baseOffset, int size) {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            long length = Math.max(channel.size(), size);
+            LogSegment segment = new LogSegment(file, baseOffset, channel.map(FileChannel.MapMode.READ_WRITE, 0, length));
+            segment.recover();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open log segment " + file, e);
+        }
+    }
+    
+    /**
+     * Gets the segment file name for a base offset; names sort in offset order.
+     */
+    static String fileName(long baseOffset) {
+        return String.format("%020d.log", baseOffset);
+    }
+    
+    /**
+     * Checks if a record with the given type and payload fits into the remaining space.
+     */
+    boolean hasRoom(int typeLength, int payloadLength) {
+        return (long) writePosition + HEADER_SIZE + BODY_OVERHEAD + typeLength + payloadLength <= buffer.capacity();
+    }
+    
+    /**
+     * Appends a record; the caller has checked {@link #hasRoom(int, int)}.
+     *
+     * @return The offset of the record
+     */
+    long append(long timestamp, byte[] type, byte[] payload) {
+        int position = writePosition;
+        int length = BODY_OVERHEAD + type.length + payload.length;
+        int body = position + HEADER_SIZE;
+        
+        buffer.putLong(body, timestamp);
+        buffer.putShort(body + 8, (short) type.length);
+        buffer.put(body + BODY_OVERHEAD, type);
+        buffer.put(body + BODY_OVERHEAD + type.length, payload);
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(body, length));
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.putInt(position, length);
+        
+        writePosition = body + length;
+        int count = recordCount;
+        if (count == positions.length) {
+            positions = Arrays.copyOf(positions, count * 2);
+        }
+        positions[count] = position;
+        recordCount = count + 1;
+        return baseOffset + count;
+    }
+    
+    /**
+     * Reads the record at an offset of this segment; the offset must be below {@link #endOffset()}.
+     */
+    LogRecord read(String topic, int partition, long offset) {
+        // Reading the count first makes the record and its position visible
+        if (offset - baseOffset >= recordCount) {
+            throw new IllegalArgumentException("Offset " + offset + " is beyond the end of segment " + file);
+        }
+        int position = positions[(int) (offset - baseOffset)];
+        int length = buffer.getInt(position);
+        int body = position + HEADER_SIZE;
+        
+        long timestamp = buffer.getLong(body);
+        byte[] type = new byte[buffer.getShort(body + 8)];
+        buffer.get(body + BODY_OVERHEAD, type);
+        byte[] payload = new byte[length - BODY_OVERHEAD - type.length];
+        buffer.get(body + BODY_OVERHEAD + type.length, payload);
+        return new LogRecord(topic, partition, offset, Instant.ofEpochMilli(timestamp),
+            new String(type, StandardCharsets.UTF_8), payload);
+    }
+    
+    /**
+     * Forces the records written so far to disk.
+     */
+    synchronized void force() {
+        force(writePosition);
+    }
+    
+    /**
+     * Forces the bytes up to a position to disk, unless they already are.
+     */
+    synchronized void force(int position) {
+        if (position > flushedPosition) {
+            buffer.force(flushedPosition, position - flushedPosition);
+            flushedPosition = position;
+        }
+    }
+    
+    /**
+     * Deletes the segment file. Readers holding the segment can still read it until they let go of it.
+     */
+    void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete log segment " + file, e);
+        }
+    }
+    
+    long getBaseOffset() {
+        return baseOffset;
+    }
+    
+    /**
+     * Gets the offset the next record of this segment would get.
+     */
+    long endOffset() {
+        return baseOffset + recordCount;
+    }
+    
+    int getWritePosition() {
+        return writePosition;
+    }
+    
+    private void recover() {
+        int position = 0;
+        CRC32C crc = new CRC32C();
+        while (position + HEADER_SIZE + BODY_OVERHEAD <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length < BODY_OVERHEAD || position + HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.slice(position + HEADER_SIZE, length));
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            if (recordCount == positions.length) {
+                positions = Arrays.copyOf(positions, recordCount * 2);
+            }
+            positions[recordCount++] = position;
+            position += HEADER_SIZE + length;
+        }
+        
+        if (position + 4 <= buffer.capacity() && buffer.getInt(position) != 0) {
+            // A torn record; clear the rest so later appends cannot run into its leftovers
+            for (int i = position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        writePosition = position;
+        flushedPosition = position;
+    }
+}
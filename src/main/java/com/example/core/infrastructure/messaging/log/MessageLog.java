@@ -0,0 +1,261 @@
+package com.example.core.infrastructure.messaging.log;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Durable, local append-only message log with topics, partitions and consumer offsets, for publishing
+ * messages without an external broker.
+ * <p>
+ * Each topic is split into partitions, each stored as a directory of memory-mapped segment files under
+ * {@code <directory>/<topic>/<partition>/}. Messages with the same key go to the same partition and keep
+ * their order; messages without a key are spread over the partitions in turn. A topic gets its partition
+ * count when it is first used, and keeps it. How appends reach the disk is set by the {@link FsyncPolicy}.
+ * Consumer groups read through a {@link MessageLogConsumer} and commit their offsets under
+ * {@code <directory>/__consumer_offsets/}.
+ * <p>
+ * The directory is locked while the log is open, so only one application instance can use it.
+ */
+@Slf4j
+public class MessageLog implements AutoCloseable {
+    
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+    private static final String OFFSETS_DIRECTORY = "__consumer_offsets";
+    
+    private final Path directory;
+    private final int partitions;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final FsyncPolicy fsyncPolicy;
+    
+    private final ConcurrentMap<String, LogPartition[]> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger nextPartition = new AtomicInteger();
+    private final ConsumerOffsets offsets;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final ScheduledExecutorService flusher;
+    
+    /**
+     * Opens the log, creating its directory if it does not exist.
+     *
+     * @param directory Directory that holds the topics
+     * @param partitions Number of partitions of a new topic
+     * @param segmentSize Size of a segment file in bytes; bounds the size of a single message
+     * @param maxSegments Number of segments kept per partition; older ones are deleted
+     * @param fsyncPolicy When appended messages are forced to disk
+     * @param fsyncInterval Interval of background forcing under {@link FsyncPolicy#INTERVAL}
+     */
+    public MessageLog(Path directory, int partitions, int segmentSize, int maxSegments,
+                      FsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+        if (partitions < 1 || maxSegments < 1) {
+            throw new IllegalArgumentException("Message log needs at least one partition and one segment");
+        }
+        this.directory = directory;
+        this.partitions = partitions;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.fsyncPolicy = fsyncPolicy;
+        
+        try {
+            Files.createDirectories(directory);
+            this.lockChannel = FileChannel.open(directory.resolve(".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            this.lock = tryLock(lockChannel);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open message log " + directory, e);
+        }
+        if (lock == null) {
+            closeQuietly();
+            throw new IllegalStateException("Message log " + directory + " is in use by another process");
+        }
+        this.offsets = new ConsumerOffsets(directory.resolve(OFFSETS_DIRECTORY));
+        
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "message-log-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = fsyncInterval.toMillis();
+            flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+        log.info("Opened message log at {} with fsync policy {}", directory.toAbsolutePath(), fsyncPolicy);
+    }
+    
+    /**
+     * Appends a message to a topic.
+     *
+     * @param topic The topic
+     * @param key Selects the partition, so messages with equal keys stay in order; null spreads messages
+     * @param type Name of the message type, stored with the message for consumers
+     * @param payload The serialized message
+     * @return The stored record
+     */
+    public LogRecord append(String topic, @Nullable Object key, String type, byte[] payload) {
+        LogPartition[] topicPartitions = partitions(topic);
+        LogPartition partition = topicPartitions[partitionFor(key, topicPartitions.length)];
+        
+        long timestamp = System.currentTimeMillis();
+        long offset = partition.append(timestamp, type.getBytes(StandardCharsets.UTF_8), payload);
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            partition.awaitDurable(offset + 1);
+        }
+        return new LogRecord(topic, partition.getPartition(), offset, Instant.ofEpochMilli(timestamp), type, payload);
+    }
+    
+    /**
+     * Reads messages of a partition from an offset on.
+     *
+     * @param topic The topic
+     * @param partition The partition
+     * @param offset The first offset to read; an offset before the oldest retained message reads from that message
+     * @param maxRecords Maximum number of messages
+     * @return The messages in offset order; empty if there are none at or after the offset
+     */
+    public List<LogRecord> read(String topic, int partition, long offset, int maxRecords) {
+        return partitions(topic)[partition].read(offset, maxRecords);
+    }
+    
+    /**
+     * Creates a consumer that reads a topic for a consumer group, starting at the group's committed offsets.
+     */
+    public MessageLogConsumer consumer(String group, String topic) {
+        checkName(group);
+        return new MessageLogConsumer(this, offsets, group, topic);
+    }
+    
+    /**
+     * Gets the number of partitions of a topic, creating the topic if it does not exist.
+     */
+    public int partitionCount(String topic) {
+        return partitions(topic).length;
+    }
+    
+    /**
+     * Gets the offset of the oldest retained message of a partition.
+     */
+    public long startOffset(String topic, int partition) {
+        return partitions(topic)[partition].startOffset();
+    }
+    
+    /**
+     * Gets the offset the next message appended to a partition will get.
+     */
+    public long endOffset(String topic, int partition) {
+        return partitions(topic)[partition].endOffset();
+    }
+    
+    /**
+     * Forces all appended messages to disk.
+     */
+    public void flush() {
+        for (LogPartition[] topicPartitions : topics.values()) {
+            for (LogPartition partition : topicPartitions) {
+                partition.flush();
+            }
+        }
+    }
+    
+    /**
+     * Forces all appended messages to disk and releases the directory.
+     */
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flush();
+        closeQuietly();
+    }
+    
+    private LogPartition[] partitions(String topic) {
+        LogPartition[] topicPartitions = topics.get(topic);
+        return topicPartitions != null ? topicPartitions : topics.computeIfAbsent(topic, this::openTopic);
+    }
+    
+    private LogPartition[] openTopic(String topic) {
+        checkName(topic);
+        Path topicDirectory = directory.resolve(topic);
+        int count = partitions;
+        if (Files.isDirectory(topicDirectory)) {
+            try (Stream<Path> listing = Files.list(topicDirectory)) {
+                count = (int) Math.max(1, listing.filter(Files::isDirectory).count());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open topic " + topicDirectory, e);
+            }
+        }
+        
+        LogPartition[] topicPartitions = new LogPartition[count];
+        for (int i = 0; i < count; i++) {
+            topicPartitions[i] = LogPartition.open(topic, i, topicDirectory.resolve(Integer.toString(i)),
+                segmentSize, maxSegments);
+        }
+        return topicPartitions;
+    }
+    
+    private int partitionFor(@Nullable Object key, int count) {
+        if (key == null) {
+            return Math.floorMod(nextPartition.getAndIncrement(), count);
+        }
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), count);
+    }
+    
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // Keep the scheduled task alive; the next run retries
+            log.error("Flushing message log failed: {}", e.getMessage(), e);
+        }
+    }
+    
+    private void closeQuietly() {
+        try {
+            if (lock != null) {
+                lock.release();
+            }
+            lockChannel.close();
+        } catch (IOException e) {
+            log.warn("Cannot release message log {}: {}", directory, e.getMessage());
+        }
+    }
+    
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Locked by another log in this JVM
+            return null;
+        }
+    }
+    
+    private static void checkName(String name) {
+        if (!NAME.matcher(name).matches() || name.equals(OFFSETS_DIRECTORY)) {
+            throw new IllegalArgumentException("Invalid topic or consumer group name: " + name);
+        }
+    }
+}
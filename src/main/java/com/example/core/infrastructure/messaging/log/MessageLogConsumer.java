@@ -0,0 +1,67 @@
+package com.example.core.infrastructure.messaging.log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a topic of the message log on behalf of a consumer group, across all of its partitions.
+ * <p>
+ * Reading starts at the group's committed offsets and moves on with every poll; {@link #commit()} stores
+ * the current positions, so after a restart the group continues after the last committed message.
+ * Messages polled but not committed are read again after a restart (at-least-once).
+ * Not thread-safe; use one consumer per thread.
+ */
+public class MessageLogConsumer {
+    
+    private final MessageLog log;
+    private final ConsumerOffsets offsets;
+    private final String group;
+    private final String topic;
+    private final long[] positions;
+    private int nextPartition;
+    
+    MessageLogConsumer(MessageLog log, ConsumerOffsets offsets, String group, String topic) {
+        this.log = log;
+        this.offsets = offsets;
+        this.group = group;
+        this.topic = topic;
+        this.positions = new long[log.partitionCount(topic)];
+        for (int partition = 0; partition < positions.length; partition++) {
+            positions[partition] = offsets.committed(group, topic, partition);
+        }
+    }
+    
+    /**
+     * Reads the next messages, taking partitions in turn so that none is starved.
+     *
+     * @param maxRecords Maximum number of messages
+     * @return The messages, in offset order per partition; empty if there are no new messages
+     */
+    public List<LogRecord> poll(int maxRecords) {
+        List<LogRecord> records = new ArrayList<>();
+        for (int i = 0; i < positions.length && records.size() < maxRecords; i++) {
+            int partition = (nextPartition + i) % positions.length;
+            List<LogRecord> read = log.read(topic, partition, positions[partition], maxRecords - records.size());
+            if (!read.isEmpty()) {
+                positions[partition] = read.get(read.size() - 1).getOffset() + 1;
+                records.addAll(read);
+            }
+        }
+        nextPartition = (nextPartition + 1) % positions.length;
+        return records;
+    }
+    
+    /**
+     * Stores the current positions as the group's committed offsets.
+     */
+    public void commit() {
+        offsets.commit(group, topic, positions.clone());
+    }
+    
+    /**
+     * Gets the offset the next poll reads from in a partition.
+     */
+    public long position(int partition) {
+        return positions[partition];
+    }
+}
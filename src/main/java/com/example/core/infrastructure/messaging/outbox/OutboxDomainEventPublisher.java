@@ -0,0 +1,44 @@
+package com.example.core.infrastructure.messaging.outbox;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.domain.event.DomainEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Domain event publisher that writes events to the transactional outbox instead of handling them.
+ * <p>
+ * Called inside a transaction, the events become visible to the {@link OutboxRelay} only if that transaction
+ * commits, so a rollback leaves no events behind and handler cost is kept out of the transaction.
+ * Called outside a transaction, the events are stored at once.
+ */
+@Slf4j
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+    
+    private final OutboxStore store;
+    private final OutboxEventSerializer serializer;
+    
+    public OutboxDomainEventPublisher(OutboxStore store, OutboxEventSerializer serializer) {
+        this.store = store;
+        this.serializer = serializer;
+    }
+    
+    @Override
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+    
+    @Override
+    public void publishAll(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        
+        log.debug("Writing {} domain events to the outbox", events.size());
+        store.append(events.stream()
+            .map(serializer::serialize)
+            .collect(Collectors.toList()));
+    }
+}
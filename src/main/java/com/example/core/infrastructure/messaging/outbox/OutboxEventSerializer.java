@@ -0,0 +1,70 @@
+package com.example.core.infrastructure.messaging.outbox;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.infrastructure.serialization.FieldObjectMappers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Converts domain events to and from outbox messages.
+ * <p>
+ * Events are written as JSON from their fields and read back through their constructors, so domain events
+ * and the value objects they carry need no Jackson annotations. Event ids and timestamps survive the round trip.
+ */
+public class OutboxEventSerializer {
+    
+    private final ObjectMapper objectMapper;
+    private final ClassLoader classLoader;
+    
+    public OutboxEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = FieldObjectMappers.copyOf(objectMapper);
+        this.classLoader = ClassUtils.getDefaultClassLoader();
+    }
+    
+    /**
+     * Serializes a domain event into a message ready to append to the outbox.
+     *
+     * @param event The event to serialize
+     * @return The outbox message
+     * @throws IllegalArgumentException if the event cannot be serialized
+     */
+    public OutboxMessage serialize(DomainEvent event) {
+        try {
+            return new OutboxMessage(
+                null,
+                event.getEventId(),
+                event.getClass().getName(),
+                objectMapper.writeValueAsString(event),
+                event.getOccurredOn(),
+                0);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize domain event " + event.getEventType(), e);
+        }
+    }
+    
+    /**
+     * Restores the domain event held by an outbox message.
+     *
+     * @param message The outbox message
+     * @return The domain event
+     * @throws IllegalArgumentException if the event type is unknown or the payload cannot be read
+     */
+    public DomainEvent deserialize(OutboxMessage message) {
+        Class<?> eventType;
+        try {
+            eventType = ClassUtils.forName(message.getEventType(), classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new IllegalArgumentException("Unknown domain event type: " + message.getEventType(), e);
+        }
+        if (!DomainEvent.class.isAssignableFrom(eventType)) {
+            throw new IllegalArgumentException("Not a domain event type: " + message.getEventType());
+        }
+        
+        try {
+            return (DomainEvent) objectMapper.readValue(message.getPayload(), eventType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not read domain event " + message.getEventId(), e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.core.infrastructure.messaging.outbox;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * A serialized domain event stored in the outbox table.
+ */
+@Value
+public class OutboxMessage {
+    
+    /**
+     * Outbox sequence number, or null for a message that has not been stored yet.
+     */
+    Long id;
+    String eventId;
+    String eventType;
+    String payload;
+    Instant occurredOn;
+    int attempts;
+}
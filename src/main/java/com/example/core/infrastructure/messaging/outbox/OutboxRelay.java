@@ -0,0 +1,177 @@
+package com.example.core.infrastructure.messaging.outbox;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.infrastructure.messaging.publisher.DomainEventDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background relay that drains the domain event outbox in batches and dispatches the events to their handlers.
+ * <p>
+ * The events of a batch are dispatched together and the relay waits until their handlers are done, so with
+ * asynchronous handlers a batch is handled in parallel while events of one aggregate keep their order.
+ * Delivery is at least once: a message is deleted only after all its handlers have succeeded, so a crash between
+ * the two, or a failure of any handler, delivers it again, to all of its handlers. Handlers can recognise repeats
+ * by {@link DomainEvent#getEventId()}, which is preserved through the outbox.
+ * <p>
+ * The relay claims each batch for a lease period, so relays of other application instances polling the same table
+ * skip it; a batch still unhandled when its lease runs out, for example after a crash, is relayed again.
+ * Handlers still running when the delivery timeout expires fail their events, which are then retried like any
+ * other failure, while the handlers themselves carry on.
+ * A message that cannot be restored or dispatched has its attempt counted and is retried after a backoff that
+ * doubles with each attempt; once it reaches the attempt limit it stays in the table for inspection.
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+    
+    private final OutboxStore store;
+    private final OutboxEventSerializer serializer;
+    private final DomainEventDispatcher dispatcher;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration deliveryTimeout;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+    
+    /**
+     * @param store The outbox table
+     * @param serializer Restores events from outbox messages
+     * @param dispatcher Hands events to their handlers
+     * @param pollInterval Delay between polls once the outbox has been drained
+     * @param batchSize Maximum number of messages per batch
+     * @param maxAttempts Number of failed attempts after which a message is no longer retried
+     * @param lease How long a batch is withheld from other relays; must exceed the time it takes to handle one
+     * @param deliveryTimeout How long the handlers of a batch may take before their unfinished events count as failed
+     * @param retryBackoff Delay before a failed message is retried for the first time
+     * @param maxRetryBackoff Upper bound for the delay before a failed message is retried
+     */
+    public OutboxRelay(OutboxStore store, OutboxEventSerializer serializer, DomainEventDispatcher dispatcher,
+                       Duration pollInterval, int batchSize, int maxAttempts, Duration lease,
+                       Duration deliveryTimeout, Duration retryBackoff, Duration maxRetryBackoff) {
+        this.store = store;
+        this.serializer = serializer;
+        this.dispatcher = dispatcher;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.deliveryTimeout = deliveryTimeout;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+    
+    /**
+     * Relays one batch of pending messages.
+     *
+     * @return The number of messages read, which equals the batch size when more may be pending
+     */
+    public int relayBatch() {
+        List<OutboxMessage> batch = store.claimPending(batchSize, maxAttempts, lease);
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(batch.size());
+        
+        for (OutboxMessage message : batch) {
+            CompletableFuture<Void> delivery;
+            try {
+                delivery = dispatcher.dispatch(serializer.deserialize(message));
+            } catch (RuntimeException e) {
+                delivery = CompletableFuture.failedFuture(e);
+            }
+            // Bounded on a copy, so that the dispatcher's own future is left alone when the wait times out
+            deliveries.add(delivery.copy().orTimeout(deliveryTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        }
+        
+        List<Long> dispatched = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxMessage message = batch.get(i);
+            try {
+                deliveries.get(i).join();
+                dispatched.add(message.getId());
+            } catch (CompletionException | CancellationException e) {
+                Throwable failure = e.getCause() != null ? e.getCause() : e;
+                log.warn("Relaying outbox message {} ({}) failed on attempt {}: {}",
+                    message.getId(), message.getEventType(), message.getAttempts() + 1, failure.getMessage(), failure);
+                store.recordFailure(message.getId(), failure.toString(),
+                    Instant.now().plus(backoff(message.getAttempts())));
+            }
+        }
+        
+        store.delete(dispatched);
+        return batch.size();
+    }
+    
+    private Duration backoff(int previousAttempts) {
+        Duration backoff = retryBackoff;
+        for (int i = 0; i < previousAttempts && backoff.compareTo(maxRetryBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(maxRetryBackoff) < 0 ? backoff : maxRetryBackoff;
+    }
+    
+    /**
+     * Relays batches until the outbox holds no more pending messages than fit in one batch.
+     */
+    void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (running && relayed == batchSize);
+        } catch (RuntimeException e) {
+            // Keep the scheduled task alive; the next poll retries
+            log.error("Outbox relay poll failed: {}", e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::drain, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Started outbox relay polling every {} with batches of {}", pollInterval, batchSize);
+    }
+    
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
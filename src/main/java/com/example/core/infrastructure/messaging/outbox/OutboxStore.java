@@ -0,0 +1,148 @@
+package com.example.core.infrastructure.messaging.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to the domain event outbox table.
+ * <p>
+ * Appends run on the caller's connection, so inside a transaction the events are committed or rolled back
+ * together with the aggregate changes that raised them. Messages are read in insertion order and deleted
+ * once they have been dispatched.
+ * <p>
+ * A relay claims the messages it reads for a lease period by setting their {@code available_at} time, so relays
+ * of other application instances skip them until the lease runs out. A failed attempt releases the claim and makes
+ * the message available again after a backoff.
+ */
+public class OutboxStore {
+    
+    static final String TABLE = "domain_event_outbox";
+    
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+        + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+        + "event_id VARCHAR(64) NOT NULL, "
+        + "event_type VARCHAR(255) NOT NULL, "
+        + "payload TEXT NOT NULL, "
+        + "occurred_on TIMESTAMP NOT NULL, "
+        + "attempts INT DEFAULT 0 NOT NULL, "
+        + "last_error VARCHAR(1000), "
+        + "available_at TIMESTAMP, "
+        + "claim_token VARCHAR(36))";
+    
+    // Tables created before messages were claimed
+    private static final String[] ADD_CLAIM_COLUMNS = {
+        "ALTER TABLE " + TABLE + " ADD COLUMN IF NOT EXISTS available_at TIMESTAMP",
+        "ALTER TABLE " + TABLE + " ADD COLUMN IF NOT EXISTS claim_token VARCHAR(36)"
+    };
+    
+    private static final String INSERT =
+        "INSERT INTO " + TABLE + " (event_id, event_type, payload, occurred_on) VALUES (?, ?, ?, ?)";
+    
+    private static final String AVAILABLE = "(available_at IS NULL OR available_at <= ?)";
+    
+    // The availability check is repeated on the updated rows, so that of two relays claiming at once,
+    // the one that waited for the other's row locks skips the rows claimed meanwhile
+    private static final String CLAIM =
+        "UPDATE " + TABLE + " SET available_at = ?, claim_token = ? WHERE " + AVAILABLE + " AND id IN ("
+            + "SELECT id FROM " + TABLE + " WHERE attempts < ? AND " + AVAILABLE
+            + " ORDER BY id FETCH FIRST ? ROWS ONLY)";
+    
+    private static final String SELECT_CLAIMED =
+        "SELECT id, event_id, event_type, payload, occurred_on, attempts FROM " + TABLE
+            + " WHERE claim_token = ? ORDER BY id";
+    
+    private static final String DELETE = "DELETE FROM " + TABLE + " WHERE id = ?";
+    
+    private static final String RECORD_FAILURE =
+        "UPDATE " + TABLE + " SET attempts = attempts + 1, last_error = ?, available_at = ?, claim_token = NULL"
+            + " WHERE id = ?";
+    
+    private static final int MAX_ERROR_LENGTH = 1000;
+    
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+        rs.getLong("id"),
+        rs.getString("event_id"),
+        rs.getString("event_type"),
+        rs.getString("payload"),
+        rs.getTimestamp("occurred_on").toInstant(),
+        rs.getInt("attempts"));
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public OutboxStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    /**
+     * Creates the outbox table if it does not exist.
+     */
+    public void initializeSchema() {
+        jdbcTemplate.execute(CREATE_TABLE);
+        for (String addColumn : ADD_CLAIM_COLUMNS) {
+            jdbcTemplate.execute(addColumn);
+        }
+    }
+    
+    /**
+     * Appends messages to the outbox in one JDBC batch.
+     *
+     * @param messages The messages to store; their ids are ignored
+     */
+    public void append(List<OutboxMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT, messages, messages.size(), (ps, message) -> {
+            ps.setString(1, message.getEventId());
+            ps.setString(2, message.getEventType());
+            ps.setString(3, message.getPayload());
+            ps.setTimestamp(4, Timestamp.from(message.getOccurredOn()));
+        });
+    }
+    
+    /**
+     * Claims and reads the oldest available messages that have not used up their attempts.
+     *
+     * @param limit The maximum number of messages to claim
+     * @param maxAttempts Messages with this many failed attempts or more are skipped
+     * @param lease How long the messages are withheld from other relays
+     * @return The claimed messages in insertion order
+     */
+    public List<OutboxMessage> claimPending(int limit, int maxAttempts, Duration lease) {
+        Timestamp now = Timestamp.from(Instant.now());
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = jdbcTemplate.update(CLAIM, Timestamp.from(now.toInstant().plus(lease)), claimToken,
+            now, maxAttempts, now, limit);
+        if (claimed == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_CLAIMED, ROW_MAPPER, claimToken);
+    }
+    
+    /**
+     * Deletes dispatched messages in one JDBC batch.
+     *
+     * @param ids The ids of the messages to delete
+     */
+    public void delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE, ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+    
+    /**
+     * Records a failed dispatch attempt for a message and releases its claim.
+     *
+     * @param id The message id
+     * @param error A description of the failure
+     * @param retryAt When the message is available to relays again
+     */
+    public void recordFailure(long id, String error, Instant retryAt) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.update(RECORD_FAILURE, truncated, Timestamp.from(retryAt), id);
+    }
+}
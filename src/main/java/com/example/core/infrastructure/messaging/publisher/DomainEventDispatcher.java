@@ -0,0 +1,19 @@
+package com.example.core.infrastructure.messaging.publisher;
+
+import com.example.core.domain.event.DomainEvent;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Hands domain events to their handlers and reports when handling is finished.
+ */
+public interface DomainEventDispatcher {
+    
+    /**
+     * Dispatches an event to its handlers.
+     *
+     * @param event The event to dispatch
+     * @return A future that completes once every handler is done with the event
+     */
+    CompletableFuture<Void> dispatch(DomainEvent event);
+}
@@ -3,43 +3,76 @@ package com.example.core.infrastructure.messaging.publisher;
 import com.example.core.domain.event.DomainEvent;
 import com.example.core.domain.event.DomainEventHandler;
 import com.example.core.domain.event.DomainEventPublisher;
+import com.example.core.infrastructure.messaging.async.AsyncEventHandlerExecutor;
+import com.example.core.infrastructure.messaging.routing.EventHandlerRoutingTable;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Primary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Spring-based implementation of domain event publisher integrated with messaging layer.
  * Handles both internal domain events and external messaging.
+ * <p>
+ * Handlers are resolved through an {@link EventHandlerRoutingTable}, so a handler declared for a supertype
+ * or interface of an event receives it too.
+ * <p>
+ * By default the registered handlers run one after another on the publishing thread. A failing handler is logged
+ * and the remaining handlers still run; the future returned by {@link #dispatch} then fails, so that the outbox
+ * relay retries the event. With an {@link AsyncEventHandlerExecutor} the handlers of an event run in parallel
+ * off the publishing thread, in order per aggregate, with retries and dead-lettering of failures.
+ * With the transactional outbox enabled, events reach this publisher through the outbox relay rather than
+ * directly from the publishing use case.
  */
 @Service
-@Primary
 @Slf4j
 @SuppressWarnings("unchecked")
-public class SpringDomainEventPublisher implements DomainEventPublisher {
+public class SpringDomainEventPublisher implements DomainEventPublisher, DomainEventDispatcher {
     
-    private final Map<Class<? extends DomainEvent>, List<DomainEventHandler<? extends DomainEvent>>> handlerMap;
+    private final EventHandlerRoutingTable routingTable;
+    private final AsyncEventHandlerExecutor asyncExecutor;
     
     public SpringDomainEventPublisher(List<DomainEventHandler<? extends DomainEvent>> eventHandlers) {
-        this.handlerMap = eventHandlers.stream()
-            .collect(Collectors.groupingBy(DomainEventHandler::getEventType));
-        log.info("Initialized SpringDomainEventPublisher with {} event handlers", eventHandlers.size());
+        this(eventHandlers, null);
+    }
+    
+    @Autowired
+    public SpringDomainEventPublisher(List<DomainEventHandler<? extends DomainEvent>> eventHandlers,
+                                      @Nullable AsyncEventHandlerExecutor asyncExecutor) {
+        this.routingTable = new EventHandlerRoutingTable(eventHandlers);
+        this.asyncExecutor = asyncExecutor;
+        log.info("Initialized SpringDomainEventPublisher with {} event handlers ({})",
+            eventHandlers.size(), asyncExecutor != null ? "async" : "sync");
     }
     
     @Override
     public void publish(DomainEvent event) {
-        log.debug("Publishing domain event: {}", event.getClass().getSimpleName());
+        dispatch(event);
+    }
+    
+    @Override
+    public CompletableFuture<Void> dispatch(DomainEvent event) {
+        List<DomainEventHandler<? extends DomainEvent>> handlers = routingTable.handlersFor(event.getClass());
         
-        List<DomainEventHandler<? extends DomainEvent>> handlers = handlerMap.get(event.getClass());
+        // Events without handlers were reported when first routed
+        if (handlers.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
         
-        if (handlers == null || handlers.isEmpty()) {
-            log.warn("No handlers found for event type: {}", event.getClass().getName());
-            return;
+        log.debug("Publishing domain event: {}", event.getClass().getSimpleName());
+        
+        if (asyncExecutor != null) {
+            CompletableFuture<?>[] handled = new CompletableFuture<?>[handlers.size()];
+            for (int i = 0; i < handled.length; i++) {
+                handled[i] = asyncExecutor.execute(handlers.get(i), event);
+            }
+            return CompletableFuture.allOf(handled);
         }
         
+        RuntimeException failure = null;
         for (DomainEventHandler<? extends DomainEvent> handler : handlers) {
             try {
                 log.debug("Handling event {} with handler {}", 
@@ -54,10 +87,17 @@ public class SpringDomainEventPublisher implements DomainEventPublisher {
                     e.getMessage(), e);
                 
                 // Continue processing other handlers even if one fails
+                if (failure == null) {
+                    failure = e instanceof RuntimeException runtimeException
+                        ? runtimeException : new IllegalStateException(e.getMessage(), e);
+                } else {
+                    failure.addSuppressed(e);
+                }
             }
         }
         
         log.debug("Finished publishing domain event: {}", event.getClass().getSimpleName());
+        return failure != null ? CompletableFuture.failedFuture(failure) : CompletableFuture.completedFuture(null);
     }
     
     @Override
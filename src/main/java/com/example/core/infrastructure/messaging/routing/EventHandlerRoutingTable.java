@@ -0,0 +1,76 @@
+package com.example.core.infrastructure.messaging.routing;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.domain.event.DomainEventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.AopProxyUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Routing table mapping domain event classes to the handlers that receive them.
+ * <p>
+ * A handler receives every event assignable to its {@link DomainEventHandler#getEventType()}, so handlers
+ * declared for a superclass or interface of an event, including {@link DomainEvent} itself, fire as well.
+ * The handlers for each concrete event class are resolved once, in registration order, and cached in a
+ * {@link ClassValue}, so publishing does no map lookups or type checks on the hot path. An event class with
+ * no handler is reported once when it is first routed.
+ */
+@Slf4j
+public class EventHandlerRoutingTable {
+    
+    private final List<DomainEventHandler<? extends DomainEvent>> handlers;
+    
+    private final ClassValue<List<DomainEventHandler<? extends DomainEvent>>> routes = new ClassValue<>() {
+        @Override
+        protected List<DomainEventHandler<? extends DomainEvent>> computeValue(Class<?> eventType) {
+            return resolveHandlers(eventType);
+        }
+    };
+    
+    public EventHandlerRoutingTable(List<? extends DomainEventHandler<? extends DomainEvent>> handlers) {
+        for (DomainEventHandler<? extends DomainEvent> handler : handlers) {
+            if (handler.getEventType() == null) {
+                throw new IllegalStateException(
+                    "Event handler declares no event type: " + AopProxyUtils.ultimateTargetClass(handler).getName());
+            }
+        }
+        this.handlers = List.copyOf(handlers);
+    }
+    
+    /**
+     * Gets the handlers for a concrete event class.
+     * Never returns null; events without handlers get an empty list.
+     *
+     * @param eventType The event class
+     * @return The cached, unmodifiable handler list
+     */
+    public List<DomainEventHandler<? extends DomainEvent>> handlersFor(Class<?> eventType) {
+        return routes.get(eventType);
+    }
+    
+    /**
+     * Gets all registered handlers in registration order.
+     */
+    public List<DomainEventHandler<? extends DomainEvent>> getHandlers() {
+        return handlers;
+    }
+    
+    private List<DomainEventHandler<? extends DomainEvent>> resolveHandlers(Class<?> eventType) {
+        List<DomainEventHandler<? extends DomainEvent>> resolved = new ArrayList<>();
+        for (DomainEventHandler<? extends DomainEvent> handler : handlers) {
+            if (handler.getEventType().isAssignableFrom(eventType)) {
+                resolved.add(handler);
+            }
+        }
+        
+        if (resolved.isEmpty()) {
+            log.warn("No handlers found for event type: {}; further events of this type are dropped silently",
+                eventType.getName());
+            return Collections.emptyList();
+        }
+        return List.copyOf(resolved);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.core.infrastructure.serialization;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+
+/**
+ * Utility class for object mappers that write objects from their fields and read them back through their
+ * constructors, so that domain types need no Jackson annotations.
+ */
+public final class FieldObjectMappers {
+    
+    private FieldObjectMappers() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+    
+    /**
+     * Copy a mapper with field-based settings; the copy keeps its modules and format, and the given
+     * mapper, such as the application's, is left unchanged.
+     */
+    public static ObjectMapper copyOf(ObjectMapper objectMapper) {
+        return objectMapper.copy()
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .setVisibility(PropertyAccessor.CREATOR, JsonAutoDetect.Visibility.ANY)
+            .setConstructorDetector(ConstructorDetector.USE_PROPERTIES_BASED);
+    }
+}
@@ -5,7 +5,12 @@ import com.example.core.infrastructure.cache.adapter.CacheAdapter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Implementation of CacheService using CacheAdapter.
@@ -27,15 +32,29 @@ public class CacheServiceImpl implements CacheService {
         cacheAdapter.put(region, key, value);
     }
     
+    @Override
+    public void putAll(String region, Map<String, ?> values) {
+        cacheAdapter.putAll(region, values);
+    }
+    
+    @Override
+    public <T> Optional<T> getOrLoad(String region, String key, Class<T> type, Supplier<Optional<T>> loader) {
+        return cacheAdapter.getOrLoad(region, key, type, loader);
+    }
+    
+    @Override
+    public <T> Map<String, T> getAll(String region, Collection<String> keys, Class<T> type,
+                                     Function<? super Set<String>, ? extends Map<String, ? extends T>> loader) {
+        return cacheAdapter.getAll(region, keys, type, loader);
+    }
+    
     @Override
     public void remove(String region, String key) {
-        // remove method not yet implemented in CacheAdapter
-        throw new UnsupportedOperationException("remove method not yet implemented");
+        cacheAdapter.evict(region, key);
     }
     
     @Override
     public void clearRegion(String region) {
-        // clearRegion method not yet implemented in CacheAdapter
-        throw new UnsupportedOperationException("clearRegion method not yet implemented");
+        cacheAdapter.clear(region);
     }
 }
@@ -20,9 +20,18 @@ public class MessagingServiceImpl implements MessagingService {
         messagingAdapter.publishMessage(topic, message);
     }
     
+    @Override
+    public void publishMessage(String topic, Object key, Object message) {
+        messagingAdapter.publishMessage(topic, key, message);
+    }
+    
     @Override
     public void sendMessage(String destination, Object message) {
-        // sendMessage method not yet implemented in MessagingAdapter
-        throw new UnsupportedOperationException("sendMessage method not yet implemented");
+        messagingAdapter.sendCommand(destination, message);
+    }
+    
+    @Override
+    public void sendMessage(String destination, Object key, Object message) {
+        messagingAdapter.sendCommand(destination, key, message);
     }
 }
@@ -2,33 +2,79 @@ package com.example.core.infrastructure.service;
 
 import com.example.core.application.service.UseCaseDispatcher;
 import com.example.core.application.usecase.UseCase;
-import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.application.usecase.UseCaseResult;
+import com.example.core.infrastructure.dispatch.async.UseCaseAsyncExecutor;
+import com.example.core.infrastructure.dispatch.async.UseCaseTask;
+import com.example.core.infrastructure.dispatch.routing.UseCaseRoute;
+import com.example.core.infrastructure.dispatch.routing.UseCaseRoutingTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Spring-based implementation of use case dispatcher.
+ * Handlers are resolved through the precomputed {@link UseCaseRoutingTable};
+ * asynchronous dispatches run on the {@link UseCaseAsyncExecutor} with the caller's security context.
  */
 @Service
 @RequiredArgsConstructor
-@SuppressWarnings("unchecked")
 public class SpringUseCaseDispatcher implements UseCaseDispatcher {
     
-    private final Map<Class<?>, UseCaseHandler<?, ?>> handlers;
+    private final UseCaseRoutingTable routingTable;
+    private final UseCaseAsyncExecutor asyncExecutor;
     
     @Override
     public <TResponse> TResponse dispatch(UseCase<TResponse> useCase) {
-        Class<?> useCaseClass = useCase.getClass();
-        UseCaseHandler<UseCase<TResponse>, TResponse> handler = 
-            (UseCaseHandler<UseCase<TResponse>, TResponse>) handlers.get(useCaseClass);
-            
-        if (handler == null) {
-            throw new IllegalArgumentException(
-                "No handler found for use case: " + useCaseClass.getSimpleName());
+        return routingTable.routeFor(useCase.getClass()).invoke(useCase);
+    }
+    
+    @Override
+    public <TResponse> CompletableFuture<TResponse> dispatchAsync(UseCase<TResponse> useCase) {
+        UseCaseRoute route = routingTable.routeFor(useCase.getClass());
+        UseCaseTask<TResponse> task = new UseCaseTask<>(() -> route.invoke(useCase));
+        try {
+            asyncExecutor.executorFor(route.getUseCaseType()).execute(task);
+        } catch (RejectedExecutionException e) {
+            task.reject(e);
+        }
+        return task.getResult();
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <TResponse> List<UseCaseResult<TResponse>> dispatchAll(List<? extends UseCase<TResponse>> useCases) {
+        Map<Class<?>, List<Integer>> positionsByType = new LinkedHashMap<>();
+        for (int i = 0; i < useCases.size(); i++) {
+            positionsByType.computeIfAbsent(useCases.get(i).getClass(), type -> new ArrayList<>()).add(i);
         }
         
-        return handler.handle(useCase);
+        UseCaseResult<TResponse>[] results = new UseCaseResult[useCases.size()];
+        positionsByType.forEach((useCaseType, positions) -> {
+            List<UseCase<TResponse>> group = new ArrayList<>(positions.size());
+            positions.forEach(position -> group.add(useCases.get(position)));
+            
+            List<UseCaseResult<TResponse>> groupResults;
+            try {
+                groupResults = routingTable.routeFor(useCaseType).invokeAll(group);
+            } catch (RuntimeException e) {
+                UseCaseResult<TResponse> failure = UseCaseResult.failure(e);
+                groupResults = new ArrayList<>(positions.size());
+                for (int i = 0; i < positions.size(); i++) {
+                    groupResults.add(failure);
+                }
+            }
+            
+            for (int i = 0; i < positions.size(); i++) {
+                results[positions.get(i)] = groupResults.get(i);
+            }
+        });
+        return Arrays.asList(results);
     }
 }
@@ -1,9 +1,12 @@
 package com.example.core.presentation.exception;
 
+import com.example.core.application.exception.UseCaseRejectedException;
+import com.example.core.application.exception.UseCaseTimeoutException;
 import com.example.core.domain.exception.BusinessRuleViolationException;
 import com.example.core.domain.exception.EntityNotFoundException;
 import com.example.core.presentation.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -71,6 +74,27 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error("Invalid request", ex.getMessage()));
     }
     
+    /**
+     * Handle UseCaseTimeoutException - returns 503 Service Unavailable.
+     */
+    @ExceptionHandler(UseCaseTimeoutException.class)
+    public ResponseEntity<ApiResponse<Object>> handleUseCaseTimeout(UseCaseTimeoutException ex) {
+        log.warn("Use case timed out: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(ApiResponse.error("Service temporarily unavailable", ex.getMessage()));
+    }
+    
+    /**
+     * Handle UseCaseRejectedException - returns 429 Too Many Requests.
+     */
+    @ExceptionHandler(UseCaseRejectedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleUseCaseRejected(UseCaseRejectedException ex) {
+        log.warn("Use case rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(ApiResponse.error("Too many requests", ex.getMessage()));
+    }
+    
     /**
      * Handle all other unexpected exceptions - returns 500 Internal Server Error.
      */
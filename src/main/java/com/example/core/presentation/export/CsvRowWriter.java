@@ -0,0 +1,81 @@
+package com.example.core.presentation.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes rows as RFC 4180 CSV with a header line.
+ *
+ * @param <T> The row type
+ */
+public class CsvRowWriter<T> implements RowWriter<T> {
+    
+    private final Writer writer;
+    private final List<Function<T, ?>> columns;
+    
+    /**
+     * @param out The output stream
+     * @param columns Column extractors keyed by header, in column order
+     */
+    public CsvRowWriter(OutputStream out, LinkedHashMap<String, Function<T, ?>> columns) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.columns = new ArrayList<>(columns.values());
+        writeLine(new ArrayList<>(columns.keySet()));
+    }
+    
+    @Override
+    public void accept(T row) {
+        List<Object> values = new ArrayList<>(columns.size());
+        for (Function<T, ?> column : columns) {
+            values.add(column.apply(row));
+        }
+        try {
+            writeLine(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+    
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+    
+    private void writeLine(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values.get(i));
+        }
+        writer.write("\r\n");
+    }
+    
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.core.presentation.export;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Supported formats for streaming exports.
+ */
+public enum ExportFormat {
+    
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+    CSV("csv", new MediaType("text", "csv"));
+    
+    private final String extension;
+    private final MediaType mediaType;
+    
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+    
+    /**
+     * Get the file extension for this format.
+     */
+    public String getExtension() {
+        return extension;
+    }
+    
+    /**
+     * Get the response content type for this format.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+    
+    /**
+     * Resolve a format from its name, ignoring case.
+     *
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static ExportFormat of(String name) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + name);
+    }
+}
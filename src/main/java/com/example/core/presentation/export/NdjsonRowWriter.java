@@ -0,0 +1,45 @@
+package com.example.core.presentation.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes rows as newline-delimited JSON (one JSON object per line).
+ *
+ * @param <T> The row type
+ */
+public class NdjsonRowWriter<T> implements RowWriter<T> {
+    
+    private final JsonGenerator generator;
+    
+    public NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(new SerializedString("\n"));
+    }
+    
+    @Override
+    public void accept(T row) {
+        try {
+            generator.writeObject(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+    
+    @Override
+    public void finish() throws IOException {
+        generator.writeRaw('\n');
+        generator.close();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.core.presentation.export;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes rows of an export to an output stream one at a time, without collecting them first.
+ * Write failures, such as the client disconnecting, are thrown as {@link java.io.UncheckedIOException}
+ * so that they stop the producer.
+ *
+ * @param <T> The row type
+ */
+public interface RowWriter<T> extends Consumer<T> {
+    
+    /**
+     * Sends the rows written so far to the client, for progress that should not wait for buffers to fill.
+     */
+    void flush() throws IOException;
+    
+    /**
+     * Writes any trailing content and flushes buffered rows. Does not close the output stream.
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,26 @@
+package com.example.core.presentation.request;
+
+import com.example.core.common.util.PageUtils;
+import lombok.Data;
+
+/**
+ * Request parameters for keyset-paginated queries.
+ * Omit the cursor for the first page, then pass the {@code nextCursor} of the previous page.
+ */
+@Data
+public class CursorPageRequest {
+    
+    private String cursor;
+    
+    private Integer size = PageUtils.getDefaultSize();
+    
+    /**
+     * Get validated page size (between 1 and the maximum page size).
+     */
+    public int getValidatedSize() {
+        if (size == null) {
+            return PageUtils.getDefaultSize();
+        }
+        return Math.min(Math.max(1, size), PageUtils.getMaxSize());
+    }
+}
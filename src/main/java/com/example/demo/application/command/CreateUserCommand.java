@@ -1,6 +1,8 @@
 package com.example.demo.application.command;
 
 import com.example.core.application.command.Command;
+import com.example.core.application.command.InvalidatesQueries;
+import com.example.demo.application.query.GetUsersPageQuery;
 import lombok.Data;
 
 import jakarta.validation.constraints.Email;
@@ -11,6 +13,7 @@ import jakarta.validation.constraints.Size;
  * Command for creating a new user.
  */
 @Data
+@InvalidatesQueries(GetUsersPageQuery.class)
 public class CreateUserCommand implements Command<Long> {
     
     @NotBlank(message = "First name is required")
@@ -1,8 +1,12 @@
 package com.example.demo.application.command;
 
 import com.example.core.application.command.CommandHandler;
+import com.example.core.application.usecase.BatchUseCaseHandler;
+import com.example.core.application.usecase.UseCaseResult;
+import com.example.core.domain.event.DomainEvent;
 import com.example.core.domain.event.DomainEventPublisher;
 import com.example.core.domain.exception.BusinessRuleViolationException;
+import com.example.core.domain.exception.DomainException;
 import com.example.demo.domain.model.Email;
 import com.example.demo.domain.model.User;
 import com.example.demo.domain.repository.UserRepository;
@@ -10,13 +14,24 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Handler for CreateUserCommand.
+ * Batches of commands are created in a single transaction; a command that breaks a business rule
+ * fails on its own without affecting the rest of the batch.
  */
 @Service
 @RequiredArgsConstructor
 @Transactional
-public class CreateUserCommandHandler implements CommandHandler<CreateUserCommand, Long> {
+public class CreateUserCommandHandler implements CommandHandler<CreateUserCommand, Long>,
+    BatchUseCaseHandler<CreateUserCommand, Long> {
     
     private final UserRepository userRepository;
     private final DomainEventPublisher eventPublisher;
@@ -46,4 +61,53 @@ public class CreateUserCommandHandler implements CommandHandler<CreateUserComman
         
         return savedUser.getId();
     }
+    
+    @Override
+    public List<UseCaseResult<Long>> handleAll(List<CreateUserCommand> commands) {
+        List<UseCaseResult<Long>> results = new ArrayList<>(Collections.nCopies(commands.size(), null));
+        Map<Integer, Email> emails = new LinkedHashMap<>();
+        
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                emails.put(i, Email.of(commands.get(i).getEmail()));
+            } catch (DomainException e) {
+                results.set(i, UseCaseResult.failure(e));
+            }
+        }
+        
+        // Check uniqueness against the database with one query, and within the batch itself
+        Set<Email> takenEmails = new HashSet<>(userRepository.findExistingEmails(emails.values()));
+        List<User> users = new ArrayList<>(emails.size());
+        List<Integer> positions = new ArrayList<>(emails.size());
+        
+        emails.forEach((position, email) -> {
+            try {
+                if (!takenEmails.add(email)) {
+                    throw new BusinessRuleViolationException(
+                        "User with email " + email + " already exists");
+                }
+                CreateUserCommand command = commands.get(position);
+                users.add(User.create(command.getFirstName(), command.getLastName(), email));
+                positions.add(position);
+            } catch (DomainException e) {
+                results.set(position, UseCaseResult.failure(e));
+            }
+        });
+        
+        // Save all valid users together so the inserts are batched
+        List<User> savedUsers = userRepository.saveAll(users);
+        List<DomainEvent> events = new ArrayList<>(savedUsers.size());
+        
+        for (int i = 0; i < savedUsers.size(); i++) {
+            User savedUser = savedUsers.get(i);
+            events.addAll(savedUser.getDomainEvents());
+            savedUser.clearDomainEvents();
+            results.set(positions.get(i), UseCaseResult.success(savedUser.getId()));
+        }
+        
+        // Publish the whole batch's events at once so they are stored together
+        eventPublisher.publishAll(events);
+        
+        return results;
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.demo.application.command;
+
+import com.example.core.application.command.Command;
+import com.example.demo.application.dto.ImportProgress;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Command importing users from a stream of rows, in chunks.
+ * Rows are read lazily, so the upload never has to be held in memory.
+ * Cached user pages are invalidated by the CreateUserCommand batches each chunk is dispatched as.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImportUsersCommand implements Command<ImportProgress> {
+    
+    /**
+     * The rows to import, each as the command that would create that user. {@code next()} throws
+     * {@link IllegalArgumentException} for a row that cannot be parsed, which fails that row only;
+     * {@code hasNext()} throws if the rows cannot be read at all.
+     */
+    private final Iterator<CreateUserCommand> rows;
+    
+    /**
+     * Receives the progress after each chunk.
+     */
+    private final Consumer<ImportProgress> progressListener;
+}
@@ -0,0 +1,92 @@
+package com.example.demo.application.command;
+
+import com.example.core.application.command.CommandHandler;
+import com.example.core.application.service.UseCaseDispatcher;
+import com.example.core.application.usecase.UseCaseResult;
+import com.example.core.domain.exception.DomainException;
+import com.example.demo.application.dto.ImportProgress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Handler for ImportUsersCommand.
+ * Each chunk of rows is dispatched as one batch of CreateUserCommands, so it is validated with a single
+ * email lookup and inserted in JDBC batches within its own transaction. A failed row does not stop the import,
+ * and chunks already imported stay committed if a later one fails. A row that cannot be parsed is reported as
+ * failed like any other; only a failure to read the rows at all ends the import.
+ */
+@Service
+@Slf4j
+public class ImportUsersCommandHandler implements CommandHandler<ImportUsersCommand, ImportProgress> {
+    
+    private final UseCaseDispatcher useCaseDispatcher;
+    private final int chunkSize;
+    
+    // The dispatcher is injected lazily because it is built from all handlers, including this one
+    public ImportUsersCommandHandler(@Lazy UseCaseDispatcher useCaseDispatcher,
+                                     @Value("${app.user-import.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be at least 1");
+        }
+        this.useCaseDispatcher = useCaseDispatcher;
+        this.chunkSize = chunkSize;
+    }
+    
+    @Override
+    public ImportProgress handle(ImportUsersCommand command) {
+        long processed = 0;
+        long created = 0;
+        List<CreateUserCommand> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkRows = new ArrayList<>(chunkSize);
+        
+        while (command.getRows().hasNext()) {
+            chunk.clear();
+            chunkRows.clear();
+            List<ImportProgress.RowError> errors = new ArrayList<>();
+            long row = processed;
+            while (row - processed < chunkSize && command.getRows().hasNext()) {
+                row++;
+                try {
+                    chunk.add(command.getRows().next());
+                    chunkRows.add(row);
+                } catch (IllegalArgumentException e) {
+                    errors.add(new ImportProgress.RowError(row, e.getMessage()));
+                }
+            }
+            
+            List<UseCaseResult<Long>> results = chunk.isEmpty() ? List.of() : useCaseDispatcher.dispatchAll(chunk);
+            for (int i = 0; i < results.size(); i++) {
+                UseCaseResult<Long> result = results.get(i);
+                if (result.isSuccess()) {
+                    created++;
+                } else {
+                    errors.add(new ImportProgress.RowError(chunkRows.get(i), describe(result.getError())));
+                }
+            }
+            errors.sort(Comparator.comparingLong(ImportProgress.RowError::getRow));
+            processed = row;
+            
+            command.getProgressListener().accept(
+                new ImportProgress(processed, created, processed - created, errors, false));
+        }
+        
+        log.info("Imported {} of {} users", created, processed);
+        ImportProgress summary = new ImportProgress(processed, created, processed - created, List.of(), true);
+        command.getProgressListener().accept(summary);
+        return summary;
+    }
+    
+    private String describe(RuntimeException error) {
+        if (error instanceof DomainException || error instanceof IllegalArgumentException) {
+            return error.getMessage();
+        }
+        log.error("Unexpected error importing user", error);
+        return "An unexpected error occurred";
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.application.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Progress of a user import, reported after each chunk and once more when the import is done.
+ * Counts are cumulative; {@code errors} only lists the rows that failed in the latest chunk.
+ */
+@Data
+public class ImportProgress {
+    
+    private final long processed;
+    private final long created;
+    private final long failed;
+    private final List<RowError> errors;
+    private final boolean done;
+    
+    /**
+     * A row that could not be imported.
+     */
+    @Data
+    public static class RowError {
+        
+        /**
+         * Row number in the upload, starting at 1 for the first data row.
+         */
+        private final long row;
+        private final String error;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.application.eventhandler;
+
+import com.example.core.application.query.QueryCache;
+import com.example.core.application.service.CacheService;
+import com.example.core.domain.event.DomainEventHandler;
+import com.example.demo.application.query.GetUserByIdQuery;
+import com.example.demo.application.query.GetUsersPageQuery;
+import com.example.demo.application.service.UserIntegrationService;
+import com.example.demo.domain.event.UserEmailChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for UserEmailChangedEvent.
+ * Drops the changed user from the users cache and the cached user queries, so that the next read loads
+ * the new email, whichever code path changed it.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserEmailChangedEventHandler implements DomainEventHandler<UserEmailChangedEvent> {
+    
+    private final CacheService cacheService;
+    private final QueryCache queryCache;
+    
+    @Override
+    public void handle(UserEmailChangedEvent event) {
+        log.debug("Evicting cached user {} after email change", event.getUserId());
+        cacheService.remove(UserIntegrationService.CACHE_REGION, UserIntegrationService.cacheKey(event.getUserId()));
+        queryCache.invalidate(GetUserByIdQuery.class);
+        queryCache.invalidate(GetUsersPageQuery.class);
+    }
+    
+    @Override
+    public Class<UserEmailChangedEvent> getEventType() {
+        return UserEmailChangedEvent.class;
+    }
+}
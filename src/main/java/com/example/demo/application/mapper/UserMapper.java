@@ -2,12 +2,13 @@ package com.example.demo.application.mapper;
 
 import com.example.demo.application.dto.UserDto;
 import com.example.demo.domain.model.User;
+import com.example.demo.domain.repository.projection.UserView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 /**
- * Mapper for converting between User domain model and UserDto.
+ * Mapper for converting the User domain model and its read-only view to UserDto.
  */
 @Mapper(
     componentModel = "spring",
@@ -19,4 +20,8 @@ public interface UserMapper {
     @Mapping(source = "createdAt", target = "createdAt", dateFormat = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
     @Mapping(source = "updatedAt", target = "updatedAt", dateFormat = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
     UserDto toDto(User user);
+    
+    @Mapping(source = "createdAt", target = "createdAt", dateFormat = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+    @Mapping(source = "updatedAt", target = "updatedAt", dateFormat = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+    UserDto toDto(UserView view);
 }
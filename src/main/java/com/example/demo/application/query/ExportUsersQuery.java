@@ -0,0 +1,22 @@
+package com.example.demo.application.query;
+
+import com.example.core.application.query.Query;
+import com.example.demo.application.dto.UserDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Consumer;
+
+/**
+ * Query streaming every user, in id order, to a row sink.
+ * The response is the number of exported users.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ExportUsersQuery implements Query<Long> {
+    
+    /**
+     * Receives each user as it is read; must not keep references to the rows.
+     */
+    private final Consumer<UserDto> sink;
+}
@@ -0,0 +1,46 @@
+package com.example.demo.application.query;
+
+import com.example.core.application.query.QueryHandler;
+import com.example.demo.application.dto.UserDto;
+import com.example.demo.application.mapper.UserMapper;
+import com.example.demo.domain.model.User;
+import com.example.demo.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Handler for ExportUsersQuery.
+ * Reads users through a database cursor and hands them to the sink one by one, so memory use
+ * does not grow with the size of the table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ExportUsersQueryHandler implements QueryHandler<ExportUsersQuery, Long> {
+    
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    
+    @Override
+    public Long handle(ExportUsersQuery query) {
+        long count = 0;
+        
+        try (Stream<User> users = userRepository.streamAll()) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                UserDto dto = userMapper.toDto(iterator.next());
+                query.getSink().accept(dto);
+                count++;
+            }
+        }
+        
+        log.debug("Exported {} users", count);
+        return count;
+    }
+}
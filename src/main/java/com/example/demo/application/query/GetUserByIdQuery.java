@@ -1,5 +1,7 @@
 package com.example.demo.application.query;
 
+import com.example.core.application.query.CacheableQuery;
+import com.example.core.application.query.IdempotentQuery;
 import com.example.core.application.query.Query;
 import com.example.demo.application.dto.UserDto;
 import lombok.Data;
@@ -8,6 +10,8 @@ import lombok.Data;
  * Query for getting a user by ID.
  */
 @Data
+@CacheableQuery(ttlSeconds = 60)
+@IdempotentQuery(maxWaitMillis = 2000)
 public class GetUserByIdQuery implements Query<UserDto> {
     
     private final Long userId;
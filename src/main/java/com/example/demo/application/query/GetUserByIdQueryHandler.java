@@ -4,14 +4,15 @@ import com.example.core.application.query.QueryHandler;
 import com.example.core.domain.exception.EntityNotFoundException;
 import com.example.demo.application.dto.UserDto;
 import com.example.demo.application.mapper.UserMapper;
-import com.example.demo.domain.model.User;
 import com.example.demo.domain.repository.UserRepository;
+import com.example.demo.domain.repository.projection.UserView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Handler for GetUserByIdQuery.
+ * Reads the user's view rather than the aggregate, since nothing is changed.
  */
 @Service
 @RequiredArgsConstructor
@@ -23,9 +24,9 @@ public class GetUserByIdQueryHandler implements QueryHandler<GetUserByIdQuery, U
     
     @Override
     public UserDto handle(GetUserByIdQuery query) {
-        User user = userRepository.findById(query.getUserId())
+        UserView user = userRepository.findViewById(query.getUserId())
             .orElseThrow(() -> new EntityNotFoundException("User", query.getUserId()));
-            
+        
         return userMapper.toDto(user);
     }
 }
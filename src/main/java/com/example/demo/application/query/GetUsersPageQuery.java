@@ -0,0 +1,22 @@
+package com.example.demo.application.query;
+
+import com.example.core.application.dto.CursorPage;
+import com.example.core.application.query.CacheableQuery;
+import com.example.core.application.query.Query;
+import com.example.demo.application.dto.UserDto;
+import lombok.Data;
+
+/**
+ * Query for one page of users ordered by id, using keyset pagination.
+ */
+@Data
+@CacheableQuery(ttlSeconds = 30)
+public class GetUsersPageQuery implements Query<CursorPage<UserDto>> {
+    
+    /**
+     * Opaque cursor from the previous page, or null for the first page.
+     */
+    private final String cursor;
+    
+    private final int size;
+}
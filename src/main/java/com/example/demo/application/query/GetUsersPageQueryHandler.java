@@ -0,0 +1,51 @@
+package com.example.demo.application.query;
+
+import com.example.core.application.dto.CursorPage;
+import com.example.core.application.query.QueryHandler;
+import com.example.core.common.util.CursorUtils;
+import com.example.demo.application.dto.UserDto;
+import com.example.demo.application.mapper.UserMapper;
+import com.example.demo.domain.repository.UserRepository;
+import com.example.demo.domain.repository.projection.UserView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Query handler for getting a page of users.
+ * Seeks past the last id of the previous page, so every page costs the same as the first.
+ * Pages are read as user views, without loading the aggregates.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class GetUsersPageQueryHandler implements QueryHandler<GetUsersPageQuery, CursorPage<UserDto>> {
+    
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    
+    @Override
+    public CursorPage<UserDto> handle(GetUsersPageQuery query) {
+        Long afterId = CursorUtils.decodeLong(query.getCursor());
+        log.debug("Handling GetUsersPageQuery after id {} with size {}", afterId, query.getSize());
+        
+        // Fetch one extra row to find out whether there is a next page
+        List<UserView> users = userRepository.findViewPageAfterId(afterId, query.getSize() + 1);
+        boolean hasNext = users.size() > query.getSize();
+        if (hasNext) {
+            users = users.subList(0, query.getSize());
+        }
+        
+        List<UserDto> items = users.stream()
+            .map(userMapper::toDto)
+            .collect(Collectors.toList());
+        String nextCursor = hasNext ? CursorUtils.encode(users.get(users.size() - 1).getId()) : null;
+        
+        return new CursorPage<>(items, nextCursor);
+    }
+}
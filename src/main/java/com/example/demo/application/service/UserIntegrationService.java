@@ -1,9 +1,12 @@
 package com.example.demo.application.service;
 
+import com.example.core.application.query.QueryCache;
 import com.example.core.application.service.CacheService;
 import com.example.core.application.service.ExternalApiService;
 import com.example.core.application.service.MessagingService;
 import com.example.core.application.service.SecurityService;
+import com.example.demo.application.query.GetUserByIdQuery;
+import com.example.demo.application.query.GetUsersPageQuery;
 import com.example.demo.domain.model.User;
 import com.example.demo.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +15,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Example service demonstrating usage of all infrastructure layers.
@@ -24,8 +33,14 @@ public class UserIntegrationService {
     
     private static final Logger logger = LoggerFactory.getLogger(UserIntegrationService.class);
     
+    /**
+     * Cache region holding users by {@link #cacheKey(Long)}.
+     */
+    public static final String CACHE_REGION = "users";
+    
     private final UserRepository userRepository;
     private final CacheService cacheService;
+    private final QueryCache queryCache;
     private final ExternalApiService externalApiService;
     private final MessagingService messagingService;
     private final SecurityService securityService;
@@ -44,14 +59,47 @@ public class UserIntegrationService {
             return Optional.empty();
         }
         
-        // 2. Try cache first
-        String cacheKey = "user:" + userId;
-        Optional<User> cachedUser = cacheService.get("users", cacheKey, User.class);
-        if (cachedUser.isPresent()) {
-            logger.debug("User found in cache: {}", userId);
-            return cachedUser;
+        // 2. Cache, loading from the database on a miss; concurrent misses share one load
+        return cacheService.getOrLoad(CACHE_REGION, cacheKey(userId), User.class,
+            () -> loadUser(userId, currentUserId));
+    }
+    
+    /**
+     * Get several users with integrated caching and security. Users missing from the cache are loaded
+     * with a single database query.
+     *
+     * @param userIds The user IDs
+     * @return The users found, in the order of the given IDs; empty if not authorized
+     */
+    public List<User> getUsersWithIntegration(Collection<Long> userIds) {
+        if (!securityService.hasPermission("READ_USER")) {
+            logger.warn("User {} does not have permission to read user data", securityService.getCurrentUserId());
+            return List.of();
         }
         
+        Map<String, Long> idsByKey = new HashMap<>();
+        List<String> keys = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            String key = cacheKey(userId);
+            idsByKey.put(key, userId);
+            keys.add(key);
+        }
+        Map<String, User> users = cacheService.getAll(CACHE_REGION, keys, User.class,
+            missingKeys -> loadUsers(missingKeys, idsByKey));
+        return new ArrayList<>(users.values());
+    }
+    
+    /**
+     * Gets the cache key of a user.
+     */
+    public static String cacheKey(Long userId) {
+        return "user:" + userId;
+    }
+    
+    /**
+     * Loads a user on a cache miss, validating it externally and publishing the access.
+     */
+    private Optional<User> loadUser(Long userId, String currentUserId) {
         // 3. Database lookup
         Optional<User> user = userRepository.findById(userId);
         if (user.isEmpty()) {
@@ -59,10 +107,7 @@ public class UserIntegrationService {
             return Optional.empty();
         }
         
-        // 4. Cache the result
-        cacheService.put("users", cacheKey, user.get());
-        
-        // 5. External API validation (example)
+        // 4. External API validation (example)
         try {
             validateUserExternally(user.get());
         } catch (Exception e) {
@@ -70,13 +115,25 @@ public class UserIntegrationService {
             // Continue anyway - this is just an example
         }
         
-        // 6. Publish access event
-        messagingService.publishMessage("user.events", 
+        // 5. Publish access event
+        messagingService.publishMessage("user.events", userId,
             String.format("User %d accessed by %s", userId, currentUserId));
         
         return user;
     }
     
+    private Map<String, User> loadUsers(Set<String> keys, Map<String, Long> idsByKey) {
+        List<Long> ids = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            ids.add(idsByKey.get(key));
+        }
+        Map<String, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(ids)) {
+            users.put(cacheKey(user.getId()), user);
+        }
+        return users;
+    }
+    
     /**
      * Example external API validation.
      */
@@ -111,9 +168,10 @@ public class UserIntegrationService {
         // 2. Save to database
         User savedUser = userRepository.save(user);
         
-        // 3. Update cache
-        String cacheKey = "user:" + user.getId();
-        cacheService.put("users", cacheKey, savedUser);
+        // 3. Update cache; a load of this user still in progress will not overwrite it
+        cacheService.put(CACHE_REGION, cacheKey(savedUser.getId()), savedUser);
+        queryCache.invalidate(GetUserByIdQuery.class);
+        queryCache.invalidate(GetUsersPageQuery.class);
         
         // 4. Notify external systems
         try {
@@ -124,7 +182,7 @@ public class UserIntegrationService {
         }
         
         // 5. Publish update event
-        messagingService.publishMessage("user.events", 
+        messagingService.publishMessage("user.events", savedUser.getId(),
             String.format("User %d updated", savedUser.getId()));
         
         return savedUser;
@@ -20,4 +20,15 @@ public class UserCreatedEvent implements DomainEvent {
     private final String firstName;
     private final String lastName;
     private final Email email;
+    // Not known until the user is persisted
+    private Long userId;
+    
+    public void assignUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    @Override
+    public Object getAggregateId() {
+        return userId;
+    }
 }
@@ -20,4 +20,9 @@ public class UserEmailChangedEvent implements DomainEvent {
     private final Long userId;
     private final Email oldEmail;
     private final Email newEmail;
+    
+    @Override
+    public Object getAggregateId() {
+        return userId;
+    }
 }
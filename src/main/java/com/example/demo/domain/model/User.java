@@ -6,6 +6,8 @@ import com.example.demo.domain.event.UserCreatedEvent;
 import com.example.demo.domain.event.UserEmailChangedEvent;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 
@@ -14,11 +16,15 @@ import java.time.Instant;
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Getter
 public class User extends AggregateRoot<Long> {
     
+    // Pooled sequence so that inserts can be batched; ids are allocated 50 at a time
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -58,6 +64,14 @@ public class User extends AggregateRoot<Long> {
         return user;
     }
     
+    // Gives the pending creation event the id that JPA assigned when the user was persisted
+    public void recordAssignedId() {
+        getDomainEvents().stream()
+            .filter(UserCreatedEvent.class::isInstance)
+            .map(UserCreatedEvent.class::cast)
+            .forEach(event -> event.assignUserId(id));
+    }
+    
     // Getter for email as Email value object
     public Email getEmail() {
         return Email.of(emailValue);
@@ -3,9 +3,13 @@ package com.example.demo.domain.repository;
 import com.example.core.domain.repository.Repository;
 import com.example.demo.domain.model.Email;
 import com.example.demo.domain.model.User;
+import com.example.demo.domain.repository.projection.UserView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for User aggregate.
@@ -14,7 +18,7 @@ public interface UserRepository extends Repository<User, Long> {
     
     /**
      * Finds a user by email address.
-     * 
+     *
      * @param email The email to search for
      * @return Optional containing the user if found
      */
@@ -22,16 +26,51 @@ public interface UserRepository extends Repository<User, Long> {
     
     /**
      * Checks if a user exists with the given email.
-     * 
+     *
      * @param email The email to check
      * @return true if exists, false otherwise
      */
     boolean existsByEmail(Email email);
     
+    /**
+     * Finds which of the given emails are already taken, in a single query.
+     *
+     * @param emails The emails to check
+     * @return The subset of emails that belong to existing users
+     */
+    Set<Email> findExistingEmails(Collection<Email> emails);
+    
     /**
      * Finds all users.
-     * 
+     *
      * @return List of all users
      */
     List<User> findAll();
+    
+    /**
+     * Finds the view of a user by id, without loading the aggregate.
+     *
+     * @param id The user id
+     * @return Optional containing the view if the user exists
+     */
+    Optional<UserView> findViewById(Long id);
+    
+    /**
+     * Finds the views of the users with an id greater than the given one, in ascending id order,
+     * without loading the aggregates.
+     *
+     * @param afterId The id to seek past, or null to start from the first user
+     * @param limit The maximum number of views to return
+     * @return Up to {@code limit} views
+     */
+    List<UserView> findViewPageAfterId(Long afterId, int limit);
+    
+    /**
+     * Streams all users in ascending id order, reading them from the database in chunks.
+     * Must be called inside a transaction and the stream must be closed. The streamed users are
+     * detached, so they can be discarded as soon as they are processed.
+     *
+     * @return Stream of all users
+     */
+    Stream<User> streamAll();
 }
@@ -0,0 +1,26 @@
+package com.example.demo.domain.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * Read-only view of a user's data, for queries that display users rather than change them.
+ * Views are read without loading the User aggregate.
+ */
+public interface UserView {
+    
+    Long getId();
+    
+    String getFirstName();
+    
+    String getLastName();
+    
+    String getEmail();
+    
+    Instant getCreatedAt();
+    
+    Instant getUpdatedAt();
+    
+    default String getFullName() {
+        return getFirstName() + " " + getLastName();
+    }
+}
@@ -4,13 +4,20 @@ import com.example.core.infrastructure.database.adapter.DatabaseRepositoryAdapte
 import com.example.demo.domain.model.Email;
 import com.example.demo.domain.model.User;
 import com.example.demo.domain.repository.UserRepository;
+import com.example.demo.domain.repository.projection.UserView;
+import com.example.demo.infrastructure.database.projection.UserViewRow;
 import com.example.demo.infrastructure.database.repository.JpaUserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Database adapter implementation of UserRepository using JPA.
@@ -18,28 +25,86 @@ import java.util.Optional;
  */
 @Repository
 @RequiredArgsConstructor
-public class UserDatabaseAdapter extends DatabaseRepositoryAdapter<User, Long> 
+public class UserDatabaseAdapter extends DatabaseRepositoryAdapter<User, Long>
     implements UserRepository {
     
     private final JpaUserRepository jpaUserRepository;
     
+    private final AttributeProbe<String> emailProbe = probe("emailValue");
+    
+    private final Projection<UserView> views = projection(
+        UserViewRow.class, "id", "firstName", "lastName", "emailValue", "createdAt", "updatedAt");
+    
     @Override
     protected JpaRepository<User, Long> getJpaRepository() {
         return jpaUserRepository;
     }
     
+    // Sequence ids are assigned on persist, so the creation event gets its id without a flush
+    @Override
+    public User save(User user) {
+        User savedUser = jpaUserRepository.save(user);
+        savedUser.recordAssignedId();
+        return savedUser;
+    }
+    
+    @Override
+    public List<User> saveAll(Collection<User> users) {
+        List<User> savedUsers = jpaUserRepository.saveAll(users);
+        savedUsers.forEach(User::recordAssignedId);
+        return savedUsers;
+    }
+    
     @Override
     public Optional<User> findByEmail(Email email) {
         return jpaUserRepository.findByEmailValue(email.getValue());
     }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByEmail(Email email) {
-        return jpaUserRepository.findByEmailValue(email.getValue()).isPresent();
+        return emailProbe.exists(email.getValue());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Email> findExistingEmails(Collection<Email> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        List<String> emailValues = emails.stream()
+            .map(Email::getValue)
+            .collect(Collectors.toList());
+        return jpaUserRepository.findEmailValuesIn(emailValues).stream()
+            .map(Email::of)
+            .collect(Collectors.toSet());
     }
     
     @Override
     public List<User> findAll() {
         return jpaUserRepository.findAll();
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserView> findViewById(Long id) {
+        return views.findById(id);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserView> findViewPageAfterId(Long afterId, int limit) {
+        return views.findPageAfterId(afterId, limit);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<User> streamAll() {
+        // Detach each user as it is read so the persistence context does not grow with the table
+        return jpaUserRepository.streamAllByOrderByIdAsc()
+            .map(user -> {
+                getEntityManager().detach(user);
+                return user;
+            });
+    }
 }
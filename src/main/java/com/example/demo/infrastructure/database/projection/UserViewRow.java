@@ -0,0 +1,21 @@
+package com.example.demo.infrastructure.database.projection;
+
+import com.example.demo.domain.repository.projection.UserView;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Row of the users table read through a JPQL constructor expression.
+ * The constructor parameters follow the attribute order of UserDatabaseAdapter's projection.
+ */
+@Value
+public class UserViewRow implements UserView {
+    
+    Long id;
+    String firstName;
+    String lastName;
+    String email;
+    Instant createdAt;
+    Instant updatedAt;
+}
@@ -2,11 +2,17 @@ package com.example.demo.infrastructure.database.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.example.demo.domain.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * JPA repository interface for User entity.
@@ -16,4 +22,14 @@ public interface JpaUserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT u FROM User u WHERE u.emailValue = :emailValue")
     Optional<User> findByEmailValue(@Param("emailValue") String emailValue);
+    
+    @Query("SELECT u.emailValue FROM User u WHERE u.emailValue IN :emailValues")
+    List<String> findEmailValuesIn(@Param("emailValues") Collection<String> emailValues);
+    
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<User> streamAllByOrderByIdAsc();
 }
@@ -1,25 +1,53 @@
 package com.example.demo.presentation.controller;
 
 import com.example.core.application.service.UseCaseDispatcher;
+import com.example.core.application.dto.CursorPage;
+import com.example.core.application.usecase.UseCaseResult;
+import com.example.core.presentation.export.CsvRowWriter;
+import com.example.core.presentation.export.ExportFormat;
+import com.example.core.presentation.export.NdjsonRowWriter;
+import com.example.core.presentation.export.RowWriter;
+import com.example.core.presentation.request.CursorPageRequest;
 import com.example.core.presentation.response.ApiResponse;
 import com.example.demo.application.command.CreateUserCommand;
+import com.example.demo.application.command.ImportUsersCommand;
+import com.example.demo.application.dto.ImportProgress;
 import com.example.demo.application.dto.UserDto;
-import com.example.demo.application.query.GetAllUsersQuery;
+import com.example.demo.application.query.ExportUsersQuery;
 import com.example.demo.application.query.GetUserByIdQuery;
+import com.example.demo.application.query.GetUsersPageQuery;
 import com.example.demo.presentation.request.CreateUserRequest;
+import com.example.demo.presentation.request.CreateUsersBatchRequest;
+import com.example.demo.presentation.request.UserImportReader;
 import com.example.demo.presentation.response.CreateUserResponse;
+import com.example.demo.presentation.response.CreateUsersBatchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST controller for user operations.
+ * Endpoints dispatch asynchronously and return the future, so the servlet thread is released
+ * while the handler runs.
  */
 @RestController
 @RequestMapping("/api/users")
@@ -27,40 +55,136 @@ import java.util.List;
 @Tag(name = "Users", description = "User management operations")
 public class UserController {
     
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    
+    private static final LinkedHashMap<String, Function<UserDto, ?>> CSV_COLUMNS = new LinkedHashMap<>();
+    
+    static {
+        CSV_COLUMNS.put("id", UserDto::getId);
+        CSV_COLUMNS.put("firstName", UserDto::getFirstName);
+        CSV_COLUMNS.put("lastName", UserDto::getLastName);
+        CSV_COLUMNS.put("email", UserDto::getEmail);
+        CSV_COLUMNS.put("createdAt", UserDto::getCreatedAt);
+        CSV_COLUMNS.put("updatedAt", UserDto::getUpdatedAt);
+    }
+    
     private final UseCaseDispatcher useCaseDispatcher;
+    private final ObjectMapper objectMapper;
     
     @GetMapping
-    @Operation(summary = "Get all users")
-    public ResponseEntity<ApiResponse<List<UserDto>>> getAllUsers() {
-        GetAllUsersQuery query = new GetAllUsersQuery();
-        List<UserDto> users = useCaseDispatcher.dispatch(query);
+    @Operation(summary = "Get a page of users ordered by id; pass nextCursor to get the following page")
+    public CompletableFuture<ResponseEntity<ApiResponse<CursorPage<UserDto>>>> getUsers(
+        @Valid CursorPageRequest request) {
         
-        return ResponseEntity.ok(ApiResponse.success(users, "Users retrieved successfully"));
+        GetUsersPageQuery query = new GetUsersPageQuery(request.getCursor(), request.getValidatedSize());
+        
+        return useCaseDispatcher.dispatchAsync(query)
+            .thenApply(users -> ResponseEntity.ok(ApiResponse.success(users, "Users retrieved successfully")));
     }
     
     @PostMapping
     @Operation(summary = "Create a new user")
-    public ResponseEntity<ApiResponse<CreateUserResponse>> createUser(
+    public CompletableFuture<ResponseEntity<ApiResponse<CreateUserResponse>>> createUser(
         @Valid @RequestBody CreateUserRequest request) {
         
-        CreateUserCommand command = new CreateUserCommand();
-        command.setFirstName(request.getFirstName());
-        command.setLastName(request.getLastName());
-        command.setEmail(request.getEmail());
+        CreateUserCommand command = toCommand(request);
+        
+        return useCaseDispatcher.dispatchAsync(command)
+            .thenApply(userId -> ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(new CreateUserResponse(userId), "User created successfully")));
+    }
+    
+    @PostMapping("/batch")
+    @Operation(summary = "Create many users in one transaction")
+    public ResponseEntity<ApiResponse<CreateUsersBatchResponse>> createUsers(
+        @Valid @RequestBody CreateUsersBatchRequest request) {
+        
+        List<CreateUserCommand> commands = request.getUsers().stream()
+            .map(this::toCommand)
+            .collect(Collectors.toList());
+        
+        List<UseCaseResult<Long>> results = useCaseDispatcher.dispatchAll(commands);
+        CreateUsersBatchResponse response = CreateUsersBatchResponse.from(results);
+        
+        return ResponseEntity.ok(ApiResponse.success(response, String.format(
+            "Created %d of %d users", response.getCreated(), results.size())));
+    }
+    
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Import users from a CSV or NDJSON upload in chunks, streaming progress as NDJSON")
+    public ResponseEntity<StreamingResponseBody> importUsers(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream upload) {
+        
+        UserImportReader rows = TEXT_CSV.isCompatibleWith(contentType)
+            ? UserImportReader.csv(upload)
+            : UserImportReader.ndjson(upload, objectMapper);
+        
+        StreamingResponseBody body = out -> {
+            RowWriter<Object> writer = new NdjsonRowWriter<>(out, objectMapper);
+            try {
+                useCaseDispatcher.dispatch(new ImportUsersCommand(rows, progress -> writeProgress(writer, progress)));
+            } catch (IllegalArgumentException e) {
+                // Malformed rows are reported per row; only an unreadable upload, such as a headerless CSV, ends here
+                writer.accept(ApiResponse.error("Import aborted", e.getMessage()));
+            }
+            writer.finish();
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+    
+    @GetMapping("/export")
+    @Operation(summary = "Export all users as NDJSON or CSV, streamed row by row")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
         
-        Long userId = useCaseDispatcher.dispatch(command);
+        StreamingResponseBody body = out -> {
+            RowWriter<UserDto> writer = createWriter(exportFormat, out);
+            useCaseDispatcher.dispatch(new ExportUsersQuery(writer));
+            writer.finish();
+        };
         
-        CreateUserResponse response = new CreateUserResponse(userId);
-        return ResponseEntity.status(HttpStatus.CREATED)
-            .body(ApiResponse.success(response, "User created successfully"));
+        return ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("users." + exportFormat.getExtension())
+                .build()
+                .toString())
+            .body(body);
     }
     
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID")
-    public ResponseEntity<ApiResponse<UserDto>> getUserById(@PathVariable Long id) {
+    public CompletableFuture<ResponseEntity<ApiResponse<UserDto>>> getUserById(@PathVariable Long id) {
         GetUserByIdQuery query = new GetUserByIdQuery(id);
-        UserDto user = useCaseDispatcher.dispatch(query);
         
-        return ResponseEntity.ok(ApiResponse.success(user, "User retrieved successfully"));
+        return useCaseDispatcher.dispatchAsync(query)
+            .thenApply(user -> ResponseEntity.ok(ApiResponse.success(user, "User retrieved successfully")));
+    }
+    
+    private CreateUserCommand toCommand(CreateUserRequest request) {
+        CreateUserCommand command = new CreateUserCommand();
+        command.setFirstName(request.getFirstName());
+        command.setLastName(request.getLastName());
+        command.setEmail(request.getEmail());
+        return command;
+    }
+    
+    private void writeProgress(RowWriter<Object> writer, ImportProgress progress) {
+        writer.accept(progress);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private RowWriter<UserDto> createWriter(ExportFormat format, OutputStream out) throws IOException {
+        if (format == ExportFormat.CSV) {
+            return new CsvRowWriter<>(out, CSV_COLUMNS);
+        }
+        return new NdjsonRowWriter<>(out, objectMapper);
     }
 }
@@ -0,0 +1,19 @@
+package com.example.demo.presentation.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request model for creating many users in one call.
+ */
+@Data
+public class CreateUsersBatchRequest {
+    
+    @NotEmpty(message = "At least one user is required")
+    @Size(max = 1000, message = "At most 1000 users can be created per batch")
+    private List<@Valid CreateUserRequest> users;
+}
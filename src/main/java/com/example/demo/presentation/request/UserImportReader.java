@@ -0,0 +1,192 @@
+package com.example.demo.presentation.request;
+
+import com.example.demo.application.command.CreateUserCommand;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads user import rows lazily from a CSV or NDJSON upload.
+ * <p>
+ * CSV uploads need a header line naming the {@code firstName}, {@code lastName} and {@code email} columns,
+ * in any order. NDJSON uploads have one {@link CreateUserRequest} object per line. Blank lines are skipped.
+ * A malformed line fails its {@link #next()} with {@link IllegalArgumentException}, and reading goes on with
+ * the following line. An empty CSV upload or an incomplete header fails {@link #hasNext()} instead.
+ */
+public abstract class UserImportReader implements Iterator<CreateUserCommand> {
+    
+    private final BufferedReader reader;
+    private long lineNumber;
+    private String nextLine;
+    
+    protected UserImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Create a reader for a CSV upload with a header line.
+     */
+    public static UserImportReader csv(InputStream in) {
+        return new CsvReader(in);
+    }
+    
+    /**
+     * Create a reader for an NDJSON upload.
+     */
+    public static UserImportReader ndjson(InputStream in, ObjectMapper objectMapper) {
+        return new NdjsonReader(in, objectMapper);
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (nextLine == null) {
+            nextLine = readNonBlankLine();
+        }
+        return nextLine != null;
+    }
+    
+    @Override
+    public CreateUserCommand next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        return parse(line, lineNumber);
+    }
+    
+    protected abstract CreateUserCommand parse(String line, long lineNumber);
+    
+    protected String readNonBlankLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+            } while (line != null && line.isBlank());
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    protected static CreateUserCommand command(String firstName, String lastName, String email) {
+        CreateUserCommand command = new CreateUserCommand();
+        command.setFirstName(firstName);
+        command.setLastName(lastName);
+        command.setEmail(email);
+        return command;
+    }
+    
+    private static final class NdjsonReader extends UserImportReader {
+        
+        private final ObjectMapper objectMapper;
+        
+        NdjsonReader(InputStream in, ObjectMapper objectMapper) {
+            super(in);
+            this.objectMapper = objectMapper;
+        }
+        
+        @Override
+        protected CreateUserCommand parse(String line, long lineNumber) {
+            try {
+                CreateUserRequest request = objectMapper.readValue(line, CreateUserRequest.class);
+                return command(request.getFirstName(), request.getLastName(), request.getEmail());
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid JSON on line " + lineNumber + ": " + e.getOriginalMessage());
+            }
+        }
+    }
+    
+    private static final class CsvReader extends UserImportReader {
+        
+        private int firstNameColumn = -1;
+        private int lastNameColumn = -1;
+        private int emailColumn = -1;
+        
+        CsvReader(InputStream in) {
+            super(in);
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (emailColumn < 0) {
+                readHeader();
+            }
+            return super.hasNext();
+        }
+        
+        @Override
+        protected CreateUserCommand parse(String line, long lineNumber) {
+            List<String> values = splitLine(line, lineNumber);
+            return command(value(values, firstNameColumn), value(values, lastNameColumn), value(values, emailColumn));
+        }
+        
+        private void readHeader() {
+            String header = readNonBlankLine();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV upload is empty; a header line is required");
+            }
+            
+            List<String> columns = splitLine(header, 1);
+            for (int i = 0; i < columns.size(); i++) {
+                switch (columns.get(i).trim()) {
+                    case "firstName" -> firstNameColumn = i;
+                    case "lastName" -> lastNameColumn = i;
+                    case "email" -> emailColumn = i;
+                    default -> { }
+                }
+            }
+            if (firstNameColumn < 0 || lastNameColumn < 0 || emailColumn < 0) {
+                throw new IllegalArgumentException("CSV header must contain firstName, lastName and email columns");
+            }
+        }
+        
+        private static String value(List<String> values, int column) {
+            return column < values.size() ? values.get(column) : null;
+        }
+        
+        private static List<String> splitLine(String line, long lineNumber) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            
+            if (quoted) {
+                throw new IllegalArgumentException("Unterminated quoted value on line " + lineNumber);
+            }
+            values.add(current.toString());
+            return values;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.presentation.response;
+
+import com.example.core.application.usecase.UseCaseResult;
+import com.example.core.domain.exception.DomainException;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response model for batch user creation, with one entry per requested user in request order.
+ */
+@Data
+public class CreateUsersBatchResponse {
+    
+    private final int created;
+    private final int failed;
+    private final List<Item> results;
+    
+    /**
+     * Builds the response from the dispatcher results.
+     * Only business rule messages are exposed; other failures are reported generically.
+     */
+    public static CreateUsersBatchResponse from(List<UseCaseResult<Long>> results) {
+        List<Item> items = new ArrayList<>(results.size());
+        int created = 0;
+        
+        for (int i = 0; i < results.size(); i++) {
+            UseCaseResult<Long> result = results.get(i);
+            if (result.isSuccess()) {
+                items.add(new Item(i, result.getValue(), null));
+                created++;
+            } else {
+                RuntimeException error = result.getError();
+                String message = error instanceof DomainException || error instanceof IllegalArgumentException
+                    ? error.getMessage()
+                    : "An unexpected error occurred";
+                items.add(new Item(i, null, message));
+            }
+        }
+        
+        return new CreateUsersBatchResponse(created, results.size() - created, items);
+    }
+    
+    /**
+     * Outcome for a single requested user.
+     */
+    @Data
+    public static class Item {
+        
+        private final int index;
+        private final Long userId;
+        private final String error;
+    }
+}
@@ -1,5 +1,7 @@
+CREATE SEQUENCE users_seq START WITH 100 INCREMENT BY 50;
+
 CREATE TABLE users (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     first_name VARCHAR(50) NOT NULL,
     last_name VARCHAR(50) NOT NULL,
     email VARCHAR(255) NOT NULL UNIQUE,
@@ -7,7 +9,7 @@ CREATE TABLE users (
     updated_at TIMESTAMP NOT NULL
 );
 
--- Insert sample data
-INSERT INTO users (first_name, last_name, email, created_at, updated_at) VALUES
-('John', 'Doe', 'john.doe@example.com', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-('Jane', 'Smith', 'jane.smith@example.com', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+-- Insert sample data (ids below the sequence start)
+INSERT INTO users (id, first_name, last_name, email, created_at, updated_at) VALUES
+(1, 'John', 'Doe', 'john.doe@example.com', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(2, 'Jane', 'Smith', 'jane.smith@example.com', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
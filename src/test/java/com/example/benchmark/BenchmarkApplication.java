@@ -0,0 +1,48 @@
+package com.example.benchmark;
+
+import com.example.SpringBootTemplateApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Starts the application without a web server for benchmarks that need the real persistence stack.
+ * <p>
+ * The database defaults to an in-memory H2 named after the benchmark. Pass
+ * {@code -Dbenchmark.datasource.url=...}, with {@code .username} and {@code .password}, to run
+ * against PostgreSQL; set {@code -Dbenchmark.database-platform} to the Hibernate dialect for any other database.
+ */
+final class BenchmarkApplication {
+    
+    private BenchmarkApplication() {
+    }
+    
+    static ConfigurableApplicationContext start(String name, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.datasource.url=" + System.getProperty(
+                "benchmark.datasource.url", "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1"),
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.example=WARN",
+            // The test classpath holds use case fixtures that have no handler in the application context
+            "--app.dispatcher.verify-handlers=false",
+            "--app.dispatcher.admission.enabled=false"));
+        if (System.getProperty("benchmark.datasource.url") != null) {
+            args.add("--spring.datasource.driver-class-name=");
+            args.add("--spring.jpa.database-platform=" + System.getProperty(
+                "benchmark.database-platform", "org.hibernate.dialect.PostgreSQLDialect"));
+            args.add("--spring.datasource.username=" + System.getProperty("benchmark.datasource.username", ""));
+            args.add("--spring.datasource.password=" + System.getProperty("benchmark.datasource.password", ""));
+        }
+        args.addAll(Arrays.asList(extraArgs));
+        
+        // Passed as arguments so that they override application.yml
+        return new SpringApplicationBuilder(SpringBootTemplateApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.benchmark;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.domain.event.DomainEventHandler;
+import com.example.core.infrastructure.messaging.async.AsyncEventHandlerExecutor;
+import com.example.core.infrastructure.messaging.bus.RingBufferEventBus;
+import com.example.core.infrastructure.messaging.bus.WaitStrategy;
+import com.example.core.infrastructure.messaging.publisher.SpringDomainEventPublisher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the fan-out throughput of the ring buffer event bus with the asynchronous and the synchronous
+ * handler publisher, for four publishing threads and two handlers per event.
+ * <p>
+ * The bus and the asynchronous publisher return once an event is queued, but their queues are bounded, so over
+ * a measurement iteration the throughput is limited by how fast the handlers are reached.
+ * Run from the IDE through {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code org.openjdk.jmh.Main EventBusThroughputBenchmark} on the test classpath.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class EventBusThroughputBenchmark {
+    
+    private static final int AGGREGATES = 1024;
+    
+    private final ActivityEvent[] events = new ActivityEvent[AGGREGATES];
+    private final LongAdder handled = new LongAdder();
+    private SpringDomainEventPublisher synchronousPublisher;
+    private SpringDomainEventPublisher asynchronousPublisher;
+    private AsyncEventHandlerExecutor asyncExecutor;
+    private ExecutorService handlerPool;
+    
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < AGGREGATES; i++) {
+            events[i] = new ActivityEvent(i);
+        }
+        List<DomainEventHandler<? extends DomainEvent>> handlers = List.of(new ActivityHandler(handled), new ActivityHandler(handled));
+        
+        synchronousPublisher = new SpringDomainEventPublisher(handlers);
+        
+        // Same shape as the default app.messaging.handlers.async pool
+        handlerPool = new ThreadPoolExecutor(4, 16, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1000),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        asyncExecutor = new AsyncEventHandlerExecutor(handlerPool, 64, deadLetter -> { },
+            1, Duration.ZERO, 1.0, Duration.ZERO);
+        asynchronousPublisher = new SpringDomainEventPublisher(handlers, asyncExecutor);
+    }
+    
+    @TearDown
+    public void tearDown() throws Exception {
+        asyncExecutor.close();
+        handlerPool.shutdown();
+    }
+    
+    @Benchmark
+    public void synchronousPublisher() {
+        synchronousPublisher.publish(nextEvent());
+    }
+    
+    @Benchmark
+    public void asynchronousPublisher() {
+        asynchronousPublisher.publish(nextEvent());
+    }
+    
+    @Benchmark
+    public void ringBufferEventBus(BusState bus) {
+        bus.eventBus.publish(nextEvent());
+    }
+    
+    private ActivityEvent nextEvent() {
+        return events[ThreadLocalRandom.current().nextInt(AGGREGATES)];
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(EventBusThroughputBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+    
+    @State(Scope.Benchmark)
+    public static class BusState {
+        
+        @Param({"BLOCKING", "YIELDING"})
+        private WaitStrategy.Type waitStrategy;
+        
+        private RingBufferEventBus eventBus;
+        
+        @Setup
+        public void setUp() {
+            LongAdder handled = new LongAdder();
+            eventBus = new RingBufferEventBus(List.of(new ActivityHandler(handled), new ActivityHandler(handled)),
+                4, 8192, 256, waitStrategy, Duration.ofSeconds(10));
+            eventBus.start();
+        }
+        
+        @TearDown
+        public void tearDown() {
+            eventBus.stop();
+        }
+    }
+    
+    static class ActivityEvent implements DomainEvent {
+        
+        private final Integer aggregateId;
+        
+        ActivityEvent(int aggregateId) {
+            this.aggregateId = aggregateId;
+        }
+        
+        @Override
+        public String getEventId() {
+            return "activity-" + aggregateId;
+        }
+        
+        @Override
+        public Instant getOccurredOn() {
+            return Instant.EPOCH;
+        }
+        
+        @Override
+        public Object getAggregateId() {
+            return aggregateId;
+        }
+    }
+    
+    static class ActivityHandler implements DomainEventHandler<ActivityEvent> {
+        
+        private final LongAdder handled;
+        
+        ActivityHandler(LongAdder handled) {
+            this.handled = handled;
+        }
+        
+        @Override
+        public void handle(ActivityEvent event) {
+            handled.increment();
+        }
+        
+        @Override
+        public Class<ActivityEvent> getEventType() {
+            return ActivityEvent.class;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.benchmark;
+
+import com.example.demo.domain.model.Email;
+import com.example.demo.domain.model.User;
+import com.example.demo.domain.repository.UserRepository;
+import com.example.demo.infrastructure.database.repository.JpaUserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares checking whether an email is taken by loading the user with checking it through
+ * the existence probe, which selects a constant from the email index.
+ * <p>
+ * Run from the IDE through {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code org.openjdk.jmh.Main ExistenceProbeBenchmark} on the test classpath. Runs on in-memory H2 unless
+ * another database is configured, see {@link BenchmarkApplication}. The GC profiler reports allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExistenceProbeBenchmark {
+    
+    private static final int USERS = 10_000;
+    
+    /**
+     * Whether the checked email belongs to a user; a miss is the common case when creating users.
+     */
+    @Param({"true", "false"})
+    private boolean taken;
+    
+    private ConfigurableApplicationContext context;
+    private JpaUserRepository jpaUserRepository;
+    private UserRepository userRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private Email email;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("probe-benchmark");
+        jpaUserRepository = context.getBean(JpaUserRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.create("First", "Last", Email.of("probe" + i + "@example.com")));
+        }
+        userRepository.saveAll(users);
+        
+        email = Email.of(taken ? "probe" + (USERS / 2) + "@example.com" : "nobody@example.com");
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Boolean loadEntity() {
+        // The previous existsByEmail implementation
+        return readOnlyTransaction.execute(status -> jpaUserRepository.findByEmailValue(email.getValue()).isPresent());
+    }
+    
+    @Benchmark
+    public Boolean existenceProbe() {
+        return readOnlyTransaction.execute(status -> userRepository.existsByEmail(email));
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ExistenceProbeBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.benchmark;
+
+import com.example.core.infrastructure.messaging.log.FsyncPolicy;
+import com.example.core.infrastructure.messaging.log.LogRecord;
+import com.example.core.infrastructure.messaging.log.MessageLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures append throughput and latency of the message log for each fsync policy, with four appending
+ * threads so that group commit can share fsyncs between them.
+ * <p>
+ * The log lives in a temporary directory on the default file system; pass {@code -Dbenchmark.log.dir=...}
+ * to measure another disk. Run from the IDE through {@link #main(String[])}, or after {@code mvn test-compile}
+ * with {@code org.openjdk.jmh.Main MessageLogAppendBenchmark} on the test classpath; sample time mode
+ * reports latency percentiles.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class MessageLogAppendBenchmark {
+    
+    @Param({"ALWAYS", "INTERVAL", "NEVER"})
+    private FsyncPolicy fsync;
+    
+    @Param({"256"})
+    private int payloadSize;
+    
+    private Path directory;
+    private MessageLog log;
+    private byte[] payload;
+    
+    @Setup
+    public void setUp() throws IOException {
+        String parent = System.getProperty("benchmark.log.dir");
+        directory = parent != null
+            ? Files.createTempDirectory(Path.of(parent), "message-log")
+            : Files.createTempDirectory("message-log");
+        // Small segments bound the disk space the benchmark takes
+        log = new MessageLog(directory, 4, 16 * 1024 * 1024, 4, fsync, Duration.ofMillis(100));
+        payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'x');
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        log.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+    
+    @Benchmark
+    public LogRecord append() {
+        return log.append("user.events", null, "java.lang.String", payload);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(MessageLogAppendBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.benchmark;
+
+import com.example.core.infrastructure.cache.offheap.OffHeapCache;
+import com.example.core.infrastructure.cache.tiered.CacheValueSerializer;
+import com.example.demo.domain.model.Email;
+import com.example.demo.domain.model.User;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a users cache region kept on the heap with one kept off-heap: the pause of a full garbage collection
+ * while the region is filled, and the cost of a hit. Setup prints the heap and off-heap memory taken by the filled
+ * region, measured after a full collection.
+ * <p>
+ * Run from the IDE through {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code org.openjdk.jmh.Main OffHeapCacheBenchmark} on the test classpath. The full collection is a
+ * {@code System.gc()}, a stop-the-world collection of the whole heap, whose length grows with the live objects
+ * the collector has to trace.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:MaxDirectMemorySize=1g"})
+public class OffHeapCacheBenchmark {
+    
+    @Param({"ON_HEAP", "OFF_HEAP"})
+    private String storage;
+    
+    @Param({"500000"})
+    private int users;
+    
+    private Cache cache;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = "OFF_HEAP".equals(storage)
+            ? new OffHeapCache("users", new CacheValueSerializer(SmileMapper.builder().findAndAddModules().build()),
+                512L * 1024 * 1024, null, OffHeapCache.Eviction.LRU, null, null)
+            : new CaffeineCache("users", Caffeine.newBuilder().maximumSize(users).build());
+        
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        for (int i = 0; i < users; i++) {
+            User user = User.create("First" + i, "Last" + i, Email.of("user" + i + "@example.com"));
+            user.clearDomainEvents();
+            cache.put("user:" + i, user);
+        }
+        System.gc();
+        long heapUsed = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+        long offHeapUsed = cache instanceof OffHeapCache offHeapCache ? offHeapCache.usedBytes() : 0;
+        System.out.printf("%n%s region of %d users: %.1f MB heap, %.1f MB off-heap%n",
+            storage, users, heapUsed / 1048576.0, offHeapUsed / 1048576.0);
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void fullCollection() {
+        System.gc();
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object hit() {
+        return cache.get("user:" + ThreadLocalRandom.current().nextInt(users)).get();
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(OffHeapCacheBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.benchmark;
+
+import com.example.core.application.service.UseCaseDispatcher;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.application.usecase.UseCaseInvocation;
+import com.example.core.application.usecase.UseCasePipelineBehavior;
+import com.example.core.infrastructure.dispatch.async.UseCaseAsyncExecutor;
+import com.example.core.infrastructure.dispatch.metrics.UseCaseMetricsBehavior;
+import com.example.core.infrastructure.dispatch.routing.UseCaseRoutingTable;
+import com.example.core.infrastructure.service.SpringUseCaseDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calling a handler directly with dispatching through the use case pipeline.
+ * <p>
+ * Run from the IDE through {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code org.openjdk.jmh.Main UseCaseDispatchBenchmark} on the test classpath.
+ * The GC profiler reports allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UseCaseDispatchBenchmark {
+    
+    private Increment useCase;
+    private IncrementHandler handler;
+    private Map<Class<?>, UseCaseHandler<?, ?>> legacyHandlers;
+    private UseCaseDispatcher dispatcherWithoutBehaviors;
+    private UseCaseDispatcher dispatcherWithBehaviors;
+    private UseCaseDispatcher dispatcherWithMetrics;
+    
+    @Setup
+    public void setUp() {
+        useCase = new Increment(41);
+        handler = new IncrementHandler();
+        
+        legacyHandlers = new HashMap<>();
+        legacyHandlers.put(Increment.class, handler);
+        
+        dispatcherWithoutBehaviors = new SpringUseCaseDispatcher(
+            new UseCaseRoutingTable(List.of(handler)), new UseCaseAsyncExecutor(Runnable::run, type -> 0));
+        dispatcherWithBehaviors = new SpringUseCaseDispatcher(
+            new UseCaseRoutingTable(
+                List.of(handler),
+                List.of(new PassThroughBehavior(), new PassThroughBehavior(), new PassThroughBehavior())),
+            new UseCaseAsyncExecutor(Runnable::run, type -> 0));
+        dispatcherWithMetrics = new SpringUseCaseDispatcher(
+            new UseCaseRoutingTable(List.of(handler), List.of(new UseCaseMetricsBehavior(new SimpleMeterRegistry()))),
+            new UseCaseAsyncExecutor(Runnable::run, type -> 0));
+    }
+    
+    @Benchmark
+    public Integer directHandlerCall() {
+        return handler.handle(useCase);
+    }
+    
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Integer legacyMapLookup() {
+        UseCaseHandler<Increment, Integer> resolved =
+            (UseCaseHandler<Increment, Integer>) legacyHandlers.get(useCase.getClass());
+        return resolved.handle(useCase);
+    }
+    
+    @Benchmark
+    public Integer dispatchWithoutBehaviors() {
+        return dispatcherWithoutBehaviors.dispatch(useCase);
+    }
+    
+    @Benchmark
+    public Integer dispatchWithThreeBehaviors() {
+        return dispatcherWithBehaviors.dispatch(useCase);
+    }
+    
+    @Benchmark
+    public Integer dispatchWithMetrics() {
+        return dispatcherWithMetrics.dispatch(useCase);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(UseCaseDispatchBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+    
+    static class Increment implements UseCase<Integer> {
+        
+        private final int value;
+        
+        Increment(int value) {
+            this.value = value;
+        }
+    }
+    
+    static class IncrementHandler implements UseCaseHandler<Increment, Integer> {
+        
+        @Override
+        public Integer handle(Increment useCase) {
+            // Small values come from the Integer cache, so the handler itself does not allocate
+            return useCase.value + 1;
+        }
+    }
+    
+    static class PassThroughBehavior implements UseCasePipelineBehavior {
+        
+        @Override
+        public <TResponse> TResponse handle(UseCase<TResponse> useCase, UseCaseInvocation next) {
+            return next.proceed(useCase);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.benchmark;
+
+import com.example.core.application.service.UseCaseDispatcher;
+import com.example.demo.application.command.CreateUserCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating users one command at a time with dispatching them as a batch, as the user import does
+ * for each chunk. Runs against the application context with an in-memory H2 database; scores are users per second.
+ * <p>
+ * Run from the IDE through {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code org.openjdk.jmh.Main UserImportBenchmark} on the test classpath.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserImportBenchmark {
+    
+    private static final int CHUNK_SIZE = 500;
+    
+    private ConfigurableApplicationContext context;
+    private UseCaseDispatcher dispatcher;
+    private long sequence;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("import-benchmark");
+        dispatcher = context.getBean(UseCaseDispatcher.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SIZE)
+    public void oneCommandPerUser() {
+        for (CreateUserCommand command : nextChunk()) {
+            dispatcher.dispatch(command);
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SIZE)
+    public Object batchPerChunk() {
+        return dispatcher.dispatchAll(nextChunk());
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(UserImportBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+    
+    private List<CreateUserCommand> nextChunk() {
+        List<CreateUserCommand> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            long n = sequence++;
+            CreateUserCommand command = new CreateUserCommand();
+            command.setFirstName("First");
+            command.setLastName("Last");
+            command.setEmail("user" + n + "@import.example.com");
+            chunk.add(command);
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.benchmark;
+
+import com.example.demo.application.dto.UserDto;
+import com.example.demo.application.mapper.UserMapper;
+import com.example.demo.domain.model.Email;
+import com.example.demo.domain.model.User;
+import com.example.demo.domain.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares reading users as managed entities and mapping them with reading them as views, which
+ * skips entity hydration and the persistence context. Each operation runs in its own read-only transaction,
+ * as the query handlers do.
+ * <p>
+ * Run from the IDE through {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code org.openjdk.jmh.Main UserReadProjectionBenchmark} on the test classpath. Runs on in-memory H2 unless
+ * another database is configured, see {@link BenchmarkApplication}. The GC profiler reports allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserReadProjectionBenchmark {
+    
+    private static final int USERS = 1_000;
+    private static final int PAGE_SIZE = 50;
+    
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserMapper userMapper;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private Long userId;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("projection-benchmark");
+        userRepository = context.getBean(UserRepository.class);
+        userMapper = context.getBean(UserMapper.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.create("First", "Last", Email.of("view" + i + "@example.com")));
+        }
+        userId = userRepository.saveAll(users).get(USERS / 2).getId();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public UserDto byIdAsEntity() {
+        return readOnlyTransaction.execute(status -> userMapper.toDto(userRepository.findById(userId).orElseThrow()));
+    }
+    
+    @Benchmark
+    public UserDto byIdAsView() {
+        return readOnlyTransaction.execute(status -> userMapper.toDto(userRepository.findViewById(userId).orElseThrow()));
+    }
+    
+    @Benchmark
+    public List<UserDto> pageAsEntities() {
+        // The query the page handler ran before it read views
+        return readOnlyTransaction.execute(status -> entityManager
+            .createQuery("SELECT u FROM User u WHERE u.id > :afterId ORDER BY u.id", User.class)
+            .setParameter("afterId", userId)
+            .setMaxResults(PAGE_SIZE)
+            .getResultList().stream()
+            .map(userMapper::toDto)
+            .collect(Collectors.toList()));
+    }
+    
+    @Benchmark
+    public List<UserDto> pageAsViews() {
+        return readOnlyTransaction.execute(status -> userRepository.findViewPageAfterId(userId, PAGE_SIZE).stream()
+            .map(userMapper::toDto)
+            .collect(Collectors.toList()));
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(UserReadProjectionBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
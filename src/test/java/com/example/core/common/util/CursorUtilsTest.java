@@ -0,0 +1,39 @@
+package com.example.core.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CursorUtils.
+ */
+class CursorUtilsTest {
+    
+    @Test
+    void should_decode_encoded_key() {
+        // Arrange
+        String cursor = CursorUtils.encode(12345L);
+        
+        // Act
+        Long key = CursorUtils.decodeLong(cursor);
+        
+        // Assert
+        assertEquals(12345L, key);
+        assertFalse(cursor.contains("12345"));
+    }
+    
+    @Test
+    void should_decode_missing_cursor_as_first_page() {
+        // Act & Assert
+        assertNull(CursorUtils.decodeLong(null));
+        assertNull(CursorUtils.decodeLong(" "));
+    }
+    
+    @Test
+    void should_reject_malformed_cursor() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.decodeLong("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.decodeLong("MTIz"));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.decodeLong(CursorUtils.encode(1L) + "AA"));
+    }
+}
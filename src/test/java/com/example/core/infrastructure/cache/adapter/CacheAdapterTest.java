@@ -0,0 +1,261 @@
+package com.example.core.infrastructure.cache.adapter;
+
+import com.example.core.infrastructure.cache.refresh.CacheRefresher;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the loading operations of CacheAdapter.
+ */
+class CacheAdapterTest {
+    
+    private final CacheAdapter cacheAdapter = new CacheAdapter(cacheManager());
+    
+    @Test
+    void should_share_one_load_between_concurrent_callers() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Optional<String>> first = CompletableFuture.supplyAsync(() ->
+            cacheAdapter.getOrLoad("users", "user:1", String.class, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return Optional.of("Ada");
+            }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        
+        // Act
+        CompletableFuture<Optional<String>> second = CompletableFuture.supplyAsync(() ->
+            cacheAdapter.getOrLoad("users", "user:1", String.class, () -> {
+                loads.incrementAndGet();
+                return Optional.of("Other");
+            }));
+        Thread.sleep(50);
+        release.countDown();
+        
+        // Assert
+        assertEquals(Optional.of("Ada"), first.get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of("Ada"), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(Optional.of("Ada"), cacheAdapter.get("users", "user:1", String.class));
+    }
+    
+    @Test
+    void should_not_cache_absent_result() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        
+        // Act
+        cacheAdapter.getOrLoad("users", "user:1", String.class, () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<String> user = cacheAdapter.getOrLoad("users", "user:1", String.class, () -> {
+            loads.incrementAndGet();
+            return Optional.of("Ada");
+        });
+        
+        // Assert
+        assertEquals(Optional.of("Ada"), user);
+        assertEquals(2, loads.get());
+    }
+    
+    @Test
+    void should_pass_loader_failure_to_caller_and_load_again_later() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> cacheAdapter.getOrLoad("users", "user:1", String.class, () -> {
+            throw new IllegalStateException("Database down");
+        }));
+        assertEquals(Optional.of("Ada"),
+            cacheAdapter.getOrLoad("users", "user:1", String.class, () -> Optional.of("Ada")));
+    }
+    
+    @Test
+    void should_not_keep_value_of_load_invalidated_while_running() {
+        // Act
+        Optional<String> loaded = cacheAdapter.getOrLoad("users", "user:1", String.class, () -> {
+            // The user changes while the outdated row is being loaded
+            cacheAdapter.evict("users", "user:1");
+            return Optional.of("Outdated");
+        });
+        
+        // Assert
+        assertEquals(Optional.of("Outdated"), loaded);
+        assertEquals(Optional.empty(), cacheAdapter.get("users", "user:1", String.class));
+    }
+    
+    @Test
+    void should_load_only_missing_keys_in_one_batch() {
+        // Arrange
+        cacheAdapter.put("users", "user:2", "Alan");
+        AtomicInteger batches = new AtomicInteger();
+        Function<Set<String>, Map<String, String>> loader = keys -> {
+            batches.incrementAndGet();
+            assertEquals(Set.of("user:1", "user:3", "user:4"), keys);
+            return keys.stream().filter(key -> !key.equals("user:4"))
+                .collect(Collectors.toMap(key -> key, key -> "Loaded " + key));
+        };
+        
+        // Act
+        Map<String, String> users = cacheAdapter.getAll("users",
+            List.of("user:3", "user:2", "user:1", "user:4", "user:3"), String.class, loader);
+        
+        // Assert
+        assertEquals(1, batches.get());
+        assertEquals(List.of("user:3", "user:2", "user:1"), List.copyOf(users.keySet()));
+        assertEquals("Alan", users.get("user:2"));
+        assertEquals(Optional.of("Loaded user:1"), cacheAdapter.get("users", "user:1", String.class));
+    }
+    
+    @Test
+    void should_serve_bulk_read_from_cache_without_loading() {
+        // Arrange
+        cacheAdapter.putAll("users", Map.of("user:1", "Ada", "user:2", "Alan"));
+        
+        // Act
+        Map<String, String> users = cacheAdapter.getAll("users", List.of("user:1", "user:2"), String.class, keys -> {
+            throw new AssertionError("Nothing to load");
+        });
+        
+        // Assert
+        assertEquals(Map.of("user:1", "Ada", "user:2", "Alan"), users);
+    }
+    
+    @Test
+    void should_clear_region() {
+        // Arrange
+        cacheAdapter.putAll("users", Map.of("user:1", "Ada", "user:2", "Alan"));
+        
+        // Act
+        cacheAdapter.clear("users");
+        
+        // Assert
+        assertEquals(Optional.empty(), cacheAdapter.get("users", "user:1", String.class));
+        assertEquals(Optional.empty(), cacheAdapter.get("users", "user:2", String.class));
+    }
+    
+    @Test
+    void should_serve_entry_due_for_refresh_while_reloading_it() throws Exception {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (CacheRefresher refresher = refresher(meterRegistry)) {
+            CacheAdapter refreshing = new CacheAdapter(refreshingCacheManager(nanos), refresher);
+            refreshing.put("users", "user:1", "Ada");
+            nanos.addAndGet(TimeUnit.MINUTES.toNanos(9));
+            
+            // Act
+            Optional<String> served = refreshing.getOrLoad("users", "user:1", String.class,
+                () -> Optional.of("Ada Lovelace"));
+            
+            // Assert
+            assertEquals(Optional.of("Ada"), served);
+            awaitValue(refreshing, "user:1", "Ada Lovelace");
+            assertEquals(0, meterRegistry.counter("cache.stale.served", "cache", "users").count());
+        }
+    }
+    
+    @Test
+    void should_serve_stale_entry_within_grace_period_while_reloading_it() throws Exception {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        try (CacheRefresher refresher = refresher(meterRegistry)) {
+            CacheAdapter refreshing = new CacheAdapter(refreshingCacheManager(nanos), refresher);
+            refreshing.put("users", "user:1", "Ada");
+            nanos.addAndGet(TimeUnit.SECONDS.toNanos(610));
+            
+            // Act
+            Optional<String> served = refreshing.getOrLoad("users", "user:1", String.class, () -> {
+                await(release);
+                return Optional.of("Ada Lovelace");
+            });
+            Optional<String> plainRead = refreshing.get("users", "user:1", String.class);
+            release.countDown();
+            
+            // Assert
+            assertEquals(Optional.of("Ada"), served);
+            assertEquals(Optional.empty(), plainRead);
+            assertEquals(1, meterRegistry.counter("cache.stale.served", "cache", "users").count());
+            awaitValue(refreshing, "user:1", "Ada Lovelace");
+        }
+    }
+    
+    @Test
+    void should_load_entry_past_grace_period_in_caller() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        try (CacheRefresher refresher = refresher(new SimpleMeterRegistry())) {
+            CacheAdapter refreshing = new CacheAdapter(refreshingCacheManager(nanos), refresher);
+            refreshing.put("users", "user:1", "Ada");
+            nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+            
+            // Act
+            Optional<String> user = refreshing.getOrLoad("users", "user:1", String.class,
+                () -> Optional.of("Ada Lovelace"));
+            
+            // Assert
+            assertEquals(Optional.of("Ada Lovelace"), user);
+        }
+    }
+    
+    private static CacheRefresher refresher(SimpleMeterRegistry meterRegistry) {
+        return new CacheRefresher(
+            Map.of("users", new CacheRefresher.Policy(Duration.ofMinutes(10), Duration.ofMinutes(1))),
+            1, 10, meterRegistry);
+    }
+    
+    private static CaffeineCacheManager refreshingCacheManager(AtomicLong nanos) {
+        // Ten minutes to live and a thirty second grace period
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache("users", Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(630))
+            .ticker(nanos::get)
+            .build());
+        return cacheManager;
+    }
+    
+    private static void awaitValue(CacheAdapter cacheAdapter, String key, String expected)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!cacheAdapter.get("users", key, String.class).equals(Optional.of(expected))
+            && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(Optional.of(expected), cacheAdapter.get("users", key, String.class));
+    }
+    
+    private static CaffeineCacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache("users", Caffeine.newBuilder().maximumSize(100).build());
+        return cacheManager;
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.core.infrastructure.cache.config;
+
+import com.example.core.application.dto.CursorPage;
+import com.example.core.infrastructure.cache.offheap.OffHeapCache;
+import com.example.core.infrastructure.cache.refresh.CacheRefresher;
+import com.example.core.infrastructure.cache.tiered.InMemorySharedCacheStore;
+import com.example.core.infrastructure.cache.tiered.TieredCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the cache regions in CacheConfig.
+ */
+class CacheConfigTest {
+    
+    @Test
+    void should_create_only_configured_regions() {
+        // Arrange
+        CacheProperties properties = new CacheProperties();
+        properties.getRegions().put("users", new CacheProperties.Region());
+        properties.getRegions().put("queries", new CacheProperties.Region());
+        
+        // Act
+        CacheManager cacheManager = CacheConfig.createCacheManager(properties, null, new ObjectMapper());
+        
+        // Assert
+        assertEquals(Set.of("users", "queries"), Set.copyOf(cacheManager.getCacheNames()));
+        assertNull(cacheManager.getCache("unknown"));
+    }
+    
+    @Test
+    void should_put_only_shared_regions_in_front_of_shared_store() {
+        // Arrange
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Region users = new CacheProperties.Region();
+        users.setShared(true);
+        properties.getRegions().put("users", users);
+        properties.getRegions().put("queries", new CacheProperties.Region());
+        
+        // Act
+        CacheManager cacheManager = CacheConfig.createCacheManager(
+            properties, new InMemorySharedCacheStore(), new ObjectMapper());
+        
+        // Assert
+        assertInstanceOf(TieredCache.class, cacheManager.getCache("users"));
+        assertInstanceOf(CaffeineCache.class, cacheManager.getCache("queries"));
+        assertFalse(cacheManager.getCache("queries") instanceof TieredCache);
+        assertEquals(Map.of("users", Duration.ofMinutes(10)), CacheConfig.sharedRegions(properties));
+    }
+    
+    @Test
+    void should_serve_off_heap_regions_next_to_on_heap_regions() {
+        // Arrange
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Region users = new CacheProperties.Region();
+        users.setStorage(CacheProperties.Storage.OFF_HEAP);
+        users.setOffHeapCapacity(DataSize.ofMegabytes(1));
+        properties.getRegions().put("users", users);
+        properties.getRegions().put("queries", new CacheProperties.Region());
+        
+        // Act
+        CacheManager cacheManager = CacheConfig.createCacheManager(properties, null, new ObjectMapper());
+        
+        // Assert
+        assertEquals(Set.of("users", "queries"), Set.copyOf(cacheManager.getCacheNames()));
+        assertInstanceOf(OffHeapCache.class, cacheManager.getCache("users"));
+        assertInstanceOf(CaffeineCache.class, cacheManager.getCache("queries"));
+        assertNull(cacheManager.getCache("unknown"));
+    }
+    
+    @Test
+    void should_reject_region_both_off_heap_and_shared() {
+        // Arrange
+        CacheProperties.Region users = new CacheProperties.Region();
+        users.setStorage(CacheProperties.Storage.OFF_HEAP);
+        users.setShared(true);
+        
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> CacheConfig.offHeapCache("users", users, new CacheProperties.Region()));
+    }
+    
+    @Test
+    void should_bound_region_by_max_entries() {
+        // Arrange
+        CacheProperties.Region bounds = CacheProperties.Region.of(100, null);
+        Cache<Object, Object> cache = CacheConfig.regionBuilder(bounds, new CacheProperties.Region())
+            .executor(Runnable::run)
+            .build();
+        
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, "user" + i);
+        }
+        cache.cleanUp();
+        
+        // Assert
+        assertEquals(100, cache.estimatedSize());
+        assertEquals(900, cache.stats().evictionCount());
+    }
+    
+    @Test
+    void should_bound_region_by_weight_of_collection_elements() {
+        // Arrange
+        CacheProperties.Region bounds = new CacheProperties.Region();
+        bounds.setMaxWeight(10L);
+        Cache<Object, Object> cache = CacheConfig.regionBuilder(bounds, CacheProperties.Region.of(1_000, null))
+            .executor(Runnable::run)
+            .build();
+        
+        // Act
+        cache.put("first", List.of(1, 2, 3, 4, 5, 6));
+        cache.put("second", List.of(1, 2, 3, 4, 5, 6));
+        cache.cleanUp();
+        
+        // Assert
+        assertEquals(1, cache.estimatedSize());
+    }
+    
+    @Test
+    void should_weigh_wrapped_query_results_by_their_elements() {
+        // Arrange
+        CacheProperties.Region bounds = new CacheProperties.Region();
+        bounds.setMaxWeight(10L);
+        Cache<Object, Object> cache = CacheConfig.regionBuilder(bounds, CacheProperties.Region.of(1_000, null))
+            .executor(Runnable::run)
+            .build();
+        
+        // Act
+        cache.put("list", new SimpleValueWrapper(List.of(1, 2, 3, 4, 5, 6)));
+        cache.put("page", new SimpleValueWrapper(new CursorPage<>(List.of(1, 2, 3, 4, 5, 6), "6")));
+        cache.cleanUp();
+        
+        // Assert
+        assertEquals(1, cache.estimatedSize());
+    }
+    
+    @Test
+    void should_expire_entries_after_write_and_after_access() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        CacheProperties.Region bounds = new CacheProperties.Region();
+        bounds.setExpireAfterAccess(Duration.ofMinutes(1));
+        Cache<Object, Object> cache = CacheConfig.regionBuilder(bounds, CacheProperties.Region.of(100, Duration.ofMinutes(5)))
+            .ticker(nanos::get)
+            .executor(Runnable::run)
+            .build();
+        cache.put("read", "value");
+        cache.put("idle", "value");
+        
+        // Act
+        for (int i = 0; i < 5; i++) {
+            nanos.addAndGet(TimeUnit.SECONDS.toNanos(50));
+            cache.getIfPresent("read");
+        }
+        Object readAfterIdleOneDied = cache.getIfPresent("read");
+        Object idle = cache.getIfPresent("idle");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(55));
+        Object readAfterFiveMinutes = cache.getIfPresent("read");
+        
+        // Assert
+        assertEquals("value", readAfterIdleOneDied);
+        assertNull(idle);
+        assertNull(readAfterFiveMinutes);
+    }
+    
+    @Test
+    void should_record_hits_and_misses() {
+        // Arrange
+        Cache<Object, Object> cache = CacheConfig.regionBuilder(new CacheProperties.Region(), CacheProperties.Region.of(10, null))
+            .build();
+        cache.put("key", "value");
+        
+        // Act
+        cache.getIfPresent("key");
+        cache.getIfPresent("missing");
+        
+        // Assert
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+    
+    @Test
+    void should_keep_refreshed_entries_through_stale_grace_period() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        CacheProperties.Region bounds = CacheProperties.Region.of(100, Duration.ofMinutes(10));
+        bounds.setStaleWhileRevalidate(Duration.ofSeconds(30));
+        Cache<Object, Object> cache = CacheConfig.regionBuilder(bounds, new CacheProperties.Region())
+            .ticker(nanos::get)
+            .executor(Runnable::run)
+            .build();
+        cache.put("user:1", "Ada");
+        
+        // Act
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(620));
+        Object withinGrace = cache.getIfPresent("user:1");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Object pastGrace = cache.getIfPresent("user:1");
+        
+        // Assert
+        assertEquals("Ada", withinGrace);
+        assertNull(pastGrace);
+    }
+    
+    @Test
+    void should_create_refresh_policies_of_refreshed_regions_only() {
+        // Arrange
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Region users = new CacheProperties.Region();
+        users.setRefreshAhead(Duration.ofMinutes(1));
+        properties.setRegions(Map.of("users", users, "entities", new CacheProperties.Region()));
+        
+        // Act
+        Map<String, CacheRefresher.Policy> policies = CacheConfig.refreshPolicies(properties);
+        
+        // Assert
+        assertEquals(Map.of("users", new CacheRefresher.Policy(Duration.ofMinutes(10), Duration.ofMinutes(1))),
+            policies);
+    }
+    
+    @Test
+    void should_reject_refreshed_region_without_expire_after_write() {
+        // Arrange
+        CacheProperties properties = new CacheProperties();
+        properties.setDefaults(CacheProperties.Region.of(100, null));
+        CacheProperties.Region users = new CacheProperties.Region();
+        users.setStaleWhileRevalidate(Duration.ofSeconds(30));
+        properties.setRegions(Map.of("users", users));
+        
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> CacheConfig.refreshPolicies(properties));
+    }
+    
+    @Test
+    void should_reject_refresh_ahead_not_shorter_than_expire_after_write() {
+        // Arrange
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Region users = CacheProperties.Region.of(100, Duration.ofMinutes(1));
+        users.setRefreshAhead(Duration.ofMinutes(1));
+        properties.setRegions(Map.of("users", users));
+        
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> CacheConfig.refreshPolicies(properties));
+    }
+    
+    @Test
+    void should_reject_refreshed_off_heap_region() {
+        // Arrange
+        CacheProperties.Region users = new CacheProperties.Region();
+        users.setStorage(CacheProperties.Storage.OFF_HEAP);
+        users.setRefreshAhead(Duration.ofMinutes(1));
+        
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> CacheConfig.offHeapCache("users", users, CacheProperties.Region.of(100, Duration.ofMinutes(10))));
+    }
+    
+    @Test
+    void should_reject_region_bounded_by_entries_and_weight() {
+        // Arrange
+        CacheProperties.Region bounds = CacheProperties.Region.of(10, null);
+        bounds.setMaxWeight(10L);
+        
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> CacheConfig.regionBuilder(bounds, new CacheProperties.Region()));
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.core.infrastructure.cache.offheap;
+
+import com.example.core.infrastructure.cache.tiered.CacheValueSerializer;
+import com.example.demo.domain.model.Email;
+import com.example.demo.domain.model.User;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OffHeapCache.
+ */
+class OffHeapCacheTest {
+    
+    private static final String BIO = "b".repeat(100);
+    
+    private final CacheValueSerializer serializer = new CacheValueSerializer(SmileMapper.builder().findAndAddModules().build());
+    private final int valueSize = serializer.serializeValue(new Profile("a", BIO)).length;
+    
+    @Test
+    void should_return_copy_of_cached_aggregate() {
+        // Arrange
+        OffHeapCache cache = cache(1024 * 1024, null, OffHeapCache.Eviction.LRU);
+        User user = User.create("Ada", "Lovelace", Email.of("ada@example.com"));
+        
+        // Act
+        cache.put("user:1", user);
+        User cached = cache.get("user:1", User.class);
+        
+        // Assert
+        assertNotSame(user, cached);
+        assertEquals("Ada", cached.getFirstName());
+        assertEquals(Email.of("ada@example.com"), cached.getEmail());
+        assertEquals(user.getCreatedAt(), cached.getCreatedAt());
+        assertEquals(1, cache.hitCount());
+        assertTrue(cache.usedBytes() > 0);
+    }
+    
+    @Test
+    void should_evict_oldest_value_when_full_in_fifo_order() {
+        // Arrange
+        OffHeapCache cache = cache(valueSize * 4 + valueSize / 2, null, OffHeapCache.Eviction.FIFO);
+        putProfiles(cache, "a", "b", "c", "d");
+        cache.get("a");
+        
+        // Act
+        cache.put("e", new Profile("e", BIO));
+        
+        // Assert
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+        assertNotNull(cache.get("e"));
+        assertEquals(1, cache.evictionCount());
+    }
+    
+    @Test
+    void should_keep_recently_read_value_when_full_in_lru_order() {
+        // Arrange
+        OffHeapCache cache = cache(valueSize * 4 + valueSize / 2, null, OffHeapCache.Eviction.LRU);
+        putProfiles(cache, "a", "b", "c", "d");
+        cache.get("a");
+        
+        // Act
+        cache.put("e", new Profile("e", BIO));
+        
+        // Assert
+        assertEquals(new Profile("a", BIO), cache.get("a", Profile.class));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("e"));
+    }
+    
+    @Test
+    void should_bound_entries_by_max_entries() {
+        // Arrange
+        OffHeapCache cache = cache(1024 * 1024, 2L, OffHeapCache.Eviction.FIFO);
+        
+        // Act
+        putProfiles(cache, "a", "b", "c");
+        
+        // Assert
+        assertEquals(2, cache.size());
+        assertNull(cache.get("a"));
+    }
+    
+    @Test
+    void should_expire_values_after_write() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        OffHeapCache cache = new OffHeapCache("users", serializer, 1024 * 1024, null, OffHeapCache.Eviction.LRU,
+            Duration.ofMinutes(1), null, nanos::get);
+        cache.put("a", new Profile("a", BIO));
+        
+        // Act
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        
+        // Assert
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void should_not_cache_values_it_cannot_serialize() {
+        // Arrange
+        OffHeapCache cache = cache(1024 * 1024, null, OffHeapCache.Eviction.LRU);
+        cache.put("a", new Profile("a", BIO));
+        
+        // Act
+        cache.put("a", List.of("x", "y"));
+        cache.put("b", new Profile("b", "x".repeat(2 * 1024 * 1024)));
+        
+        // Assert
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(2, cache.rejectedCount());
+    }
+    
+    @Test
+    void should_load_missing_value_once() {
+        // Arrange
+        OffHeapCache cache = cache(1024 * 1024, null, OffHeapCache.Eviction.LRU);
+        AtomicInteger loads = new AtomicInteger();
+        
+        // Act
+        cache.get("a", () -> new Profile("a" + loads.incrementAndGet(), BIO));
+        Profile profile = cache.get("a", () -> new Profile("a" + loads.incrementAndGet(), BIO));
+        
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals("a1", profile.name());
+    }
+    
+    @Test
+    void should_evict_and_clear_values() {
+        // Arrange
+        OffHeapCache cache = cache(1024 * 1024, null, OffHeapCache.Eviction.LRU);
+        putProfiles(cache, "a", "b", "c");
+        
+        // Act
+        boolean evicted = cache.evictIfPresent("a");
+        cache.clear();
+        
+        // Assert
+        assertTrue(evicted);
+        assertNull(cache.get("b"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.usedBytes());
+    }
+    
+    @Test
+    void should_wrap_around_its_buffer_without_losing_values() {
+        // Arrange
+        OffHeapCache cache = cache(valueSize * 7 + valueSize / 3, null, OffHeapCache.Eviction.FIFO);
+        
+        // Act
+        for (int i = 0; i < 100; i++) {
+            cache.put("k" + i, new Profile(String.valueOf((char) ('a' + i % 26)), BIO));
+        }
+        
+        // Assert
+        assertEquals(7, cache.size());
+        for (int i = 93; i < 100; i++) {
+            assertEquals(String.valueOf((char) ('a' + i % 26)), cache.get("k" + i, Profile.class).name());
+        }
+    }
+    
+    private OffHeapCache cache(long capacity, Long maxEntries, OffHeapCache.Eviction eviction) {
+        return new OffHeapCache("users", serializer, capacity, maxEntries, eviction, null, null);
+    }
+    
+    private static void putProfiles(OffHeapCache cache, String... names) {
+        for (String name : names) {
+            cache.put(name, new Profile(name, BIO));
+        }
+    }
+    
+    record Profile(String name, String bio) {
+    }
+}
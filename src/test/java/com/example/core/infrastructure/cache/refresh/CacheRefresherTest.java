@@ -0,0 +1,160 @@
+package com.example.core.infrastructure.cache.refresh;
+
+import com.example.core.infrastructure.cache.refresh.CacheRefresher.Freshness;
+import com.example.core.infrastructure.cache.tiered.CacheValueSerializer;
+import com.example.core.infrastructure.cache.tiered.InMemorySharedCacheStore;
+import com.example.core.infrastructure.cache.tiered.TieredCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CacheRefresher.
+ */
+class CacheRefresherTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheRefresher refresher = new CacheRefresher(
+        Map.of("users", new CacheRefresher.Policy(Duration.ofMinutes(10), Duration.ofMinutes(1))),
+        1, 1, meterRegistry);
+    
+    @AfterEach
+    void tearDown() {
+        refresher.close();
+    }
+    
+    @Test
+    void should_tell_entries_apart_by_their_age() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        CaffeineCache cache = new CaffeineCache("users", Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(11))
+            .ticker(nanos::get)
+            .build());
+        cache.put("user:1", "Ada");
+        
+        // Act
+        Freshness young = refresher.freshness(cache, "user:1");
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(9));
+        Freshness old = refresher.freshness(cache, "user:1");
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        Freshness expired = refresher.freshness(cache, "user:1");
+        
+        // Assert
+        assertEquals(Freshness.FRESH, young);
+        assertEquals(Freshness.REFRESH_DUE, old);
+        assertEquals(Freshness.STALE, expired);
+    }
+    
+    @Test
+    void should_age_entries_read_from_shared_tier_from_their_write_there() {
+        // Arrange
+        Instant written = Instant.parse("2024-01-01T00:00:00Z");
+        Clock writerClock = Clock.fixed(written, ZoneOffset.UTC);
+        Clock readerClock = Clock.fixed(written.plus(Duration.ofSeconds(570)), ZoneOffset.UTC);
+        InMemorySharedCacheStore.Backend backend = new InMemorySharedCacheStore.Backend(writerClock);
+        tieredCache(backend, writerClock).put("user:1", "Ada");
+        TieredCache reader = tieredCache(backend, readerClock);
+        reader.get("user:1");
+        
+        // Act
+        Freshness freshness = refresher.freshness(reader, "user:1");
+        
+        // Assert
+        assertEquals(Freshness.REFRESH_DUE, freshness);
+    }
+    
+    @Test
+    void should_treat_entries_without_known_age_as_fresh() {
+        // Arrange
+        CaffeineCache unrefreshed = new CaffeineCache("entities", Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build());
+        unrefreshed.put("entity:1", "Ada");
+        ConcurrentMapCache unaged = new ConcurrentMapCache("users");
+        unaged.put("user:1", "Ada");
+        
+        // Act & Assert
+        assertEquals(Freshness.FRESH, refresher.freshness(unrefreshed, "entity:1"));
+        assertEquals(Freshness.FRESH, refresher.freshness(unaged, "user:1"));
+    }
+    
+    @Test
+    void should_count_refreshes_by_result() throws Exception {
+        // Arrange
+        CountDownLatch done = new CountDownLatch(2);
+        
+        // Act
+        refresher.refresh("users", done::countDown);
+        refresher.refresh("users", () -> {
+            done.countDown();
+            throw new IllegalStateException("Source unavailable");
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        
+        // Assert
+        awaitCount("success", 1);
+        awaitCount("failure", 1);
+    }
+    
+    @Test
+    void should_skip_refresh_when_pool_is_full() throws Exception {
+        // Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        refresher.refresh("users", () -> {
+            running.countDown();
+            await(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        refresher.refresh("users", () -> {
+        });
+        
+        // Act
+        boolean started = refresher.refresh("users", () -> {
+        });
+        release.countDown();
+        
+        // Assert
+        assertFalse(started);
+        assertEquals(1, meterRegistry.counter("cache.refreshes", "cache", "users", "result", "rejected").count());
+    }
+    
+    private void awaitCount(String result, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("cache.refreshes", "cache", "users", "result", result).count() < expected
+            && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, meterRegistry.counter("cache.refreshes", "cache", "users", "result", result).count());
+    }
+    
+    private static TieredCache tieredCache(InMemorySharedCacheStore.Backend backend, Clock clock) {
+        return new TieredCache("users", Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(11)).build(),
+            new InMemorySharedCacheStore(backend), new CacheValueSerializer(new ObjectMapper()),
+            Duration.ofMinutes(10), clock);
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
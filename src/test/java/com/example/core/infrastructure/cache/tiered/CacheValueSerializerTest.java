@@ -0,0 +1,55 @@
+package com.example.core.infrastructure.cache.tiered;
+
+import com.example.demo.domain.model.Email;
+import com.example.demo.domain.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CacheValueSerializer.
+ */
+class CacheValueSerializerTest {
+    
+    private final CacheValueSerializer serializer = new CacheValueSerializer(new ObjectMapper().findAndRegisterModules());
+    
+    @Test
+    void should_round_trip_aggregate_without_its_pending_events() {
+        // Arrange
+        User user = User.create("Ada", "Lovelace", Email.of("ada@example.com"));
+        
+        // Act
+        User restored = (User) serializer.deserialize(serializer.serialize(user));
+        
+        // Assert
+        assertEquals("Ada", restored.getFirstName());
+        assertEquals("Lovelace", restored.getLastName());
+        assertEquals(Email.of("ada@example.com"), restored.getEmail());
+        assertEquals(user.getCreatedAt(), restored.getCreatedAt());
+        assertFalse(restored.hasDomainEvents());
+    }
+    
+    @Test
+    void should_not_serialize_collections() {
+        // Act & Assert
+        assertNull(serializer.serialize(List.of("a", "b")));
+    }
+    
+    @Test
+    void should_return_null_for_unknown_type() {
+        // Arrange
+        byte[] type = "com.example.Missing".getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[2 + type.length + 2];
+        bytes[1] = (byte) type.length;
+        System.arraycopy(type, 0, bytes, 2, type.length);
+        bytes[bytes.length - 2] = '{';
+        bytes[bytes.length - 1] = '}';
+        
+        // Act & Assert
+        assertNull(serializer.deserialize(bytes));
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.core.infrastructure.cache.tiered;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedFileCacheStore. Two store instances on one file stand in for two application instances.
+ */
+class MappedFileCacheStoreTest {
+    
+    private static final long SIZE = 1024 * 1024;
+    private static final Duration POLL_INTERVAL = Duration.ofHours(1);
+    
+    @TempDir
+    Path directory;
+    
+    private final List<MappedFileCacheStore> stores = new ArrayList<>();
+    
+    @AfterEach
+    void tearDown() {
+        stores.forEach(MappedFileCacheStore::close);
+    }
+    
+    @Test
+    void should_share_values_between_instances_on_one_file() {
+        // Arrange
+        MappedFileCacheStore first = open(512, 16);
+        MappedFileCacheStore second = open(512, 16);
+        
+        // Act
+        first.put("users", "user:1", bytes("Ada"), null);
+        
+        // Assert
+        assertArrayEquals(bytes("Ada"), second.get("users", "user:1"));
+        assertNull(second.get("users", "user:2"));
+        assertNull(second.get("orders", "user:1"));
+    }
+    
+    @Test
+    void should_replace_evict_and_clear_values() {
+        // Arrange
+        MappedFileCacheStore store = open(512, 16);
+        store.put("users", "user:1", bytes("Ada"), null);
+        store.put("users", "user:2", bytes("Alan"), null);
+        store.put("orders", "order:1", bytes("Order"), null);
+        
+        // Act
+        store.put("users", "user:1", bytes("Ada Lovelace"), null);
+        store.evict("users", "user:2");
+        
+        // Assert
+        assertArrayEquals(bytes("Ada Lovelace"), store.get("users", "user:1"));
+        assertNull(store.get("users", "user:2"));
+        store.clear("users");
+        assertNull(store.get("users", "user:1"));
+        assertArrayEquals(bytes("Order"), store.get("orders", "order:1"));
+    }
+    
+    @Test
+    void should_expire_values_after_time_to_live() throws InterruptedException {
+        // Arrange
+        MappedFileCacheStore store = open(512, 16);
+        store.put("users", "user:1", bytes("Ada"), Duration.ofMillis(20));
+        
+        // Act
+        Thread.sleep(50);
+        
+        // Assert
+        assertNull(store.get("users", "user:1"));
+    }
+    
+    @Test
+    void should_drop_values_larger_than_a_slot() {
+        // Arrange
+        MappedFileCacheStore store = open(64, 16);
+        store.put("users", "user:1", bytes("Ada"), null);
+        
+        // Act
+        store.put("users", "user:1", new byte[64], null);
+        
+        // Assert
+        assertNull(store.get("users", "user:1"));
+    }
+    
+    @Test
+    void should_stay_within_its_slots_when_full() {
+        // Arrange
+        MappedFileCacheStore store = open(512, 16);
+        
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            store.put("users", "user:" + i, bytes("User " + i), null);
+        }
+        
+        // Assert
+        assertArrayEquals(bytes("User 9999"), store.get("users", "user:9999"));
+    }
+    
+    @Test
+    void should_deliver_invalidations_to_other_instances_only() {
+        // Arrange
+        MappedFileCacheStore first = open(512, 16);
+        MappedFileCacheStore second = open(512, 16);
+        RecordingListener firstListener = new RecordingListener();
+        RecordingListener secondListener = new RecordingListener();
+        
+        // Act
+        first.publishInvalidation("users", "user:1");
+        first.publishInvalidation("users", null);
+        first.pollInvalidations(firstListener);
+        second.pollInvalidations(secondListener);
+        
+        // Assert
+        assertEquals(List.of(), firstListener.invalidations);
+        assertEquals(List.of("users/user:1", "users/*"), secondListener.invalidations);
+    }
+    
+    @Test
+    void should_invalidate_everything_after_missing_invalidations() {
+        // Arrange
+        MappedFileCacheStore first = open(512, 4);
+        MappedFileCacheStore second = open(512, 4);
+        RecordingListener listener = new RecordingListener();
+        
+        // Act
+        for (int i = 0; i < 5; i++) {
+            first.publishInvalidation("users", "user:" + i);
+        }
+        second.pollInvalidations(listener);
+        
+        // Assert
+        assertEquals(List.of("*"), listener.invalidations);
+    }
+    
+    @Test
+    void should_reject_file_with_other_layout() {
+        // Arrange
+        open(512, 16);
+        
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> open(1024, 16));
+    }
+    
+    private MappedFileCacheStore open(int slotSize, int ringSize) {
+        MappedFileCacheStore store = new MappedFileCacheStore(
+            directory.resolve("shared-cache.dat"), SIZE, slotSize, ringSize, POLL_INTERVAL);
+        stores.add(store);
+        return store;
+    }
+    
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    static class RecordingListener implements SharedCacheStore.InvalidationListener {
+        
+        final List<String> invalidations = new ArrayList<>();
+        
+        @Override
+        public void invalidate(String region, @Nullable String key) {
+            invalidations.add(region + "/" + (key != null ? key : "*"));
+        }
+        
+        @Override
+        public void invalidateAll() {
+            invalidations.add("*");
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.core.infrastructure.cache.tiered;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TieredCache, with two nodes sharing an in-memory store.
+ */
+class TieredCacheTest {
+    
+    private TieredCacheManager nodeA;
+    private TieredCacheManager nodeB;
+    
+    @BeforeEach
+    void setUp() {
+        InMemorySharedCacheStore.Backend backend = new InMemorySharedCacheStore.Backend(Clock.systemUTC());
+        nodeA = node(backend);
+        nodeB = node(backend);
+    }
+    
+    @Test
+    void should_read_value_cached_by_another_node_from_shared_tier() {
+        // Arrange
+        nodeA.getCache("users").put("user:1", new Profile("Ada", 36));
+        
+        // Act
+        Profile profile = nodeB.getCache("users").get("user:1", Profile.class);
+        
+        // Assert
+        assertEquals(new Profile("Ada", 36), profile);
+        assertNotNull(((TieredCache) nodeB.getCache("users")).getNativeCache().getIfPresent("user:1"));
+    }
+    
+    @Test
+    void should_drop_near_cache_entry_when_another_node_updates_it() {
+        // Arrange
+        nodeA.getCache("users").put("user:1", new Profile("Ada", 36));
+        assertEquals(36, nodeB.getCache("users").get("user:1", Profile.class).age());
+        
+        // Act
+        nodeA.getCache("users").put("user:1", new Profile("Ada", 37));
+        
+        // Assert
+        assertEquals(37, nodeB.getCache("users").get("user:1", Profile.class).age());
+    }
+    
+    @Test
+    void should_remove_evicted_entry_from_all_nodes() {
+        // Arrange
+        nodeA.getCache("users").put("user:1", new Profile("Ada", 36));
+        nodeB.getCache("users").get("user:1");
+        
+        // Act
+        nodeB.getCache("users").evict("user:1");
+        
+        // Assert
+        assertNull(nodeA.getCache("users").get("user:1"));
+        assertNull(nodeB.getCache("users").get("user:1"));
+    }
+    
+    @Test
+    void should_clear_region_on_all_nodes() {
+        // Arrange
+        nodeA.getCache("users").put("user:1", new Profile("Ada", 36));
+        nodeB.getCache("users").put("user:2", new Profile("Alan", 41));
+        
+        // Act
+        nodeA.getCache("users").clear();
+        
+        // Assert
+        assertNull(nodeA.getCache("users").get("user:2"));
+        assertNull(nodeB.getCache("users").get("user:1"));
+        assertNull(nodeB.getCache("users").get("user:2"));
+    }
+    
+    @Test
+    void should_not_load_again_when_another_node_loaded_the_value() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        nodeA.getCache("users").get("user:1", () -> new Profile("Ada", loads.incrementAndGet()));
+        
+        // Act
+        Profile profile = nodeB.getCache("users").get("user:1", () -> new Profile("Ada", loads.incrementAndGet()));
+        
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(new Profile("Ada", 1), profile);
+    }
+    
+    @Test
+    void should_keep_collections_in_near_cache_only() {
+        // Arrange
+        nodeA.getCache("users").put("all", List.of(new Profile("Ada", 36)));
+        
+        // Act & Assert
+        assertNotNull(nodeA.getCache("users").get("all"));
+        assertNull(nodeB.getCache("users").get("all"));
+    }
+    
+    @Test
+    void should_keep_regions_not_marked_shared_per_node() {
+        // Arrange
+        nodeA.getCache("queries").put("query:1", new Profile("Ada", 36));
+        
+        // Act & Assert
+        assertFalse(nodeA.getCache("queries") instanceof TieredCache);
+        assertNull(nodeB.getCache("queries").get("query:1"));
+    }
+    
+    @Test
+    void should_age_value_read_from_shared_tier_from_its_write_there() {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        InMemorySharedCacheStore.Backend backend = new InMemorySharedCacheStore.Backend(clock);
+        TieredCache writer = tieredCache(backend, clock);
+        TieredCache reader = tieredCache(backend, clock);
+        writer.put("user:1", new Profile("Ada", 36));
+        clock.advance(Duration.ofMinutes(8));
+        
+        // Act
+        Profile profile = reader.get("user:1", Profile.class);
+        
+        // Assert
+        assertEquals(new Profile("Ada", 36), profile);
+        assertEquals(Optional.of(Duration.ofMinutes(8)), reader.ageOf("user:1"));
+    }
+    
+    @Test
+    void should_expire_value_read_from_shared_tier_after_expiry_since_its_write_there() {
+        // Arrange
+        MutableClock clock = new MutableClock();
+        InMemorySharedCacheStore.Backend backend = new InMemorySharedCacheStore.Backend(clock);
+        TieredCache writer = tieredCache(backend, clock);
+        TieredCache reader = tieredCache(backend, clock);
+        writer.put("user:1", new Profile("Ada", 36));
+        clock.advance(Duration.ofMinutes(8));
+        reader.get("user:1");
+        
+        // Act
+        clock.advance(Duration.ofMinutes(3));
+        
+        // Assert
+        assertNull(reader.get("user:1"));
+        assertEquals(0, reader.getNativeCache().estimatedSize());
+    }
+    
+    private static TieredCache tieredCache(InMemorySharedCacheStore.Backend backend, Clock clock) {
+        return new TieredCache("users", Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(10)).build(),
+            new InMemorySharedCacheStore(backend), new CacheValueSerializer(new ObjectMapper()),
+            Duration.ofMinutes(10), clock);
+    }
+    
+    private static TieredCacheManager node(InMemorySharedCacheStore.Backend backend) {
+        TieredCacheManager cacheManager = new TieredCacheManager(new InMemorySharedCacheStore(backend),
+            new CacheValueSerializer(new ObjectMapper()), Map.of("users", Duration.ofMinutes(10)));
+        cacheManager.registerCustomCache("users", Caffeine.newBuilder().maximumSize(100).build());
+        cacheManager.registerCustomCache("queries", Caffeine.newBuilder().maximumSize(100).build());
+        return cacheManager;
+    }
+    
+    record Profile(String name, int age) {
+    }
+    
+    static class MutableClock extends Clock {
+        
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
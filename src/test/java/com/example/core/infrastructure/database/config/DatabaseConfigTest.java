@@ -0,0 +1,58 @@
+package com.example.core.infrastructure.database.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the second-level cache setup in DatabaseConfig.
+ */
+class DatabaseConfigTest {
+    
+    @Test
+    void should_create_configured_regions_and_query_cache_regions() {
+        // Arrange
+        DatabaseProperties properties = new DatabaseProperties();
+        properties.getSecondLevelCache().getRegions().put("users", DatabaseProperties.Region.of(2, Duration.ofMinutes(1)));
+        
+        // Act
+        try (CacheManager cacheManager = new DatabaseConfig().secondLevelCacheManager(properties)) {
+            Set<String> regions = new HashSet<>();
+            cacheManager.getCacheNames().forEach(regions::add);
+            
+            // Assert
+            assertEquals(Set.of("users", "default-query-results-region", "default-update-timestamps-region"), regions);
+        }
+    }
+    
+    @Test
+    void should_bound_region_by_max_entries() {
+        // Arrange
+        DatabaseProperties properties = new DatabaseProperties();
+        properties.getSecondLevelCache().setQueryCache(false);
+        properties.getSecondLevelCache().getRegions().put("users", DatabaseProperties.Region.of(2, null));
+        
+        try (CacheManager cacheManager = new DatabaseConfig().secondLevelCacheManager(properties)) {
+            Cache<Object, Object> users = cacheManager.getCache("users");
+            
+            // Act
+            for (int i = 0; i < 10; i++) {
+                users.put(i, "user" + i);
+            }
+            int kept = 0;
+            for (Cache.Entry<Object, Object> ignored : users) {
+                kept++;
+            }
+            
+            // Assert
+            assertEquals(2, kept);
+            assertNull(cacheManager.getCache("default-query-results-region"));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.core.infrastructure.database.routing;
+
+import com.example.core.infrastructure.database.config.DatabaseProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReadWriteRoutingDataSource, routing between in-memory H2 databases.
+ */
+class ReadWriteRoutingDataSourceTest {
+    
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final List<HikariDataSource> replicas = new ArrayList<>();
+    private final AtomicReference<String> session = new AtomicReference<>("alice");
+    
+    @AfterEach
+    void tearDown() {
+        pools.forEach(HikariDataSource::close);
+    }
+    
+    @Test
+    void should_route_read_only_transactions_to_replica_and_others_to_primary() {
+        // Arrange
+        DataSource dataSource = routing(DatabaseProperties.Selection.ROUND_ROBIN, Duration.ZERO, 1);
+        
+        // Act
+        String readOnly = databaseOf(dataSource, true);
+        String readWrite = databaseOf(dataSource, false);
+        
+        // Assert
+        assertEquals("replica0", readOnly);
+        assertEquals("primary", readWrite);
+    }
+    
+    @Test
+    void should_alternate_replicas_with_round_robin() {
+        // Arrange
+        DataSource dataSource = routing(DatabaseProperties.Selection.ROUND_ROBIN, Duration.ZERO, 2);
+        
+        // Act
+        List<String> databases = List.of(
+            databaseOf(dataSource, true), databaseOf(dataSource, true), databaseOf(dataSource, true));
+        
+        // Assert
+        assertEquals(List.of("replica0", "replica1", "replica0"), databases);
+    }
+    
+    @Test
+    void should_pick_replica_with_fewest_active_connections() throws SQLException {
+        // Arrange
+        DataSource dataSource = routing(DatabaseProperties.Selection.LEAST_CONNECTIONS, Duration.ZERO, 2);
+        
+        // Act
+        String busyReplica;
+        String chosen;
+        try (Connection held = replicas.get(0).getConnection()) {
+            busyReplica = name(held);
+            chosen = databaseOf(dataSource, true);
+        }
+        
+        // Assert
+        assertEquals("replica0", busyReplica);
+        assertEquals("replica1", chosen);
+    }
+    
+    @Test
+    void should_pin_writing_session_to_primary() {
+        // Arrange
+        DataSource dataSource = routing(DatabaseProperties.Selection.ROUND_ROBIN, Duration.ofMinutes(1), 1);
+        
+        // Act
+        write(dataSource);
+        String writerRead = databaseOf(dataSource, true);
+        session.set("bob");
+        String otherRead = databaseOf(dataSource, true);
+        
+        // Assert
+        assertEquals("primary", writerRead);
+        assertEquals("replica0", otherRead);
+    }
+    
+    @Test
+    void should_not_pin_session_after_read_write_transaction_that_only_queried() {
+        // Arrange
+        DataSource dataSource = routing(DatabaseProperties.Selection.ROUND_ROBIN, Duration.ofMinutes(1), 1);
+        
+        // Act
+        String readWrite = databaseOf(dataSource, false);
+        String read = databaseOf(dataSource, true);
+        
+        // Assert
+        assertEquals("primary", readWrite);
+        assertEquals("replica0", read);
+    }
+    
+    @Test
+    void should_not_pin_sessions_without_key() {
+        // Arrange
+        DataSource dataSource = routing(DatabaseProperties.Selection.ROUND_ROBIN, Duration.ofMinutes(1), 1);
+        session.set(null);
+        
+        // Act
+        write(dataSource);
+        String read = databaseOf(dataSource, true);
+        
+        // Assert
+        assertEquals("replica0", read);
+    }
+    
+    @Test
+    void should_route_marked_work_outside_transactions_to_replica() throws SQLException {
+        // Arrange
+        DataSource dataSource = routing(DatabaseProperties.Selection.ROUND_ROBIN, Duration.ZERO, 1);
+        
+        // Act
+        String unmarked;
+        String marked;
+        try (Connection connection = dataSource.getConnection()) {
+            unmarked = name(connection);
+        }
+        boolean outer = ReadOnlyRoutingContext.enter();
+        try (Connection connection = dataSource.getConnection()) {
+            marked = name(connection);
+        } finally {
+            ReadOnlyRoutingContext.exit(outer);
+        }
+        
+        // Assert
+        assertEquals("primary", unmarked);
+        assertEquals("replica0", marked);
+        assertFalse(ReadOnlyRoutingContext.isReadOnly());
+    }
+    
+    @Test
+    void should_close_primary_and_replica_pools_with_lazy_wrapper() throws Exception {
+        // Arrange
+        DataSource dataSource = routing(DatabaseProperties.Selection.ROUND_ROBIN, Duration.ZERO, 2);
+        databaseOf(dataSource, true);
+        
+        // Act
+        ((AutoCloseable) dataSource).close();
+        
+        // Assert
+        assertEquals(3, pools.size());
+        assertTrue(pools.stream().allMatch(HikariDataSource::isClosed));
+    }
+    
+    private DataSource routing(DatabaseProperties.Selection selection, Duration pin, int replicaCount) {
+        HikariDataSource primary = pool("primary");
+        for (int i = 0; i < replicaCount; i++) {
+            replicas.add(pool("replica" + i));
+        }
+        
+        ReplicaLagGuard guard = new ReplicaLagGuard(pin, session::get);
+        return ReadWriteRoutingDataSource.lazy(new ReadWriteRoutingDataSource(primary, replicas, selection, guard));
+    }
+    
+    private HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(2);
+        pools.add(pool);
+        return pool;
+    }
+    
+    private static String databaseOf(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> {
+            try {
+                return name(DataSourceUtils.getConnection(dataSource));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+    
+    private static void write(DataSource dataSource) {
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+            try (Statement statement = DataSourceUtils.getConnection(dataSource).createStatement()) {
+                statement.executeUpdate("CREATE TABLE IF NOT EXISTS audit (id INT)");
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+    
+    private static String name(Connection connection) throws SQLException {
+        String url = connection.getMetaData().getURL();
+        return url.substring("jdbc:h2:mem:".length(), url.indexOf('-'));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.core.infrastructure.dispatch.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ */
+class AdaptiveConcurrencyLimiterTest {
+    
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+    
+    @Test
+    void should_grow_limit_additively_after_fast_completions_under_load() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0, 0);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        
+        // Act
+        limiter.release(FAST, false);
+        
+        // Assert
+        assertEquals(3, limiter.getLimit());
+        assertEquals(1, limiter.getActive());
+    }
+    
+    @Test
+    void should_shrink_limit_multiplicatively_after_slow_or_overloaded_completions() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0, 0);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        
+        // Act
+        limiter.release(SLOW, false);
+        int afterSlow = limiter.getLimit();
+        limiter.release(FAST, true);
+        
+        // Assert
+        assertEquals(5, afterSlow);
+        assertEquals(2, limiter.getLimit());
+    }
+    
+    @Test
+    void should_reject_at_once_when_queue_is_full() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 0, 0);
+        
+        // Act
+        AdaptiveConcurrencyLimiter.Admission first = limiter.tryAcquire();
+        AdaptiveConcurrencyLimiter.Admission second = limiter.tryAcquire();
+        
+        // Assert
+        assertEquals(AdaptiveConcurrencyLimiter.Admission.ACQUIRED, first);
+        assertEquals(AdaptiveConcurrencyLimiter.Admission.QUEUE_FULL, second);
+    }
+    
+    @Test
+    void should_reject_queued_caller_after_max_wait() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, TimeUnit.MILLISECONDS.toNanos(20));
+        limiter.tryAcquire();
+        
+        // Act & Assert
+        assertEquals(AdaptiveConcurrencyLimiter.Admission.TIMED_OUT, limiter.tryAcquire());
+        assertEquals(0, limiter.getQueued());
+    }
+    
+    @Test
+    void should_admit_queued_caller_when_slot_is_released() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, TimeUnit.SECONDS.toNanos(5));
+        limiter.tryAcquire();
+        CompletableFuture<AdaptiveConcurrencyLimiter.Admission> queued =
+            CompletableFuture.supplyAsync(limiter::tryAcquire);
+        while (limiter.getQueued() == 0) {
+            Thread.onSpinWait();
+        }
+        
+        // Act
+        limiter.release(SLOW, false);
+        
+        // Assert
+        assertEquals(AdaptiveConcurrencyLimiter.Admission.ACQUIRED, queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, limiter.getActive());
+    }
+    
+    @Test
+    void should_reject_invalid_limits() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> new AdaptiveConcurrencyLimiter(5, 10, 20, 0, 0, SLOW, 0.5));
+    }
+    
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int queueCapacity, long maxQueueWaitNanos) {
+        return new AdaptiveConcurrencyLimiter(
+            initialLimit, 1, 100, queueCapacity, maxQueueWaitNanos, TimeUnit.MILLISECONDS.toNanos(100), 0.5);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.core.infrastructure.dispatch.admission;
+
+import com.example.core.application.command.Command;
+import com.example.core.application.exception.UseCaseRejectedException;
+import com.example.core.application.query.Query;
+import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.infrastructure.dispatch.config.DispatcherProperties;
+import com.example.core.infrastructure.dispatch.routing.UseCaseRoutingTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdmissionControlBehavior.
+ */
+class AdmissionControlBehaviorTest {
+    
+    @Test
+    void should_reject_command_over_the_limit_and_count_rejection() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReentrantHandler handler = new ReentrantHandler();
+        UseCaseRoutingTable routingTable = routingTable(meterRegistry, handler, new LookupHandler());
+        handler.routingTable = routingTable;
+        
+        // Act & Assert
+        assertThrows(UseCaseRejectedException.class, () -> routingTable.routeFor(Reenter.class).invoke(new Reenter(1)));
+        assertEquals(1.0, meterRegistry.get(AdmissionControlBehavior.REJECTED_NAME)
+            .tag("usecase", "Reenter")
+            .tag("reason", "queue_full")
+            .counter()
+            .count());
+        assertEquals(0.0, meterRegistry.get(AdmissionControlBehavior.ACTIVE_NAME).gauge().value());
+    }
+    
+    @Test
+    void should_not_limit_queries() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UseCaseRoutingTable routingTable = routingTable(meterRegistry, new ReentrantHandler(), new LookupHandler());
+        
+        // Act
+        routingTable.routeFor(Lookup.class).invoke(new Lookup());
+        
+        // Assert
+        assertTrue(meterRegistry.find(AdmissionControlBehavior.LIMIT_NAME).tag("usecase", "Lookup").gauges().isEmpty());
+    }
+    
+    @Test
+    void should_treat_transient_data_access_failures_as_overload() {
+        // Act & Assert
+        assertTrue(AdmissionControlBehavior.isOverload(new QueryTimeoutException("timeout")));
+        assertFalse(AdmissionControlBehavior.isOverload(new IllegalArgumentException("invalid")));
+    }
+    
+    private static UseCaseRoutingTable routingTable(SimpleMeterRegistry meterRegistry, UseCaseHandler<?, ?>... handlers) {
+        DispatcherProperties properties = new DispatcherProperties();
+        properties.getAdmission().setInitialLimit(1);
+        properties.getAdmission().setQueueCapacity(0);
+        return new UseCaseRoutingTable(List.of(handlers), List.of(new AdmissionControlBehavior(properties, meterRegistry)));
+    }
+    
+    record Reenter(int depth) implements Command<Void> {
+    }
+    
+    static class Lookup implements Query<Void> {
+    }
+    
+    /**
+     * Dispatches a nested command while holding the only slot, so the nested one is over the limit.
+     */
+    static class ReentrantHandler implements UseCaseHandler<Reenter, Void> {
+        
+        private UseCaseRoutingTable routingTable;
+        
+        @Override
+        public Void handle(Reenter command) {
+            if (command.depth() > 0) {
+                routingTable.routeFor(Reenter.class).invoke(new Reenter(command.depth() - 1));
+            }
+            return null;
+        }
+    }
+    
+    static class LookupHandler implements UseCaseHandler<Lookup, Void> {
+        
+        @Override
+        public Void handle(Lookup query) {
+            return null;
+        }
+    }
+}
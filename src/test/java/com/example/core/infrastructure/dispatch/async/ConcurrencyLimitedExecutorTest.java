@@ -0,0 +1,120 @@
+package com.example.core.infrastructure.dispatch.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConcurrencyLimitedExecutor.
+ */
+class ConcurrencyLimitedExecutorTest {
+    
+    @Test
+    void should_queue_tasks_over_the_limit_until_a_slot_frees_up() {
+        // Arrange
+        List<Runnable> submitted = new ArrayList<>();
+        ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(submitted::add, 2);
+        
+        // Act
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> { });
+        }
+        
+        // Assert
+        assertEquals(2, submitted.size());
+        assertEquals(2, executor.getActiveCount());
+        assertEquals(3, executor.getPendingCount());
+        
+        // Act
+        submitted.get(0).run();
+        
+        // Assert
+        assertEquals(3, submitted.size());
+        assertEquals(2, executor.getPendingCount());
+    }
+    
+    @Test
+    void should_never_run_more_tasks_than_the_limit_at_once() throws Exception {
+        // Arrange
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(pool, 3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(50);
+        
+        // Act
+        for (int i = 0; i < 50; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.onSpinWait();
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+        
+        // Assert
+        try {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertTrue(maxRunning.get() <= 3);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+    
+    @Test
+    void should_fail_queued_task_rejected_by_the_delegate() {
+        // Arrange
+        List<Runnable> submitted = new ArrayList<>();
+        boolean[] saturated = {false};
+        ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(task -> {
+            if (saturated[0]) {
+                throw new RejectedExecutionException("Pool is full");
+            }
+            submitted.add(task);
+        }, 1);
+        executor.execute(() -> { });
+        UseCaseTask<String> queued = new UseCaseTask<>(() -> "done");
+        executor.execute(queued);
+        saturated[0] = true;
+        
+        // Act
+        submitted.get(0).run();
+        
+        // Assert
+        CompletableFuture<String> result = queued.getResult();
+        CompletionException failure = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        assertEquals(0, executor.getActiveCount());
+        assertEquals(0, executor.getPendingCount());
+    }
+    
+    @Test
+    void should_keep_plain_task_queued_when_the_delegate_rejects_it() {
+        // Arrange
+        ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(task -> {
+            throw new RejectedExecutionException("Pool is full");
+        }, 1);
+        
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        assertEquals(0, executor.getActiveCount());
+        assertEquals(1, executor.getPendingCount());
+    }
+    
+    @Test
+    void should_reject_limit_below_one() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimitedExecutor(Runnable::run, 0));
+    }
+}
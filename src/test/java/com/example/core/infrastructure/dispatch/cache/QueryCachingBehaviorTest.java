@@ -0,0 +1,194 @@
+package com.example.core.infrastructure.dispatch.cache;
+
+import com.example.core.application.command.Command;
+import com.example.core.application.command.InvalidatesQueries;
+import com.example.core.application.query.CacheableQuery;
+import com.example.core.application.query.Query;
+import com.example.core.application.usecase.BatchUseCaseHandler;
+import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.application.usecase.UseCaseResult;
+import com.example.core.infrastructure.dispatch.routing.UseCaseRoutingTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for QueryCachingBehavior.
+ */
+class QueryCachingBehaviorTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCachingBehavior behavior;
+    private LookupHandler lookupHandler;
+    private UseCaseRoutingTable routingTable;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lookupHandler = new LookupHandler();
+        behavior = new QueryCachingBehavior(
+            new ConcurrentMapCacheManager(QueryCachingBehavior.CACHE_NAME), meterRegistry);
+        routingTable = new UseCaseRoutingTable(
+            List.of(lookupHandler, new UncachedLookupHandler(), new RenameHandler(), new ExpiringLookupHandler()),
+            List.of(behavior));
+    }
+    
+    @Test
+    void should_serve_repeated_query_from_cache() {
+        // Act
+        String first = dispatch(new Lookup(1));
+        String second = dispatch(new Lookup(1));
+        
+        // Assert
+        assertEquals("value-1", first);
+        assertSame(first, second);
+        assertEquals(1, lookupHandler.calls.get());
+        assertEquals(1.0, count("Lookup", "hit"));
+        assertEquals(1.0, count("Lookup", "miss"));
+    }
+    
+    @Test
+    void should_cache_results_per_query_value() {
+        // Act
+        dispatch(new Lookup(1));
+        dispatch(new Lookup(2));
+        dispatch(new Lookup(2));
+        
+        // Assert
+        assertEquals(2, lookupHandler.calls.get());
+    }
+    
+    @Test
+    void should_invalidate_cached_results_of_query_type_on_request() {
+        // Arrange
+        dispatch(new Lookup(1));
+        dispatch(new Lookup(2));
+        
+        // Act
+        behavior.invalidate(Lookup.class);
+        dispatch(new Lookup(1));
+        dispatch(new Lookup(2));
+        
+        // Assert
+        assertEquals(4, lookupHandler.calls.get());
+    }
+    
+    @Test
+    void should_invalidate_cached_results_when_command_succeeds() {
+        // Arrange
+        dispatch(new Lookup(1));
+        
+        // Act
+        routingTable.routeFor(Rename.class).invoke(new Rename());
+        dispatch(new Lookup(1));
+        
+        // Assert
+        assertEquals(2, lookupHandler.calls.get());
+    }
+    
+    @Test
+    void should_invalidate_cached_results_when_command_batch_succeeds() {
+        // Arrange
+        dispatch(new Lookup(1));
+        
+        // Act
+        routingTable.routeFor(Rename.class).invokeAll(List.of(new Rename(), new Rename()));
+        dispatch(new Lookup(1));
+        
+        // Assert
+        assertEquals(2, lookupHandler.calls.get());
+    }
+    
+    @Test
+    void should_not_serve_expired_results() {
+        // Act
+        routingTable.routeFor(ExpiringLookup.class).invoke(new ExpiringLookup());
+        routingTable.routeFor(ExpiringLookup.class).invoke(new ExpiringLookup());
+        
+        // Assert
+        assertEquals(2.0, count("ExpiringLookup", "miss"));
+    }
+    
+    @Test
+    void should_reject_cacheable_query_without_value_equality() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> routingTable.routeFor(UncachedLookup.class));
+    }
+    
+    private String dispatch(Lookup query) {
+        return routingTable.routeFor(Lookup.class).invoke(query);
+    }
+    
+    private double count(String query, String result) {
+        return meterRegistry.get(QueryCachingBehavior.METER_NAME)
+            .tag("query", query)
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+    
+    @CacheableQuery
+    record Lookup(int id) implements Query<String> {
+    }
+    
+    @CacheableQuery(ttlSeconds = 0)
+    record ExpiringLookup() implements Query<String> {
+    }
+    
+    @CacheableQuery
+    static class UncachedLookup implements Query<String> {
+    }
+    
+    @InvalidatesQueries(Lookup.class)
+    static class Rename implements Command<Void> {
+    }
+    
+    static class LookupHandler implements UseCaseHandler<Lookup, String> {
+        
+        private final AtomicInteger calls = new AtomicInteger();
+        
+        @Override
+        public String handle(Lookup query) {
+            calls.incrementAndGet();
+            return new String("value-" + query.id());
+        }
+    }
+    
+    static class ExpiringLookupHandler implements UseCaseHandler<ExpiringLookup, String> {
+        
+        @Override
+        public String handle(ExpiringLookup query) {
+            return "expiring";
+        }
+    }
+    
+    static class UncachedLookupHandler implements UseCaseHandler<UncachedLookup, String> {
+        
+        @Override
+        public String handle(UncachedLookup query) {
+            return "uncached";
+        }
+    }
+    
+    static class RenameHandler implements BatchUseCaseHandler<Rename, Void> {
+        
+        @Override
+        public Void handle(Rename command) {
+            return null;
+        }
+        
+        @Override
+        public List<UseCaseResult<Void>> handleAll(List<Rename> commands) {
+            return commands.stream()
+                .map(command -> UseCaseResult.<Void>success(null))
+                .collect(Collectors.toList());
+        }
+    }
+}
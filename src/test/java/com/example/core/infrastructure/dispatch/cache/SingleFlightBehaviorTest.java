@@ -0,0 +1,188 @@
+package com.example.core.infrastructure.dispatch.cache;
+
+import com.example.core.application.command.Command;
+import com.example.core.application.command.InvalidatesQueries;
+import com.example.core.application.exception.UseCaseTimeoutException;
+import com.example.core.application.query.IdempotentQuery;
+import com.example.core.application.query.Query;
+import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.infrastructure.dispatch.routing.UseCaseRoute;
+import com.example.core.infrastructure.dispatch.routing.UseCaseRoutingTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SingleFlightBehavior.
+ */
+class SingleFlightBehaviorTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private SlowLookupHandler handler;
+    private UseCaseRoutingTable routingTable;
+    private ExecutorService executor;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new SlowLookupHandler();
+        routingTable = new UseCaseRoutingTable(
+            List.of(handler, new ImpatientLookupHandler(handler), new TouchHandler()), List.of(new SingleFlightBehavior(meterRegistry)));
+        executor = Executors.newFixedThreadPool(8);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        handler.release.countDown();
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void should_share_one_execution_between_identical_concurrent_queries() throws Exception {
+        // Arrange
+        UseCaseRoute route = routingTable.routeFor(SlowLookup.class);
+        Future<String> leader = executor.submit(() -> route.invoke(new SlowLookup(1)));
+        assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+        
+        // Act
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            waiters.add(executor.submit(() -> route.invoke(new SlowLookup(1))));
+        }
+        awaitCoalesced(5);
+        handler.release.countDown();
+        
+        // Assert
+        assertEquals("value-1", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> waiter : waiters) {
+            assertEquals("value-1", waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, handler.calls.get());
+    }
+    
+    @Test
+    void should_propagate_leader_failure_to_all_waiters() throws Exception {
+        // Arrange
+        UseCaseRoute route = routingTable.routeFor(SlowLookup.class);
+        Future<String> leader = executor.submit(() -> route.invoke(new SlowLookup(-1)));
+        assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+        Future<String> waiter = executor.submit(() -> route.invoke(new SlowLookup(-1)));
+        awaitCoalesced(1);
+        
+        // Act
+        handler.release.countDown();
+        
+        // Assert
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException waiterFailure = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, leaderFailure.getCause());
+        assertInstanceOf(IllegalArgumentException.class, waiterFailure.getCause());
+    }
+    
+    @Test
+    void should_fail_waiter_after_max_wait() throws Exception {
+        // Arrange
+        UseCaseRoute route = routingTable.routeFor(ImpatientLookup.class);
+        executor.submit(() -> route.invoke(new ImpatientLookup(1)));
+        assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+        
+        // Act & Assert
+        assertThrows(UseCaseTimeoutException.class, () -> route.invoke(new ImpatientLookup(1)));
+    }
+    
+    @Test
+    void should_start_new_execution_after_invalidating_command() throws Exception {
+        // Arrange
+        UseCaseRoute route = routingTable.routeFor(SlowLookup.class);
+        executor.submit(() -> route.invoke(new SlowLookup(1)));
+        assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+        
+        // Act
+        routingTable.routeFor(Touch.class).invoke(new Touch());
+        CompletableFuture<String> afterCommand = CompletableFuture.supplyAsync(
+            () -> route.invoke(new SlowLookup(1)), executor);
+        handler.release.countDown();
+        afterCommand.get(5, TimeUnit.SECONDS);
+        
+        // Assert
+        assertEquals(2, handler.calls.get());
+    }
+    
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(SingleFlightBehavior.METER_NAME).counter().count() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Waiters did not join the execution in flight");
+            Thread.sleep(5);
+        }
+    }
+    
+    @IdempotentQuery
+    record SlowLookup(int id) implements Query<String> {
+    }
+    
+    @IdempotentQuery(maxWaitMillis = 50)
+    record ImpatientLookup(int id) implements Query<String> {
+    }
+    
+    @InvalidatesQueries(SlowLookup.class)
+    static class Touch implements Command<Void> {
+    }
+    
+    static class SlowLookupHandler implements UseCaseHandler<SlowLookup, String> {
+        
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        
+        @Override
+        public String handle(SlowLookup query) {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (query.id() < 0) {
+                throw new IllegalArgumentException("Invalid id");
+            }
+            return "value-" + query.id();
+        }
+    }
+    
+    static class ImpatientLookupHandler implements UseCaseHandler<ImpatientLookup, String> {
+        
+        private final SlowLookupHandler delegate;
+        
+        ImpatientLookupHandler(SlowLookupHandler delegate) {
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public String handle(ImpatientLookup query) {
+            return delegate.handle(new SlowLookup(query.id()));
+        }
+    }
+    
+    static class TouchHandler implements UseCaseHandler<Touch, Void> {
+        
+        @Override
+        public Void handle(Touch command) {
+            return null;
+        }
+    }
+}
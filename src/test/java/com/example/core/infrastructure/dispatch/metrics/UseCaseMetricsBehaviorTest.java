@@ -0,0 +1,100 @@
+package com.example.core.infrastructure.dispatch.metrics;
+
+import com.example.core.application.command.Command;
+import com.example.core.application.query.Query;
+import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.infrastructure.dispatch.routing.UseCaseRoutingTable;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UseCaseMetricsBehavior.
+ */
+class UseCaseMetricsBehaviorTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private UseCaseRoutingTable routingTable;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        routingTable = new UseCaseRoutingTable(
+            List.of(new CountHandler(), new FailHandler()),
+            List.of(new UseCaseMetricsBehavior(meterRegistry)));
+    }
+    
+    @Test
+    void should_time_each_dispatch_tagged_by_use_case_and_kind() {
+        // Act
+        routingTable.routeFor(Count.class).invoke(new Count());
+        routingTable.routeFor(Count.class).invoke(new Count());
+        
+        // Assert
+        assertEquals(2, meterRegistry.get(UseCaseMetricsBehavior.TIMER_NAME)
+            .tag("usecase", "Count")
+            .tag("kind", "query")
+            .timer()
+            .count());
+    }
+    
+    @Test
+    void should_count_errors_by_exception_type() {
+        // Act
+        assertThrows(IllegalStateException.class, () -> routingTable.routeFor(Fail.class).invoke(new Fail()));
+        
+        // Assert
+        assertEquals(1.0, meterRegistry.get(UseCaseMetricsBehavior.ERRORS_NAME)
+            .tag("usecase", "Fail")
+            .tag("kind", "command")
+            .tag("exception", "IllegalStateException")
+            .counter()
+            .count());
+        assertEquals(1, meterRegistry.get(UseCaseMetricsBehavior.TIMER_NAME).tag("usecase", "Fail").timer().count());
+    }
+    
+    @Test
+    void should_track_use_cases_in_flight() {
+        // Arrange
+        CountHandler handler = new CountHandler();
+        routingTable = new UseCaseRoutingTable(List.of(handler), List.of(new UseCaseMetricsBehavior(meterRegistry)));
+        handler.activeGauge = () -> meterRegistry.get(UseCaseMetricsBehavior.ACTIVE_NAME).tag("usecase", "Count").gauge();
+        
+        // Act
+        double activeDuringHandling = routingTable.routeFor(Count.class).invoke(new Count());
+        
+        // Assert
+        assertEquals(1.0, activeDuringHandling);
+        assertEquals(0.0, handler.activeGauge.get().value());
+    }
+    
+    static class Count implements Query<Double> {
+    }
+    
+    static class Fail implements Command<Void> {
+    }
+    
+    static class CountHandler implements UseCaseHandler<Count, Double> {
+        
+        private Supplier<Gauge> activeGauge;
+        
+        @Override
+        public Double handle(Count query) {
+            return activeGauge != null ? activeGauge.get().value() : 0.0;
+        }
+    }
+    
+    static class FailHandler implements UseCaseHandler<Fail, Void> {
+        
+        @Override
+        public Void handle(Fail command) {
+            throw new IllegalStateException("Failed");
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.core.infrastructure.dispatch.routing;
+
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.application.usecase.UseCaseInvocation;
+import com.example.core.application.usecase.UseCasePipelineBehavior;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UseCaseRoutingTable.
+ */
+class UseCaseRoutingTableTest {
+    
+    @Test
+    void should_route_use_case_to_handler_declared_by_type_argument() {
+        // Arrange
+        UseCaseRoutingTable routingTable = new UseCaseRoutingTable(List.of(new PingHandler(), new EchoHandler()));
+        
+        // Act
+        UseCaseRoute route = routingTable.routeFor(Echo.class);
+        
+        // Assert
+        assertTrue(route.isRoutable());
+        assertEquals("hello", route.invoke(new Echo("hello")));
+    }
+    
+    @Test
+    void should_route_subclass_to_handler_of_superclass() {
+        // Arrange
+        UseCaseRoutingTable routingTable = new UseCaseRoutingTable(List.of(new EchoHandler()));
+        
+        // Act
+        UseCaseRoute route = routingTable.routeFor(LoudEcho.class);
+        
+        // Assert
+        assertEquals("hey", route.invoke(new LoudEcho("hey")));
+    }
+    
+    @Test
+    void should_resolve_use_case_type_through_class_proxy() {
+        // Arrange
+        ProxyFactory proxyFactory = new ProxyFactory(new PingHandler());
+        proxyFactory.setProxyTargetClass(true);
+        UseCaseHandler<?, ?> proxy = (UseCaseHandler<?, ?>) proxyFactory.getProxy();
+        
+        // Act
+        UseCaseRoutingTable routingTable = new UseCaseRoutingTable(List.of(proxy));
+        
+        // Assert
+        assertSame(proxy, routingTable.getHandlers().get(Ping.class));
+        assertEquals("pong", routingTable.routeFor(Ping.class).invoke(new Ping()));
+    }
+    
+    @Test
+    void should_cache_route_per_use_case_class() {
+        // Arrange
+        UseCaseRoutingTable routingTable = new UseCaseRoutingTable(List.of(new PingHandler()));
+        
+        // Act & Assert
+        assertSame(routingTable.routeFor(Ping.class), routingTable.routeFor(Ping.class));
+    }
+    
+    @Test
+    void should_throw_exception_for_duplicate_handlers() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> new UseCaseRoutingTable(List.of(new PingHandler(), new PingHandler())));
+    }
+    
+    @Test
+    void should_throw_exception_for_handler_without_concrete_use_case_type() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> new UseCaseRoutingTable(List.of(new GenericHandler<Ping>())));
+    }
+    
+    @Test
+    void should_throw_exception_when_dispatching_use_case_without_handler() {
+        // Arrange
+        UseCaseRoutingTable routingTable = new UseCaseRoutingTable(List.of(new PingHandler()));
+        UseCaseRoute route = routingTable.routeFor(Echo.class);
+        
+        // Act & Assert
+        assertFalse(route.isRoutable());
+        assertThrows(IllegalArgumentException.class, () -> route.invoke(new Echo("lost")));
+    }
+    
+    @Test
+    void should_fail_verification_for_use_case_without_handler() {
+        // Arrange
+        UseCaseRoutingTable routingTable = new UseCaseRoutingTable(List.of(new PingHandler()));
+        
+        // Act & Assert
+        assertDoesNotThrow(() -> routingTable.verifyRoutable(List.of(Ping.class)));
+        assertThrows(IllegalStateException.class,
+            () -> routingTable.verifyRoutable(List.of(Ping.class, Echo.class)));
+    }
+    
+    @Test
+    void should_wrap_handler_with_behaviors_in_order() {
+        // Arrange
+        List<String> calls = new ArrayList<>();
+        UseCaseRoutingTable routingTable = new UseCaseRoutingTable(
+            List.of(new EchoHandler()),
+            List.of(new RecordingBehavior("outer", calls), new RecordingBehavior("inner", calls)));
+        
+        // Act
+        String response = routingTable.routeFor(Echo.class).invoke(new Echo("hi"));
+        
+        // Assert
+        assertEquals("outer(inner(hi))", response);
+        assertEquals(List.of("outer", "inner"), calls);
+    }
+    
+    @Test
+    void should_skip_behaviors_that_do_not_apply_to_use_case_type() {
+        // Arrange
+        List<String> calls = new ArrayList<>();
+        RecordingBehavior pingOnly = new RecordingBehavior("ping-only", calls) {
+            @Override
+            public boolean appliesTo(Class<?> useCaseType) {
+                return useCaseType == Ping.class;
+            }
+        };
+        UseCaseRoutingTable routingTable = new UseCaseRoutingTable(
+            List.of(new PingHandler(), new EchoHandler()), List.of(pingOnly));
+        
+        // Act
+        String echoResponse = routingTable.routeFor(Echo.class).invoke(new Echo("hi"));
+        String pingResponse = routingTable.routeFor(Ping.class).invoke(new Ping());
+        
+        // Assert
+        assertEquals("hi", echoResponse);
+        assertEquals("ping-only(pong)", pingResponse);
+        assertEquals(List.of("ping-only"), calls);
+    }
+    
+    static class Ping implements UseCase<String> {
+    }
+    
+    static class Echo implements UseCase<String> {
+        
+        private final String text;
+        
+        Echo(String text) {
+            this.text = text;
+        }
+    }
+    
+    static class LoudEcho extends Echo {
+        
+        LoudEcho(String text) {
+            super(text);
+        }
+    }
+    
+    static class PingHandler implements UseCaseHandler<Ping, String> {
+        
+        @Override
+        public String handle(Ping useCase) {
+            return "pong";
+        }
+    }
+    
+    static class GenericHandler<T extends UseCase<String>> implements UseCaseHandler<T, String> {
+        
+        @Override
+        public String handle(T useCase) {
+            return "generic";
+        }
+    }
+    
+    static class EchoHandler implements UseCaseHandler<Echo, String> {
+        
+        @Override
+        public String handle(Echo useCase) {
+            return useCase.text;
+        }
+    }
+    
+    static class RecordingBehavior implements UseCasePipelineBehavior {
+        
+        private final String name;
+        private final List<String> calls;
+        
+        RecordingBehavior(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public <TResponse> TResponse handle(UseCase<TResponse> useCase, UseCaseInvocation next) {
+            calls.add(name);
+            return (TResponse) (name + "(" + next.proceed(useCase) + ")");
+        }
+    }
+}
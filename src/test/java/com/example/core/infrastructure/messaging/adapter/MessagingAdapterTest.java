@@ -0,0 +1,111 @@
+package com.example.core.infrastructure.messaging.adapter;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.infrastructure.messaging.log.FsyncPolicy;
+import com.example.core.infrastructure.messaging.log.LogRecord;
+import com.example.core.infrastructure.messaging.log.MessageLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MessagingAdapter appending to the message log.
+ */
+class MessagingAdapterTest {
+    
+    @TempDir
+    Path directory;
+    
+    private MessageLog messageLog;
+    private MessagingAdapter adapter;
+    
+    @BeforeEach
+    void setUp() {
+        messageLog = new MessageLog(directory, 4, 1 << 20, 4, FsyncPolicy.NEVER, Duration.ofMillis(10));
+        adapter = new MessagingAdapter(event -> { }, messageLog, new ObjectMapper().findAndRegisterModules());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        messageLog.close();
+    }
+    
+    @Test
+    void should_append_messages_with_the_same_key_to_one_partition_in_order() {
+        // Act
+        for (int i = 0; i < 8; i++) {
+            adapter.publishMessage("user.events", 42L, "update " + i);
+        }
+        
+        // Assert
+        List<String> payloads = new ArrayList<>();
+        int usedPartitions = 0;
+        for (int partition = 0; partition < messageLog.partitionCount("user.events"); partition++) {
+            List<LogRecord> records = messageLog.read("user.events", partition, 0, 100);
+            if (!records.isEmpty()) {
+                usedPartitions++;
+                records.forEach(record -> payloads.add(payload(record)));
+            }
+        }
+        assertEquals(1, usedPartitions);
+        assertEquals(List.of("\"update 0\"", "\"update 1\"", "\"update 2\"", "\"update 3\"",
+            "\"update 4\"", "\"update 5\"", "\"update 6\"", "\"update 7\""), payloads);
+    }
+    
+    @Test
+    void should_key_domain_events_sent_without_key_by_their_aggregate() {
+        // Arrange
+        LogRecord keyed = messageLog.append("accounts", "acc-7", "String", "{}".getBytes(StandardCharsets.UTF_8));
+        
+        // Act
+        adapter.sendCommand("accounts", new AccountClosed("acc-7"));
+        
+        // Assert
+        List<LogRecord> records = messageLog.read("accounts", keyed.getPartition(), 0, 10);
+        assertEquals(2, records.size());
+        assertEquals(AccountClosed.class.getName(), records.get(1).getType());
+    }
+    
+    private static String payload(LogRecord record) {
+        return new String(record.getPayload(), StandardCharsets.UTF_8);
+    }
+    
+    static class AccountClosed implements DomainEvent {
+        
+        private final String accountId;
+        
+        AccountClosed(String accountId) {
+            this.accountId = accountId;
+        }
+        
+        public String getAccountId() {
+            return accountId;
+        }
+        
+        @Override
+        public String getEventId() {
+            return "event-" + accountId;
+        }
+        
+        @Override
+        public Instant getOccurredOn() {
+            return Instant.EPOCH;
+        }
+        
+        @Override
+        public Object getAggregateId() {
+            return accountId;
+        }
+    }
+}
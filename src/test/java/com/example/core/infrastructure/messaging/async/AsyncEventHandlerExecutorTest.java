@@ -0,0 +1,159 @@
+package com.example.core.infrastructure.messaging.async;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.domain.event.DomainEventHandler;
+import com.example.core.infrastructure.messaging.deadletter.DeadLetter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AsyncEventHandlerExecutor.
+ */
+class AsyncEventHandlerExecutorTest {
+    
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+    private final List<DeadLetter> deadLetters = Collections.synchronizedList(new ArrayList<>());
+    
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+    
+    @Test
+    void should_retry_failed_handler_until_it_succeeds() throws Exception {
+        // Arrange
+        AsyncEventHandlerExecutor executor = executor(3);
+        RecordingHandler handler = new RecordingHandler(2);
+        
+        // Act
+        executor.execute(handler, new OrderPlaced("order-1")).get(5, TimeUnit.SECONDS);
+        
+        // Assert
+        assertEquals(3, handler.calls.get());
+        assertEquals(List.of("order-1"), handler.handled);
+        assertTrue(deadLetters.isEmpty());
+    }
+    
+    @Test
+    void should_dead_letter_event_after_last_attempt() throws Exception {
+        // Arrange
+        AsyncEventHandlerExecutor executor = executor(3);
+        RecordingHandler handler = new RecordingHandler(Integer.MAX_VALUE);
+        OrderPlaced event = new OrderPlaced("order-1");
+        
+        // Act
+        executor.execute(handler, event).get(5, TimeUnit.SECONDS);
+        
+        // Assert
+        assertEquals(3, handler.calls.get());
+        assertEquals(1, deadLetters.size());
+        DeadLetter deadLetter = deadLetters.get(0);
+        assertSame(event, deadLetter.getEvent());
+        assertEquals(RecordingHandler.class.getName(), deadLetter.getHandler());
+        assertEquals(3, deadLetter.getAttempts());
+        assertEquals("handler failed", deadLetter.getFailure().getMessage());
+    }
+    
+    @Test
+    void should_keep_order_per_aggregate_while_a_handler_retries() throws Exception {
+        // Arrange
+        AsyncEventHandlerExecutor executor = executor(3);
+        RecordingHandler handler = new RecordingHandler(1);
+        
+        // Act
+        CompletableFuture<Void> first = executor.execute(handler, new OrderPlaced("order-1", "first"));
+        CompletableFuture<Void> second = executor.execute(handler, new OrderPlaced("order-1", "second"));
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        
+        // Assert
+        assertEquals(List.of("first", "second"), handler.handled);
+    }
+    
+    @Test
+    void should_grow_backoff_exponentially_up_to_the_maximum() {
+        // Arrange
+        AsyncEventHandlerExecutor executor = new AsyncEventHandlerExecutor(pool, 4, deadLetters::add,
+            5, Duration.ofMillis(100), 2.0, Duration.ofMillis(300));
+        
+        // Act & Assert
+        assertEquals(100, executor.backoffMillis(1));
+        assertEquals(200, executor.backoffMillis(2));
+        assertEquals(300, executor.backoffMillis(3));
+        assertEquals(300, executor.backoffMillis(4));
+    }
+    
+    private AsyncEventHandlerExecutor executor(int maxAttempts) {
+        return new AsyncEventHandlerExecutor(pool, 4, deadLetters::add,
+            maxAttempts, Duration.ofMillis(5), 2.0, Duration.ofMillis(20));
+    }
+    
+    static class RecordingHandler implements DomainEventHandler<OrderPlaced> {
+        
+        private final int failures;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        
+        RecordingHandler(int failures) {
+            this.failures = failures;
+        }
+        
+        @Override
+        public void handle(OrderPlaced event) {
+            if (calls.incrementAndGet() <= failures) {
+                throw new IllegalStateException("handler failed");
+            }
+            handled.add(event.label);
+        }
+        
+        @Override
+        public Class<OrderPlaced> getEventType() {
+            return OrderPlaced.class;
+        }
+    }
+    
+    static class OrderPlaced implements DomainEvent {
+        
+        private final String eventId = UUID.randomUUID().toString();
+        private final Instant occurredOn = Instant.now();
+        private final String orderId;
+        private final String label;
+        
+        OrderPlaced(String orderId) {
+            this(orderId, orderId);
+        }
+        
+        OrderPlaced(String orderId, String label) {
+            this.orderId = orderId;
+            this.label = label;
+        }
+        
+        @Override
+        public String getEventId() {
+            return eventId;
+        }
+        
+        @Override
+        public Instant getOccurredOn() {
+            return occurredOn;
+        }
+        
+        @Override
+        public Object getAggregateId() {
+            return orderId;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.core.infrastructure.messaging.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PartitionedExecutor.
+ */
+class PartitionedExecutorTest {
+    
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+    
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+    
+    @Test
+    void should_run_tasks_with_the_same_key_in_submission_order() throws Exception {
+        // Arrange
+        PartitionedExecutor executor = new PartitionedExecutor(pool, 16);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        
+        // Act
+        for (int i = 0; i < 200; i++) {
+            int value = i;
+            futures.add(executor.submit(42, () -> {
+                order.add(value);
+                return CompletableFuture.completedFuture(null);
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+        
+        // Assert
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+    
+    @Test
+    void should_hold_back_a_partition_until_the_previous_task_future_completes() throws Exception {
+        // Arrange
+        PartitionedExecutor executor = new PartitionedExecutor(pool, 16);
+        CompletableFuture<Void> firstDone = new CompletableFuture<>();
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        
+        // Act
+        executor.submit(7, () -> firstDone);
+        CompletableFuture<Void> second = executor.submit(7, () -> {
+            secondStarted.countDown();
+            return CompletableFuture.completedFuture(null);
+        });
+        boolean startedEarly = secondStarted.await(100, TimeUnit.MILLISECONDS);
+        firstDone.complete(null);
+        second.get(5, TimeUnit.SECONDS);
+        
+        // Assert
+        assertFalse(startedEarly);
+        assertEquals(0, secondStarted.getCount());
+    }
+    
+    @Test
+    void should_run_tasks_with_different_keys_in_parallel() throws Exception {
+        // Arrange
+        PartitionedExecutor executor = new PartitionedExecutor(pool, 16);
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        
+        // Act
+        CompletableFuture<Void> first = executor.submit(1, () -> awaitOther(bothRunning));
+        CompletableFuture<Void> second = executor.submit(2, () -> awaitOther(bothRunning));
+        
+        // Assert
+        assertDoesNotThrow(() -> CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void should_continue_partition_after_a_failed_task() throws Exception {
+        // Arrange
+        PartitionedExecutor executor = new PartitionedExecutor(pool, 1);
+        
+        // Act
+        CompletableFuture<Void> failed = executor.submit(3, () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<Void> next = executor.submit(3, () -> CompletableFuture.completedFuture(null));
+        
+        // Assert
+        assertDoesNotThrow(() -> next.get(5, TimeUnit.SECONDS));
+        assertTrue(failed.isCompletedExceptionally());
+    }
+    
+    private static CompletableFuture<Void> awaitOther(CountDownLatch bothRunning) {
+        bothRunning.countDown();
+        try {
+            if (!bothRunning.await(5, TimeUnit.SECONDS)) {
+                return CompletableFuture.failedFuture(new AssertionError("tasks did not overlap"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+}
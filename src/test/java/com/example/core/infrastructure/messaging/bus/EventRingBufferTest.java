@@ -0,0 +1,103 @@
+package com.example.core.infrastructure.messaging.bus;
+
+import com.example.core.domain.event.DomainEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EventRingBuffer.
+ */
+class EventRingBufferTest {
+    
+    @Test
+    void should_hand_over_events_in_publication_order() {
+        // Arrange
+        EventRingBuffer buffer = new EventRingBuffer(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(new SequencedEvent(i));
+        }
+        List<DomainEvent> drained = new ArrayList<>();
+        
+        // Act
+        int count = buffer.drainTo(drained::add, 100);
+        
+        // Assert
+        assertEquals(5, count);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, ((SequencedEvent) drained.get(i)).sequence);
+        }
+        assertEquals(0, buffer.size());
+        assertFalse(buffer.hasAvailable());
+    }
+    
+    @Test
+    void should_refuse_events_while_full_until_the_consumer_releases_slots() {
+        // Arrange
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(new SequencedEvent(i)));
+        }
+        
+        // Act
+        boolean acceptedWhileFull = buffer.offer(new SequencedEvent(4));
+        buffer.drainTo(event -> { }, 2);
+        boolean acceptedAfterDrain = buffer.offer(new SequencedEvent(4));
+        
+        // Assert
+        assertFalse(acceptedWhileFull);
+        assertTrue(acceptedAfterDrain);
+        assertEquals(3, buffer.size());
+    }
+    
+    @Test
+    void should_limit_each_drain_to_the_batch_size_and_wrap_around() {
+        // Arrange
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        List<DomainEvent> drained = new ArrayList<>();
+        
+        // Act
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(new SequencedEvent(i));
+            if (buffer.size() == 3) {
+                assertEquals(2, buffer.drainTo(drained::add, 2));
+            }
+        }
+        buffer.drainTo(drained::add, 100);
+        
+        // Assert
+        assertEquals(10, drained.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, ((SequencedEvent) drained.get(i)).sequence);
+        }
+    }
+    
+    @Test
+    void should_reject_capacity_that_is_not_a_power_of_two() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new EventRingBuffer(6));
+    }
+    
+    static class SequencedEvent implements DomainEvent {
+        
+        final int sequence;
+        
+        SequencedEvent(int sequence) {
+            this.sequence = sequence;
+        }
+        
+        @Override
+        public String getEventId() {
+            return "event-" + sequence;
+        }
+        
+        @Override
+        public Instant getOccurredOn() {
+            return Instant.EPOCH;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.core.infrastructure.messaging.bus;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.domain.event.DomainEventHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RingBufferEventBus.
+ */
+class RingBufferEventBusTest {
+    
+    private final ExecutorService producers = Executors.newFixedThreadPool(4);
+    private RingBufferEventBus bus;
+    
+    @AfterEach
+    void tearDown() {
+        producers.shutdownNow();
+        if (bus != null) {
+            bus.stop();
+        }
+    }
+    
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.Type.class)
+    void should_deliver_events_of_each_aggregate_in_publication_order(WaitStrategy.Type waitStrategy) throws Exception {
+        // Arrange
+        int perProducer = 5_000;
+        RecordingHandler handler = new RecordingHandler(4 * perProducer);
+        bus = new RingBufferEventBus(List.of(handler), 4, 256, 32, waitStrategy, Duration.ofSeconds(5));
+        bus.start();
+        
+        // Act
+        List<Future<?>> published = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            String aggregateId = "aggregate-" + p;
+            published.add(producers.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    bus.publish(new ActivityEvent(aggregateId, i));
+                }
+            }));
+        }
+        for (Future<?> future : published) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        
+        // Assert
+        assertTrue(handler.done.await(10, TimeUnit.SECONDS));
+        assertEquals(4, handler.received.size());
+        for (List<Integer> sequences : handler.received.values()) {
+            assertEquals(perProducer, sequences.size());
+            for (int i = 0; i < perProducer; i++) {
+                assertEquals(i, sequences.get(i));
+            }
+        }
+    }
+    
+    @Test
+    void should_reject_events_when_the_buffer_stays_full() {
+        // Arrange
+        bus = new RingBufferEventBus(List.of(new RecordingHandler(0)), 1, 2, 8,
+            WaitStrategy.Type.BLOCKING, Duration.ofMillis(10));
+        bus.publish(new ActivityEvent("a", 0));
+        bus.publish(new ActivityEvent("a", 1));
+        
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> bus.publish(new ActivityEvent("a", 2)));
+        assertEquals(1, bus.getRejectedCount());
+    }
+    
+    @Test
+    void should_keep_delivering_after_a_handler_fails() throws Exception {
+        // Arrange
+        RecordingHandler handler = new RecordingHandler(1);
+        DomainEventHandler<ActivityEvent> failing = new DomainEventHandler<>() {
+            @Override
+            public void handle(ActivityEvent event) {
+                throw new IllegalStateException("boom");
+            }
+            
+            @Override
+            public Class<ActivityEvent> getEventType() {
+                return ActivityEvent.class;
+            }
+        };
+        bus = new RingBufferEventBus(List.of(failing, handler), 1, 16, 8,
+            WaitStrategy.Type.BLOCKING, Duration.ZERO);
+        bus.start();
+        
+        // Act
+        bus.publish(new ActivityEvent("a", 0));
+        
+        // Assert
+        assertTrue(handler.done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, bus.getFailedCount());
+    }
+    
+    @Test
+    void should_handle_buffered_events_on_stop_and_reject_later_ones() {
+        // Arrange
+        RecordingHandler handler = new RecordingHandler(100);
+        bus = new RingBufferEventBus(List.of(handler), 2, 128, 8, WaitStrategy.Type.SLEEPING, Duration.ZERO);
+        for (int i = 0; i < 100; i++) {
+            bus.publish(new ActivityEvent("aggregate-" + i % 3, i));
+        }
+        bus.start();
+        
+        // Act
+        bus.stop();
+        
+        // Assert
+        assertEquals(0, handler.done.getCount());
+        assertEquals(0, bus.getBacklog());
+        assertThrows(RejectedExecutionException.class, () -> bus.publish(new ActivityEvent("a", 100)));
+    }
+    
+    static class ActivityEvent implements DomainEvent {
+        
+        final String aggregateId;
+        final int sequence;
+        
+        ActivityEvent(String aggregateId, int sequence) {
+            this.aggregateId = aggregateId;
+            this.sequence = sequence;
+        }
+        
+        @Override
+        public String getEventId() {
+            return aggregateId + "-" + sequence;
+        }
+        
+        @Override
+        public Instant getOccurredOn() {
+            return Instant.EPOCH;
+        }
+        
+        @Override
+        public Object getAggregateId() {
+            return aggregateId;
+        }
+    }
+    
+    static class RecordingHandler implements DomainEventHandler<ActivityEvent> {
+        
+        final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        final CountDownLatch done;
+        
+        RecordingHandler(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+        
+        @Override
+        public void handle(ActivityEvent event) {
+            received.computeIfAbsent(event.aggregateId, id -> Collections.synchronizedList(new ArrayList<>()))
+                .add(event.sequence);
+            done.countDown();
+        }
+        
+        @Override
+        public Class<ActivityEvent> getEventType() {
+            return ActivityEvent.class;
+        }
+    }
+}
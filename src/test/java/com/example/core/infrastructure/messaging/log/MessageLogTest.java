@@ -0,0 +1,222 @@
+package com.example.core.infrastructure.messaging.log;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MessageLog.
+ */
+class MessageLogTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void should_keep_messages_with_the_same_key_in_order_in_one_partition() {
+        // Arrange
+        try (MessageLog log = open(FsyncPolicy.ALWAYS, 1 << 20)) {
+            
+            // Act
+            List<LogRecord> appended = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                appended.add(log.append("user.events", "user-7", "String", bytes("message " + i)));
+            }
+            
+            // Assert
+            int partition = appended.get(0).getPartition();
+            List<LogRecord> read = log.read("user.events", partition, 0, 100);
+            assertEquals(10, read.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(partition, appended.get(i).getPartition());
+                assertEquals(i, read.get(i).getOffset());
+                assertEquals("message " + i, text(read.get(i)));
+                assertEquals("String", read.get(i).getType());
+            }
+        }
+    }
+    
+    @Test
+    void should_spread_messages_without_key_over_all_partitions() {
+        // Arrange
+        try (MessageLog log = open(FsyncPolicy.NEVER, 1 << 20)) {
+            
+            // Act
+            for (int i = 0; i < 8; i++) {
+                log.append("user.events", null, "String", bytes("message " + i));
+            }
+            
+            // Assert
+            for (int partition = 0; partition < 4; partition++) {
+                assertEquals(2, log.endOffset("user.events", partition));
+            }
+        }
+    }
+    
+    @Test
+    void should_recover_messages_after_reopening_and_continue_offsets() {
+        // Arrange
+        try (MessageLog log = open(FsyncPolicy.INTERVAL, 1 << 20)) {
+            log.append("orders", "a", "String", bytes("first"));
+            log.append("orders", "a", "String", bytes("second"));
+        }
+        
+        // Act
+        try (MessageLog log = open(FsyncPolicy.INTERVAL, 1 << 20)) {
+            int partition = log.append("orders", "a", "String", bytes("third")).getPartition();
+            List<LogRecord> read = log.read("orders", partition, 0, 10);
+            
+            // Assert
+            assertEquals(List.of("first", "second", "third"), read.stream().map(MessageLogTest::text).collect(Collectors.toList()));
+            assertEquals(2, read.get(2).getOffset());
+        }
+    }
+    
+    @Test
+    void should_drop_a_torn_record_when_reopening() throws IOException {
+        // Arrange
+        int partition;
+        try (MessageLog log = open(FsyncPolicy.ALWAYS, 1 << 20)) {
+            partition = log.append("orders", "a", "String", bytes("complete")).getPartition();
+        }
+        Path segment = directory.resolve("orders").resolve(Integer.toString(partition)).resolve(LogSegment.fileName(0));
+        int end = LogSegment.HEADER_SIZE + LogSegment.BODY_OVERHEAD + "String".length() + "complete".length();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // A header whose body never made it to disk
+            channel.write(ByteBuffer.allocate(8).putInt(0, 40).putInt(4, 12345), end);
+        }
+        
+        // Act
+        try (MessageLog log = open(FsyncPolicy.ALWAYS, 1 << 20)) {
+            log.append("orders", "a", "String", bytes("next"));
+            List<LogRecord> read = log.read("orders", partition, 0, 10);
+            
+            // Assert
+            assertEquals(List.of("complete", "next"), read.stream().map(MessageLogTest::text).collect(Collectors.toList()));
+        }
+    }
+    
+    @Test
+    void should_roll_segments_and_delete_the_oldest_beyond_the_limit() throws IOException {
+        // Arrange
+        try (MessageLog log = new MessageLog(directory, 1, 256, 2, FsyncPolicy.NEVER, Duration.ofSeconds(1))) {
+            
+            // Act
+            for (int i = 0; i < 30; i++) {
+                log.append("audit", null, "String", bytes(String.format("message %02d", i)));
+            }
+            
+            // Assert
+            long start = log.startOffset("audit", 0);
+            List<LogRecord> read = log.read("audit", 0, 0, 100);
+            assertTrue(start > 0);
+            assertEquals(30 - start, read.size());
+            assertEquals(String.format("message %02d", start), text(read.get(0)));
+            assertEquals("message 29", text(read.get(read.size() - 1)));
+            try (Stream<Path> segments = Files.list(directory.resolve("audit").resolve("0"))) {
+                assertEquals(2, segments.count());
+            }
+        }
+    }
+    
+    @Test
+    void should_resume_consumer_group_after_committed_offsets() {
+        // Arrange
+        try (MessageLog log = open(FsyncPolicy.NEVER, 1 << 20)) {
+            for (int i = 0; i < 6; i++) {
+                log.append("user.events", null, "String", bytes("message " + i));
+            }
+            MessageLogConsumer consumer = log.consumer("mailer", "user.events");
+            assertEquals(6, consumer.poll(100).size());
+            consumer.commit();
+            log.append("user.events", null, "String", bytes("message 6"));
+        }
+        
+        // Act
+        try (MessageLog log = open(FsyncPolicy.NEVER, 1 << 20)) {
+            List<LogRecord> polled = log.consumer("mailer", "user.events").poll(100);
+            List<LogRecord> otherGroup = log.consumer("auditor", "user.events").poll(100);
+            
+            // Assert
+            assertEquals(List.of("message 6"), polled.stream().map(MessageLogTest::text).collect(Collectors.toList()));
+            assertEquals(7, otherGroup.size());
+        }
+    }
+    
+    @Test
+    void should_make_concurrent_appends_durable_with_group_commit() throws Exception {
+        // Arrange
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        try (MessageLog log = open(FsyncPolicy.ALWAYS, 1 << 20)) {
+            
+            // Act
+            List<Future<?>> appends = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                appends.add(producers.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        log.append("user.events", "same-key", "String", bytes("message"));
+                    }
+                }));
+            }
+            for (Future<?> append : appends) {
+                append.get(30, TimeUnit.SECONDS);
+            }
+            
+            // Assert
+            int partition = log.append("user.events", "same-key", "String", bytes("last")).getPartition();
+            assertEquals(1001, log.endOffset("user.events", partition));
+        } finally {
+            producers.shutdownNow();
+        }
+    }
+    
+    @Test
+    void should_refuse_a_directory_that_is_already_open() {
+        // Arrange
+        try (MessageLog log = open(FsyncPolicy.NEVER, 1 << 20)) {
+            
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> open(FsyncPolicy.NEVER, 1 << 20));
+        }
+    }
+    
+    @Test
+    void should_reject_topic_names_that_leave_the_directory() {
+        // Arrange
+        try (MessageLog log = open(FsyncPolicy.NEVER, 1 << 20)) {
+            
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> log.append("../outside", null, "String", bytes("x")));
+        }
+    }
+    
+    private MessageLog open(FsyncPolicy fsyncPolicy, int segmentSize) {
+        return new MessageLog(directory, 4, segmentSize, 4, fsyncPolicy, Duration.ofMillis(10));
+    }
+    
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private static String text(LogRecord record) {
+        return new String(record.getPayload(), StandardCharsets.UTF_8);
+    }
+}
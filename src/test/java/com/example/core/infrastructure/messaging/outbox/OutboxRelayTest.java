@@ -0,0 +1,282 @@
+package com.example.core.infrastructure.messaging.outbox;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.infrastructure.messaging.publisher.DomainEventDispatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the transactional outbox and its relay.
+ */
+class OutboxRelayTest {
+    
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private OutboxStore store;
+    private OutboxEventSerializer serializer;
+    private OutboxDomainEventPublisher publisher;
+    private RecordingDispatcher dispatcher;
+    
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        store = new OutboxStore(jdbcTemplate);
+        store.initializeSchema();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        serializer = new OutboxEventSerializer(objectMapper);
+        publisher = new OutboxDomainEventPublisher(store, serializer);
+        dispatcher = new RecordingDispatcher();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+    
+    @Test
+    void should_discard_events_when_publishing_transaction_rolls_back() {
+        // Arrange
+        OutboxRelay relay = relay(10, 3);
+        
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(new AccountOpened("acc-1", new Money(100)));
+            status.setRollbackOnly();
+        });
+        int relayed = relay.relayBatch();
+        
+        // Assert
+        assertEquals(0, relayed);
+        assertEquals(0, outboxSize());
+        assertTrue(dispatcher.events.isEmpty());
+    }
+    
+    @Test
+    void should_relay_committed_events_in_order_and_remove_them() {
+        // Arrange
+        OutboxRelay relay = relay(10, 3);
+        AccountOpened first = new AccountOpened("acc-1", new Money(100));
+        AccountOpened second = new AccountOpened("acc-2", new Money(250));
+        transactionTemplate.executeWithoutResult(status -> publisher.publishAll(List.of(first, second)));
+        
+        // Act
+        int relayed = relay.relayBatch();
+        
+        // Assert
+        assertEquals(2, relayed);
+        assertEquals(0, outboxSize());
+        assertEquals(List.of(first.getEventId(), second.getEventId()),
+            dispatcher.events.stream().map(DomainEvent::getEventId).collect(Collectors.toList()));
+        AccountOpened restored = (AccountOpened) dispatcher.events.get(1);
+        assertEquals("acc-2", restored.getAccountId());
+        assertEquals(250, restored.getDeposit().getAmount());
+        assertEquals(second.getOccurredOn(), restored.getOccurredOn());
+    }
+    
+    @Test
+    void should_relay_in_batches_of_configured_size() {
+        // Arrange
+        OutboxRelay relay = relay(2, 3);
+        publisher.publishAll(List.of(
+            new AccountOpened("acc-1", new Money(1)),
+            new AccountOpened("acc-2", new Money(2)),
+            new AccountOpened("acc-3", new Money(3))));
+        
+        // Act
+        int firstBatch = relay.relayBatch();
+        int secondBatch = relay.relayBatch();
+        
+        // Assert
+        assertEquals(2, firstBatch);
+        assertEquals(1, secondBatch);
+        assertEquals(3, dispatcher.events.size());
+    }
+    
+    @Test
+    void should_keep_failed_event_until_max_attempts_then_skip_it() {
+        // Arrange
+        OutboxRelay relay = relay(10, 2);
+        publisher.publish(new AccountOpened("acc-1", new Money(100)));
+        dispatcher.failing = true;
+        
+        // Act
+        relay.relayBatch();
+        relay.relayBatch();
+        int relayedAfterLimit = relay.relayBatch();
+        
+        // Assert
+        assertEquals(0, relayedAfterLimit);
+        assertEquals(1, outboxSize());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT attempts FROM " + OutboxStore.TABLE, Integer.class));
+        assertTrue(jdbcTemplate.queryForObject("SELECT last_error FROM " + OutboxStore.TABLE, String.class)
+            .contains("handler unavailable"));
+    }
+    
+    @Test
+    void should_wait_for_backoff_before_relaying_failed_event_again() {
+        // Arrange
+        OutboxRelay relay = new OutboxRelay(store, serializer, dispatcher, Duration.ofMillis(10), 10, 3,
+            Duration.ofMinutes(1), Duration.ofSeconds(5), Duration.ofHours(1), Duration.ofHours(1));
+        publisher.publish(new AccountOpened("acc-1", new Money(100)));
+        dispatcher.failing = true;
+        relay.relayBatch();
+        dispatcher.failing = false;
+        
+        // Act
+        int relayedDuringBackoff = relay.relayBatch();
+        
+        // Assert
+        assertEquals(0, relayedDuringBackoff);
+        assertEquals(1, outboxSize());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT attempts FROM " + OutboxStore.TABLE, Integer.class));
+    }
+    
+    @Test
+    void should_count_event_as_failed_when_its_handlers_outlast_delivery_timeout() {
+        // Arrange
+        OutboxRelay relay = new OutboxRelay(store, serializer, dispatcher, Duration.ofMillis(10), 10, 3,
+            Duration.ofMinutes(1), Duration.ofMillis(50), Duration.ZERO, Duration.ZERO);
+        publisher.publish(new AccountOpened("acc-1", new Money(100)));
+        dispatcher.hanging = true;
+        
+        // Act
+        relay.relayBatch();
+        
+        // Assert
+        assertEquals(1, outboxSize());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT attempts FROM " + OutboxStore.TABLE, Integer.class));
+        assertTrue(jdbcTemplate.queryForObject("SELECT last_error FROM " + OutboxStore.TABLE, String.class)
+            .contains("TimeoutException"));
+    }
+    
+    @Test
+    void should_not_hand_claimed_messages_to_another_relay_until_lease_runs_out() {
+        // Arrange
+        publisher.publishAll(List.of(
+            new AccountOpened("acc-1", new Money(1)),
+            new AccountOpened("acc-2", new Money(2)),
+            new AccountOpened("acc-3", new Money(3))));
+        
+        // Act
+        List<OutboxMessage> first = store.claimPending(2, 3, Duration.ofMinutes(1));
+        List<OutboxMessage> second = store.claimPending(10, 3, Duration.ofMinutes(1));
+        List<OutboxMessage> third = store.claimPending(10, 3, Duration.ofMinutes(1));
+        
+        // Assert
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertNotEquals(first.get(0).getId(), second.get(0).getId());
+        assertNotEquals(first.get(1).getId(), second.get(0).getId());
+        assertTrue(third.isEmpty());
+    }
+    
+    @Test
+    void should_reclaim_messages_whose_lease_ran_out() {
+        // Arrange
+        publisher.publish(new AccountOpened("acc-1", new Money(1)));
+        store.claimPending(10, 3, Duration.ofMillis(-1));
+        
+        // Act
+        List<OutboxMessage> reclaimed = store.claimPending(10, 3, Duration.ofMinutes(1));
+        
+        // Assert
+        assertEquals(1, reclaimed.size());
+    }
+    
+    private OutboxRelay relay(int batchSize, int maxAttempts) {
+        return new OutboxRelay(store, serializer, dispatcher, Duration.ofMillis(10), batchSize, maxAttempts,
+            Duration.ofMinutes(1), Duration.ofSeconds(5), Duration.ZERO, Duration.ZERO);
+    }
+    
+    private int outboxSize() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + OutboxStore.TABLE, Integer.class);
+    }
+    
+    static class RecordingDispatcher implements DomainEventDispatcher {
+        
+        private final List<DomainEvent> events = new ArrayList<>();
+        private boolean failing;
+        private boolean hanging;
+        
+        @Override
+        public CompletableFuture<Void> dispatch(DomainEvent event) {
+            if (hanging) {
+                return new CompletableFuture<>();
+            }
+            if (failing) {
+                return CompletableFuture.failedFuture(new IllegalStateException("handler unavailable"));
+            }
+            events.add(event);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+    
+    static class Money {
+        
+        private final long amount;
+        
+        private Money(long amount) {
+            this.amount = amount;
+        }
+        
+        long getAmount() {
+            return amount;
+        }
+    }
+    
+    static class AccountOpened implements DomainEvent {
+        
+        private final String eventId = UUID.randomUUID().toString();
+        private final Instant occurredOn = Instant.now();
+        private final String accountId;
+        private final Money deposit;
+        
+        AccountOpened(String accountId, Money deposit) {
+            this.accountId = accountId;
+            this.deposit = deposit;
+        }
+        
+        @Override
+        public String getEventId() {
+            return eventId;
+        }
+        
+        @Override
+        public Instant getOccurredOn() {
+            return occurredOn;
+        }
+        
+        String getAccountId() {
+            return accountId;
+        }
+        
+        Money getDeposit() {
+            return deposit;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.core.infrastructure.messaging.publisher;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.domain.event.DomainEventHandler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SpringDomainEventPublisher with handlers running on the publishing thread.
+ */
+class SpringDomainEventPublisherTest {
+    
+    @Test
+    void should_run_all_handlers_and_fail_dispatch_when_one_of_them_fails() {
+        // Arrange
+        List<String> handled = new ArrayList<>();
+        SpringDomainEventPublisher publisher = new SpringDomainEventPublisher(List.of(
+            handler(() -> {
+                throw new IllegalStateException("mail server unavailable");
+            }),
+            handler(() -> handled.add("audit"))));
+        
+        // Act
+        CompletableFuture<Void> dispatched = publisher.dispatch(new AccountOpened());
+        
+        // Assert
+        assertEquals(List.of("audit"), handled);
+        CompletionException failure = assertThrows(CompletionException.class, dispatched::join);
+        assertEquals("mail server unavailable", failure.getCause().getMessage());
+    }
+    
+    @Test
+    void should_complete_dispatch_when_all_handlers_succeed() {
+        // Arrange
+        List<String> handled = new ArrayList<>();
+        SpringDomainEventPublisher publisher = new SpringDomainEventPublisher(List.of(
+            handler(() -> handled.add("mail")),
+            handler(() -> handled.add("audit"))));
+        
+        // Act
+        CompletableFuture<Void> dispatched = publisher.dispatch(new AccountOpened());
+        
+        // Assert
+        assertDoesNotThrow(dispatched::join);
+        assertEquals(List.of("mail", "audit"), handled);
+    }
+    
+    private static DomainEventHandler<AccountOpened> handler(Runnable action) {
+        return new DomainEventHandler<>() {
+            
+            @Override
+            public void handle(AccountOpened event) {
+                action.run();
+            }
+            
+            @Override
+            public Class<AccountOpened> getEventType() {
+                return AccountOpened.class;
+            }
+        };
+    }
+    
+    static class AccountOpened implements DomainEvent {
+        
+        @Override
+        public String getEventId() {
+            return "event-1";
+        }
+        
+        @Override
+        public Instant getOccurredOn() {
+            return Instant.EPOCH;
+        }
+    }
+}
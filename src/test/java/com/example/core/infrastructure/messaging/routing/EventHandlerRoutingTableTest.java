@@ -0,0 +1,130 @@
+package com.example.core.infrastructure.messaging.routing;
+
+import com.example.core.domain.event.DomainEvent;
+import com.example.core.domain.event.DomainEventHandler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EventHandlerRoutingTable.
+ */
+class EventHandlerRoutingTableTest {
+    
+    @Test
+    void should_route_event_to_handler_of_its_exact_type() {
+        // Arrange
+        NoopHandler<AccountOpened> handler = new NoopHandler<>(AccountOpened.class);
+        EventHandlerRoutingTable routingTable = new EventHandlerRoutingTable(List.of(handler));
+        
+        // Act
+        List<DomainEventHandler<? extends DomainEvent>> handlers = routingTable.handlersFor(AccountOpened.class);
+        
+        // Assert
+        assertEquals(List.of(handler), handlers);
+    }
+    
+    @Test
+    void should_route_event_to_superclass_interface_and_catch_all_handlers_in_registration_order() {
+        // Arrange
+        NoopHandler<DomainEvent> catchAll = new NoopHandler<>(DomainEvent.class);
+        NoopHandler<AccountOpened> superclass = new NoopHandler<>(AccountOpened.class);
+        NoopHandler<Audited> marker = new NoopHandler<>(Audited.class);
+        NoopHandler<AccountClosed> unrelated = new NoopHandler<>(AccountClosed.class);
+        EventHandlerRoutingTable routingTable = new EventHandlerRoutingTable(
+            List.of(catchAll, superclass, unrelated, marker));
+        
+        // Act
+        List<DomainEventHandler<? extends DomainEvent>> handlers = routingTable.handlersFor(PremiumAccountOpened.class);
+        
+        // Assert
+        assertEquals(List.of(catchAll, superclass, marker), handlers);
+    }
+    
+    @Test
+    void should_return_the_same_cached_route_for_repeated_lookups() {
+        // Arrange
+        EventHandlerRoutingTable routingTable = new EventHandlerRoutingTable(
+            List.of(new NoopHandler<>(AccountOpened.class)));
+        
+        // Act
+        List<DomainEventHandler<? extends DomainEvent>> first = routingTable.handlersFor(AccountOpened.class);
+        List<DomainEventHandler<? extends DomainEvent>> second = routingTable.handlersFor(AccountOpened.class);
+        
+        // Assert
+        assertSame(first, second);
+    }
+    
+    @Test
+    void should_return_empty_route_for_event_without_handlers() {
+        // Arrange
+        EventHandlerRoutingTable routingTable = new EventHandlerRoutingTable(
+            List.of(new NoopHandler<>(AccountOpened.class)));
+        
+        // Act
+        List<DomainEventHandler<? extends DomainEvent>> handlers = routingTable.handlersFor(AccountClosed.class);
+        
+        // Assert
+        assertTrue(handlers.isEmpty());
+    }
+    
+    @Test
+    void should_reject_handler_without_event_type() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> new EventHandlerRoutingTable(List.of(new NoopHandler<>(null))));
+    }
+    
+    interface Audited extends DomainEvent {
+    }
+    
+    static class AccountOpened implements DomainEvent {
+        
+        @Override
+        public String getEventId() {
+            return "event-1";
+        }
+        
+        @Override
+        public Instant getOccurredOn() {
+            return Instant.EPOCH;
+        }
+    }
+    
+    static class PremiumAccountOpened extends AccountOpened implements Audited {
+    }
+    
+    static class AccountClosed implements DomainEvent {
+        
+        @Override
+        public String getEventId() {
+            return "event-2";
+        }
+        
+        @Override
+        public Instant getOccurredOn() {
+            return Instant.EPOCH;
+        }
+    }
+    
+    static class NoopHandler<T extends DomainEvent> implements DomainEventHandler<T> {
+        
+        private final Class<T> eventType;
+        
+        NoopHandler(Class<T> eventType) {
+            this.eventType = eventType;
+        }
+        
+        @Override
+        public void handle(T event) {
+        }
+        
+        @Override
+        public Class<T> getEventType() {
+            return eventType;
+        }
+    }
+}
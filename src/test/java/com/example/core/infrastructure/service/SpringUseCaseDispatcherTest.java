@@ -0,0 +1,153 @@
+package com.example.core.infrastructure.service;
+
+import com.example.core.application.usecase.BatchUseCaseHandler;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseHandler;
+import com.example.core.application.usecase.UseCaseResult;
+import com.example.core.infrastructure.dispatch.async.UseCaseAsyncExecutor;
+import com.example.core.infrastructure.dispatch.routing.UseCaseRoutingTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SpringUseCaseDispatcher.
+ */
+class SpringUseCaseDispatcherTest {
+    
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void should_run_queued_use_case_as_its_own_caller() {
+        // Arrange
+        List<Runnable> submitted = new ArrayList<>();
+        WhoAmIHandler handler = new WhoAmIHandler();
+        SpringUseCaseDispatcher dispatcher = new SpringUseCaseDispatcher(
+            new UseCaseRoutingTable(List.of(handler)), new UseCaseAsyncExecutor(submitted::add, type -> 1));
+        authenticateAs("alice");
+        CompletableFuture<String> first = dispatcher.dispatchAsync(new WhoAmI());
+        authenticateAs("bob");
+        CompletableFuture<String> queued = dispatcher.dispatchAsync(new WhoAmI());
+        
+        // Act
+        authenticateAs("mallory");
+        submitted.get(0).run();
+        submitted.get(1).run();
+        
+        // Assert
+        assertEquals("alice", first.join());
+        assertEquals("bob", queued.join());
+        assertEquals("mallory", SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+    
+    @Test
+    void should_pass_each_type_group_to_batch_handler_in_one_call() {
+        // Arrange
+        SquareBatchHandler squareHandler = new SquareBatchHandler();
+        SpringUseCaseDispatcher dispatcher = dispatcherFor(squareHandler, new NegateHandler());
+        List<UseCase<Integer>> useCases = List.of(new Square(2), new Negate(5), new Square(3), new Square(4));
+        
+        // Act
+        List<UseCaseResult<Integer>> results = dispatcher.dispatchAll(useCases);
+        
+        // Assert
+        assertEquals(List.of(4, -5, 9, 16), results.stream().map(UseCaseResult::getValue).collect(Collectors.toList()));
+        assertEquals(List.of(3), squareHandler.batchSizes);
+    }
+    
+    @Test
+    void should_report_failure_of_one_use_case_without_failing_the_others() {
+        // Arrange
+        SpringUseCaseDispatcher dispatcher = dispatcherFor(new NegateHandler());
+        
+        // Act
+        List<UseCaseResult<Integer>> results = dispatcher.dispatchAll(List.of(new Negate(1), new Negate(-1), new Negate(2)));
+        
+        // Assert
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertInstanceOf(IllegalArgumentException.class, results.get(1).getError());
+        assertEquals(-2, results.get(2).getValue());
+    }
+    
+    @Test
+    void should_fail_only_the_group_without_a_handler() {
+        // Arrange
+        SpringUseCaseDispatcher dispatcher = dispatcherFor(new NegateHandler());
+        
+        // Act
+        List<UseCaseResult<Integer>> results = dispatcher.dispatchAll(List.of(new Square(2), new Negate(3)));
+        
+        // Assert
+        assertFalse(results.get(0).isSuccess());
+        assertThrows(IllegalArgumentException.class, results.get(0)::getOrThrow);
+        assertEquals(-3, results.get(1).getValue());
+    }
+    
+    private static void authenticateAs(String name) {
+        SecurityContextHolder.setContext(SecurityContextHolder.createEmptyContext());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(name, null));
+    }
+    
+    private static SpringUseCaseDispatcher dispatcherFor(UseCaseHandler<?, ?>... handlers) {
+        return new SpringUseCaseDispatcher(
+            new UseCaseRoutingTable(List.of(handlers)), new UseCaseAsyncExecutor(Runnable::run, type -> 0));
+    }
+    
+    record Square(int value) implements UseCase<Integer> {
+    }
+    
+    record Negate(int value) implements UseCase<Integer> {
+    }
+    
+    record WhoAmI() implements UseCase<String> {
+    }
+    
+    static class SquareBatchHandler implements BatchUseCaseHandler<Square, Integer> {
+        
+        private final List<Integer> batchSizes = new ArrayList<>();
+        
+        @Override
+        public Integer handle(Square useCase) {
+            return useCase.value() * useCase.value();
+        }
+        
+        @Override
+        public List<UseCaseResult<Integer>> handleAll(List<Square> useCases) {
+            batchSizes.add(useCases.size());
+            return useCases.stream()
+                .map(useCase -> UseCaseResult.success(handle(useCase)))
+                .collect(Collectors.toList());
+        }
+    }
+    
+    static class WhoAmIHandler implements UseCaseHandler<WhoAmI, String> {
+        
+        @Override
+        public String handle(WhoAmI useCase) {
+            return SecurityContextHolder.getContext().getAuthentication().getName();
+        }
+    }
+    
+    static class NegateHandler implements UseCaseHandler<Negate, Integer> {
+        
+        @Override
+        public Integer handle(Negate useCase) {
+            if (useCase.value() < 0) {
+                throw new IllegalArgumentException("Value must not be negative");
+            }
+            return -useCase.value();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.core.presentation.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CsvRowWriter.
+ */
+class CsvRowWriterTest {
+    
+    @Test
+    void should_write_header_and_escape_values() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LinkedHashMap<String, Function<List<String>, ?>> columns = new LinkedHashMap<>();
+        columns.put("name", row -> row.get(0));
+        columns.put("note", row -> row.get(1));
+        CsvRowWriter<List<String>> writer = new CsvRowWriter<>(out, columns);
+        
+        // Act
+        writer.accept(List.of("Ann", "plain"));
+        writer.accept(List.of("Lee, Bo", "says \"hi\""));
+        writer.finish();
+        
+        // Assert
+        assertEquals("name,note\r\nAnn,plain\r\n\"Lee, Bo\",\"says \"\"hi\"\"\"\r\n",
+            out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.core.presentation.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for NdjsonRowWriter.
+ */
+class NdjsonRowWriterTest {
+    
+    @Test
+    void should_write_one_json_object_per_line_without_closing_stream() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("Output stream must not be closed");
+            }
+        };
+        NdjsonRowWriter<Map<String, Object>> writer = new NdjsonRowWriter<>(out, new ObjectMapper());
+        
+        // Act
+        writer.accept(Map.of("id", 1));
+        writer.accept(Map.of("id", 2));
+        writer.finish();
+        
+        // Assert
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.application.command;
+
+import com.example.core.application.service.UseCaseDispatcher;
+import com.example.core.application.usecase.UseCase;
+import com.example.core.application.usecase.UseCaseResult;
+import com.example.demo.application.dto.ImportProgress;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ImportUsersCommandHandler.
+ */
+class ImportUsersCommandHandlerTest {
+    
+    @Test
+    void should_report_malformed_row_and_import_the_rest_of_its_chunk() {
+        // Arrange
+        RecordingDispatcher dispatcher = new RecordingDispatcher();
+        ImportUsersCommandHandler handler = new ImportUsersCommandHandler(dispatcher, 3);
+        Rows rows = new Rows("ann@example.com", null, "bo@example.com", "cy@example.com");
+        List<ImportProgress> progress = new ArrayList<>();
+        
+        // Act
+        ImportProgress summary = handler.handle(new ImportUsersCommand(rows, progress::add));
+        
+        // Assert
+        assertEquals(List.of(List.of("ann@example.com", "bo@example.com"), List.of("cy@example.com")),
+            dispatcher.batches);
+        assertEquals(4, summary.getProcessed());
+        assertEquals(3, summary.getCreated());
+        assertEquals(1, summary.getFailed());
+        ImportProgress.RowError error = progress.get(0).getErrors().get(0);
+        assertEquals(2, error.getRow());
+        assertTrue(error.getError().contains("line 2"));
+    }
+    
+    @Test
+    void should_abort_import_of_csv_without_header() {
+        // Arrange
+        ImportUsersCommandHandler handler = new ImportUsersCommandHandler(new RecordingDispatcher(), 3);
+        Rows rows = new Rows();
+        rows.unreadable = true;
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> handler.handle(new ImportUsersCommand(rows, progress -> { })));
+    }
+    
+    /**
+     * Rows of the given emails, where null stands for a malformed row.
+     */
+    static class Rows implements Iterator<CreateUserCommand> {
+        
+        private final Iterator<String> emails;
+        private int line;
+        private boolean unreadable;
+        
+        Rows(String... emails) {
+            this.emails = Arrays.asList(emails).iterator();
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (unreadable) {
+                throw new IllegalArgumentException("Missing header line");
+            }
+            return emails.hasNext();
+        }
+        
+        @Override
+        public CreateUserCommand next() {
+            String email = emails.next();
+            line++;
+            if (email == null) {
+                throw new IllegalArgumentException("Malformed row at line " + line);
+            }
+            CreateUserCommand command = new CreateUserCommand();
+            command.setFirstName("Ann");
+            command.setLastName("Lee");
+            command.setEmail(email);
+            return command;
+        }
+    }
+    
+    static class RecordingDispatcher implements UseCaseDispatcher {
+        
+        private final List<List<String>> batches = new ArrayList<>();
+        
+        @Override
+        public <TResponse> TResponse dispatch(UseCase<TResponse> useCase) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public <TResponse> CompletableFuture<TResponse> dispatchAsync(UseCase<TResponse> useCase) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public <TResponse> List<UseCaseResult<TResponse>> dispatchAll(List<? extends UseCase<TResponse>> useCases) {
+            batches.add(useCases.stream()
+                .map(useCase -> ((CreateUserCommand) useCase).getEmail())
+                .collect(Collectors.toList()));
+            return useCases.stream()
+                .map(useCase -> UseCaseResult.success((TResponse) Long.valueOf(1)))
+                .collect(Collectors.toList());
+        }
+    }
+}
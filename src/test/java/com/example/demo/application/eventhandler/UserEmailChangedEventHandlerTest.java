@@ -0,0 +1,83 @@
+package com.example.demo.application.eventhandler;
+
+import com.example.core.application.service.CacheService;
+import com.example.demo.application.query.GetUserByIdQuery;
+import com.example.demo.application.query.GetUsersPageQuery;
+import com.example.demo.application.service.UserIntegrationService;
+import com.example.demo.domain.event.UserEmailChangedEvent;
+import com.example.demo.domain.model.Email;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UserEmailChangedEventHandler.
+ */
+class UserEmailChangedEventHandlerTest {
+    
+    @Test
+    void should_evict_cached_user_and_invalidate_cached_user_queries() {
+        // Arrange
+        RecordingCacheService cacheService = new RecordingCacheService();
+        List<Class<?>> invalidated = new ArrayList<>();
+        UserEmailChangedEventHandler handler = new UserEmailChangedEventHandler(cacheService, invalidated::add);
+        
+        // Act
+        handler.handle(new UserEmailChangedEvent(1L, Email.of("ada@example.com"), Email.of("ada@example.org")));
+        
+        // Assert
+        assertEquals(List.of(UserIntegrationService.CACHE_REGION + "/" + UserIntegrationService.cacheKey(1L)),
+            cacheService.removed);
+        assertEquals(List.of(GetUserByIdQuery.class, GetUsersPageQuery.class), invalidated);
+    }
+    
+    static class RecordingCacheService implements CacheService {
+        
+        private final List<String> removed = new ArrayList<>();
+        
+        @Override
+        public void remove(String region, String key) {
+            removed.add(region + "/" + key);
+        }
+        
+        @Override
+        public <T> Optional<T> get(String region, String key, Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public void put(String region, String key, Object value) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public void putAll(String region, Map<String, ?> values) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public <T> Optional<T> getOrLoad(String region, String key, Class<T> type, Supplier<Optional<T>> loader) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public <T> Map<String, T> getAll(String region, Collection<String> keys, Class<T> type,
+                                         Function<? super Set<String>, ? extends Map<String, ? extends T>> loader) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public void clearRegion(String region) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
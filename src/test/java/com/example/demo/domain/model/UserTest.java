@@ -3,6 +3,7 @@ package com.example.demo.domain.model;
 import com.example.core.domain.exception.BusinessRuleViolationException;
 import com.example.demo.domain.event.UserCreatedEvent;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,13 +34,30 @@ class UserTest {
         assertTrue(user.getDomainEvents().get(0) instanceof UserCreatedEvent);
     }
     
+    @Test
+    void should_give_created_event_the_assigned_user_id() {
+        // Arrange
+        Email email = Email.of("john.doe@example.com");
+        User user = User.create("John", "Doe", email);
+        ReflectionTestUtils.setField(user, "id", 42L);
+        
+        // Act
+        user.recordAssignedId();
+        
+        // Assert
+        UserCreatedEvent event = assertInstanceOf(UserCreatedEvent.class, user.getDomainEvents().get(0));
+        assertEquals(42L, event.getUserId());
+        assertEquals(42L, event.getAggregateId());
+        assertEquals(email, event.getEmail());
+    }
+    
     @Test
     void should_throw_exception_for_null_first_name() {
         // Arrange
         Email email = Email.of("test@example.com");
         
         // Act & Assert
-        assertThrows(BusinessRuleViolationException.class, 
+        assertThrows(BusinessRuleViolationException.class,
             () -> User.create(null, "Doe", email));
     }
     
@@ -49,7 +67,7 @@ class UserTest {
         Email email = Email.of("test@example.com");
         
         // Act & Assert
-        assertThrows(BusinessRuleViolationException.class, 
+        assertThrows(BusinessRuleViolationException.class,
             () -> User.create("", "Doe", email));
     }
     
@@ -59,7 +77,7 @@ class UserTest {
         Email email = Email.of("test@example.com");
         
         // Act & Assert
-        assertThrows(BusinessRuleViolationException.class, 
+        assertThrows(BusinessRuleViolationException.class,
             () -> User.create("A", "Doe", email));
     }
     
@@ -70,7 +88,7 @@ class UserTest {
         String longName = "A".repeat(51);
         
         // Act & Assert
-        assertThrows(BusinessRuleViolationException.class, 
+        assertThrows(BusinessRuleViolationException.class,
             () -> User.create(longName, "Doe", email));
     }
     
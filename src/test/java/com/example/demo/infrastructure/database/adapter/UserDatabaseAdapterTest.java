@@ -0,0 +1,152 @@
+package com.example.demo.infrastructure.database.adapter;
+
+import com.example.demo.domain.event.UserCreatedEvent;
+import com.example.demo.domain.model.Email;
+import com.example.demo.domain.model.User;
+import com.example.demo.domain.repository.projection.UserView;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for UserDatabaseAdapter against an in-memory H2 database.
+ */
+@DataJpaTest
+@Import(UserDatabaseAdapter.class)
+class UserDatabaseAdapterTest {
+    
+    @Autowired
+    private UserDatabaseAdapter adapter;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Test
+    void should_map_every_attribute_of_user_view() {
+        // Arrange
+        User user = persist("Ada", "Lovelace", "ada@example.com");
+        
+        // Act
+        Optional<UserView> view = adapter.findViewById(user.getId());
+        
+        // Assert
+        assertTrue(view.isPresent());
+        assertEquals(user.getId(), view.get().getId());
+        assertEquals("Ada", view.get().getFirstName());
+        assertEquals("Lovelace", view.get().getLastName());
+        assertEquals("ada@example.com", view.get().getEmail());
+        assertEquals(user.getCreatedAt(), view.get().getCreatedAt());
+        assertEquals(user.getUpdatedAt(), view.get().getUpdatedAt());
+    }
+    
+    @Test
+    void should_not_find_view_of_missing_user() {
+        // Act
+        Optional<UserView> view = adapter.findViewById(-1L);
+        
+        // Assert
+        assertTrue(view.isEmpty());
+    }
+    
+    @Test
+    void should_page_through_views_in_id_order() {
+        // Arrange - data.sql seeds users 1 and 2 below the sequence start
+        Long first = persist("Ada", "Lovelace", "ada@example.com").getId();
+        Long second = persist("Alan", "Turing", "alan@example.com").getId();
+        Long third = persist("Grace", "Hopper", "grace@example.com").getId();
+        
+        // Act
+        List<UserView> firstPage = adapter.findViewPageAfterId(null, 2);
+        List<UserView> nextPage = adapter.findViewPageAfterId(2L, 2);
+        List<UserView> lastPage = adapter.findViewPageAfterId(second, 2);
+        List<UserView> pastLastPage = adapter.findViewPageAfterId(third, 2);
+        
+        // Assert
+        assertEquals(List.of(1L, 2L), ids(firstPage));
+        assertEquals("john.doe@example.com", firstPage.get(0).getEmail());
+        assertEquals(List.of(first, second), ids(nextPage));
+        assertEquals(List.of("ada@example.com", "alan@example.com"),
+            nextPage.stream().map(UserView::getEmail).collect(Collectors.toList()));
+        assertEquals(List.of(third), ids(lastPage));
+        assertEquals("Hopper", lastPage.get(0).getLastName());
+        assertTrue(pastLastPage.isEmpty());
+    }
+    
+    @Test
+    void should_give_created_event_the_user_id_without_flushing() {
+        // Arrange
+        User user = User.create("Ada", "Lovelace", Email.of("ada@example.com"));
+        
+        // Act
+        User savedUser = adapter.save(user);
+        
+        // Assert
+        UserCreatedEvent event = assertInstanceOf(UserCreatedEvent.class, savedUser.getDomainEvents().get(0));
+        assertNotNull(savedUser.getId());
+        assertEquals(savedUser.getId(), event.getUserId());
+        assertTrue(entityManager.getEntityManager().unwrap(Session.class).isDirty());
+    }
+    
+    @Test
+    void should_tell_whether_email_is_taken() {
+        // Arrange
+        persist("Ada", "Lovelace", "ada@example.com");
+        
+        // Act & Assert
+        assertTrue(adapter.existsByEmail(Email.of("ada@example.com")));
+        assertFalse(adapter.existsByEmail(Email.of("nobody@example.com")));
+    }
+    
+    @Test
+    void should_find_only_existing_emails_of_mixed_set() {
+        // Arrange
+        persist("Ada", "Lovelace", "ada@example.com");
+        persist("Alan", "Turing", "alan@example.com");
+        
+        // Act
+        Set<Email> existing = adapter.findExistingEmails(List.of(
+            Email.of("ada@example.com"), Email.of("nobody@example.com"), Email.of("alan@example.com")));
+        
+        // Assert
+        assertEquals(Set.of(Email.of("ada@example.com"), Email.of("alan@example.com")), existing);
+    }
+    
+    @Test
+    void should_find_no_existing_emails_when_all_are_missing() {
+        // Act
+        Set<Email> existing = adapter.findExistingEmails(
+            List.of(Email.of("nobody@example.com"), Email.of("someone@example.com")));
+        
+        // Assert
+        assertTrue(existing.isEmpty());
+    }
+    
+    @Test
+    void should_find_no_existing_emails_for_empty_input() {
+        // Act
+        Set<Email> existing = adapter.findExistingEmails(List.of());
+        
+        // Assert
+        assertTrue(existing.isEmpty());
+    }
+    
+    private User persist(String firstName, String lastName, String email) {
+        User user = entityManager.persistFlushFind(User.create(firstName, lastName, Email.of(email)));
+        entityManager.clear();
+        return user;
+    }
+    
+    private static List<Long> ids(List<UserView> views) {
+        return views.stream().map(UserView::getId).collect(Collectors.toList());
+    }
+}
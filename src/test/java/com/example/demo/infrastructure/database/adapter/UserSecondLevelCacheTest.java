@@ -0,0 +1,235 @@
+package com.example.demo.infrastructure.database.adapter;
+
+import com.example.core.application.query.QueryCache;
+import com.example.core.application.service.CacheService;
+import com.example.core.application.service.ExternalApiService;
+import com.example.core.application.service.MessagingService;
+import com.example.core.application.service.SecurityService;
+import com.example.core.infrastructure.database.config.DatabaseConfig;
+import com.example.demo.application.service.UserIntegrationService;
+import com.example.demo.domain.model.Email;
+import com.example.demo.domain.model.User;
+import com.example.demo.domain.repository.UserRepository;
+import com.example.demo.domain.repository.projection.UserView;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that users and their views are served from the Hibernate second-level and query caches,
+ * and that updates invalidate them. Each repository call commits, as caches are only filled on commit.
+ */
+@DataJpaTest
+@Import({DatabaseConfig.class, UserDatabaseAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSecondLevelCacheTest {
+    
+    // The adapter is proxied through its interface by the transaction management of DatabaseConfig
+    @Autowired
+    private UserRepository adapter;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+    }
+    
+    @Test
+    void should_serve_second_find_by_id_from_second_level_cache() {
+        // Arrange
+        Long userId = adapter.save(newUser()).getId();
+        resetCaches();
+        
+        // Act
+        adapter.findById(userId);
+        adapter.findById(userId);
+        
+        // Assert
+        CacheRegionStatistics users = statistics.getDomainDataRegionStatistics("users");
+        assertEquals(1, users.getMissCount());
+        assertEquals(1, users.getPutCount());
+        assertEquals(1, users.getHitCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+    
+    @Test
+    void should_serve_repeated_view_query_from_query_cache() {
+        // Arrange
+        Long userId = adapter.save(newUser()).getId();
+        resetCaches();
+        
+        // Act
+        adapter.findViewById(userId);
+        Optional<UserView> view = adapter.findViewById(userId);
+        
+        // Assert
+        assertTrue(view.isPresent());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+        assertEquals(1, statistics.getQueryCachePutCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryExecutionCount());
+    }
+    
+    @Test
+    void should_invalidate_cached_user_and_views_when_user_is_updated() {
+        // Arrange
+        UserIntegrationService integrationService = new UserIntegrationService(adapter, new NoOpCacheService(),
+            queryType -> { }, new UnavailableExternalApiService(), new NoOpMessagingService(),
+            new PermittingSecurityService());
+        Long userId = adapter.save(newUser()).getId();
+        User user = adapter.findById(userId).orElseThrow();
+        adapter.findViewById(userId);
+        user.updateName("Grace", "Hopper");
+        statistics.clear();
+        
+        // Act
+        integrationService.updateUserWithIntegration(user);
+        
+        // Assert
+        assertTrue(statistics.getUpdateTimestampsCachePutCount() > 0, "users query space not invalidated");
+        assertEquals(1, statistics.getDomainDataRegionStatistics("users").getPutCount());
+        statistics.clear();
+        
+        assertEquals("Hopper", adapter.findViewById(userId).orElseThrow().getLastName());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        
+        assertEquals("Hopper", adapter.findById(userId).orElseThrow().getLastName());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("users").getHitCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+    
+    private void resetCaches() {
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+    }
+    
+    private static User newUser() {
+        return User.create("Ada", "Lovelace", Email.of(UUID.randomUUID() + "@example.com"));
+    }
+    
+    static class PermittingSecurityService implements SecurityService {
+        
+        @Override
+        public String getCurrentUserId() {
+            return "admin";
+        }
+        
+        @Override
+        public boolean hasPermission(String permission) {
+            return true;
+        }
+        
+        @Override
+        public boolean hasRole(String role) {
+            return true;
+        }
+        
+        @Override
+        public Set<String> getCurrentUserRoles() {
+            return Set.of();
+        }
+    }
+    
+    static class NoOpCacheService implements CacheService {
+        
+        @Override
+        public <T> Optional<T> get(String region, String key, Class<T> type) {
+            return Optional.empty();
+        }
+        
+        @Override
+        public void put(String region, String key, Object value) {
+        }
+        
+        @Override
+        public void putAll(String region, Map<String, ?> values) {
+        }
+        
+        @Override
+        public <T> Optional<T> getOrLoad(String region, String key, Class<T> type, Supplier<Optional<T>> loader) {
+            return loader.get();
+        }
+        
+        @Override
+        public <T> Map<String, T> getAll(String region, Collection<String> keys, Class<T> type,
+                                         Function<? super Set<String>, ? extends Map<String, ? extends T>> loader) {
+            return Map.copyOf(loader.apply(Set.copyOf(keys)));
+        }
+        
+        @Override
+        public void remove(String region, String key) {
+        }
+        
+        @Override
+        public void clearRegion(String region) {
+        }
+    }
+    
+    static class UnavailableExternalApiService implements ExternalApiService {
+        
+        @Override
+        public <T> ResponseEntity<T> get(String endpoint, String path, Class<T> responseType) {
+            throw new IllegalStateException(endpoint + " is unavailable");
+        }
+        
+        @Override
+        public <T> ResponseEntity<T> post(String endpoint, String path, Object request, Class<T> responseType) {
+            throw new IllegalStateException(endpoint + " is unavailable");
+        }
+        
+        @Override
+        public <T> ResponseEntity<T> put(String endpoint, String path, Object request, Class<T> responseType) {
+            throw new IllegalStateException(endpoint + " is unavailable");
+        }
+        
+        @Override
+        public void delete(String endpoint, String path) {
+            throw new IllegalStateException(endpoint + " is unavailable");
+        }
+    }
+    
+    static class NoOpMessagingService implements MessagingService {
+        
+        @Override
+        public void publishMessage(String topic, Object message) {
+        }
+        
+        @Override
+        public void publishMessage(String topic, Object key, Object message) {
+        }
+        
+        @Override
+        public void sendMessage(String destination, Object message) {
+        }
+        
+        @Override
+        public void sendMessage(String destination, Object key, Object message) {
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.presentation.request;
+
+import com.example.demo.application.command.CreateUserCommand;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UserImportReader.
+ */
+class UserImportReaderTest {
+    
+    @Test
+    void should_read_csv_rows_by_header_name() {
+        // Arrange
+        UserImportReader reader = UserImportReader.csv(upload(
+            "email,lastName,firstName\r\n"
+                + "ann@example.com,Lee,Ann\r\n"
+                + "\r\n"
+                + "bo@example.com,\"Smith, Jr\",\"B\"\"o\"\r\n"));
+        
+        // Act
+        List<CreateUserCommand> rows = readAll(reader);
+        
+        // Assert
+        assertEquals(2, rows.size());
+        assertEquals("Ann", rows.get(0).getFirstName());
+        assertEquals("ann@example.com", rows.get(0).getEmail());
+        assertEquals("Smith, Jr", rows.get(1).getLastName());
+        assertEquals("B\"o", rows.get(1).getFirstName());
+    }
+    
+    @Test
+    void should_reject_csv_without_required_columns() {
+        // Arrange
+        UserImportReader reader = UserImportReader.csv(upload("name,email\nAnn,ann@example.com\n"));
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, reader::hasNext);
+    }
+    
+    @Test
+    void should_read_ndjson_rows_and_report_malformed_line() {
+        // Arrange
+        UserImportReader reader = UserImportReader.ndjson(upload(
+            "{\"firstName\":\"Ann\",\"lastName\":\"Lee\",\"email\":\"ann@example.com\"}\n"
+                + "{not json}\n"), new ObjectMapper());
+        
+        // Act
+        CreateUserCommand first = reader.next();
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, reader::next);
+        
+        // Assert
+        assertEquals("Lee", first.getLastName());
+        assertTrue(error.getMessage().contains("line 2"));
+    }
+    
+    @Test
+    void should_go_on_reading_after_malformed_csv_line() {
+        // Arrange
+        UserImportReader reader = UserImportReader.csv(upload(
+            "firstName,lastName,email\n"
+                + "\"Ann,Lee,ann@example.com\n"
+                + "Bo,Smith,bo@example.com\n"));
+        
+        // Act
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, reader::next);
+        CreateUserCommand second = reader.next();
+        
+        // Assert
+        assertTrue(error.getMessage().contains("line 2"));
+        assertEquals("bo@example.com", second.getEmail());
+        assertFalse(reader.hasNext());
+    }
+    
+    private static InputStream upload(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static List<CreateUserCommand> readAll(UserImportReader reader) {
+        List<CreateUserCommand> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}